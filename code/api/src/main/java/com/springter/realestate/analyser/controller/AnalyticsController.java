@@ -0,0 +1,73 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.api.AnalyticsApi;
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.AnalyseMarketUseCase;
+import com.springter.realestate.analyser.mapper.MarketStatisticsMapper;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import com.springter.realestate.analyser.model.MarketStatistics;
+import com.springter.realestate.analyser.model.MarketSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController implements AnalyticsApi {
+
+    private final AnalyseMarketUseCase analyseMarketUseCase;
+    private final RealEstateMapper realEstateMapper;
+    private final MarketStatisticsMapper mapper;
+
+    @Override
+    public ResponseEntity<List<MarketStatistics>> analyseMarket(
+            String groupBy,
+            String location,
+            String propertyType) {
+        log.info("Analysing market - groupBy: {}, location: {}, propertyType: {}", groupBy, location, propertyType);
+
+        MarketGrouping grouping;
+        try {
+            grouping = groupBy != null ? MarketGrouping.valueOf(groupBy.toUpperCase(Locale.ROOT)) : MarketGrouping.CITY;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid market grouping: " + groupBy, e);
+        }
+        RealEstateSearchCriteria searchCriteria = realEstateMapper.toSearchCriteria(location, null, null, propertyType);
+
+        return ResponseEntity.ok(mapper.toDtoList(analyseMarketUseCase.analyseMarket(searchCriteria, grouping)));
+    }
+
+    @Override
+    public ResponseEntity<List<MarketSummary>> findMarketSummaries(
+            String city,
+            String propertyType,
+            String from,
+            String to) {
+        log.info("Finding market summaries - city: {}, propertyType: {}, from: {}, to: {}", city, propertyType, from, to);
+
+        List<com.springter.realestate.analyser.domain.analytics.MarketSummary> summaries;
+        try {
+            summaries = analyseMarketUseCase.findMonthlySummaries(
+                city, realEstateMapper.mapPropertyTypeFromString(propertyType), parseMonth(from), parseMonth(to)
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid month range: " + e.getMessage(), e);
+        }
+
+        return ResponseEntity.ok(mapper.toSummaryDtoList(summaries));
+    }
+
+    private static YearMonth parseMonth(String month) {
+        return month != null ? YearMonth.parse(month) : null;
+    }
+}
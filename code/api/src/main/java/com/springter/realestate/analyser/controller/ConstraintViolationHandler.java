@@ -0,0 +1,26 @@
+package com.springter.realestate.analyser.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+/**
+ * Answers 400 Bad Request when a parameter of a {@code @Validated} controller breaks its constraints,
+ * through the same error response as a {@code ResponseStatusException}. Without it, the
+ * {@link ConstraintViolationException} thrown by method validation would end as a 500.
+ */
+@RestControllerAdvice
+@Slf4j
+public class ConstraintViolationHandler {
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    void handleConstraintViolation(ConstraintViolationException e, HttpServletResponse response) throws IOException {
+        log.debug("Rejecting request: {}", e.getMessage());
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
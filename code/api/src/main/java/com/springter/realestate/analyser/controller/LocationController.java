@@ -0,0 +1,45 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.api.LocationsApi;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+import com.springter.realestate.analyser.domain.usecases.SearchLocationsUseCase;
+import com.springter.realestate.analyser.mapper.LocationMapper;
+import com.springter.realestate.analyser.model.LocationMatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class LocationController implements LocationsApi {
+
+    private final SearchLocationsUseCase searchLocationsUseCase;
+    private final LocationMapper mapper;
+
+    @Override
+    public ResponseEntity<List<LocationMatch>> searchLocations(String q, String mode, Integer limit) {
+        log.info("Searching locations - q: {}, mode: {}, limit: {}", q, mode, limit);
+
+        List<com.springter.realestate.analyser.domain.location.LocationMatch> matches =
+            searchLocationsUseCase.searchLocations(q, toSearchMode(mode), limit != null ? limit : 10);
+
+        return ResponseEntity.ok(mapper.toDtoList(matches));
+    }
+
+    static LocationSearchMode toSearchMode(String mode) {
+        if (mode == null) {
+            return LocationSearchMode.BEST_MATCH;
+        }
+        try {
+            return LocationSearchMode.valueOf(mode);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid mode", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.api.MapApi;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.ClusterListingsUseCase;
+import com.springter.realestate.analyser.mapper.ListingClusterMapper;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import com.springter.realestate.analyser.model.ListingCluster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class MapController implements MapApi {
+
+    private final ClusterListingsUseCase clusterListingsUseCase;
+    private final RealEstateMapper realEstateMapper;
+    private final ListingClusterMapper mapper;
+
+    @Override
+    public ResponseEntity<List<ListingCluster>> clusterRealEstate(
+            List<Double> bbox,
+            Integer zoom,
+            String location,
+            Double minPrice,
+            Double maxPrice,
+            String propertyType) {
+        log.info("Clustering real estate properties - bbox: {}, zoom: {}, location: {}, minPrice: {}, maxPrice: {}, propertyType: {}",
+                bbox, zoom, location, minPrice, maxPrice, propertyType);
+
+        List<com.springter.realestate.analyser.domain.realestate.ListingCluster> clusters;
+        try {
+            RealEstateSearchCriteria searchCriteria = realEstateMapper.toSearchCriteria(
+                location, minPrice, maxPrice, propertyType, null, null, null, bbox
+            );
+            clusters = clusterListingsUseCase.clusterListings(searchCriteria, zoom);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid map viewport: " + e.getMessage(), e);
+        }
+
+        return ResponseEntity.ok(mapper.toDtoList(clusters));
+    }
+}
@@ -0,0 +1,96 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.ReactiveFindRealEstatePropertiesUseCase;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import com.springter.realestate.analyser.model.RealEstatePageResponse;
+import com.springter.realestate.analyser.model.RealEstateProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking alternative to {@link RealEstateController}, enabled with {@code realestate.reactive.enabled=true}.
+ *
+ * Takes the same parameters and returns the same pages under {@code /reactive/realestate}, backed by
+ * the reactive use case. The request thread is released as soon as the search is subscribed and the
+ * response is written when the database answers, so concurrent searches do not each hold a thread.
+ * {@code /reactive/realestate/stream} writes every match as newline-delimited JSON, one property
+ * per line, reading rows only as fast as the client consumes them.
+ */
+@RestController
+@RequestMapping("/reactive/realestate")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "realestate.reactive", name = "enabled", havingValue = "true")
+public class ReactiveRealEstateController {
+
+    private final ReactiveFindRealEstatePropertiesUseCase findPropertiesUseCase;
+    private final RealEstateMapper mapper;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<RealEstatePageResponse> getAllRealEstate(
+            @RequestParam(required = false) @Min(0) Integer page,
+            @RequestParam(required = false) @Min(1) @Max(100) Integer size,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) @DecimalMin("0") Double minPrice,
+            @RequestParam(required = false) @DecimalMin("0") Double maxPrice,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) @DecimalMin("-90") @DecimalMax("90") Double lat,
+            @RequestParam(required = false) @DecimalMin("-180") @DecimalMax("180") Double lon,
+            @RequestParam(required = false) @DecimalMin("0") @DecimalMax("20000") Double radiusKm,
+            @RequestParam(required = false) List<Double> bbox,
+            @RequestParam(required = false) String cursor) {
+        log.info("Getting real estate properties reactively - page: {}, size: {}, location: {}, minPrice: {}, maxPrice: {}, "
+                        + "propertyType: {}, lat: {}, lon: {}, radiusKm: {}, bbox: {}, cursor: {}",
+                page, size, location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox, cursor);
+
+        PageRequest pageRequest = RealEstateController.toPageRequest(page, size, cursor);
+        RealEstateSearchCriteria searchCriteria = RealEstateController.toSearchCriteria(
+                mapper, location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox);
+        if (pageRequest.isKeyset() && searchCriteria.hasGeoFilter()) {
+            // Geo searches are ordered by distance, which a house ID cursor cannot seek in
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Geo searches are paged by offset, not by cursor");
+        }
+
+        return Mono.from(findPropertiesUseCase.findProperties(searchCriteria, pageRequest))
+                .map(mapper::toPageResponse);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RealEstateProperty> streamAllRealEstate(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) @DecimalMin("0") Double minPrice,
+            @RequestParam(required = false) @DecimalMin("0") Double maxPrice,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) @DecimalMin("-90") @DecimalMax("90") Double lat,
+            @RequestParam(required = false) @DecimalMin("-180") @DecimalMax("180") Double lon,
+            @RequestParam(required = false) @DecimalMin("0") @DecimalMax("20000") Double radiusKm,
+            @RequestParam(required = false) List<Double> bbox) {
+        log.info("Streaming real estate properties - location: {}, minPrice: {}, maxPrice: {}, propertyType: {}, "
+                        + "lat: {}, lon: {}, radiusKm: {}, bbox: {}",
+                location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox);
+
+        RealEstateSearchCriteria searchCriteria = RealEstateController.toSearchCriteria(
+                mapper, location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox);
+
+        return Flux.from(findPropertiesUseCase.streamProperties(searchCriteria))
+                .map(mapper::toDto);
+    }
+}
@@ -2,24 +2,34 @@ package com.springter.realestate.analyser.controller;
 
 import com.springter.realestate.analyser.api.RealEstateApi;
 import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
 import com.springter.realestate.analyser.domain.common.PageRequest;
 import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
 import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
 import com.springter.realestate.analyser.mapper.RealEstateMapper;
 import com.springter.realestate.analyser.model.RealEstatePageResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 public class RealEstateController implements RealEstateApi {
+
+    static final String RESPONSE_PROPERTIES = "realestate.api.response.properties";
     
     private final FindRealEstatePropertiesUseCase findPropertiesUseCase;
     private final RealEstateMapper mapper;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public ResponseEntity<RealEstatePageResponse> getAllRealEstate(
@@ -28,19 +38,26 @@ public class RealEstateController implements RealEstateApi {
             String location,
             Double minPrice,
             Double maxPrice,
-            String propertyType) {
-        log.info("Getting real estate properties - page: {}, size: {}, location: {}, minPrice: {}, maxPrice: {}, propertyType: {},",
-                page, size, location, minPrice, maxPrice, propertyType);
+            String propertyType,
+            Double lat,
+            Double lon,
+            Double radiusKm,
+            List<Double> bbox,
+            String cursor) {
+        log.info("Getting real estate properties - page: {}, size: {}, location: {}, minPrice: {}, maxPrice: {}, propertyType: {}, "
+                        + "lat: {}, lon: {}, radiusKm: {}, bbox: {}, cursor: {}",
+                page, size, location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox, cursor);
 
         // Create domain objects from API parameters
-        PageRequest pageRequest = PageRequest.of(
-            page != null ? page : 0,
-            size != null ? size : 20
-        );
+        PageRequest pageRequest = toPageRequest(page, size, cursor);
         
-        RealEstateSearchCriteria searchCriteria = mapper.toSearchCriteria(
-            location, minPrice, maxPrice, propertyType
+        RealEstateSearchCriteria searchCriteria = toSearchCriteria(
+            mapper, location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox
         );
+        if (pageRequest.isKeyset() && searchCriteria.hasGeoFilter()) {
+            // Geo searches are ordered by distance, which a house ID cursor cannot seek in
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Geo searches are paged by offset, not by cursor");
+        }
 
         // Use the domain use case to find properties
         Page<RealEstateProperty> propertiesPage = findPropertiesUseCase.findProperties(
@@ -49,8 +66,55 @@ public class RealEstateController implements RealEstateApi {
 
         // Convert domain result to API DTO
         RealEstatePageResponse response = mapper.toPageResponse(propertiesPage);
+        recordResponseProperties(searchCriteria, pageRequest, response);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Records the number of properties returned, tagged like the search meters of the lower layers
+     */
+    private void recordResponseProperties(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest,
+                                          RealEstatePageResponse response) {
+        DistributionSummary.builder(RESPONSE_PROPERTIES)
+                .description("Properties returned per page of search results")
+                .baseUnit("properties")
+                .tags("criteria", searchCriteria.shape(), "paging", pageRequest.isKeyset() ? "keyset" : "offset")
+                .register(meterRegistry)
+                .record(response.getContent() != null ? response.getContent().size() : 0);
+    }
+
+    /**
+     * Builds the page request of the API parameters, seeking past the cursor when one is given
+     */
+    static PageRequest toPageRequest(Integer page, Integer size, String cursor) {
+        return cursor != null ?
+            PageRequest.after(decodeCursor(cursor), size != null ? size : 20) :
+            PageRequest.of(
+                page != null ? page : 0,
+                size != null ? size : 20
+            );
+    }
+
+    /**
+     * Builds the search criteria of the API parameters, answering 400 to incomplete or inconsistent geo filters
+     */
+    static RealEstateSearchCriteria toSearchCriteria(RealEstateMapper mapper, String location, Double minPrice,
+                                                     Double maxPrice, String propertyType, Double lat, Double lon,
+                                                     Double radiusKm, List<Double> bbox) {
+        try {
+            return mapper.toSearchCriteria(location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid geo filter: " + e.getMessage(), e);
+        }
+    }
+
+    private static PageCursor decodeCursor(String cursor) {
+        try {
+            return PageCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.springter.realestate.analyser.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Bulk export of the whole filtered catalogue, for consumers that would otherwise page through it.
+ *
+ * Takes the same filters as {@link RealEstateController#getAllRealEstate}, radius and bounding box
+ * included, and writes every match to the response body as newline-delimited JSON, one property per
+ * line, as the rows are read from the database cursor. Matches are written in house ID order, even
+ * for geo filters, which the search orders by distance. Nothing is buffered beyond the current fetch and the output stream, so memory
+ * stays constant whatever the size of the export. Written by hand because the contract-first
+ * interface cannot express a streamed body.
+ */
+@RestController
+@Validated
+@RequiredArgsConstructor
+@Slf4j
+public class RealEstateExportController {
+
+    private final FindRealEstatePropertiesUseCase findPropertiesUseCase;
+    private final RealEstateMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(path = "/realestate/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllRealEstate(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) @DecimalMin("0") Double minPrice,
+            @RequestParam(required = false) @DecimalMin("0") Double maxPrice,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) @DecimalMin("-90") @DecimalMax("90") Double lat,
+            @RequestParam(required = false) @DecimalMin("-180") @DecimalMax("180") Double lon,
+            @RequestParam(required = false) @DecimalMin("0") @DecimalMax("20000") Double radiusKm,
+            @RequestParam(required = false) List<Double> bbox) {
+        log.info("Exporting real estate properties - location: {}, minPrice: {}, maxPrice: {}, propertyType: {}, "
+                        + "lat: {}, lon: {}, radiusKm: {}, bbox: {}",
+                location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox);
+
+        RealEstateSearchCriteria searchCriteria;
+        try {
+            searchCriteria = mapper.toSearchCriteria(location, minPrice, maxPrice, propertyType, lat, lon, radiusKm, bbox);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid geo filter: " + e.getMessage(), e);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                // The servlet container owns the response stream
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                findPropertiesUseCase.exportProperties(searchCriteria, property -> {
+                    try {
+                        generator.writePOJO(mapper.toDto(property));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
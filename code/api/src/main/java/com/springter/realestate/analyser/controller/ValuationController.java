@@ -0,0 +1,31 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.api.ValuationsApi;
+import com.springter.realestate.analyser.domain.usecases.ValueCatalogueUseCase;
+import com.springter.realestate.analyser.mapper.ValuationMapper;
+import com.springter.realestate.analyser.model.Valuation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ValuationController implements ValuationsApi {
+
+    private final ValueCatalogueUseCase valueCatalogueUseCase;
+    private final ValuationMapper mapper;
+
+    @Override
+    public ResponseEntity<Valuation> getValuation(Integer houseId) {
+        log.info("Getting valuation - houseId: {}", houseId);
+
+        return valueCatalogueUseCase.findValuation(houseId)
+            .map(mapper::toDto)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "House " + houseId + " has not been valued"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.springter.realestate.analyser.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper converting map clusters to OpenAPI DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface ListingClusterMapper {
+
+    /**
+     * Maps a domain listing cluster to the OpenAPI DTO
+     */
+    @Mapping(target = "avgPrice", source = "averagePrice")
+    com.springter.realestate.analyser.model.ListingCluster toDto(
+        com.springter.realestate.analyser.domain.realestate.ListingCluster domainCluster);
+
+    /**
+     * Maps list of domain listing clusters to list of DTOs
+     */
+    List<com.springter.realestate.analyser.model.ListingCluster> toDtoList(
+        List<com.springter.realestate.analyser.domain.realestate.ListingCluster> domainClusters);
+}
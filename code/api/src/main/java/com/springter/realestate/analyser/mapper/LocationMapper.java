@@ -0,0 +1,30 @@
+package com.springter.realestate.analyser.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper converting location search results to OpenAPI DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface LocationMapper {
+
+    /**
+     * Maps a domain location match to the OpenAPI DTO, flattening its location
+     */
+    @Mapping(target = "id", source = "location.id")
+    @Mapping(target = "streetAddress", source = "location.streetAddress")
+    @Mapping(target = "city", source = "location.city")
+    @Mapping(target = "stateProvince", source = "location.stateProvince")
+    @Mapping(target = "zipPostalCode", source = "location.zipPostalCode")
+    com.springter.realestate.analyser.model.LocationMatch toDto(
+        com.springter.realestate.analyser.domain.location.LocationMatch domainMatch);
+
+    /**
+     * Maps list of domain location matches to list of DTOs
+     */
+    List<com.springter.realestate.analyser.model.LocationMatch> toDtoList(
+        List<com.springter.realestate.analyser.domain.location.LocationMatch> domainMatches);
+}
@@ -0,0 +1,48 @@
+package com.springter.realestate.analyser.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * MapStruct mapper converting market statistics and summaries to OpenAPI DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface MarketStatisticsMapper {
+
+    /**
+     * Maps domain market statistics to the OpenAPI DTO
+     */
+    @Mapping(target = "avgDaysOnMarket", source = "averageDaysOnMarket")
+    com.springter.realestate.analyser.model.MarketStatistics toDto(
+        com.springter.realestate.analyser.domain.analytics.MarketStatistics domainStatistics);
+
+    /**
+     * Maps list of domain market statistics to list of DTOs
+     */
+    List<com.springter.realestate.analyser.model.MarketStatistics> toDtoList(
+        List<com.springter.realestate.analyser.domain.analytics.MarketStatistics> domainStatistics);
+
+    /**
+     * Maps a domain monthly market summary to the OpenAPI DTO
+     */
+    @Mapping(target = "avgPrice", source = "averagePrice")
+    @Mapping(target = "avgDaysOnMarket", source = "averageDaysOnMarket")
+    com.springter.realestate.analyser.model.MarketSummary toDto(
+        com.springter.realestate.analyser.domain.analytics.MarketSummary domainSummary);
+
+    /**
+     * Maps list of domain monthly market summaries to list of DTOs
+     */
+    List<com.springter.realestate.analyser.model.MarketSummary> toSummaryDtoList(
+        List<com.springter.realestate.analyser.domain.analytics.MarketSummary> domainSummaries);
+
+    /**
+     * Formats a month as YYYY-MM
+     */
+    default String mapMonth(YearMonth month) {
+        return month != null ? month.toString() : null;
+    }
+}
@@ -1,12 +1,18 @@
 package com.springter.realestate.analyser.mapper;
 
 import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
 import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 import com.springter.realestate.analyser.model.RealEstatePageResponse;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * MapStruct mapper for converting between domain entities and OpenAPI DTOs.
@@ -58,18 +64,61 @@ public interface RealEstateMapper {
     @Mapping(target = "totalElements", source = "totalElements")
     @Mapping(target = "totalPages", source = "totalPages")
     @Mapping(target = "numberOfElements", source = "numberOfElements")
+    @Mapping(target = "nextCursor", source = "nextCursor")
     RealEstatePageResponse toPageResponse(
         Page<com.springter.realestate.analyser.domain.realestate.RealEstateProperty> domainPage);
 
+    /**
+     * Omits the totals of keyset pages, which are not computed
+     */
+    @AfterMapping
+    default void clearUnknownTotals(
+        Page<com.springter.realestate.analyser.domain.realestate.RealEstateProperty> domainPage,
+        @MappingTarget RealEstatePageResponse response) {
+        if (!domainPage.isTotalKnown()) {
+            response.setTotalElements(null);
+            response.setTotalPages(null);
+        }
+    }
+
+    /**
+     * Encodes a domain PageCursor as an opaque token
+     */
+    default String mapCursor(PageCursor cursor) {
+        return cursor != null ? cursor.encode() : null;
+    }
+
     /**
      * Creates domain search criteria from API parameters
      */
     default RealEstateSearchCriteria toSearchCriteria(String location, Double minPrice, Double maxPrice, String propertyType) {
+        return toSearchCriteria(location, minPrice, maxPrice, propertyType, null, null, null, null);
+    }
+
+    /**
+     * Creates domain search criteria from API parameters, including the geo filters.
+     * The bounding box is given as minLon,minLat,maxLon,maxLat.
+     *
+     * @throws IllegalArgumentException if lat, lon and radiusKm are not all given together,
+     *                                  or a coordinate is out of range
+     */
+    default RealEstateSearchCriteria toSearchCriteria(String location, Double minPrice, Double maxPrice, String propertyType,
+                                                      Double lat, Double lon, Double radiusKm, List<Double> bbox) {
+        boolean anyRadiusParameter = lat != null || lon != null || radiusKm != null;
+        if (anyRadiusParameter && (lat == null || lon == null || radiusKm == null)) {
+            throw new IllegalArgumentException("lat, lon and radiusKm must be given together");
+        }
+        if (bbox != null && (bbox.size() != 4 || bbox.stream().anyMatch(Objects::isNull))) {
+            throw new IllegalArgumentException("bbox must be minLon,minLat,maxLon,maxLat");
+        }
         return RealEstateSearchCriteria.builder()
                 .location(location)
                 .minPrice(minPrice)
                 .maxPrice(maxPrice)
                 .propertyType(mapPropertyTypeFromString(propertyType))
+                .center(anyRadiusParameter ? GeoPoint.of(lat, lon) : null)
+                .radiusKm(radiusKm)
+                .bounds(bbox != null ? GeoBoundingBox.of(bbox.get(1), bbox.get(0), bbox.get(3), bbox.get(2)) : null)
                 .build();
     }
 
@@ -0,0 +1,16 @@
+package com.springter.realestate.analyser.mapper;
+
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper converting valuations to OpenAPI DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface ValuationMapper {
+
+    /**
+     * Maps a domain valuation to the OpenAPI DTO
+     */
+    com.springter.realestate.analyser.model.Valuation toDto(
+        com.springter.realestate.analyser.domain.valuation.Valuation domainValuation);
+}
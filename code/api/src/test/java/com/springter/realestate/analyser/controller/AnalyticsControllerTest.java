@@ -0,0 +1,139 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.analytics.MarketStatistics;
+import com.springter.realestate.analyser.domain.analytics.MarketSummary;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.AnalyseMarketUseCase;
+import com.springter.realestate.analyser.mapper.MarketStatisticsMapperImpl;
+import com.springter.realestate.analyser.mapper.RealEstateMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsController Tests")
+class AnalyticsControllerTest {
+
+    @Mock
+    private AnalyseMarketUseCase analyseMarketUseCase;
+
+    private AnalyticsController controller;
+
+    @BeforeEach
+    void setUp() {
+        this.controller = new AnalyticsController(this.analyseMarketUseCase, new RealEstateMapperImpl(), new MarketStatisticsMapperImpl());
+    }
+
+    @Test
+    @DisplayName("Should analyse the market by the requested segments with the filters")
+    void shouldReturnStatisticsOfSegments() {
+        // Given
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder()
+            .location("Madrid")
+            .propertyType(RealEstateProperty.PropertyType.CONDO)
+            .build();
+        when(this.analyseMarketUseCase.analyseMarket(criteria, MarketGrouping.CITY_AND_PROPERTY_TYPE)).thenReturn(List.of(MarketStatistics.builder()
+            .city("Madrid")
+            .propertyType("CONDO")
+            .listingCount(12)
+            .pricedCount(10)
+            .medianPrice(295000.0)
+            .averageDaysOnMarket(64.5)
+            .staleShare(0.2)
+            .build()));
+
+        // When
+        final ResponseEntity<List<com.springter.realestate.analyser.model.MarketStatistics>> response =
+            this.controller.analyseMarket("CITY_AND_PROPERTY_TYPE", "Madrid", "CONDO");
+
+        // Then
+        assertThat(response.getBody()).singleElement().satisfies(statistics -> {
+            assertThat(statistics.getCity()).isEqualTo("Madrid");
+            assertThat(statistics.getPropertyType()).isEqualTo("CONDO");
+            assertThat(statistics.getListingCount()).isEqualTo(12L);
+            assertThat(statistics.getMedianPrice()).isEqualTo(295000.0);
+            assertThat(statistics.getAvgDaysOnMarket()).isEqualTo(64.5);
+            assertThat(statistics.getStaleShare()).isEqualTo(0.2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should group by city by default")
+    void shouldGroupByCityByDefault() {
+        // Given
+        when(this.analyseMarketUseCase.analyseMarket(RealEstateSearchCriteria.builder().build(), MarketGrouping.CITY))
+            .thenReturn(List.of());
+
+        // When
+        final ResponseEntity<List<com.springter.realestate.analyser.model.MarketStatistics>> response =
+            this.controller.analyseMarket(null, null, null);
+
+        // Then
+        assertThat(response.getBody()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown grouping with 400")
+    void shouldRejectUnknownGrouping() {
+        // When / Then
+        assertThatThrownBy(() -> this.controller.analyseMarket("STREET", null, null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(this.analyseMarketUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return the monthly summaries of the month range")
+    void shouldReturnMonthlySummaries() {
+        // Given
+        when(this.analyseMarketUseCase.findMonthlySummaries("Madrid", RealEstateProperty.PropertyType.HOUSE,
+            YearMonth.of(2024, 1), YearMonth.of(2024, 6))).thenReturn(List.of(MarketSummary.builder()
+            .city("Madrid")
+            .propertyType("HOUSE")
+            .month(YearMonth.of(2024, 3))
+            .analysisCount(320)
+            .pricedCount(301)
+            .averagePrice(318000.0)
+            .averageDaysOnMarket(64.2)
+            .staleCount(41)
+            .build()));
+
+        // When
+        final ResponseEntity<List<com.springter.realestate.analyser.model.MarketSummary>> response =
+            this.controller.findMarketSummaries("Madrid", "HOUSE", "2024-01", "2024-06");
+
+        // Then
+        assertThat(response.getBody()).singleElement().satisfies(summary -> {
+            assertThat(summary.getMonth()).isEqualTo("2024-03");
+            assertThat(summary.getAnalysisCount()).isEqualTo(320L);
+            assertThat(summary.getAvgPrice()).isEqualTo(318000.0);
+            assertThat(summary.getAvgDaysOnMarket()).isEqualTo(64.2);
+            assertThat(summary.getStaleCount()).isEqualTo(41L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid month with 400")
+    void shouldRejectInvalidMonth() {
+        // When / Then
+        assertThatThrownBy(() -> this.controller.findMarketSummaries(null, null, "2024-13", null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(this.analyseMarketUseCase);
+    }
+}
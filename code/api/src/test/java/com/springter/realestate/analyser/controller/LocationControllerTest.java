@@ -0,0 +1,73 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.location.LocationMatch;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+import com.springter.realestate.analyser.domain.usecases.SearchLocationsUseCase;
+import com.springter.realestate.analyser.mapper.LocationMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationController Tests")
+class LocationControllerTest {
+
+    @Mock
+    private SearchLocationsUseCase searchLocationsUseCase;
+
+    private LocationController controller;
+
+    @BeforeEach
+    void setUp() {
+        this.controller = new LocationController(this.searchLocationsUseCase, new LocationMapperImpl());
+    }
+
+    @Test
+    @DisplayName("Should return the matching locations in the order of the use case")
+    void shouldReturnMatchingLocations() {
+        // Given
+        final Location location = Location.builder()
+            .id(10)
+            .streetAddress("Calle Feria 2")
+            .city("Sevilla")
+            .zipPostalCode("41003")
+            .build();
+        when(this.searchLocationsUseCase.searchLocations("sevila", LocationSearchMode.BEST_MATCH, 5))
+            .thenReturn(List.of(new LocationMatch(location, 0.8)));
+
+        // When
+        final ResponseEntity<List<com.springter.realestate.analyser.model.LocationMatch>> response =
+            this.controller.searchLocations("sevila", "BEST_MATCH", 5);
+
+        // Then
+        assertThat(response.getBody()).singleElement().satisfies(match -> {
+            assertThat(match.getId()).isEqualTo(10);
+            assertThat(match.getCity()).isEqualTo("Sevilla");
+            assertThat(match.getZipPostalCode()).isEqualTo("41003");
+            assertThat(match.getScore()).isEqualTo(0.8);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown search mode with 400")
+    void shouldRejectUnknownSearchMode() {
+        // When / Then
+        assertThatThrownBy(() -> this.controller.searchLocations("sevilla", "FUZZY", 5))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(this.searchLocationsUseCase);
+    }
+}
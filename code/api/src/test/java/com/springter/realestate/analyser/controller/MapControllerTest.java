@@ -0,0 +1,103 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.ClusterListingsUseCase;
+import com.springter.realestate.analyser.mapper.ListingClusterMapperImpl;
+import com.springter.realestate.analyser.mapper.RealEstateMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MapController Tests")
+class MapControllerTest {
+
+    @Mock
+    private ClusterListingsUseCase clusterListingsUseCase;
+
+    private MapController controller;
+
+    @BeforeEach
+    void setUp() {
+        this.controller = new MapController(this.clusterListingsUseCase, new RealEstateMapperImpl(), new ListingClusterMapperImpl());
+    }
+
+    @Test
+    @DisplayName("Should cluster the viewport with the filters and return the clusters of the use case")
+    void shouldReturnClustersOfViewport() {
+        // Given
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder()
+            .minPrice(100000.0)
+            .propertyType(RealEstateProperty.PropertyType.CONDO)
+            .bounds(GeoBoundingBox.of(40.38, -3.75, 40.45, -3.65))
+            .build();
+        when(this.clusterListingsUseCase.clusterListings(criteria, 14)).thenReturn(List.of(ListingCluster.builder()
+            .zoom(16)
+            .x(32093)
+            .y(24724)
+            .count(3)
+            .latitude(40.41)
+            .longitude(-3.70)
+            .minPrice(150000.0)
+            .averagePrice(200000.0)
+            .maxPrice(250000.0)
+            .build()));
+
+        // When
+        final ResponseEntity<List<com.springter.realestate.analyser.model.ListingCluster>> response =
+            this.controller.clusterRealEstate(List.of(-3.75, 40.38, -3.65, 40.45), 14, null, 100000.0, null, "CONDO");
+
+        // Then
+        assertThat(response.getBody()).singleElement().satisfies(cluster -> {
+            assertThat(cluster.getZoom()).isEqualTo(16);
+            assertThat(cluster.getX()).isEqualTo(32093);
+            assertThat(cluster.getY()).isEqualTo(24724);
+            assertThat(cluster.getCount()).isEqualTo(3L);
+            assertThat(cluster.getLatitude()).isEqualTo(40.41);
+            assertThat(cluster.getAvgPrice()).isEqualTo(200000.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid bounding box with 400")
+    void shouldRejectInvalidBoundingBox() {
+        // When / Then
+        assertThatThrownBy(() -> this.controller.clusterRealEstate(List.of(-3.75, 40.45, -3.65), 14, null, null, null, null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> this.controller.clusterRealEstate(List.of(-3.75, 40.45, -3.65, 40.38), 14, null, null, null, null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(this.clusterListingsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should turn a viewport rejected by the use case into a 400")
+    void shouldRejectViewportRejectedByUseCase() {
+        // Given
+        when(this.clusterListingsUseCase.clusterListings(any(), anyInt()))
+            .thenThrow(new IllegalArgumentException("Zoom must not be negative: -1"));
+
+        // When / Then
+        assertThatThrownBy(() -> this.controller.clusterRealEstate(List.of(-3.75, 40.38, -3.65, 40.45), -1, null, null, null, null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
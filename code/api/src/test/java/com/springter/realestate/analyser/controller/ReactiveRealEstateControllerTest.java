@@ -0,0 +1,179 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.ReactiveFindRealEstatePropertiesUseCase;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import com.springter.realestate.analyser.model.RealEstatePageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRealEstateController Tests")
+class ReactiveRealEstateControllerTest {
+
+    @Mock
+    private ReactiveFindRealEstatePropertiesUseCase findPropertiesUseCase;
+
+    @Mock
+    private RealEstateMapper mapper;
+
+    @InjectMocks
+    private ReactiveRealEstateController controller;
+
+    @Nested
+    @DisplayName("GET /reactive/realestate - getAllRealEstate")
+    class GetAllRealEstateTests {
+
+        @Test
+        @DisplayName("Should seek past the cursor and map the emitted page")
+        void shouldSeekPastCursorAndMapPage() {
+            // Given
+            final PageCursor cursor = PageCursor.after(1020L);
+            final RealEstatePageResponse mockResponse = new RealEstatePageResponse().page(0).size(50).numberOfElements(1);
+            final Page<RealEstateProperty> page = Page.keyset(
+                List.of(ReactiveRealEstateControllerTest.this.createSampleDomainProperty(1L)), PageRequest.after(cursor, 50), null);
+
+            when(ReactiveRealEstateControllerTest.this.mapper.toSearchCriteria("Madrid", null, null, null, null, null, null, null))
+                .thenReturn(RealEstateSearchCriteria.builder().location("Madrid").build());
+            when(ReactiveRealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
+                .thenReturn(Mono.just(page));
+            when(ReactiveRealEstateControllerTest.this.mapper.toPageResponse(page)).thenReturn(mockResponse);
+
+            // When
+            final RealEstatePageResponse response = ReactiveRealEstateControllerTest.this.controller.getAllRealEstate(
+                null, 50, "Madrid", null, null, null, null, null, null, null, cursor.encode()
+            ).block();
+
+            // Then
+            final ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
+            verify(ReactiveRealEstateControllerTest.this.findPropertiesUseCase).findProperties(any(), pageRequestCaptor.capture());
+            assertThat(pageRequestCaptor.getValue().getCursor()).isEqualTo(cursor);
+            assertThat(pageRequestCaptor.getValue().getSize()).isEqualTo(50);
+            assertThat(response).isEqualTo(mockResponse);
+        }
+
+        @Test
+        @DisplayName("Should pass the radius and bounding box to the use case")
+        void shouldPassGeoFilters() {
+            // Given
+            final List<Double> bbox = List.of(-3.75, 40.38, -3.65, 40.45);
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder()
+                .center(GeoPoint.of(40.4168, -3.7038))
+                .radiusKm(2.5)
+                .bounds(GeoBoundingBox.of(40.38, -3.75, 40.45, -3.65))
+                .build();
+            final Page<RealEstateProperty> page = Page.of(
+                List.of(ReactiveRealEstateControllerTest.this.createSampleDomainProperty(1L)), PageRequest.of(0, 10), 1L);
+            when(ReactiveRealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, 40.4168, -3.7038, 2.5, bbox))
+                .thenReturn(criteria);
+            when(ReactiveRealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
+                .thenReturn(Mono.just(page));
+            when(ReactiveRealEstateControllerTest.this.mapper.toPageResponse(page)).thenReturn(new RealEstatePageResponse());
+
+            // When
+            ReactiveRealEstateControllerTest.this.controller.getAllRealEstate(
+                0, 10, null, null, null, null, 40.4168, -3.7038, 2.5, bbox, null
+            ).block();
+
+            // Then
+            verify(ReactiveRealEstateControllerTest.this.findPropertiesUseCase).findProperties(criteria, PageRequest.of(0, 10));
+        }
+
+        @Test
+        @DisplayName("Should reject incomplete or out of range geo parameters with 400")
+        void shouldRejectInvalidGeoParameters() {
+            // Given
+            when(ReactiveRealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, 40.4168, null, null, null))
+                .thenThrow(new IllegalArgumentException("lat, lon and radiusKm must be given together"));
+
+            // When / Then
+            assertThatThrownBy(() -> ReactiveRealEstateControllerTest.this.controller.getAllRealEstate(
+                null, null, null, null, null, null, 40.4168, null, null, null, null
+            ))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+            verifyNoInteractions(ReactiveRealEstateControllerTest.this.findPropertiesUseCase);
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor on a geo search with 400, as it is ordered by distance")
+        void shouldRejectCursorOnGeoSearch() {
+            // Given
+            when(ReactiveRealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, 40.4168, -3.7038, 2.5, null))
+                .thenReturn(RealEstateSearchCriteria.builder().center(GeoPoint.of(40.4168, -3.7038)).radiusKm(2.5).build());
+
+            // When / Then
+            assertThatThrownBy(() -> ReactiveRealEstateControllerTest.this.controller.getAllRealEstate(
+                null, null, null, null, null, null, 40.4168, -3.7038, 2.5, null, PageCursor.after(10L).encode()
+            ))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+            verifyNoInteractions(ReactiveRealEstateControllerTest.this.findPropertiesUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /reactive/realestate/stream - streamAllRealEstate")
+    class StreamAllRealEstateTests {
+
+        @Test
+        @DisplayName("Should map every streamed property to its DTO, in order")
+        void shouldMapEveryStreamedProperty() {
+            // Given
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().build();
+            when(ReactiveRealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, "condo", null, null, null, null))
+                .thenReturn(criteria);
+            when(ReactiveRealEstateControllerTest.this.findPropertiesUseCase.streamProperties(criteria))
+                .thenReturn(Flux.just(ReactiveRealEstateControllerTest.this.createSampleDomainProperty(1L),
+                    ReactiveRealEstateControllerTest.this.createSampleDomainProperty(2L)));
+            when(ReactiveRealEstateControllerTest.this.mapper.toDto(any())).thenAnswer(invocation ->
+                new com.springter.realestate.analyser.model.RealEstateProperty()
+                    .id(invocation.<RealEstateProperty>getArgument(0).getId()));
+
+            // When
+            final List<com.springter.realestate.analyser.model.RealEstateProperty> streamed =
+                ReactiveRealEstateControllerTest.this.controller.streamAllRealEstate(null, null, null, "condo", null, null, null, null)
+                    .collectList()
+                    .block();
+
+            // Then
+            assertThat(streamed).extracting(com.springter.realestate.analyser.model.RealEstateProperty::getId)
+                .containsExactly(1L, 2L);
+        }
+    }
+
+    // Helper methods for creating test objects
+    private RealEstateProperty createSampleDomainProperty(long id) {
+        return RealEstateProperty.builder()
+            .id(id)
+            .title("Test Property " + id)
+            .propertyType(RealEstateProperty.PropertyType.CONDO)
+            .build();
+    }
+}
@@ -1,28 +1,39 @@
 package com.springter.realestate.analyser.controller;
 
 import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
 import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
 import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
 import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
 import com.springter.realestate.analyser.mapper.RealEstateMapper;
 import com.springter.realestate.analyser.model.RealEstatePageResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +46,9 @@ class RealEstateControllerTest {
     @Mock
     private RealEstateMapper mapper;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private RealEstateController controller;
 
@@ -60,14 +74,14 @@ class RealEstateControllerTest {
                 .numberOfElements(1)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null)).thenReturn(expectedCriteria);
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null)).thenReturn(expectedCriteria);
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(RealEstateSearchCriteria.class), any(PageRequest.class)))
                 .thenReturn(mockPage);
             when(RealEstateControllerTest.this.mapper.toPageResponse(any(Page.class))).thenReturn(expectedResponse);
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                null, null, null, null, null, null
+                null, null, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -91,7 +105,7 @@ class RealEstateControllerTest {
                 .page(0).size(3).totalElements(7L).totalPages(3).numberOfElements(3)
                 .content(List.of());
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(), PageRequest.of(0, 3), 7L));
@@ -99,7 +113,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 3, null, null, null, null
+                0, 3, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -115,7 +129,7 @@ class RealEstateControllerTest {
                 .page(1).size(3).totalElements(7L).totalPages(3).numberOfElements(3)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty(), RealEstateControllerTest.this.createSampleDtoProperty(), RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(1, 3), 7L));
@@ -123,7 +137,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                1, 3, null, null, null, null
+                1, 3, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -148,7 +162,7 @@ class RealEstateControllerTest {
                 .page(2).size(3).totalElements(7L).totalPages(3).numberOfElements(1)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(2, 3), 7L));
@@ -156,7 +170,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                2, 3, null, null, null, null
+                2, 3, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -181,7 +195,7 @@ class RealEstateControllerTest {
                 .page(10).size(3).totalElements(7L).totalPages(3).numberOfElements(0)
                 .content(List.of());
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(), PageRequest.of(10, 3), 7L));
@@ -189,7 +203,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                10, 3, null, null, null, null
+                10, 3, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -214,7 +228,7 @@ class RealEstateControllerTest {
                 .page(0).size(10).totalElements(3L).totalPages(1).numberOfElements(3)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria("Madrid", 200000.0, 400000.0, "HOUSE"))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria("Madrid", 200000.0, 400000.0, "HOUSE", null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 3L));
@@ -222,7 +236,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 10, "Madrid", 200000.0, 400000.0, "HOUSE"
+                0, 10, "Madrid", 200000.0, 400000.0, "HOUSE", null, null, null, null, null
             );
 
             // Then
@@ -232,6 +246,162 @@ class RealEstateControllerTest {
             final RealEstatePageResponse pageResponse = response.getBody();
             assertThat(pageResponse.getContent()).isNotEmpty();
         }
+
+        @Test
+        @DisplayName("Should record the properties returned tagged with the criteria shape")
+        void shouldRecordResponsePropertiesTaggedWithCriteriaShape() {
+            // Given
+            final RealEstatePageResponse mockResponse = new RealEstatePageResponse()
+                .page(0).size(10).totalElements(3L).totalPages(1).numberOfElements(3)
+                .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty(), RealEstateControllerTest.this.createSampleDtoProperty()));
+
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria("Madrid", 200000.0, null, null, null, null, null, null))
+                .thenReturn(RealEstateSearchCriteria.builder().location("Madrid").minPrice(200000.0).build());
+            when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
+                .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 3L));
+            when(RealEstateControllerTest.this.mapper.toPageResponse(any())).thenReturn(mockResponse);
+
+            // When
+            RealEstateControllerTest.this.controller.getAllRealEstate(0, 10, "Madrid", 200000.0, null, null, null, null, null, null, null);
+
+            // Then
+            final DistributionSummary responseProperties = RealEstateControllerTest.this.meterRegistry.get(RealEstateController.RESPONSE_PROPERTIES)
+                .tag("criteria", "location+price")
+                .tag("paging", "offset")
+                .summary();
+            assertThat(responseProperties.count()).isEqualTo(1);
+            assertThat(responseProperties.totalAmount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /realestate?cursor= - keyset pagination")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should seek past a valid cursor instead of using an offset")
+        void shouldSeekPastValidCursor() {
+            // Given
+            final PageCursor cursor = PageCursor.after(1020L);
+            final RealEstatePageResponse mockResponse = new RealEstatePageResponse()
+                .page(0).size(50).numberOfElements(1)
+                .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
+
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
+                .thenReturn(RealEstateSearchCriteria.builder().build());
+            when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
+                .thenReturn(Page.keyset(List.of(RealEstateControllerTest.this.createSampleDomainProperty()),
+                    PageRequest.after(cursor, 50), null));
+            when(RealEstateControllerTest.this.mapper.toPageResponse(any())).thenReturn(mockResponse);
+
+            // When
+            final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
+                7, 50, null, null, null, null, null, null, null, null, cursor.encode()
+            );
+
+            // Then
+            final ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
+            verify(RealEstateControllerTest.this.findPropertiesUseCase).findProperties(any(), pageRequestCaptor.capture());
+            assertThat(pageRequestCaptor.getValue().isKeyset()).isTrue();
+            assertThat(pageRequestCaptor.getValue().getCursor()).isEqualTo(cursor);
+            assertThat(pageRequestCaptor.getValue().getSize()).isEqualTo(50);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(mockResponse);
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor with 400")
+        void shouldRejectMalformedCursor() {
+            // When / Then
+            assertThatThrownBy(() -> RealEstateControllerTest.this.controller.getAllRealEstate(
+                null, null, null, null, null, null, null, null, null, null, "not-a-cursor"
+            ))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor whose ID is outside the range of house IDs with 400")
+        void shouldRejectOutOfRangeCursor() {
+            for (long lastId : List.of(4294967301L, -1L)) {
+                // Given
+                final String cursor = PageCursor.after(lastId).encode();
+
+                // When / Then
+                assertThatThrownBy(() -> RealEstateControllerTest.this.controller.getAllRealEstate(
+                    null, null, null, null, null, null, null, null, null, null, cursor
+                ))
+                    .as("%d", lastId)
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+            }
+            verifyNoInteractions(RealEstateControllerTest.this.findPropertiesUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /realestate?lat=&lon=&radiusKm=&bbox= - geo search")
+    class GeoSearchTests {
+
+        @Test
+        @DisplayName("Should pass the radius and bounding box to the use case")
+        void shouldPassGeoFilters() {
+            // Given
+            final List<Double> bbox = List.of(-3.75, 40.38, -3.65, 40.45);
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder()
+                .center(GeoPoint.of(40.4168, -3.7038))
+                .radiusKm(2.5)
+                .bounds(GeoBoundingBox.of(40.38, -3.75, 40.45, -3.65))
+                .build();
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, 40.4168, -3.7038, 2.5, bbox))
+                .thenReturn(criteria);
+            when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
+                .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 1L));
+            when(RealEstateControllerTest.this.mapper.toPageResponse(any())).thenReturn(new RealEstatePageResponse());
+
+            // When
+            final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
+                0, 10, null, null, null, null, 40.4168, -3.7038, 2.5, bbox, null
+            );
+
+            // Then
+            verify(RealEstateControllerTest.this.findPropertiesUseCase).findProperties(criteria, PageRequest.of(0, 10));
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        @Test
+        @DisplayName("Should reject incomplete or out of range geo parameters with 400")
+        void shouldRejectInvalidGeoParameters() {
+            // Given
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, 40.4168, null, null, null))
+                .thenThrow(new IllegalArgumentException("lat, lon and radiusKm must be given together"));
+
+            // When / Then
+            assertThatThrownBy(() -> RealEstateControllerTest.this.controller.getAllRealEstate(
+                null, null, null, null, null, null, 40.4168, null, null, null, null
+            ))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor on a geo search with 400, as it is ordered by distance")
+        void shouldRejectCursorOnGeoSearch() {
+            // Given
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, 40.4168, -3.7038, 2.5, null))
+                .thenReturn(RealEstateSearchCriteria.builder().center(GeoPoint.of(40.4168, -3.7038)).radiusKm(2.5).build());
+
+            // When / Then
+            assertThatThrownBy(() -> RealEstateControllerTest.this.controller.getAllRealEstate(
+                null, null, null, null, null, null, 40.4168, -3.7038, 2.5, null, PageCursor.after(10L).encode()
+            ))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
     }
 
     @Nested
@@ -246,7 +416,7 @@ class RealEstateControllerTest {
                 .page(0).size(10).totalElements(2L).totalPages(1).numberOfElements(2)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty(), RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 2L));
@@ -254,7 +424,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 10, null, null, null, null
+                0, 10, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -279,7 +449,7 @@ class RealEstateControllerTest {
                 .page(0).size(10).totalElements(7L).totalPages(1).numberOfElements(7)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 7L));
@@ -287,7 +457,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 10, null, null, null, null
+                0, 10, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -304,7 +474,7 @@ class RealEstateControllerTest {
                 .page(0).size(10).totalElements(7L).totalPages(1).numberOfElements(7)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 7L));
@@ -312,7 +482,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 10, null, null, null, null
+                0, 10, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -329,7 +499,7 @@ class RealEstateControllerTest {
                 .page(0).size(10).totalElements(7L).totalPages(1).numberOfElements(7)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 7L));
@@ -337,7 +507,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 10, null, null, null, null
+                0, 10, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -354,7 +524,7 @@ class RealEstateControllerTest {
                 .page(0).size(10).totalElements(7L).totalPages(1).numberOfElements(7)
                 .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+            when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                 .thenReturn(RealEstateSearchCriteria.builder().build());
             when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                 .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 10), 7L));
@@ -362,7 +532,7 @@ class RealEstateControllerTest {
 
             // When
             final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                0, 10, null, null, null, null
+                0, 10, null, null, null, null, null, null, null, null, null
             );
 
             // Then
@@ -383,7 +553,7 @@ class RealEstateControllerTest {
                     .page(0).size(20).totalElements(5L).totalPages(1).numberOfElements(5)
                     .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-                when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+                when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                     .thenReturn(RealEstateSearchCriteria.builder().build());
                 when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                     .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 20), 5L));
@@ -391,7 +561,7 @@ class RealEstateControllerTest {
 
                 // When
                 final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                    null, null, null, null, null, null
+                    null, null, null, null, null, null, null, null, null, null, null
                 );
 
                 // Then
@@ -409,7 +579,7 @@ class RealEstateControllerTest {
                     .page(0).size(5).totalElements(7L).totalPages(2).numberOfElements(5)
                     .content(List.of(RealEstateControllerTest.this.createSampleDtoProperty()));
 
-                when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+                when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                     .thenReturn(RealEstateSearchCriteria.builder().build());
                 when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                     .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 5), 7L));
@@ -417,7 +587,7 @@ class RealEstateControllerTest {
 
                 // When
                 final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                    0, 5, null, null, null, null
+                    0, 5, null, null, null, null, null, null, null, null, null
                 );
 
                 // Then
@@ -439,7 +609,7 @@ class RealEstateControllerTest {
                     .page(0).size(100).totalElements(7L).totalPages(1).numberOfElements(7)
                     .content(properties);
 
-                when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null))
+                when(RealEstateControllerTest.this.mapper.toSearchCriteria(null, null, null, null, null, null, null, null))
                     .thenReturn(RealEstateSearchCriteria.builder().build());
                 when(RealEstateControllerTest.this.findPropertiesUseCase.findProperties(any(), any()))
                     .thenReturn(Page.of(List.of(RealEstateControllerTest.this.createSampleDomainProperty()), PageRequest.of(0, 100), 7L));
@@ -447,7 +617,7 @@ class RealEstateControllerTest {
 
                 // When
                 final ResponseEntity<RealEstatePageResponse> response = RealEstateControllerTest.this.controller.getAllRealEstate(
-                    0, 100, null, null, null, null
+                    0, 100, null, null, null, null, null, null, null, null, null
                 );
 
                 // Then
@@ -0,0 +1,125 @@
+package com.springter.realestate.analyser.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RealEstateExportController Tests")
+class RealEstateExportControllerTest {
+
+    @Mock
+    private FindRealEstatePropertiesUseCase findPropertiesUseCase;
+
+    @Mock
+    private RealEstateMapper mapper;
+
+    private RealEstateExportController controller;
+
+    @BeforeEach
+    void setUp() {
+        this.controller = new RealEstateExportController(this.findPropertiesUseCase, this.mapper, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per exported property, once the body is written")
+    void shouldWriteOnePropertyPerLine() throws Exception {
+        // Given
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().location("Madrid").build();
+        when(this.mapper.toSearchCriteria("Madrid", null, null, null, null, null, null, null)).thenReturn(criteria);
+        when(this.mapper.toDto(any())).thenAnswer(invocation ->
+            new com.springter.realestate.analyser.model.RealEstateProperty()
+                .id(invocation.<RealEstateProperty>getArgument(0).getId())
+                .title(invocation.<RealEstateProperty>getArgument(0).getTitle()));
+        when(this.findPropertiesUseCase.exportProperties(eq(criteria), any())).thenAnswer(invocation -> {
+            final Consumer<RealEstateProperty> sink = invocation.getArgument(1);
+            sink.accept(RealEstateProperty.builder().id(1L).title("First").build());
+            sink.accept(RealEstateProperty.builder().id(2L).title("Second").build());
+            return 2L;
+        });
+
+        // When
+        final ResponseEntity<StreamingResponseBody> response =
+            this.controller.exportAllRealEstate("Madrid", null, null, null, null, null, null, null);
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(new ObjectMapper().readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+        assertThat(new ObjectMapper().readTree(lines[1]).get("title").asText()).isEqualTo("Second");
+    }
+
+    @Test
+    @DisplayName("Should export with the radius and bounding box filters of the search")
+    void shouldExportWithGeoFilters() throws Exception {
+        // Given
+        when(this.mapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any())).thenCallRealMethod();
+        final ArgumentCaptor<RealEstateSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(RealEstateSearchCriteria.class);
+
+        // When
+        this.controller.exportAllRealEstate(null, null, null, null, 40.4168, -3.7038, 2.5,
+            List.of(-3.75, 40.38, -3.65, 40.45)).getBody().writeTo(new ByteArrayOutputStream());
+
+        // Then
+        verify(this.findPropertiesUseCase).exportProperties(criteriaCaptor.capture(), any());
+        assertThat(criteriaCaptor.getValue().getCenter()).isEqualTo(GeoPoint.of(40.4168, -3.7038));
+        assertThat(criteriaCaptor.getValue().getRadiusKm()).isEqualTo(2.5);
+        assertThat(criteriaCaptor.getValue().getBounds()).isEqualTo(GeoBoundingBox.of(40.38, -3.75, 40.45, -3.65));
+    }
+
+    @Test
+    @DisplayName("Should reject a radius without its center with 400 Bad Request")
+    void shouldRejectIncompleteRadius() {
+        // Given
+        when(this.mapper.toSearchCriteria(null, null, null, null, null, null, 2.5, null))
+            .thenThrow(new IllegalArgumentException("lat, lon and radiusKm must be given together"));
+
+        // When / Then
+        assertThatThrownBy(() -> this.controller.exportAllRealEstate(null, null, null, null, null, null, 2.5, null))
+            .isInstanceOf(ResponseStatusException.class)
+            .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(this.findPropertiesUseCase);
+    }
+
+    @Test
+    @DisplayName("Should not query anything before the body is written")
+    void shouldDeferExportUntilBodyIsWritten() {
+        // When
+        this.controller.exportAllRealEstate(null, null, null, null, null, null, null, null);
+
+        // Then
+        verifyNoInteractions(this.findPropertiesUseCase);
+    }
+}
@@ -0,0 +1,54 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Goes through Spring MVC, unlike {@link RealEstateExportControllerTest}, since the parameter
+ * constraints are only checked by the validation proxy of the controller.
+ */
+@WebMvcTest(RealEstateExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("RealEstateExportController validation Tests")
+class RealEstateExportControllerValidationTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({RealEstateExportController.class, ConstraintViolationHandler.class})
+    static class TestConfig {
+    }
+
+    @MockBean
+    private FindRealEstatePropertiesUseCase findPropertiesUseCase;
+
+    @MockBean
+    private RealEstateMapper mapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should reject a negative price with 400 Bad Request before querying anything")
+    void shouldRejectNegativePrice() throws Exception {
+        // When / Then
+        this.mockMvc.perform(get("/realestate/export").param("minPrice", "-1"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/realestate/export").param("maxPrice", "-0.5"))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(this.findPropertiesUseCase, this.mapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.springter.realestate.analyser.controller;
+
+import com.springter.realestate.analyser.domain.usecases.ValueCatalogueUseCase;
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import com.springter.realestate.analyser.mapper.ValuationMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValuationController Tests")
+class ValuationControllerTest {
+
+    @Mock
+    private ValueCatalogueUseCase valueCatalogueUseCase;
+
+    private ValuationController controller;
+
+    @BeforeEach
+    void setUp() {
+        this.controller = new ValuationController(this.valueCatalogueUseCase, new ValuationMapperImpl());
+    }
+
+    @Test
+    @DisplayName("Should return the latest valuation of the house")
+    void shouldReturnValuation() {
+        // Given
+        when(this.valueCatalogueUseCase.findValuation(1042)).thenReturn(Optional.of(Valuation.builder()
+            .houseId(1042)
+            .estimatedPrice(new BigDecimal("312500.00"))
+            .lowPrice(new BigDecimal("281000.00"))
+            .highPrice(new BigDecimal("344000.00"))
+            .comparableCount(8)
+            .valuedAt(OffsetDateTime.parse("2024-03-01T03:00:00Z"))
+            .build()));
+
+        // When
+        final ResponseEntity<com.springter.realestate.analyser.model.Valuation> response = this.controller.getValuation(1042);
+
+        // Then
+        assertThat(response.getBody()).satisfies(valuation -> {
+            assertThat(valuation.getHouseId()).isEqualTo(1042);
+            assertThat(valuation.getEstimatedPrice()).isEqualTo(312500.0);
+            assertThat(valuation.getLowPrice()).isEqualTo(281000.0);
+            assertThat(valuation.getHighPrice()).isEqualTo(344000.0);
+            assertThat(valuation.getComparableCount()).isEqualTo(8);
+        });
+    }
+
+    @Test
+    @DisplayName("Should return 404 for a house that has not been valued")
+    void shouldReturnNotFoundWithoutValuation() {
+        // Given
+        when(this.valueCatalogueUseCase.findValuation(7)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> this.controller.getValuation(7))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+}
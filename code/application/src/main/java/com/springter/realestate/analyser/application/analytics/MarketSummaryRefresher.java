@@ -0,0 +1,36 @@
+package com.springter.realestate.analyser.application.analytics;
+
+import com.springter.realestate.analyser.domain.repositories.MarketSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes the monthly market summary of the {@link MarketSummaryRepository} periodically.
+ *
+ * Enabled with {@code realestate.analytics.summary.refresh.enabled=true}, on one instance only: each
+ * refresh recomputes the whole summary, and the database serialises concurrent refreshes, so running
+ * it on every instance would only queue the same work.
+ */
+@Component
+@ConditionalOnProperty(prefix = "realestate.analytics.summary.refresh", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MarketSummaryRefresher {
+
+    private final MarketSummaryRepository marketSummaryRepository;
+
+    @Scheduled(initialDelayString = "${realestate.analytics.summary.refresh.interval:PT15M}",
+            fixedDelayString = "${realestate.analytics.summary.refresh.interval:PT15M}")
+    public void refresh() {
+        long start = System.nanoTime();
+        try {
+            marketSummaryRepository.refresh();
+            log.info("Market summary refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Market summary refresh failed, retrying in the next interval", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.springter.realestate.analyser.application.config;
+
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration of the application caches.
+ *
+ * Search result pages are cached by search criteria and page request, and House
+ * aggregates by ID. The provider is chosen with {@code spring.cache.type}: Caffeine
+ * for a single instance, or Hazelcast to share the caches between replicas.
+ * Repositories clear the affected entries whenever they change houses.
+ */
+@Configuration
+// Cache advice wraps transactional advice, so evictions happen after the writing transaction commits
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * Cache of search result pages, keyed by {@link PropertySearchKey}
+     */
+    public static final String PROPERTY_SEARCH_CACHE = "propertySearch";
+
+    /**
+     * Cache of House aggregates, keyed by house ID
+     */
+    public static final String HOUSE_CACHE = "houses";
+
+    /**
+     * Name of the key generator building {@link PropertySearchKey}s from the search arguments
+     */
+    public static final String PROPERTY_SEARCH_KEY_GENERATOR = "propertySearchKeyGenerator";
+
+    /**
+     * Cache key of one search result page.
+     * An explicit type, unlike Spring's SimpleKey, can be serialized by distributed caches.
+     */
+    public record PropertySearchKey(RealEstateSearchCriteria criteria, PageRequest pageRequest) {
+    }
+
+    @Bean(PROPERTY_SEARCH_KEY_GENERATOR)
+    public KeyGenerator propertySearchKeyGenerator() {
+        return (target, method, params) ->
+                new PropertySearchKey((RealEstateSearchCriteria) params[0], (PageRequest) params[1]);
+    }
+}
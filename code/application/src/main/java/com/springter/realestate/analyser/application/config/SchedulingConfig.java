@@ -0,0 +1,17 @@
+package com.springter.realestate.analyser.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled tasks of the application.
+ *
+ * Each task is a component enabled by its own property, so nothing runs unless configured:
+ * the ListingSearchIndexLoader reloads, the MarketSummaryRefresher refreshes and the
+ * CatalogueRevaluationScheduler revaluations. They share the scheduler Spring Boot configures
+ * with {@code spring.task.scheduling}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
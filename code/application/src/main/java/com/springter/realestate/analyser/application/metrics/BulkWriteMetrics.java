@@ -0,0 +1,47 @@
+package com.springter.realestate.analyser.application.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Meters of the batches written by bulk saves of houses, such as nightly listing imports.
+ *
+ * Each batch goes through one stage per table (see {@link #recordBatch}), timed separately so
+ * a slow import shows which table holds it back. Batch sizes are recorded alongside, since a
+ * batch time only means something relative to the rows it wrote.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkWriteMetrics {
+
+    public static final String BULK_BATCH = "realestate.repository.bulk.batch";
+    public static final String BULK_ROWS = "realestate.repository.bulk.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Times one stage of a batch and records the number of rows it wrote
+     *
+     * @param stage the table written by the stage, e.g. {@code house}
+     * @param rows  the number of rows written
+     */
+    public <T> T recordBatch(String stage, int rows, Supplier<T> write) {
+        T result = Timer.builder(BULK_BATCH)
+                .description("Time to write one batch of a bulk save, per table")
+                .tags("stage", stage)
+                .register(meterRegistry)
+                .record(write);
+        DistributionSummary.builder(BULK_ROWS)
+                .description("Rows written per batch of a bulk save, per table")
+                .baseUnit("rows")
+                .tags("stage", stage)
+                .register(meterRegistry)
+                .record(rows);
+        return result;
+    }
+}
@@ -0,0 +1,199 @@
+package com.springter.realestate.analyser.application.metrics;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Meters of the stages a property search goes through, from the repository query to the
+ * conversion of its results.
+ *
+ * Search meters are tagged with the shape of the criteria (which filters are set, see
+ * {@link RealEstateSearchCriteria#shape()}) and the kind of paging, never with filter values,
+ * so the number of series stays bounded. Timers publish histograms for percentiles when
+ * enabled with {@code management.metrics.distribution.percentiles-histogram}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMetrics {
+
+    public static final String REPOSITORY_QUERY = "realestate.repository.query";
+    public static final String REPOSITORY_ROWS = "realestate.repository.rows";
+    public static final String MAPPING = "realestate.mapping";
+    public static final String SEARCH_FILTER = "realestate.search.filter";
+    public static final String SEARCH_CONVERSION = "realestate.search.conversion";
+    public static final String SEARCH_SELECTIVITY = "realestate.search.selectivity";
+    public static final String SEARCH_EXPORT = "realestate.search.export";
+    public static final String SEARCH_EXPORT_ROWS = "realestate.search.export.rows";
+    public static final String SEARCH_CLUSTERS = "realestate.search.clusters";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Tags describing a search without its values: criteria shape and paging kind
+     */
+    public static Tags searchTags(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        return Tags.of("criteria", searchCriteria.shape(), "paging", pageRequest.isKeyset() ? "keyset" : "offset");
+    }
+
+    /**
+     * Times a repository query and records the number of rows in the page it returns
+     *
+     * @param engine the persistence engine answering the query, e.g. {@code jpa}
+     * @param query  the repository method
+     */
+    public <T> Page<T> recordQuery(String engine, String query, RealEstateSearchCriteria searchCriteria,
+                                   PageRequest pageRequest, Supplier<Page<T>> execution) {
+        Tags tags = searchTags(searchCriteria, pageRequest).and("engine", engine, "query", query);
+        Page<T> page = queryTimer(tags).record(execution);
+        rowsSummary(tags).record(page.getContent().size());
+        return page;
+    }
+
+    /**
+     * Times a non-blocking repository query, from subscription to completion, and records the
+     * number of rows in the page it emits
+     *
+     * @param engine the persistence engine answering the query, e.g. {@code r2dbc}
+     * @param query  the repository method
+     */
+    public <T> Mono<Page<T>> recordQuery(String engine, String query, RealEstateSearchCriteria searchCriteria,
+                                         PageRequest pageRequest, Mono<Page<T>> execution) {
+        Tags tags = searchTags(searchCriteria, pageRequest).and("engine", engine, "query", query);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return execution
+                    .doOnNext(page -> rowsSummary(tags).record(page.getContent().size()))
+                    .doFinally(signal -> sample.stop(queryTimer(tags)));
+        });
+    }
+
+    /**
+     * Times the mapping of persistence entities to domain models
+     *
+     * @param mapper the mapper, e.g. {@code HousePersistenceMapper}
+     * @param method the mapping method
+     */
+    public <T> T recordMapping(String mapper, String method, Supplier<T> mapping) {
+        return Timer.builder(MAPPING)
+                .description("Time to map persistence entities to domain models, lazy loads included")
+                .tags("mapper", mapper, "method", method)
+                .register(meterRegistry)
+                .record(mapping);
+    }
+
+    /**
+     * Times the retrieval of the filtered page of listings for a search
+     *
+     * @param source what answered the search: {@code index} or {@code repository}
+     */
+    public <T> Page<T> recordFilter(String source, RealEstateSearchCriteria searchCriteria, PageRequest pageRequest,
+                                    Supplier<Page<T>> filter) {
+        return filterTimer(source, searchCriteria, pageRequest).record(filter);
+    }
+
+    /**
+     * Times a non-blocking retrieval of the filtered page of listings, from subscription to completion
+     *
+     * @param source what answered the search: {@code index} or {@code repository}
+     */
+    public <T> Mono<Page<T>> recordFilter(String source, RealEstateSearchCriteria searchCriteria, PageRequest pageRequest,
+                                          Mono<Page<T>> filter) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return filter.doFinally(signal -> sample.stop(filterTimer(source, searchCriteria, pageRequest)));
+        });
+    }
+
+    /**
+     * Times the conversion of a page of listings to the models returned by the use case
+     */
+    public <T> T recordConversion(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest, Supplier<T> conversion) {
+        return Timer.builder(SEARCH_CONVERSION)
+                .description("Time to convert a page of listings to real estate properties")
+                .tags(searchTags(searchCriteria, pageRequest))
+                .register(meterRegistry)
+                .record(conversion);
+    }
+
+    /**
+     * Times the export of all the properties matching a search and records how many were exported
+     */
+    public long recordExport(RealEstateSearchCriteria searchCriteria, LongSupplier export) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            long exported = export.getAsLong();
+            DistributionSummary.builder(SEARCH_EXPORT_ROWS)
+                    .description("Properties written per completed export")
+                    .baseUnit("properties")
+                    .tags("criteria", searchCriteria.shape())
+                    .register(meterRegistry)
+                    .record(exported);
+            return exported;
+        } finally {
+            sample.stop(Timer.builder(SEARCH_EXPORT)
+                    .description("Time to export the properties matching a search, writing included")
+                    .tags("criteria", searchCriteria.shape())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Times the aggregation of the listings of a map viewport into clusters
+     *
+     * @param source what answered the search: {@code index} or {@code repository}
+     */
+    public <T> T recordClustering(String source, RealEstateSearchCriteria searchCriteria, Supplier<T> clustering) {
+        return Timer.builder(SEARCH_CLUSTERS)
+                .description("Time to aggregate the listings of a map viewport by grid cell")
+                .tags("criteria", searchCriteria.shape(), "source", source)
+                .register(meterRegistry)
+                .record(clustering);
+    }
+
+    /**
+     * Records the fraction of the catalogue matched by the criteria of a search
+     */
+    public void recordSelectivity(RealEstateSearchCriteria searchCriteria, long matches, long catalogueSize) {
+        if (catalogueSize <= 0) {
+            return;
+        }
+        DistributionSummary.builder(SEARCH_SELECTIVITY)
+                .description("Fraction of the catalogue matched by the search criteria")
+                .tags("criteria", searchCriteria.shape())
+                .register(meterRegistry)
+                .record((double) matches / catalogueSize);
+    }
+
+    private Timer filterTimer(String source, RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        return Timer.builder(SEARCH_FILTER)
+                .description("Time to filter and page the listings of a search")
+                .tags(searchTags(searchCriteria, pageRequest).and("source", source))
+                .register(meterRegistry);
+    }
+
+    private Timer queryTimer(Tags tags) {
+        return Timer.builder(REPOSITORY_QUERY)
+                .description("Time to query a page of houses, mapping included")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary rowsSummary(Tags tags) {
+        return DistributionSummary.builder(REPOSITORY_ROWS)
+                .description("Rows in the pages returned by repository queries")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
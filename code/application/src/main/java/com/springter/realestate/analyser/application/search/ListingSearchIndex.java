@@ -0,0 +1,678 @@
+package com.springter.realestate.analyser.application.search;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.location.TileGrid;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of the listing catalogue answering search criteria without a database round trip.
+ *
+ * Every listing takes a slot, and slots are kept in ascending house ID order so pages come out
+ * in the same order as from the repository. Filters run over primitive columns (latest sold price,
+ * property type ordinal), and location filters are first narrowed through an inverted index of
+ * address tokens before the exact substring match is checked on the remaining slots. Each token
+ * maps to the sorted slots holding it, and the tokens matching a filter term are remembered
+ * so repeated filters skip the scan of the token dictionary.
+ *
+ * Coordinates are indexed in a fixed grid of 0.1 degree cells: geo filters first
+ * collect the slots of the cells overlapping the searched area, then check the exact distance or
+ * bounding box on those. Geo searches are ordered by distance, keeping only the nearest matches
+ * of the requested page while scanning. Map clusters are summed up in the same scan over the matches.
+ *
+ * The index is empty and not ready until {@link #load(Collection)} is called, see
+ * {@link ListingSearchIndexLoader}. Reads run concurrently, writes are exclusive.
+ */
+@Component
+@Slf4j
+public class ListingSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int MAX_CACHED_TERMS = 1024;
+
+    private static final byte NO_TYPE = -1;
+
+    /**
+     * Side of the grid cells indexing the coordinates, in degrees: about 11 km north to south
+     */
+    private static final double CELL_DEGREES = 0.1;
+
+    private static final int GRID_ROWS = (int) Math.round(180 / CELL_DEGREES);
+
+    private static final int GRID_COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final Comparator<Hit> NEAREST_FIRST = Comparator.comparingDouble(Hit::distanceKm)
+            .thenComparingInt(Hit::slot);
+
+    private static final RealEstateProperty.PropertyType[] TYPES = RealEstateProperty.PropertyType.values();
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Separates the address fields in the searchable text, so a match cannot span two fields
+     */
+    private static final char FIELD_SEPARATOR = '\0';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private int slots;
+    private int[] ids = new int[0];
+    private double[] prices = new double[0];
+    private byte[] types = new byte[0];
+    private String[] addresses = new String[0];
+    private double[] latitudes = new double[0];
+    private double[] longitudes = new double[0];
+    private PropertyListing[] listings = new PropertyListing[0];
+    private final BitSet live = new BitSet();
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+    private final Map<String, SlotList> postings = new HashMap<>();
+    private final Map<Integer, SlotList> cells = new HashMap<>();
+
+    /**
+     * Address tokens containing each recently searched term. Filled by searches, kept up to date by writes.
+     */
+    private final Map<String, List<String>> tokensByTerm = new ConcurrentHashMap<>();
+
+    /**
+     * Checks if the index holds the catalogue and can answer searches
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gets the number of listings in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole content of the index and marks it ready
+     *
+     * @param catalogue All the listings of the catalogue
+     */
+    public void load(Collection<PropertyListing> catalogue) {
+        lock.writeLock().lock();
+        try {
+            rebuild(catalogue);
+            ready = true;
+            log.info("Listing search index loaded with {} listings and {} address tokens", slotById.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a listing to the index, or replaces the listing with the same ID
+     */
+    public void upsert(PropertyListing listing) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(listing.getId());
+            if (slot != null) {
+                unindexAddress(slot);
+                unindexPosition(slot);
+                fill(slot, listing);
+            } else if (slots == 0 || listing.getId() > ids[slots - 1]) {
+                append(listing);
+            } else {
+                // Slots must stay in ID order, an ID lower than the last one means rebuilding
+                List<PropertyListing> catalogue = liveListings();
+                catalogue.add(listing);
+                rebuild(catalogue);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the listing with the given ID from the index, if present
+     */
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            unindexAddress(slot);
+            unindexPosition(slot);
+            live.clear(slot);
+            listings[slot] = null;
+            addresses[slot] = null;
+            // Reclaim the slots once most of them are dead
+            if (slots > INITIAL_CAPACITY && slotById.size() < slots / 2) {
+                rebuild(liveListings());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds one page of listings matching the search criteria, with the same ordering,
+     * totals and cursors as {@link com.springter.realestate.analyser.domain.repositories.HouseRepository#findListingsByCriteria}
+     *
+     * @param searchCriteria The location, property type, price and geo filters to apply
+     * @param pageRequest The pagination parameters
+     * @return A page of listings matching the criteria, ordered by house ID, or by distance with a geo filter
+     */
+    public Page<PropertyListing> search(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        RealEstateSearchCriteria criteria = searchCriteria != null ? searchCriteria : RealEstateSearchCriteria.noFilter();
+        String location = normalizedLocation(criteria.getLocation());
+        byte type = criteria.getPropertyType() != null ? (byte) criteria.getPropertyType().ordinal() : NO_TYPE;
+        double minPrice = criteria.getMinPrice() != null ? criteria.getMinPrice() : Double.NEGATIVE_INFINITY;
+        double maxPrice = criteria.getMaxPrice() != null ? criteria.getMaxPrice() : Double.POSITIVE_INFINITY;
+        boolean priceFiltered = criteria.getMinPrice() != null || criteria.getMaxPrice() != null;
+        RealEstateSearchCriteria geoFilter = criteria.hasGeoFilter() ? criteria : null;
+        int size = pageRequest.getSize();
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(location, geoFilter);
+            if (geoFilter != null) {
+                return searchByDistance(candidates, location, type, priceFiltered, minPrice, maxPrice, geoFilter, pageRequest);
+            }
+            List<PropertyListing> content = new ArrayList<>(Math.min(size, INITIAL_CAPACITY));
+
+            if (pageRequest.isKeyset()) {
+                int slot = candidates.nextSetBit(firstSlotAfter(pageRequest.getCursor().getLastId()));
+                boolean hasNext = false;
+                for (; slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                    if (matches(slot, location, type, priceFiltered, minPrice, maxPrice, null)) {
+                        if (content.size() == size) {
+                            hasNext = true;
+                            break;
+                        }
+                        content.add(listings[slot]);
+                    }
+                }
+                return Page.keyset(content, pageRequest, hasNext ? cursorAfter(content) : null);
+            }
+
+            long offset = pageRequest.getOffset();
+            // Without filters the total is known upfront, so the scan can stop at the end of the page
+            boolean unfiltered = location == null && type == NO_TYPE && !priceFiltered;
+            long matched = 0;
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (matches(slot, location, type, priceFiltered, minPrice, maxPrice, null)) {
+                    if (matched >= offset && content.size() < size) {
+                        content.add(listings[slot]);
+                    }
+                    matched++;
+                    if (unfiltered && content.size() == size) {
+                        break;
+                    }
+                }
+            }
+            long totalElements = unfiltered ? slotById.size() : matched;
+            boolean hasNext = offset + content.size() < totalElements;
+            return Page.of(content, pageRequest, totalElements, hasNext ? cursorAfter(content) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Pages the matches by distance from the origin of the geo filter, then house ID, like the repositories.
+     * Only the nearest offset + size matches are kept while scanning. The pages carry no cursor.
+     */
+    private Page<PropertyListing> searchByDistance(BitSet candidates, String location, byte type, boolean priceFiltered,
+                                                   double minPrice, double maxPrice, RealEstateSearchCriteria geoFilter,
+                                                   PageRequest pageRequest) {
+        GeoPoint origin = geoFilter.distanceOrigin();
+        long kept = pageRequest.getOffset() + pageRequest.getSize();
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(NEAREST_FIRST.reversed());
+        long matched = 0;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (matches(slot, location, type, priceFiltered, minPrice, maxPrice, geoFilter)) {
+                matched++;
+                Hit hit = new Hit(slot, origin.distanceKm(latitudes[slot], longitudes[slot]));
+                if (nearest.size() < kept) {
+                    nearest.add(hit);
+                } else if (NEAREST_FIRST.compare(hit, nearest.peek()) < 0) {
+                    nearest.poll();
+                    nearest.add(hit);
+                }
+            }
+        }
+        List<Hit> hits = new ArrayList<>(nearest);
+        hits.sort(NEAREST_FIRST);
+        List<PropertyListing> content = hits.stream()
+                .skip(pageRequest.getOffset())
+                .map(hit -> listings[hit.slot()])
+                .toList();
+        return Page.of(content, pageRequest, matched, null);
+    }
+
+    /**
+     * Groups the listings matching the search criteria by grid cell, with the same clusters as
+     * {@link com.springter.realestate.analyser.domain.repositories.ListingClusterRepository#clusterListings}
+     *
+     * @param searchCriteria The location, property type, price and geo filters to apply
+     * @param grid The grid whose cells group the listings
+     * @return A cluster per non-empty cell, ordered by row then column
+     */
+    public List<ListingCluster> cluster(RealEstateSearchCriteria searchCriteria, TileGrid grid) {
+        RealEstateSearchCriteria criteria = searchCriteria != null ? searchCriteria : RealEstateSearchCriteria.noFilter();
+        String location = normalizedLocation(criteria.getLocation());
+        byte type = criteria.getPropertyType() != null ? (byte) criteria.getPropertyType().ordinal() : NO_TYPE;
+        double minPrice = criteria.getMinPrice() != null ? criteria.getMinPrice() : Double.NEGATIVE_INFINITY;
+        double maxPrice = criteria.getMaxPrice() != null ? criteria.getMaxPrice() : Double.POSITIVE_INFINITY;
+        boolean priceFiltered = criteria.getMinPrice() != null || criteria.getMaxPrice() != null;
+        RealEstateSearchCriteria geoFilter = criteria.hasGeoFilter() ? criteria : null;
+
+        lock.readLock().lock();
+        try {
+            Map<Long, ClusterStats> statsByCell = new TreeMap<>();
+            BitSet candidates = candidates(location, geoFilter);
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (!Double.isNaN(latitudes[slot])
+                        && matches(slot, location, type, priceFiltered, minPrice, maxPrice, geoFilter)) {
+                    long cell = (long) grid.row(latitudes[slot]) * grid.size() + grid.column(longitudes[slot]);
+                    statsByCell.computeIfAbsent(cell, key -> new ClusterStats())
+                            .add(latitudes[slot], longitudes[slot], prices[slot]);
+                }
+            }
+            List<ListingCluster> clusters = new ArrayList<>(statsByCell.size());
+            statsByCell.forEach((cell, stats) -> clusters.add(stats.toCluster(grid, cell)));
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Narrows the live slots to those having, for every term of the location filter,
+     * an address token containing that term, and to those in the grid cells around the
+     * geo filter. This is a superset of the matching slots, which {@link #matches} then
+     * checks exactly.
+     */
+    private BitSet candidates(String location, RealEstateSearchCriteria geoFilter) {
+        BitSet candidates = (BitSet) live.clone();
+        if (geoFilter != null) {
+            candidates.and(slotsAround(geoFilter.distanceOrigin(), geoFilter.geoSearchRadiusKm()));
+        }
+        if (location == null) {
+            return candidates;
+        }
+        for (String term : tokens(location)) {
+            BitSet containing = new BitSet(slots);
+            for (String token : tokensContaining(term)) {
+                postings.get(token).addTo(containing);
+            }
+            candidates.and(containing);
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Collects the slots of the grid cells overlapping the area within the radius of the origin.
+     * The area spans the latitudes within the angular radius, and the longitudes within
+     * asin(sin(radius) / cos(latitude)), or all of them when it reaches a pole.
+     * Walks the overlapping cells, or the non-empty ones when there are fewer of those.
+     */
+    private BitSet slotsAround(GeoPoint origin, double radiusKm) {
+        double radius = radiusKm / GeoPoint.EARTH_RADIUS_KM;
+        double latitude = Math.toRadians(origin.getLatitude());
+        int firstRow = row(Math.toDegrees(latitude - radius));
+        int lastRow = row(Math.toDegrees(latitude + radius));
+        int firstColumn = 0;
+        int columns = GRID_COLUMNS;
+        if (Math.abs(latitude) + radius < Math.PI / 2) {
+            double halfWidth = Math.toDegrees(Math.asin(Math.sin(radius) / Math.cos(latitude)));
+            int west = (int) Math.floor((origin.getLongitude() - halfWidth + 180) / CELL_DEGREES);
+            int east = (int) Math.floor((origin.getLongitude() + halfWidth + 180) / CELL_DEGREES);
+            firstColumn = Math.floorMod(west, GRID_COLUMNS);
+            columns = Math.min(GRID_COLUMNS, east - west + 1);
+        }
+
+        BitSet slotsInCells = new BitSet(slots);
+        long overlapping = (long) (lastRow - firstRow + 1) * columns;
+        if (overlapping <= cells.size()) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = 0; column < columns; column++) {
+                    SlotList cellSlots = cells.get(row * GRID_COLUMNS + (firstColumn + column) % GRID_COLUMNS);
+                    if (cellSlots != null) {
+                        cellSlots.addTo(slotsInCells);
+                    }
+                }
+            }
+        } else {
+            for (Map.Entry<Integer, SlotList> cell : cells.entrySet()) {
+                int row = cell.getKey() / GRID_COLUMNS;
+                int column = cell.getKey() % GRID_COLUMNS;
+                if (row >= firstRow && row <= lastRow && Math.floorMod(column - firstColumn, GRID_COLUMNS) < columns) {
+                    cell.getValue().addTo(slotsInCells);
+                }
+            }
+        }
+        return slotsInCells;
+    }
+
+    private List<String> tokensContaining(String term) {
+        List<String> tokens = tokensByTerm.get(term);
+        if (tokens == null) {
+            tokens = new ArrayList<>();
+            for (String token : postings.keySet()) {
+                if (token.contains(term)) {
+                    tokens.add(token);
+                }
+            }
+            if (tokensByTerm.size() >= MAX_CACHED_TERMS) {
+                tokensByTerm.clear();
+            }
+            tokensByTerm.put(term, tokens);
+        }
+        return tokens;
+    }
+
+    private boolean matches(int slot, String location, byte type, boolean priceFiltered, double minPrice, double maxPrice,
+                            RealEstateSearchCriteria geoFilter) {
+        if (type != NO_TYPE && types[slot] != type) {
+            return false;
+        }
+        if (geoFilter != null && (Double.isNaN(latitudes[slot]) || Double.isNaN(longitudes[slot])
+                || !geoFilter.matchesPosition(latitudes[slot], longitudes[slot]))) {
+            return false;
+        }
+        // A missing price is NaN, which fails both comparisons like NULL does in SQL
+        if (priceFiltered && !(prices[slot] >= minPrice && prices[slot] <= maxPrice)) {
+            return false;
+        }
+        return location == null || addresses[slot].contains(location);
+    }
+
+    /**
+     * Finds the first slot whose house ID is greater than the given one
+     */
+    private int firstSlotAfter(long lastId) {
+        if (lastId >= Integer.MAX_VALUE) {
+            return slots;
+        }
+        int index = Arrays.binarySearch(ids, 0, slots, (int) Math.max(lastId, Integer.MIN_VALUE));
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private void rebuild(Collection<PropertyListing> catalogue) {
+        List<PropertyListing> sorted = new ArrayList<>(catalogue);
+        sorted.sort(Comparator.comparing(PropertyListing::getId));
+
+        int capacity = Math.max(INITIAL_CAPACITY, sorted.size());
+        slots = 0;
+        ids = new int[capacity];
+        prices = new double[capacity];
+        types = new byte[capacity];
+        addresses = new String[capacity];
+        latitudes = new double[capacity];
+        longitudes = new double[capacity];
+        listings = new PropertyListing[capacity];
+        live.clear();
+        slotById.clear();
+        postings.clear();
+        cells.clear();
+        tokensByTerm.clear();
+        sorted.forEach(this::append);
+    }
+
+    private void append(PropertyListing listing) {
+        if (slots == ids.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            types = Arrays.copyOf(types, capacity);
+            addresses = Arrays.copyOf(addresses, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            listings = Arrays.copyOf(listings, capacity);
+        }
+        int slot = slots++;
+        slotById.put(listing.getId(), slot);
+        live.set(slot);
+        fill(slot, listing);
+    }
+
+    private void fill(int slot, PropertyListing listing) {
+        ids[slot] = listing.getId();
+        prices[slot] = listing.getLastSoldPrice() != null ? listing.getLastSoldPrice().doubleValue() : Double.NaN;
+        types[slot] = typeOrdinal(listing.getPropertyType());
+        addresses[slot] = searchableAddress(listing);
+        latitudes[slot] = listing.hasCoordinates() ? listing.getLatitude().doubleValue() : Double.NaN;
+        longitudes[slot] = listing.hasCoordinates() ? listing.getLongitude().doubleValue() : Double.NaN;
+        listings[slot] = listing;
+        for (String token : tokens(addresses[slot])) {
+            postings.computeIfAbsent(token, this::newToken).add(slot);
+        }
+        if (listing.hasCoordinates()) {
+            cells.computeIfAbsent(cell(latitudes[slot], longitudes[slot]), key -> new SlotList()).add(slot);
+        }
+    }
+
+    private void unindexPosition(int slot) {
+        if (Double.isNaN(latitudes[slot])) {
+            return;
+        }
+        int key = cell(latitudes[slot], longitudes[slot]);
+        SlotList cellSlots = cells.get(key);
+        if (cellSlots != null) {
+            cellSlots.remove(slot);
+            if (cellSlots.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        latitudes[slot] = Double.NaN;
+        longitudes[slot] = Double.NaN;
+    }
+
+    private void unindexAddress(int slot) {
+        for (String token : tokens(addresses[slot])) {
+            SlotList tokenSlots = postings.get(token);
+            if (tokenSlots != null) {
+                tokenSlots.remove(slot);
+                if (tokenSlots.isEmpty()) {
+                    postings.remove(token);
+                    tokensByTerm.forEach((term, tokens) -> {
+                        if (token.contains(term)) {
+                            tokens.remove(token);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    private SlotList newToken(String token) {
+        tokensByTerm.forEach((term, tokens) -> {
+            if (token.contains(term)) {
+                tokens.add(token);
+            }
+        });
+        return new SlotList();
+    }
+
+    private List<PropertyListing> liveListings() {
+        List<PropertyListing> catalogue = new ArrayList<>(slotById.size() + 1);
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            catalogue.add(listings[slot]);
+        }
+        return catalogue;
+    }
+
+    private static int cell(double latitude, double longitude) {
+        int column = Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), GRID_COLUMNS);
+        return row(latitude) * GRID_COLUMNS + column;
+    }
+
+    private static int row(double latitude) {
+        return Math.max(0, Math.min(GRID_ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+    }
+
+    private static PageCursor cursorAfter(List<PropertyListing> content) {
+        return content.isEmpty() ? null : PageCursor.after(content.get(content.size() - 1).getId());
+    }
+
+    /**
+     * Matches the property type filter of the repositories: the enum name, ignoring case
+     */
+    private static byte typeOrdinal(String propertyType) {
+        if (propertyType == null) {
+            return NO_TYPE;
+        }
+        for (RealEstateProperty.PropertyType type : TYPES) {
+            if (type.name().equalsIgnoreCase(propertyType)) {
+                return (byte) type.ordinal();
+            }
+        }
+        return NO_TYPE;
+    }
+
+    private static String searchableAddress(PropertyListing listing) {
+        return String.join(String.valueOf(FIELD_SEPARATOR),
+                        nullToEmpty(listing.getStreetAddress()),
+                        nullToEmpty(listing.getCity()),
+                        nullToEmpty(listing.getStateProvince()),
+                        nullToEmpty(listing.getZipPostalCode()))
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizedLocation(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> tokens(String text) {
+        return Arrays.stream(TOKEN_SEPARATOR.split(text))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * A listing matching a geo search, with its distance from the origin of the search
+     */
+    private record Hit(int slot, double distanceKm) {
+    }
+
+    /**
+     * Running count, centroid and price range of the listings of a map cluster
+     */
+    private static final class ClusterStats {
+
+        private long count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long priced;
+        private double priceSum;
+        private double minPrice = Double.POSITIVE_INFINITY;
+        private double maxPrice = Double.NEGATIVE_INFINITY;
+
+        void add(double latitude, double longitude, double price) {
+            count++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            if (!Double.isNaN(price)) {
+                priced++;
+                priceSum += price;
+                minPrice = Math.min(minPrice, price);
+                maxPrice = Math.max(maxPrice, price);
+            }
+        }
+
+        ListingCluster toCluster(TileGrid grid, long cell) {
+            return ListingCluster.builder()
+                    .zoom(grid.getZoom())
+                    .x((int) (cell % grid.size()))
+                    .y((int) (cell / grid.size()))
+                    .count(count)
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .minPrice(priced > 0 ? minPrice : null)
+                    .averagePrice(priced > 0 ? priceSum / priced : null)
+                    .maxPrice(priced > 0 ? maxPrice : null)
+                    .build();
+        }
+    }
+
+    /**
+     * Posting list of an address token or a grid cell: the slots holding it, in ascending order
+     */
+    private static final class SlotList {
+
+        private int[] slots = new int[1];
+        private int size;
+
+        void add(int slot) {
+            int index = size > 0 && slot <= slots[size - 1] ? Arrays.binarySearch(slots, 0, size, slot) : -size - 1;
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+                size--;
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(slots[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.springter.realestate.analyser.application.search;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.HouseChangedEvent;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Keeps the {@link ListingSearchIndex} in sync with the {@link HouseRepository}.
+ *
+ * Enabled with {@code realestate.search.index.enabled=true}. The catalogue is loaded once the
+ * application is ready (searches go to the database until then), changes made through this
+ * instance are applied as they are committed, and the whole catalogue is reloaded periodically
+ * to pick up changes made by other instances.
+ */
+@Component
+@ConditionalOnProperty(prefix = "realestate.search.index", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ListingSearchIndexLoader {
+
+    private final HouseRepository houseRepository;
+    private final ListingSearchIndex listingSearchIndex;
+
+    /**
+     * Guards {@link #reloading} and {@link #changesDuringReload}, so a change is either queued
+     * for the running reload or applied to the index, never both and never neither
+     */
+    private final Object changesLock = new Object();
+
+    /**
+     * Changes committed while a reload is reading the catalogue, replayed once it is swapped in
+     */
+    private final Queue<HouseChangedEvent> changesDuringReload = new ArrayDeque<>();
+
+    private boolean reloading;
+
+    @Value("${realestate.search.index.batch-size:5000}")
+    private int batchSize = 5000;
+
+    /**
+     * Loads the whole catalogue into the index, in keyset pages of listings
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${realestate.search.index.refresh-interval:PT10M}",
+            fixedDelayString = "${realestate.search.index.refresh-interval:PT10M}")
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        synchronized (changesLock) {
+            reloading = true;
+        }
+        try {
+            List<PropertyListing> catalogue = new ArrayList<>();
+            Page<PropertyListing> page = houseRepository.findListingsByCriteria(
+                    RealEstateSearchCriteria.noFilter(), PageRequest.of(0, batchSize));
+            catalogue.addAll(page.getContent());
+            while (page.getNextCursor() != null) {
+                page = houseRepository.findListingsByCriteria(
+                        RealEstateSearchCriteria.noFilter(), PageRequest.after(page.getNextCursor(), batchSize));
+                catalogue.addAll(page.getContent());
+            }
+            listingSearchIndex.load(catalogue);
+        } finally {
+            synchronized (changesLock) {
+                HouseChangedEvent change;
+                while ((change = changesDuringReload.poll()) != null) {
+                    apply(change);
+                }
+                reloading = false;
+            }
+        }
+        log.info("Listing search index reloaded in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a committed change to the index, or queues it until the running reload swaps
+     * its catalogue in. Changes outside a transaction are handled right away.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHouseChanged(HouseChangedEvent event) {
+        synchronized (changesLock) {
+            if (reloading) {
+                log.debug("Queuing change of house {} until the listing search index is reloaded", event.getHouseId());
+                changesDuringReload.add(event);
+                return;
+            }
+            log.debug("Applying change of house {} to the listing search index", event.getHouseId());
+            apply(event);
+        }
+    }
+
+    private void apply(HouseChangedEvent event) {
+        if (event.isDeleted()) {
+            listingSearchIndex.remove(event.getHouseId());
+        } else {
+            listingSearchIndex.upsert(event.getListing());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.analytics.MarketStatistics;
+import com.springter.realestate.analyser.domain.analytics.MarketSummary;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.MarketAnalyticsRepository;
+import com.springter.realestate.analyser.domain.repositories.MarketSummaryRepository;
+import com.springter.realestate.analyser.domain.usecases.AnalyseMarketUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Application layer implementation of the analyse market use case.
+ *
+ * The statistics are aggregated by the {@link MarketAnalyticsRepository}, next to the data,
+ * so only one row per segment is read whatever the size of the catalogue. The monthly summaries
+ * are read from the {@link MarketSummaryRepository}, precomputed for dashboards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyseMarketUseCaseImpl implements AnalyseMarketUseCase {
+
+    private final MarketAnalyticsRepository marketAnalyticsRepository;
+    private final MarketSummaryRepository marketSummaryRepository;
+
+    @Override
+    public List<MarketStatistics> analyseMarket(RealEstateSearchCriteria searchCriteria, MarketGrouping grouping) {
+        log.info("Analysing market by {} with criteria: {}", grouping, searchCriteria);
+        List<MarketStatistics> statistics = marketAnalyticsRepository.marketStatistics(
+                searchCriteria != null ? searchCriteria : RealEstateSearchCriteria.noFilter(), grouping);
+        log.debug("Computed statistics of {} market segments", statistics.size());
+        return statistics;
+    }
+
+    @Override
+    public List<MarketSummary> findMonthlySummaries(String city, RealEstateProperty.PropertyType propertyType,
+                                                    YearMonth from, YearMonth to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("First month " + from + " is after last month " + to);
+        }
+        log.info("Finding monthly market summaries - city: {}, propertyType: {}, from: {}, to: {}", city, propertyType, from, to);
+        return marketSummaryRepository.findMonthlySummaries(city, propertyType, from, to);
+    }
+}
@@ -0,0 +1,44 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.domain.location.TileGrid;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.ListingClusterRepository;
+import com.springter.realestate.analyser.domain.usecases.ClusterListingsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Application layer implementation of the cluster listings use case.
+ *
+ * Like listing searches, clusters are computed by the {@link ListingSearchIndex} once loaded,
+ * and by the {@link ListingClusterRepository} until then.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterListingsUseCaseImpl implements ClusterListingsUseCase {
+
+    private final ListingClusterRepository listingClusterRepository;
+    private final ListingSearchIndex listingSearchIndex;
+    private final SearchMetrics searchMetrics;
+
+    @Override
+    public List<ListingCluster> clusterListings(RealEstateSearchCriteria searchCriteria, int zoom) {
+        if (searchCriteria == null || searchCriteria.getBounds() == null) {
+            throw new IllegalArgumentException("Clustering needs the bounds of the map");
+        }
+        TileGrid grid = TileGrid.forViewport(searchCriteria.getBounds(), zoom);
+        List<ListingCluster> clusters = listingSearchIndex.isReady() ?
+                searchMetrics.recordClustering("index", searchCriteria, () -> listingSearchIndex.cluster(searchCriteria, grid)) :
+                searchMetrics.recordClustering("repository", searchCriteria,
+                        () -> listingClusterRepository.clusterListings(searchCriteria, grid));
+        log.debug("Clustered listings matching {} into {} cells of zoom {}", searchCriteria, clusters.size(), grid.getZoom());
+        return clusters;
+    }
+}
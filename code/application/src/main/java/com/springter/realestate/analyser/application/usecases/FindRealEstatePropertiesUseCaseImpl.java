@@ -1,26 +1,33 @@
 package com.springter.realestate.analyser.application.usecases;
 
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
 import com.springter.realestate.analyser.domain.common.Page;
 import com.springter.realestate.analyser.domain.common.PageRequest;
 import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
 import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
 import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 import com.springter.realestate.analyser.domain.repositories.HouseRepository;
 import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.time.OffsetDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Application layer implementation of the find real estate properties use case.
  * 
  * This implementation contains the business logic for searching properties.
- * Currently uses sample data, but will be updated to use repositories 
- * when infrastructure layer is implemented.
+ * Filtering and pagination are pushed down to the {@link HouseRepository},
+ * which returns flat {@link PropertyListing} projections for the requested page only.
+ * Once the {@link ListingSearchIndex} is loaded, searches are answered from memory instead.
+ * Result pages are cached per criteria and page request (see {@link CacheConfig}).
+ * Filtering and conversion of cache misses are timed through {@link SearchMetrics}.
+ * Exports stream every match from the repository through the same conversion.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,153 +35,61 @@ import java.util.stream.Collectors;
 public class FindRealEstatePropertiesUseCaseImpl implements FindRealEstatePropertiesUseCase {
 
     private final HouseRepository houseRepository;
+    private final ListingSearchIndex listingSearchIndex;
+    private final SearchMetrics searchMetrics;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, keyGenerator = CacheConfig.PROPERTY_SEARCH_KEY_GENERATOR)
     public Page<RealEstateProperty> findProperties(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
         log.info("Finding real estate properties with criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
         
-        // Get houses from repository
-        List<House> houses = houseRepository.findAll();
+        // Filtering and pagination are applied by the search index when loaded, otherwise by the
+        // repository, which projects rows straight into listings
+        Page<PropertyListing> listingsPage = findListings(searchCriteria, pageRequest);
         
-        // Convert House domain models to RealEstateProperty domain models
-        List<RealEstateProperty> allProperties = houses.stream()
-            .map(this::convertHouseToRealEstateProperty)
-            .collect(Collectors.toList());
-        
-        // Apply filtering based on search criteria
-        List<RealEstateProperty> filteredProperties = applyFiltering(allProperties, searchCriteria);
-        
-        // Apply pagination
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min(start + pageRequest.getSize(), filteredProperties.size());
-        List<RealEstateProperty> pageContent = start < filteredProperties.size() ?
-            filteredProperties.subList(start, end) : List.of();
-        
-        return Page.of(pageContent, pageRequest, filteredProperties.size());
-    }
-    
-    /**
-     * Converts House domain model to RealEstateProperty domain model
-     */
-    private RealEstateProperty convertHouseToRealEstateProperty(House house) {
-        return RealEstateProperty.builder()
-                .id(house.getId() != null ? house.getId().longValue() : null)
-                .title(house.getName())
-                .description(generateDescription(house))
-                .location(house.getLocation() != null ? house.getLocation().getFullAddress() : null)
-                .price(calculatePrice(house))
-                .propertyType(mapPropertyType(house.getPropertyType()))
-                .bedrooms(house.getNumBedrooms())
-                .bathrooms(house.getNumBathrooms() != null ? house.getNumBathrooms().intValue() : null)
-                .area(house.getSquareFootage() != null ? house.getSquareFootage().doubleValue() : null)
-                .features(generateFeatures(house))
-                .createdAt(OffsetDateTime.now()) // TODO: Get from house creation timestamp when available
-                .updatedAt(OffsetDateTime.now()) // TODO: Get from house update timestamp when available
-                .build();
+        // Convert listings to RealEstateProperty domain models
+        return searchMetrics.recordConversion(searchCriteria, pageRequest,
+                () -> listingsPage.map(this::convertListingToRealEstateProperty));
     }
-    
+
     /**
-     * Applies search criteria filtering to the properties list
+     * Streams the listings from the repository rather than the search index, so an export
+     * always reflects the database. Exports are not cached.
      */
-    private List<RealEstateProperty> applyFiltering(List<RealEstateProperty> properties, RealEstateSearchCriteria criteria) {
-        return properties.stream()
-            .filter(property -> matchesLocation(property, criteria.getLocation()))
-            .filter(property -> matchesPropertyType(property, criteria.getPropertyType()))
-            .filter(property -> matchesPriceRange(property, criteria.getMinPrice(), criteria.getMaxPrice()))
-            .collect(Collectors.toList());
-    }
-    
-    private boolean matchesLocation(RealEstateProperty property, String location) {
-        if (location == null || location.trim().isEmpty()) {
-            return true;
-        }
-        return property.getLocation() != null && 
-               property.getLocation().toLowerCase().contains(location.toLowerCase());
-    }
-    
-    private boolean matchesPropertyType(RealEstateProperty property, RealEstateProperty.PropertyType propertyType) {
-        if (propertyType == null) {
-            return true;
-        }
-        return property.getPropertyType() == propertyType;
-    }
-    
-    private boolean matchesPriceRange(RealEstateProperty property, Double minPrice, Double maxPrice) {
-        if (property.getPrice() == null) {
-            return minPrice == null && maxPrice == null;
-        }
-        
-        if (minPrice != null && property.getPrice() < minPrice) {
-            return false;
-        }
-        
-        if (maxPrice != null && property.getPrice() > maxPrice) {
-            return false;
-        }
-        
-        return true;
+    @Override
+    public long exportProperties(RealEstateSearchCriteria searchCriteria, Consumer<RealEstateProperty> sink) {
+        log.info("Exporting real estate properties with criteria: {}", searchCriteria);
+        long exported = searchMetrics.recordExport(searchCriteria, () -> houseRepository.forEachListingByCriteria(
+                searchCriteria, listing -> sink.accept(convertListingToRealEstateProperty(listing))));
+        log.info("Exported {} real estate properties", exported);
+        return exported;
     }
-    
-    private String generateDescription(House house) {
-        StringBuilder desc = new StringBuilder();
-        if (house.getNumBedrooms() != null) {
-            desc.append(house.getNumBedrooms()).append("-bedroom ");
-        }
-        if (house.getPropertyType() != null) {
-            desc.append(house.getPropertyType().toLowerCase()).append(" ");
-        }
-        if (house.getLocation() != null && house.getLocation().getCity() != null) {
-            desc.append("in ").append(house.getLocation().getCity());
+
+    private Page<PropertyListing> findListings(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        if (!listingSearchIndex.isReady()) {
+            return searchMetrics.recordFilter("repository", searchCriteria, pageRequest,
+                    () -> houseRepository.findListingsByCriteria(searchCriteria, pageRequest));
         }
-        return desc.toString().trim();
-    }
-    
-    private Double calculatePrice(House house) {
-        // TODO: Calculate price from rating analysis or other house data
-        // For now, use last sold price if available
-        if (house.getRatingAnalyses() != null && !house.getRatingAnalyses().isEmpty()) {
-            return house.getLatestRating() != null && house.getLatestRating().getLastSoldPrice() != null ?
-                house.getLatestRating().getLastSoldPrice().doubleValue() : null;
+        Page<PropertyListing> listingsPage = searchMetrics.recordFilter("index", searchCriteria, pageRequest,
+                () -> listingSearchIndex.search(searchCriteria, pageRequest));
+        // Only the index knows the catalogue size without another query
+        if (listingsPage.isTotalKnown()) {
+            searchMetrics.recordSelectivity(searchCriteria, listingsPage.getTotalElements(), listingSearchIndex.size());
         }
-        return null;
+        return listingsPage;
     }
     
-    private RealEstateProperty.PropertyType mapPropertyType(String propertyType) {
-        if (propertyType == null) {
-            return null;
-        }
-        
-        try {
-            return RealEstateProperty.PropertyType.valueOf(propertyType.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            log.warn("Unknown property type: {}", propertyType);
-            return null;
-        }
+    /**
+     * Converts House domain model to RealEstateProperty domain model
+     */
+    RealEstateProperty convertHouseToRealEstateProperty(House house) {
+        return convertListingToRealEstateProperty(PropertyListing.from(house));
     }
     
-    private List<String> generateFeatures(House house) {
-        List<String> features = new java.util.ArrayList<>();
-        
-        if (house.getHeatingType() != null) {
-            features.add(house.getHeatingType().toLowerCase().replace("_", " "));
-        }
-        
-        if (house.getLocation() != null) {
-            if (house.getLocation().getWalkScore() != null && house.getLocation().getWalkScore() > 70) {
-                features.add("walkable");
-            }
-            if (house.getLocation().getTransitScore() != null && house.getLocation().getTransitScore() > 70) {
-                features.add("good_transit");
-            }
-            if (house.getLocation().getSchoolRatingAvg() != null && house.getLocation().getSchoolRatingAvg().doubleValue() > 4.0) {
-                features.add("good_schools");
-            }
-        }
-        
-        if (house.getYearBuilt() != null && house.getAgeInYears() != null && house.getAgeInYears() < 10) {
-            features.add("new_construction");
-        }
-        
-        return features;
+    /**
+     * Converts a PropertyListing projection to RealEstateProperty domain model
+     */
+    RealEstateProperty convertListingToRealEstateProperty(PropertyListing listing) {
+        return RealEstatePropertyConverter.toRealEstateProperty(listing);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.domain.ingest.ListingUpdates;
+import com.springter.realestate.analyser.domain.repositories.ListingIngestRepository;
+import com.springter.realestate.analyser.domain.usecases.IngestListingUpdatesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application layer implementation of the ingest listing updates use case.
+ *
+ * Collapses repeated updates of a row to the last one, then hands the batch to the
+ * {@link ListingIngestRepository}, which writes it in one transaction. Rows are keyed by ID,
+ * so a batch that is delivered again after a failure is written again with the same result.
+ * Enabled with {@code realestate.ingest.enabled=true}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "realestate.ingest", name = "enabled", havingValue = "true")
+public class IngestListingUpdatesUseCaseImpl implements IngestListingUpdatesUseCase {
+
+    private final ListingIngestRepository listingIngestRepository;
+
+    @Override
+    public int ingest(ListingUpdates updates) {
+        ListingUpdates deduplicated = updates.deduplicated();
+        if (deduplicated.isEmpty()) {
+            return 0;
+        }
+        listingIngestRepository.upsert(deduplicated);
+        log.info("Ingested {} locations, {} houses and {} rating analyses from {} updates",
+                deduplicated.getLocations().size(), deduplicated.getHouses().size(),
+                deduplicated.getRatingAnalyses().size(), updates.size());
+        return deduplicated.size();
+    }
+}
@@ -0,0 +1,48 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.domain.ingest.ListingLoadReport;
+import com.springter.realestate.analyser.domain.repositories.ListingSnapshotRepository;
+import com.springter.realestate.analyser.domain.usecases.LoadListingSnapshotUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Application layer implementation of the load listing snapshot use case.
+ *
+ * Streams the file to the {@link ListingSnapshotRepository} and logs the progress of the load,
+ * so operators can follow imports of millions of lines. Enabled with
+ * {@code realestate.snapshot-load.enabled=true}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "realestate.snapshot-load", name = "enabled", havingValue = "true")
+public class LoadListingSnapshotUseCaseImpl implements LoadListingSnapshotUseCase {
+
+    private final ListingSnapshotRepository listingSnapshotRepository;
+
+    @Override
+    public ListingLoadReport load(Path snapshot) {
+        log.info("Loading listing snapshot {}", snapshot);
+        long start = System.nanoTime();
+        ListingLoadReport report;
+        try (Reader csv = Files.newBufferedReader(snapshot, StandardCharsets.UTF_8)) {
+            report = listingSnapshotRepository.load(csv, lines -> log.info("Read {} lines in {} s", lines,
+                    (System.nanoTime() - start) / 1_000_000_000));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read listing snapshot " + snapshot, e);
+        }
+        log.info("Loaded {} lines into {} locations, {} houses and {} rating analyses in {} s", report.getLines(),
+                report.getLocations(), report.getHouses(), report.getRatingAnalyses(), report.getElapsed().toSeconds());
+        return report;
+    }
+}
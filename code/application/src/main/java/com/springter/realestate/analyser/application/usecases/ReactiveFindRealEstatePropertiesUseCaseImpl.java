@@ -0,0 +1,68 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.ReactiveHouseRepository;
+import com.springter.realestate.analyser.domain.usecases.ReactiveFindRealEstatePropertiesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Application layer implementation of the reactive find real estate properties use case.
+ * 
+ * Same results as {@link FindRealEstatePropertiesUseCaseImpl}, served without blocking:
+ * pages come from the {@link ListingSearchIndex} when loaded, which answers from memory,
+ * otherwise from the {@link ReactiveHouseRepository}. Streams always come from the repository,
+ * so they follow the demand of the subscriber instead of materialising every match.
+ * Result pages are not cached, the index already answers repeated searches from memory.
+ * Enabled with {@code realestate.reactive.enabled=true}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "realestate.reactive", name = "enabled", havingValue = "true")
+public class ReactiveFindRealEstatePropertiesUseCaseImpl implements ReactiveFindRealEstatePropertiesUseCase {
+
+    private final ReactiveHouseRepository reactiveHouseRepository;
+    private final ListingSearchIndex listingSearchIndex;
+    private final SearchMetrics searchMetrics;
+
+    @Override
+    public Mono<Page<RealEstateProperty>> findProperties(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.info("Finding real estate properties reactively with criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return findListings(searchCriteria, pageRequest)
+                .map(listingsPage -> searchMetrics.recordConversion(searchCriteria, pageRequest,
+                        () -> listingsPage.map(RealEstatePropertyConverter::toRealEstateProperty)));
+    }
+
+    @Override
+    public Flux<RealEstateProperty> streamProperties(RealEstateSearchCriteria searchCriteria) {
+        log.info("Streaming real estate properties with criteria: {}", searchCriteria);
+        return Flux.from(reactiveHouseRepository.streamListingsByCriteria(searchCriteria))
+                .map(RealEstatePropertyConverter::toRealEstateProperty);
+    }
+
+    private Mono<Page<PropertyListing>> findListings(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        if (!listingSearchIndex.isReady()) {
+            return searchMetrics.recordFilter("repository", searchCriteria, pageRequest,
+                    Mono.from(reactiveHouseRepository.findListingsByCriteria(searchCriteria, pageRequest)));
+        }
+        return Mono.fromSupplier(() -> {
+            Page<PropertyListing> listingsPage = searchMetrics.recordFilter("index", searchCriteria, pageRequest,
+                    () -> listingSearchIndex.search(searchCriteria, pageRequest));
+            if (listingsPage.isTotalKnown()) {
+                searchMetrics.recordSelectivity(searchCriteria, listingsPage.getTotalElements(), listingSearchIndex.size());
+            }
+            return listingsPage;
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Converts listing projections to the properties returned by the blocking and reactive
+ * find real estate properties use cases, so both describe a listing the same way.
+ */
+@Slf4j
+final class RealEstatePropertyConverter {
+
+    private RealEstatePropertyConverter() {
+    }
+
+    /**
+     * Converts a PropertyListing projection to RealEstateProperty domain model
+     */
+    static RealEstateProperty toRealEstateProperty(PropertyListing listing) {
+        return RealEstateProperty.builder()
+                .id(listing.getId() != null ? listing.getId().longValue() : null)
+                .title(listing.getName())
+                .description(generateDescription(listing))
+                .location(listing.getFullAddress())
+                .latitude(listing.hasCoordinates() ? listing.getLatitude().doubleValue() : null)
+                .longitude(listing.hasCoordinates() ? listing.getLongitude().doubleValue() : null)
+                .price(calculatePrice(listing))
+                .propertyType(mapPropertyType(listing.getPropertyType()))
+                .bedrooms(listing.getNumBedrooms())
+                .bathrooms(listing.getNumBathrooms() != null ? listing.getNumBathrooms().intValue() : null)
+                .area(listing.getSquareFootage() != null ? listing.getSquareFootage().doubleValue() : null)
+                .features(generateFeatures(listing))
+                .createdAt(OffsetDateTime.now()) // TODO: Get from house creation timestamp when available
+                .updatedAt(OffsetDateTime.now()) // TODO: Get from house update timestamp when available
+                .build();
+    }
+    
+    private static String generateDescription(PropertyListing listing) {
+        StringBuilder desc = new StringBuilder();
+        if (listing.getNumBedrooms() != null) {
+            desc.append(listing.getNumBedrooms()).append("-bedroom ");
+        }
+        if (listing.getPropertyType() != null) {
+            desc.append(listing.getPropertyType().toLowerCase()).append(" ");
+        }
+        if (listing.getCity() != null) {
+            desc.append("in ").append(listing.getCity());
+        }
+        return desc.toString().trim();
+    }
+    
+    private static Double calculatePrice(PropertyListing listing) {
+        // The last sold price of the latest rating analysis, which the price filters match. The estimate
+        // from comparable sales is served apart, see ComparablesValuationEngine and /valuations/{houseId}.
+        return listing.getLastSoldPrice() != null ? listing.getLastSoldPrice().doubleValue() : null;
+    }
+    
+    private static RealEstateProperty.PropertyType mapPropertyType(String propertyType) {
+        if (propertyType == null) {
+            return null;
+        }
+        
+        try {
+            return RealEstateProperty.PropertyType.valueOf(propertyType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown property type: {}", propertyType);
+            return null;
+        }
+    }
+    
+    private static List<String> generateFeatures(PropertyListing listing) {
+        List<String> features = new java.util.ArrayList<>();
+        
+        if (listing.getHeatingType() != null) {
+            features.add(listing.getHeatingType().toLowerCase().replace("_", " "));
+        }
+        
+        if (listing.getWalkScore() != null && listing.getWalkScore() > 70) {
+            features.add("walkable");
+        }
+        if (listing.getTransitScore() != null && listing.getTransitScore() > 70) {
+            features.add("good_transit");
+        }
+        if (listing.getSchoolRatingAvg() != null && listing.getSchoolRatingAvg().doubleValue() > 4.0) {
+            features.add("good_schools");
+        }
+        
+        if (listing.getYearBuilt() != null && listing.getAgeInYears() != null && listing.getAgeInYears() < 10) {
+            features.add("new_construction");
+        }
+        
+        return features;
+    }
+}
@@ -0,0 +1,32 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.domain.location.LocationMatch;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+import com.springter.realestate.analyser.domain.repositories.LocationRepository;
+import com.springter.realestate.analyser.domain.usecases.SearchLocationsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Application layer implementation of the search locations use case.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchLocationsUseCaseImpl implements SearchLocationsUseCase {
+
+    private final LocationRepository locationRepository;
+
+    @Override
+    public List<LocationMatch> searchLocations(String text, LocationSearchMode mode, int limit) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<LocationMatch> matches = locationRepository.search(text.trim(), mode, limit);
+        log.debug("Found {} locations matching '{}' ({})", matches.size(), text, mode);
+        return matches;
+    }
+}
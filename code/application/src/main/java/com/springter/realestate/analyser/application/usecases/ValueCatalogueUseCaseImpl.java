@@ -0,0 +1,72 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.valuation.ComparablesValuationEngine;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.domain.repositories.ValuationRepository;
+import com.springter.realestate.analyser.domain.usecases.ValueCatalogueUseCase;
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import com.springter.realestate.analyser.domain.valuation.ValuationReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Application layer implementation of the value catalogue use case.
+ *
+ * The catalogue is streamed through a cursor into the primitive columns of a
+ * {@link ComparablesValuationEngine.Catalogue} and valued in memory by the engine, then the
+ * valuations are saved in batches of {@code realestate.valuation.batch-size}, each in its own
+ * transaction. The valuations the run did not replace, of houses it could no longer value,
+ * are deleted last.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ValueCatalogueUseCaseImpl implements ValueCatalogueUseCase {
+
+    private final HouseRepository houseRepository;
+    private final ValuationRepository valuationRepository;
+    private final ComparablesValuationEngine valuationEngine;
+
+    @Value("${realestate.valuation.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Override
+    public ValuationReport revalueCatalogue() {
+        long start = System.nanoTime();
+        log.info("Revaluing the catalogue");
+        // Truncated to the precision of the database, so the saved valuations compare equal to it
+        OffsetDateTime valuedAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        ComparablesValuationEngine.Catalogue catalogue = new ComparablesValuationEngine.Catalogue();
+        long listings = houseRepository.forEachListingByCriteria(RealEstateSearchCriteria.noFilter(), catalogue::add);
+
+        List<Valuation> valuations = valuationEngine.value(catalogue, valuedAt);
+        for (int from = 0; from < valuations.size(); from += batchSize) {
+            valuationRepository.saveAll(valuations.subList(from, Math.min(from + batchSize, valuations.size())));
+        }
+        int removed = valuationRepository.deleteValuedBefore(valuedAt);
+
+        ValuationReport report = ValuationReport.builder()
+                .listings(listings)
+                .valued(valuations.size())
+                .removed(removed)
+                .elapsed(Duration.ofNanos(System.nanoTime() - start))
+                .build();
+        log.info("Catalogue revalued: {}", report);
+        return report;
+    }
+
+    @Override
+    public Optional<Valuation> findValuation(Integer houseId) {
+        log.debug("Finding valuation of house {}", houseId);
+        return valuationRepository.findByHouseId(houseId);
+    }
+}
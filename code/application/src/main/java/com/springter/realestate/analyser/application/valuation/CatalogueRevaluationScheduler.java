@@ -0,0 +1,32 @@
+package com.springter.realestate.analyser.application.valuation;
+
+import com.springter.realestate.analyser.domain.usecases.ValueCatalogueUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revalues the whole catalogue on the {@code realestate.valuation.schedule.cron} schedule, nightly by default.
+ *
+ * Enabled with {@code realestate.valuation.schedule.enabled=true}, on one instance only: each
+ * revaluation replaces every valuation, running it on every instance would only repeat the work.
+ */
+@Component
+@ConditionalOnProperty(prefix = "realestate.valuation.schedule", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogueRevaluationScheduler {
+
+    private final ValueCatalogueUseCase valueCatalogueUseCase;
+
+    @Scheduled(cron = "${realestate.valuation.schedule.cron:0 0 3 * * *}")
+    public void revalue() {
+        try {
+            valueCatalogueUseCase.revalueCatalogue();
+        } catch (RuntimeException e) {
+            log.error("Catalogue revaluation failed, retrying on the next schedule", e);
+        }
+    }
+}
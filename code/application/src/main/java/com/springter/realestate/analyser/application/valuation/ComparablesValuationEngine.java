@@ -0,0 +1,484 @@
+package com.springter.realestate.analyser.application.valuation;
+
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Values houses from the prices of their nearest comparable sold properties, the comps.
+ *
+ * Every listing of the catalogue with coordinates and a last sold price is a comp. Its distance to
+ * a house adds up, in quadrature, the great-circle distance and the differences in floor area
+ * (log ratio), bedrooms, year built and property type, each scaled to the difference worth a
+ * kilometre: a comp next door twice as large ranks behind one of the same size a few streets away.
+ * An attribute unknown on either side counts as a difference of one kilometre.
+ *
+ * The comps are searched in a grid of cells, within a radius doubled until no comp beyond it could
+ * be nearer than the {@code realestate.valuation.comparables} found, up to
+ * {@code realestate.valuation.max-distance-km}. Houses with fewer than
+ * {@code realestate.valuation.min-comparables} comps within that distance are not valued.
+ *
+ * The price of each comp is scaled by the floor area ratio, and the estimate is their mean weighted
+ * by inverse squared distance. The band spans {@link #BAND_DEVIATIONS} weighted standard deviations
+ * of those prices around it, where 90% of them fall if they are normally distributed.
+ *
+ * Houses are valued in parallel by a fork-join pool of {@code realestate.valuation.parallelism}
+ * threads, all processors by default, splitting the catalogue in halves down to {@link #CHUNK}
+ * houses. The catalogue is held in the primitive columns of a {@link Catalogue}, filled one listing
+ * at a time, and the comps are indexed once over it; the tasks share both read-only.
+ */
+@Component
+@Slf4j
+public class ComparablesValuationEngine {
+
+    /**
+     * Houses valued by a task without splitting it further
+     */
+    static final int CHUNK = 512;
+
+    static final double BAND_DEVIATIONS = 1.645;
+
+    /**
+     * Side of the grid cells indexing the comps, in degrees: about 2 km north to south
+     */
+    private static final double CELL_DEGREES = 0.02;
+
+    private static final int GRID_ROWS = (int) Math.round(180 / CELL_DEGREES);
+
+    private static final int GRID_COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final double INITIAL_RADIUS_KM = 1;
+
+    /**
+     * Differences worth a kilometre: of floor area as a log ratio (about 20%), of bedrooms, of year built
+     */
+    private static final double SIZE_LOG_RATIO_PER_KM = 0.2;
+    private static final double BEDROOMS_PER_KM = 1;
+    private static final double YEARS_PER_KM = 15;
+
+    /**
+     * Distances in kilometres added by a different property type, or an attribute unknown on either side
+     */
+    private static final double TYPE_MISMATCH_KM = 3;
+    private static final double UNKNOWN_KM = 1;
+
+    /**
+     * Added to the squared distances before weighting, so a comp at distance zero does not take all the weight
+     */
+    private static final double WEIGHT_SOFTENING_KM2 = 0.25;
+
+    private static final int NO_TYPE = -1;
+
+    @Value("${realestate.valuation.comparables:8}")
+    private int comparables = 8;
+
+    @Value("${realestate.valuation.min-comparables:3}")
+    private int minComparables = 3;
+
+    @Value("${realestate.valuation.max-distance-km:20}")
+    private double maxDistanceKm = 20;
+
+    @Value("${realestate.valuation.parallelism:0}")
+    private int parallelism = 0;
+
+    public ComparablesValuationEngine() {
+    }
+
+    ComparablesValuationEngine(int comparables, int minComparables, double maxDistanceKm, int parallelism) {
+        this.comparables = comparables;
+        this.minComparables = minComparables;
+        this.maxDistanceKm = maxDistanceKm;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Values every listing of the catalogue from the comps of the same catalogue, a house never
+     * being its own comp
+     *
+     * @return The valuations of the listings having enough comps, in catalogue order
+     */
+    public List<Valuation> value(Collection<PropertyListing> listings, OffsetDateTime valuedAt) {
+        Catalogue catalogue = new Catalogue();
+        listings.forEach(catalogue::add);
+        return value(catalogue, valuedAt);
+    }
+
+    /**
+     * Values every house of the catalogue from the comps of the same catalogue, a house never
+     * being its own comp
+     *
+     * @return The valuations of the houses having enough comps, in catalogue order
+     */
+    public List<Valuation> value(Catalogue catalogue, OffsetDateTime valuedAt) {
+        if (minComparables < 1 || minComparables > comparables) {
+            throw new IllegalStateException("Minimum comparables must be within [1, " + comparables + "]: " + minComparables);
+        }
+        long start = System.nanoTime();
+        Comps comps = new Comps(catalogue);
+        Valuation[] valuations = new Valuation[catalogue.size];
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        try {
+            pool.invoke(new ValuationTask(comps, valuations, valuedAt, 0, catalogue.size));
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Valuation> valued = Arrays.stream(valuations).filter(Objects::nonNull).toList();
+        log.info("Valued {} of {} listings from {} comps in {} ms with {} threads", valued.size(), catalogue.listings,
+                comps.size, (System.nanoTime() - start) / 1_000_000, pool.getParallelism());
+        return valued;
+    }
+
+    /**
+     * Values the house of a catalogue row, or returns null when it has too few comps
+     */
+    Valuation value(Comps comps, int house, OffsetDateTime valuedAt) {
+        Catalogue catalogue = comps.catalogue;
+        GeoPoint position = GeoPoint.of(catalogue.latitude[house], catalogue.longitude[house]);
+        Nearest nearest = new Nearest(comparables);
+        double radiusKm = Math.min(INITIAL_RADIUS_KM, maxDistanceKm);
+        while (true) {
+            nearest.clear();
+            comps.forEachWithin(position, radiusKm, (comp, km) -> {
+                if (comp != house) {
+                    nearest.offer(comp, distance(catalogue, house, comp, km));
+                }
+            });
+            // A comp beyond the radius is farther than the radius, whatever its attributes
+            if ((nearest.isFull() && nearest.farthest() <= radiusKm) || radiusKm >= maxDistanceKm) {
+                break;
+            }
+            radiusKm = Math.min(radiusKm * 2, maxDistanceKm);
+        }
+        if (nearest.count < minComparables) {
+            return null;
+        }
+
+        double squareFootage = catalogue.squareFootage[house];
+        double weights = 0;
+        double weightedPrices = 0;
+        double[] prices = new double[nearest.count];
+        double[] priceWeights = new double[nearest.count];
+        for (int i = 0; i < nearest.count; i++) {
+            int comp = nearest.comps[i];
+            prices[i] = !Double.isNaN(squareFootage) && !Double.isNaN(catalogue.squareFootage[comp]) ?
+                    catalogue.price[comp] / catalogue.squareFootage[comp] * squareFootage :
+                    catalogue.price[comp];
+            priceWeights[i] = 1 / (nearest.distances[i] * nearest.distances[i] + WEIGHT_SOFTENING_KM2);
+            weights += priceWeights[i];
+            weightedPrices += priceWeights[i] * prices[i];
+        }
+        double estimate = weightedPrices / weights;
+        double weightedSquares = 0;
+        for (int i = 0; i < nearest.count; i++) {
+            weightedSquares += priceWeights[i] * (prices[i] - estimate) * (prices[i] - estimate);
+        }
+        double halfBand = BAND_DEVIATIONS * Math.sqrt(weightedSquares / weights);
+
+        return Valuation.builder()
+                .houseId(catalogue.houseId[house])
+                .estimatedPrice(money(estimate))
+                .lowPrice(money(Math.max(0, estimate - halfBand)))
+                .highPrice(money(estimate + halfBand))
+                .comparableCount(nearest.count)
+                .valuedAt(valuedAt)
+                .build();
+    }
+
+    /**
+     * Distance of a comp to the house in kilometres, given their great-circle distance
+     */
+    private static double distance(Catalogue catalogue, int house, int comp, double km) {
+        double size = difference(catalogue.logSquareFootage[house], catalogue.logSquareFootage[comp], SIZE_LOG_RATIO_PER_KM);
+        double bedrooms = difference(catalogue.bedrooms[house], catalogue.bedrooms[comp], BEDROOMS_PER_KM);
+        double years = difference(catalogue.yearBuilt[house], catalogue.yearBuilt[comp], YEARS_PER_KM);
+        int houseType = catalogue.type[house];
+        int compType = catalogue.type[comp];
+        double type = houseType == NO_TYPE || compType == NO_TYPE ? UNKNOWN_KM :
+                houseType == compType ? 0 : TYPE_MISMATCH_KM;
+        return Math.sqrt(km * km + size * size + bedrooms * bedrooms + years * years + type * type);
+    }
+
+    private static double difference(double value, double other, double perKm) {
+        return Double.isNaN(value) || Double.isNaN(other) ? UNKNOWN_KM : (value - other) / perKm;
+    }
+
+    private static BigDecimal money(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static double orNaN(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static double logOrNaN(Integer squareFootage) {
+        return squareFootage != null && squareFootage > 0 ? Math.log(squareFootage) : Double.NaN;
+    }
+
+    /**
+     * Values the houses of a range of catalogue rows, or splits it in halves valued in parallel
+     */
+    private final class ValuationTask extends RecursiveAction {
+
+        private final Comps comps;
+        private final Valuation[] valuations;
+        private final OffsetDateTime valuedAt;
+        private final int from;
+        private final int to;
+
+        ValuationTask(Comps comps, Valuation[] valuations, OffsetDateTime valuedAt, int from, int to) {
+            this.comps = comps;
+            this.valuations = valuations;
+            this.valuedAt = valuedAt;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                for (int house = from; house < to; house++) {
+                    valuations[house] = value(comps, house, valuedAt);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValuationTask(comps, valuations, valuedAt, from, middle),
+                    new ValuationTask(comps, valuations, valuedAt, middle, to));
+        }
+    }
+
+    /**
+     * The houses to value, in primitive columns by catalogue row, filled one listing at a time so the
+     * catalogue can be read through a cursor without holding its listings. Listings without ID or
+     * coordinates are counted but not kept, as they can neither be valued nor be comps.
+     */
+    public static final class Catalogue {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int listings;
+        private int size;
+        private int[] houseId = new int[INITIAL_CAPACITY];
+        private double[] latitude = new double[INITIAL_CAPACITY];
+        private double[] longitude = new double[INITIAL_CAPACITY];
+
+        /**
+         * Last sold price, NaN when the house has none and is not a comp
+         */
+        private double[] price = new double[INITIAL_CAPACITY];
+        private double[] squareFootage = new double[INITIAL_CAPACITY];
+        private double[] logSquareFootage = new double[INITIAL_CAPACITY];
+        private double[] bedrooms = new double[INITIAL_CAPACITY];
+        private double[] yearBuilt = new double[INITIAL_CAPACITY];
+        private int[] type = new int[INITIAL_CAPACITY];
+        private final Map<String, Integer> types = new HashMap<>();
+
+        /**
+         * Adds a listing as the next row of the catalogue
+         */
+        public void add(PropertyListing listing) {
+            listings++;
+            if (listing.getId() == null || !listing.hasCoordinates()) {
+                return;
+            }
+            if (size == houseId.length) {
+                grow();
+            }
+            houseId[size] = listing.getId();
+            latitude[size] = listing.getLatitude().doubleValue();
+            longitude[size] = listing.getLongitude().doubleValue();
+            price[size] = listing.getLastSoldPrice() != null && listing.getLastSoldPrice().signum() > 0 ?
+                    listing.getLastSoldPrice().doubleValue() : Double.NaN;
+            squareFootage[size] = listing.getSquareFootage() != null && listing.getSquareFootage() > 0 ?
+                    listing.getSquareFootage() : Double.NaN;
+            logSquareFootage[size] = logOrNaN(listing.getSquareFootage());
+            bedrooms[size] = orNaN(listing.getNumBedrooms());
+            yearBuilt[size] = orNaN(listing.getYearBuilt());
+            type[size] = listing.getPropertyType() != null ?
+                    types.computeIfAbsent(listing.getPropertyType().toLowerCase(Locale.ROOT), key -> types.size()) :
+                    NO_TYPE;
+            size++;
+        }
+
+        /**
+         * Gets the number of listings added, including those not kept
+         */
+        public int listings() {
+            return listings;
+        }
+
+        private void grow() {
+            int capacity = houseId.length * 2;
+            houseId = Arrays.copyOf(houseId, capacity);
+            latitude = Arrays.copyOf(latitude, capacity);
+            longitude = Arrays.copyOf(longitude, capacity);
+            price = Arrays.copyOf(price, capacity);
+            squareFootage = Arrays.copyOf(squareFootage, capacity);
+            logSquareFootage = Arrays.copyOf(logSquareFootage, capacity);
+            bedrooms = Arrays.copyOf(bedrooms, capacity);
+            yearBuilt = Arrays.copyOf(yearBuilt, capacity);
+            type = Arrays.copyOf(type, capacity);
+        }
+    }
+
+    /**
+     * The catalogue rows with a last sold price, indexed by grid cell
+     */
+    static final class Comps {
+
+        private final Catalogue catalogue;
+        private final int size;
+        private final Map<Integer, int[]> cells = new HashMap<>();
+
+        Comps(Catalogue catalogue) {
+            this.catalogue = catalogue;
+            // Sized in a first pass and filled in a second, keeping the comps of each cell in row order
+            int[] cellOf = new int[catalogue.size];
+            Map<Integer, int[]> counts = new HashMap<>();
+            int comps = 0;
+            for (int row = 0; row < catalogue.size; row++) {
+                if (Double.isNaN(catalogue.price[row])) {
+                    cellOf[row] = -1;
+                    continue;
+                }
+                cellOf[row] = cell(catalogue.latitude[row], catalogue.longitude[row]);
+                counts.computeIfAbsent(cellOf[row], key -> new int[1])[0]++;
+                comps++;
+            }
+            size = comps;
+            counts.forEach((cell, count) -> {
+                cells.put(cell, new int[count[0]]);
+                count[0] = 0;
+            });
+            for (int row = 0; row < catalogue.size; row++) {
+                if (cellOf[row] >= 0) {
+                    cells.get(cellOf[row])[counts.get(cellOf[row])[0]++] = row;
+                }
+            }
+        }
+
+        /**
+         * Calls the consumer with every comp within the radius of the origin and its distance in kilometres.
+         * Walks the grid cells overlapping the area within the radius, see
+         * {@link com.springter.realestate.analyser.application.search.ListingSearchIndex}, or the
+         * non-empty ones when there are fewer of those.
+         */
+        void forEachWithin(GeoPoint origin, double radiusKm, CompConsumer consumer) {
+            double radius = radiusKm / GeoPoint.EARTH_RADIUS_KM;
+            double originLatitude = Math.toRadians(origin.getLatitude());
+            int firstRow = row(Math.toDegrees(originLatitude - radius));
+            int lastRow = row(Math.toDegrees(originLatitude + radius));
+            int firstColumn = 0;
+            int columns = GRID_COLUMNS;
+            if (Math.abs(originLatitude) + radius < Math.PI / 2) {
+                double halfWidth = Math.toDegrees(Math.asin(Math.sin(radius) / Math.cos(originLatitude)));
+                int west = (int) Math.floor((origin.getLongitude() - halfWidth + 180) / CELL_DEGREES);
+                int east = (int) Math.floor((origin.getLongitude() + halfWidth + 180) / CELL_DEGREES);
+                firstColumn = Math.floorMod(west, GRID_COLUMNS);
+                columns = Math.min(GRID_COLUMNS, east - west + 1);
+            }
+
+            long overlapping = (long) (lastRow - firstRow + 1) * columns;
+            if (overlapping <= cells.size()) {
+                for (int row = firstRow; row <= lastRow; row++) {
+                    for (int column = 0; column < columns; column++) {
+                        int[] cellComps = cells.get(row * GRID_COLUMNS + (firstColumn + column) % GRID_COLUMNS);
+                        if (cellComps != null) {
+                            acceptWithin(origin, radiusKm, cellComps, consumer);
+                        }
+                    }
+                }
+            } else {
+                for (Map.Entry<Integer, int[]> cell : cells.entrySet()) {
+                    int row = cell.getKey() / GRID_COLUMNS;
+                    int column = cell.getKey() % GRID_COLUMNS;
+                    if (row >= firstRow && row <= lastRow && Math.floorMod(column - firstColumn, GRID_COLUMNS) < columns) {
+                        acceptWithin(origin, radiusKm, cell.getValue(), consumer);
+                    }
+                }
+            }
+        }
+
+        private void acceptWithin(GeoPoint origin, double radiusKm, int[] cellComps, CompConsumer consumer) {
+            for (int comp : cellComps) {
+                double km = origin.distanceKm(catalogue.latitude[comp], catalogue.longitude[comp]);
+                if (km <= radiusKm) {
+                    consumer.accept(comp, km);
+                }
+            }
+        }
+
+        private static int cell(double latitude, double longitude) {
+            int column = Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), GRID_COLUMNS);
+            return row(latitude) * GRID_COLUMNS + column;
+        }
+
+        private static int row(double latitude) {
+            return Math.max(0, Math.min(GRID_ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+        }
+    }
+
+    @FunctionalInterface
+    interface CompConsumer {
+        void accept(int comp, double km);
+    }
+
+    /**
+     * The nearest comps offered, by increasing distance, up to a capacity
+     */
+    private static final class Nearest {
+
+        private final int[] comps;
+        private final double[] distances;
+        private int count;
+
+        Nearest(int capacity) {
+            comps = new int[capacity];
+            distances = new double[capacity];
+        }
+
+        void offer(int comp, double distance) {
+            if (isFull() && distance >= farthest()) {
+                return;
+            }
+            int position = isFull() ? count - 1 : count++;
+            while (position > 0 && distances[position - 1] > distance) {
+                comps[position] = comps[position - 1];
+                distances[position] = distances[position - 1];
+                position--;
+            }
+            comps[position] = comp;
+            distances[position] = distance;
+        }
+
+        boolean isFull() {
+            return count == comps.length;
+        }
+
+        double farthest() {
+            return distances[count - 1];
+        }
+
+        void clear() {
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.springter.realestate.analyser.application.search;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.HouseChangedEvent;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListingSearchIndexLoader Tests")
+class ListingSearchIndexLoaderTest {
+
+    private static final int LISTINGS = 200;
+
+    @Mock
+    private HouseRepository houseRepository;
+
+    private final ListingSearchIndex index = new ListingSearchIndex();
+
+    /**
+     * The committed catalogue, read by every reload
+     */
+    private final Map<Integer, PropertyListing> catalogue = new ConcurrentHashMap<>();
+
+    private ListingSearchIndexLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= LISTINGS; id++) {
+            this.catalogue.put(id, listing(id, 100000));
+        }
+        this.loader = new ListingSearchIndexLoader(this.houseRepository, this.index);
+    }
+
+    @Test
+    @DisplayName("Should replay the changes committed while a reload is reading the catalogue")
+    void shouldReplayChangesCommittedDuringReload() throws Exception {
+        // Given
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(this.houseRepository.findListingsByCriteria(any(), any())).thenAnswer(invocation -> {
+            final Page<PropertyListing> page = this.readCatalogue(invocation.getArgument(1));
+            reading.countDown();
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            return page;
+        });
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> reload = executor.submit(this.loader::reload);
+            assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            this.commit(HouseChangedEvent.saved(listing(7, 250000)));
+            this.commit(HouseChangedEvent.saved(listing(LISTINGS + 1, 300000)));
+            this.commit(HouseChangedEvent.deleted(3));
+            release.countDown();
+            reload.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        this.assertIndexMatchesCatalogue();
+        assertThat(this.index.size()).isEqualTo(LISTINGS);
+    }
+
+    @Test
+    @DisplayName("Should not lose changes committed concurrently with repeated reloads")
+    void shouldNotLoseChangesDuringConcurrentReloads() throws Exception {
+        // Given
+        when(this.houseRepository.findListingsByCriteria(any(), any()))
+            .thenAnswer(invocation -> this.readCatalogue(invocation.getArgument(1)));
+        this.loader.reload();
+        final int writers = 4;
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            final Future<?> reloads = executor.submit(() -> {
+                while (writing.get()) {
+                    this.loader.reload();
+                }
+            });
+
+            // When
+            final List<Future<?>> changes = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                final int first = writer + 1;
+                changes.add(executor.submit(() -> {
+                    // Each writer owns its own IDs, so its changes are committed and published in order
+                    for (int round = 1; round <= 200; round++) {
+                        for (int id = first; id <= LISTINGS; id += writers) {
+                            this.commit(round % 5 == 0 && id % 3 == 0 ?
+                                HouseChangedEvent.deleted(id) : HouseChangedEvent.saved(listing(id, 100000 + round)));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> change : changes) {
+                change.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            reloads.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        this.assertIndexMatchesCatalogue();
+    }
+
+    /**
+     * Commits the change to the catalogue, then publishes it as the repositories do after the transaction
+     */
+    private void commit(HouseChangedEvent event) {
+        if (event.isDeleted()) {
+            this.catalogue.remove(event.getHouseId());
+        } else {
+            this.catalogue.put(event.getHouseId(), event.getListing());
+        }
+        this.loader.onHouseChanged(event);
+    }
+
+    private Page<PropertyListing> readCatalogue(PageRequest pageRequest) {
+        final List<PropertyListing> content = this.catalogue.values().stream()
+            .sorted(Comparator.comparing(PropertyListing::getId))
+            .toList();
+        return Page.of(content, pageRequest, content.size());
+    }
+
+    private void assertIndexMatchesCatalogue() {
+        final Page<PropertyListing> indexed = this.index.search(RealEstateSearchCriteria.noFilter(),
+            PageRequest.of(0, LISTINGS * 2));
+        assertThat(indexed.getContent()).containsExactlyElementsOf(this.catalogue.values().stream()
+            .sorted(Comparator.comparing(PropertyListing::getId))
+            .toList());
+    }
+
+    private static PropertyListing listing(int id, long price) {
+        return PropertyListing.builder()
+            .id(id)
+            .name("House " + id)
+            .propertyType("House")
+            .streetAddress("Calle " + id)
+            .city("Madrid")
+            .zipPostalCode("28001")
+            .lastSoldPrice(BigDecimal.valueOf(price))
+            .build();
+    }
+}
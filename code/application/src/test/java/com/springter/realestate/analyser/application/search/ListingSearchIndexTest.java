@@ -0,0 +1,347 @@
+package com.springter.realestate.analyser.application.search;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.location.TileGrid;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ListingSearchIndex Tests")
+class ListingSearchIndexTest {
+
+    private static final int LISTINGS = 300;
+
+    private static final List<RealEstateSearchCriteria> CRITERIA = List.of(
+        RealEstateSearchCriteria.noFilter(),
+        RealEstateSearchCriteria.builder().location("SEVILLA").build(),
+        RealEstateSearchCriteria.builder().location("evil").build(),
+        RealEstateSearchCriteria.builder().location("calle 1").build(),
+        RealEstateSearchCriteria.builder().location("  2801 ").build(),
+        RealEstateSearchCriteria.builder().location("madrid, 28").build(),
+        RealEstateSearchCriteria.builder().location("nowhere").build(),
+        RealEstateSearchCriteria.builder().propertyType(RealEstateProperty.PropertyType.CONDO).build(),
+        RealEstateSearchCriteria.builder().minPrice(250000.0).build(),
+        RealEstateSearchCriteria.builder().maxPrice(240000.0).build(),
+        RealEstateSearchCriteria.builder()
+            .location("madrid")
+            .propertyType(RealEstateProperty.PropertyType.HOUSE)
+            .minPrice(210000.0)
+            .maxPrice(400000.0)
+            .build());
+
+    private static final GeoPoint SOL = GeoPoint.of(40.4168, -3.7038);
+
+    private static final List<RealEstateSearchCriteria> GEO_CRITERIA = List.of(
+        RealEstateSearchCriteria.builder().center(SOL).radiusKm(8.0).build(),
+        RealEstateSearchCriteria.builder().center(SOL).radiusKm(500.0).build(),
+        RealEstateSearchCriteria.builder().center(SOL).radiusKm(0.1).build(),
+        RealEstateSearchCriteria.builder().bounds(GeoBoundingBox.of(40.3, -3.8, 40.5, -3.6)).build(),
+        RealEstateSearchCriteria.builder()
+            .center(SOL)
+            .radiusKm(15.0)
+            .bounds(GeoBoundingBox.of(40.35, -3.9, 41.0, -3.65))
+            .location("madrid")
+            .propertyType(RealEstateProperty.PropertyType.HOUSE)
+            .minPrice(210000.0)
+            .build());
+
+    private ListingSearchIndex index;
+
+    private List<PropertyListing> catalogue;
+
+    @BeforeEach
+    void setUp() {
+        this.catalogue = new ArrayList<>();
+        for (int i = 1; i <= LISTINGS; i++) {
+            this.catalogue.add(listing(i * 2, "Calle " + i, i % 3 == 0 ? "Sevilla" : "Madrid", "280" + (i % 10),
+                i % 2 == 0 ? "House" : "condo", i % 7 == 0 ? null : BigDecimal.valueOf(200000L + 1000L * i)));
+        }
+        this.index = new ListingSearchIndex();
+        // Loading does not rely on the catalogue being sorted
+        this.index.load(this.catalogue.reversed());
+    }
+
+    @Test
+    @DisplayName("Should not be ready until loaded")
+    void shouldNotBeReadyUntilLoaded() {
+        assertThat(new ListingSearchIndex().isReady()).isFalse();
+        assertThat(this.index.isReady()).isTrue();
+        assertThat(this.index.size()).isEqualTo(LISTINGS);
+    }
+
+    @Test
+    @DisplayName("Should find the same offset pages as a full scan for every criteria")
+    void shouldFindSameOffsetPagesAsFullScan() {
+        for (RealEstateSearchCriteria criteria : CRITERIA) {
+            for (PageRequest pageRequest : List.of(PageRequest.of(0, 25), PageRequest.of(3, 10), PageRequest.of(100, 10))) {
+                // When
+                final Page<PropertyListing> page = this.index.search(criteria, pageRequest);
+
+                // Then
+                final List<PropertyListing> expected = fullScan(criteria);
+                final List<PropertyListing> expectedContent = expected.stream()
+                    .skip(pageRequest.getOffset())
+                    .limit(pageRequest.getSize())
+                    .toList();
+                assertThat(page.getContent()).as("%s %s", criteria, pageRequest).isEqualTo(expectedContent);
+                assertThat(page.getTotalElements()).as("%s %s", criteria, pageRequest).isEqualTo(expected.size());
+                assertThat(page.getNextCursor() != null).as("%s %s", criteria, pageRequest)
+                    .isEqualTo(pageRequest.getOffset() + expectedContent.size() < expected.size());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should walk every match once by following the cursors")
+    void shouldWalkEveryMatchByFollowingCursors() {
+        for (RealEstateSearchCriteria criteria : CRITERIA) {
+            // Given
+            final List<PropertyListing> walked = new ArrayList<>();
+            Page<PropertyListing> page = this.index.search(criteria, PageRequest.of(0, 20));
+            walked.addAll(page.getContent());
+
+            // When
+            while (page.getNextCursor() != null) {
+                page = this.index.search(criteria, PageRequest.after(page.getNextCursor(), 20));
+                assertThat(page.isTotalKnown()).isFalse();
+                walked.addAll(page.getContent());
+            }
+
+            // Then
+            assertThat(walked).as("%s", criteria).isEqualTo(fullScan(criteria));
+        }
+    }
+
+    @Nested
+    @DisplayName("geo search")
+    class GeoSearchTests {
+
+        @Test
+        @DisplayName("Should find the same pages as a full scan, nearest first and without cursors")
+        void shouldFindSamePagesByDistanceAsFullScan() {
+            for (RealEstateSearchCriteria criteria : GEO_CRITERIA) {
+                final GeoPoint origin = criteria.distanceOrigin();
+                final List<PropertyListing> expected = fullScan(criteria).stream()
+                    .sorted(Comparator.comparingDouble((PropertyListing listing) -> origin.distanceKm(
+                            listing.getLatitude().doubleValue(), listing.getLongitude().doubleValue()))
+                        .thenComparing(PropertyListing::getId))
+                    .toList();
+                for (PageRequest pageRequest : List.of(PageRequest.of(0, 25), PageRequest.of(2, 10), PageRequest.of(100, 10))) {
+                    // When
+                    final Page<PropertyListing> page = ListingSearchIndexTest.this.index.search(criteria, pageRequest);
+
+                    // Then
+                    assertThat(page.getContent()).as("%s %s", criteria, pageRequest)
+                        .isEqualTo(expected.stream().skip(pageRequest.getOffset()).limit(pageRequest.getSize()).toList());
+                    assertThat(page.getTotalElements()).as("%s %s", criteria, pageRequest).isEqualTo(expected.size());
+                    assertThat(page.getNextCursor()).as("%s %s", criteria, pageRequest).isNull();
+                }
+            }
+            assertThat(fullScan(GEO_CRITERIA.get(0))).hasSizeBetween(1, LISTINGS - 1);
+        }
+
+        @Test
+        @DisplayName("Should move a listing between cells when its coordinates change, and drop it without coordinates")
+        void shouldReindexMovedListing() {
+            // Given
+            final RealEstateSearchCriteria nearSol = RealEstateSearchCriteria.builder().center(SOL).radiusKm(0.5).build();
+
+            // When
+            ListingSearchIndexTest.this.index.upsert(listing(10, "Puerta del Sol 1", "Madrid", "28013", "house", null,
+                new BigDecimal("40.41690000"), new BigDecimal("-3.70350000")));
+
+            // Then
+            assertThat(ListingSearchIndexTest.this.index.search(nearSol, PageRequest.of(0, 20)).getContent())
+                .extracting(PropertyListing::getId)
+                .containsExactly(10);
+
+            // When
+            ListingSearchIndexTest.this.index.upsert(listing(10, "Puerta del Sol 1", "Madrid", "28013", "house", null, null, null));
+
+            // Then
+            assertThat(ListingSearchIndexTest.this.index.search(nearSol, PageRequest.of(0, 20)).getContent()).isEmpty();
+            assertThat(ListingSearchIndexTest.this.index.search(RealEstateSearchCriteria.builder().center(SOL).radiusKm(20000.0).build(),
+                PageRequest.of(0, 1)).getTotalElements()).isEqualTo(fullScan(GEO_CRITERIA.get(1)).size() - 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("map clusters")
+    class ClusterTests {
+
+        @Test
+        @DisplayName("Should group the matches with coordinates by cell like a full scan")
+        void shouldClusterMatchesLikeFullScan() {
+            final List<RealEstateSearchCriteria> criteriaList = List.of(RealEstateSearchCriteria.noFilter(), CRITERIA.get(8),
+                GEO_CRITERIA.get(3), GEO_CRITERIA.get(4));
+            for (RealEstateSearchCriteria criteria : criteriaList) {
+                for (TileGrid grid : List.of(TileGrid.of(8), TileGrid.of(13))) {
+                    // Given
+                    final Map<Long, List<PropertyListing>> expected = fullScan(criteria).stream()
+                        .filter(PropertyListing::hasCoordinates)
+                        .collect(Collectors.groupingBy(listing -> (long) grid.row(listing.getLatitude().doubleValue()) * grid.size()
+                            + grid.column(listing.getLongitude().doubleValue()), TreeMap::new, Collectors.toList()));
+
+                    // When
+                    final List<ListingCluster> clusters = ListingSearchIndexTest.this.index.cluster(criteria, grid);
+
+                    // Then
+                    assertThat(clusters).as("%s %s", criteria, grid)
+                        .extracting(cluster -> (long) cluster.getY() * grid.size() + cluster.getX())
+                        .containsExactlyElementsOf(expected.keySet());
+                    for (ListingCluster cluster : clusters) {
+                        final List<PropertyListing> listings = expected.get((long) cluster.getY() * grid.size() + cluster.getX());
+                        final DoubleSummaryStatistics prices = listings.stream()
+                            .filter(listing -> listing.getLastSoldPrice() != null)
+                            .mapToDouble(listing -> listing.getLastSoldPrice().doubleValue())
+                            .summaryStatistics();
+                        assertThat(cluster.getZoom()).isEqualTo(grid.getZoom());
+                        assertThat(cluster.getCount()).isEqualTo(listings.size());
+                        assertThat(cluster.getLatitude()).isCloseTo(listings.stream()
+                            .mapToDouble(listing -> listing.getLatitude().doubleValue()).average().orElseThrow(), within(1e-9));
+                        assertThat(grid.column(cluster.getLongitude())).isEqualTo(cluster.getX());
+                        assertThat(cluster.getMinPrice()).isEqualTo(prices.getCount() > 0 ? prices.getMin() : null);
+                        assertThat(cluster.getMaxPrice()).isEqualTo(prices.getCount() > 0 ? prices.getMax() : null);
+                        if (prices.getCount() > 0) {
+                            assertThat(cluster.getAveragePrice()).isCloseTo(prices.getAverage(), within(1e-6));
+                        } else {
+                            assertThat(cluster.getAveragePrice()).isNull();
+                        }
+                    }
+                }
+            }
+            assertThat(ListingSearchIndexTest.this.index.cluster(GEO_CRITERIA.get(3), TileGrid.of(13))).hasSizeGreaterThan(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("incremental updates")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("Should reindex a listing whose address and price changed")
+        void shouldReindexUpdatedListing() {
+            // Given
+            final RealEstateSearchCriteria valencia = RealEstateSearchCriteria.builder().location("valencia").build();
+            // Warms the tokens remembered for the term
+            assertThat(ListingSearchIndexTest.this.index.search(valencia, PageRequest.of(0, 20)).getContent()).isEmpty();
+
+            // When
+            ListingSearchIndexTest.this.index.upsert(listing(10, "Avenida del Puerto 3", "Valencia", "46023", "house", new BigDecimal("999999")));
+
+            // Then
+            assertThat(ListingSearchIndexTest.this.index.search(valencia, PageRequest.of(0, 20)).getContent())
+                .extracting(PropertyListing::getId)
+                .containsExactly(10);
+            assertThat(ListingSearchIndexTest.this.index.search(RealEstateSearchCriteria.builder().location("calle 5").build(), PageRequest.of(0, 100)).getContent())
+                .extracting(PropertyListing::getId)
+                .doesNotContain(10);
+            assertThat(ListingSearchIndexTest.this.index.search(RealEstateSearchCriteria.builder().minPrice(999999.0).build(), PageRequest.of(0, 20)).getContent())
+                .extracting(PropertyListing::getId)
+                .containsExactly(10);
+            assertThat(ListingSearchIndexTest.this.index.size()).isEqualTo(LISTINGS);
+        }
+
+        @Test
+        @DisplayName("Should keep pages in ID order when listings are added out of order")
+        void shouldKeepIdOrderForListingsAddedOutOfOrder() {
+            // When
+            ListingSearchIndexTest.this.index.upsert(listing(LISTINGS * 2 + 10, "Calle Nueva 1", "Toledo", "45001", "house", null));
+            ListingSearchIndexTest.this.index.upsert(listing(5, "Calle Vieja 1", "Toledo", "45002", "condo", null));
+
+            // Then
+            final Page<PropertyListing> page = ListingSearchIndexTest.this.index.search(
+                RealEstateSearchCriteria.builder().location("toledo").build(), PageRequest.of(0, 20));
+            assertThat(page.getContent()).extracting(PropertyListing::getId).containsExactly(5, LISTINGS * 2 + 10);
+            assertThat(ListingSearchIndexTest.this.index.search(RealEstateSearchCriteria.noFilter(), PageRequest.of(0, 3)).getContent())
+                .extracting(PropertyListing::getId)
+                .containsExactly(2, 4, 5);
+        }
+
+        @Test
+        @DisplayName("Should stop finding removed listings")
+        void shouldStopFindingRemovedListings() {
+            // Given
+            final RealEstateSearchCriteria sevilla = RealEstateSearchCriteria.builder().location("sevilla").build();
+            assertThat(ListingSearchIndexTest.this.index.search(sevilla, PageRequest.of(0, 20)).getTotalElements())
+                .isEqualTo(LISTINGS / 3);
+
+            // When
+            ListingSearchIndexTest.this.catalogue.stream()
+                .filter(listing -> "Sevilla".equals(listing.getCity()))
+                .forEach(listing -> ListingSearchIndexTest.this.index.remove(listing.getId()));
+            ListingSearchIndexTest.this.index.remove(-1);
+
+            // Then
+            assertThat(ListingSearchIndexTest.this.index.search(sevilla, PageRequest.of(0, 20)).getTotalElements()).isZero();
+            assertThat(ListingSearchIndexTest.this.index.search(RealEstateSearchCriteria.noFilter(), PageRequest.of(0, 20)).getTotalElements())
+                .isEqualTo(LISTINGS - LISTINGS / 3);
+        }
+    }
+
+    /**
+     * Reference implementation with the semantics of the repository queries
+     */
+    private List<PropertyListing> fullScan(RealEstateSearchCriteria criteria) {
+        return this.catalogue.stream()
+            .filter(listing -> criteria.getLocation() == null || Stream.of(listing.getStreetAddress(), listing.getCity(),
+                    listing.getStateProvince(), listing.getZipPostalCode())
+                .anyMatch(field -> field != null && field.toLowerCase(Locale.ROOT)
+                    .contains(criteria.getLocation().trim().toLowerCase(Locale.ROOT))))
+            .filter(listing -> criteria.getPropertyType() == null
+                || criteria.getPropertyType().name().equalsIgnoreCase(listing.getPropertyType()))
+            .filter(listing -> criteria.getMinPrice() == null || (listing.getLastSoldPrice() != null
+                && listing.getLastSoldPrice().doubleValue() >= criteria.getMinPrice()))
+            .filter(listing -> criteria.getMaxPrice() == null || (listing.getLastSoldPrice() != null
+                && listing.getLastSoldPrice().doubleValue() <= criteria.getMaxPrice()))
+            .filter(listing -> !criteria.hasGeoFilter() || (listing.hasCoordinates()
+                && criteria.matchesPosition(listing.getLatitude().doubleValue(), listing.getLongitude().doubleValue())))
+            .toList();
+    }
+
+    /**
+     * Spreads the listings over about 50 x 40 km around Madrid, every eleventh one without coordinates
+     */
+    private static PropertyListing listing(int id, String street, String city, String zip, String type, BigDecimal price) {
+        return id % 11 == 0 ?
+            listing(id, street, city, zip, type, price, null, null) :
+            listing(id, street, city, zip, type, price,
+                BigDecimal.valueOf(40.2 + (id % 17) * 0.03), BigDecimal.valueOf(-3.9 + (id % 23) * 0.02));
+    }
+
+    private static PropertyListing listing(int id, String street, String city, String zip, String type, BigDecimal price,
+                                           BigDecimal latitude, BigDecimal longitude) {
+        return PropertyListing.builder()
+            .id(id)
+            .name("House " + id)
+            .propertyType(type)
+            .streetAddress(street)
+            .city(city)
+            .zipPostalCode(zip)
+            .lastSoldPrice(price)
+            .latitude(latitude)
+            .longitude(longitude)
+            .build();
+    }
+}
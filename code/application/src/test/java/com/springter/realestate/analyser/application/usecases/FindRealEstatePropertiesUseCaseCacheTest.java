@@ -0,0 +1,125 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+@DisplayName("FindRealEstatePropertiesUseCase cache Tests")
+class FindRealEstatePropertiesUseCaseCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, FindRealEstatePropertiesUseCaseImpl.class, ListingSearchIndex.class, SearchMetrics.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            final CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.PROPERTY_SEARCH_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(2).recordStats());
+            return cacheManager;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockBean
+    private HouseRepository houseRepository;
+
+    @Autowired
+    private FindRealEstatePropertiesUseCase useCase;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final RealEstateSearchCriteria madridHouses = RealEstateSearchCriteria.builder()
+        .location("Madrid")
+        .propertyType(RealEstateProperty.PropertyType.HOUSE)
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        this.cacheManager.getCache(CacheConfig.PROPERTY_SEARCH_CACHE).clear();
+        when(this.houseRepository.findListingsByCriteria(any(), any()))
+            .thenAnswer(invocation -> Page.empty(invocation.getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated search from the cache")
+    void shouldServeRepeatedSearchFromCache() {
+        // Given
+        final CacheStats before = nativeCache().stats();
+
+        // When
+        final Page<RealEstateProperty> first = this.useCase.findProperties(this.madridHouses, PageRequest.of(0, 20));
+        final Page<RealEstateProperty> second = this.useCase.findProperties(
+            RealEstateSearchCriteria.builder().location("Madrid").propertyType(RealEstateProperty.PropertyType.HOUSE).build(),
+            PageRequest.of(0, 20));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(this.houseRepository, times(1)).findListingsByCriteria(any(), any());
+        final CacheStats stats = nativeCache().stats().minus(before);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should query the repository for a different page of the same search")
+    void shouldQueryRepositoryForDifferentPage() {
+        // When
+        this.useCase.findProperties(this.madridHouses, PageRequest.of(0, 20));
+        this.useCase.findProperties(this.madridHouses, PageRequest.of(1, 20));
+
+        // Then
+        verify(this.houseRepository, times(2)).findListingsByCriteria(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should query the repository again once the cache is cleared")
+    void shouldQueryRepositoryAgainOnceCacheIsCleared() {
+        // Given
+        this.useCase.findProperties(this.madridHouses, PageRequest.of(0, 20));
+
+        // When
+        this.cacheManager.getCache(CacheConfig.PROPERTY_SEARCH_CACHE).clear();
+        this.useCase.findProperties(this.madridHouses, PageRequest.of(0, 20));
+
+        // Then
+        verify(this.houseRepository, times(2)).findListingsByCriteria(any(), any());
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) this.cacheManager.getCache(CacheConfig.PROPERTY_SEARCH_CACHE)).getNativeCache();
+    }
+}
@@ -0,0 +1,261 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindRealEstatePropertiesUseCaseImpl Tests")
+class FindRealEstatePropertiesUseCaseImplTest {
+
+    @Mock
+    private HouseRepository houseRepository;
+
+    @Mock
+    private ListingSearchIndex listingSearchIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SearchMetrics searchMetrics = new SearchMetrics(this.meterRegistry);
+
+    @InjectMocks
+    private FindRealEstatePropertiesUseCaseImpl useCase;
+
+    @Nested
+    @DisplayName("findProperties")
+    class FindPropertiesTests {
+
+        @Test
+        @DisplayName("Should delegate filtering and pagination to the repository")
+        void shouldDelegateFilteringAndPaginationToRepository() {
+            // Given
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder()
+                .location("Madrid")
+                .minPrice(100000.0)
+                .propertyType(RealEstateProperty.PropertyType.HOUSE)
+                .build();
+            final PageRequest pageRequest = PageRequest.of(2, 10);
+
+            when(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository.findListingsByCriteria(criteria, pageRequest))
+                .thenReturn(Page.of(List.of(PropertyListing.from(FindRealEstatePropertiesUseCaseImplTest.this.createSampleHouse())), pageRequest, 21L));
+
+            // When
+            final Page<RealEstateProperty> result = FindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(criteria, pageRequest);
+
+            // Then
+            assertThat(result.getPage()).isEqualTo(2);
+            assertThat(result.getSize()).isEqualTo(10);
+            assertThat(result.getTotalElements()).isEqualTo(21L);
+            assertThat(result.getTotalPages()).isEqualTo(3);
+            assertThat(result.getContent()).hasSize(1);
+            verify(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository, never()).findAll();
+            verify(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository, never()).findByCriteria(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should convert houses to real estate properties")
+        void shouldConvertHousesToRealEstateProperties() {
+            // Given
+            final PageRequest pageRequest = PageRequest.of(0, 20);
+
+            when(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository.findListingsByCriteria(RealEstateSearchCriteria.noFilter(), pageRequest))
+                .thenReturn(Page.of(List.of(PropertyListing.from(FindRealEstatePropertiesUseCaseImplTest.this.createSampleHouse())), pageRequest, 1L));
+
+            // When
+            final Page<RealEstateProperty> result = FindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(
+                RealEstateSearchCriteria.noFilter(), pageRequest);
+
+            // Then
+            final RealEstateProperty property = result.getContent().get(0);
+            assertThat(property.getId()).isEqualTo(7L);
+            assertThat(property.getTitle()).isEqualTo("Sunny House");
+            assertThat(property.getLocation()).isEqualTo("Calle Mayor 1, Madrid, Madrid 28013");
+            assertThat(property.getPrice()).isEqualTo(310000.0);
+            assertThat(property.getPropertyType()).isEqualTo(RealEstateProperty.PropertyType.HOUSE);
+            assertThat(property.getBathrooms()).isEqualTo(2);
+            assertThat(property.getArea()).isEqualTo(120.0);
+            assertThat(property.getFeatures()).contains("walkable");
+        }
+
+        @Test
+        @DisplayName("Should convert a House aggregate like its listing projection")
+        void shouldConvertHouseLikeItsListing() {
+            // Given
+            final House house = FindRealEstatePropertiesUseCaseImplTest.this.createSampleHouse();
+
+            // When
+            final RealEstateProperty fromHouse = FindRealEstatePropertiesUseCaseImplTest.this.useCase.convertHouseToRealEstateProperty(house);
+            final RealEstateProperty fromListing = FindRealEstatePropertiesUseCaseImplTest.this.useCase.convertListingToRealEstateProperty(
+                PropertyListing.from(house));
+
+            // Then
+            assertThat(fromHouse).usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt")
+                .isEqualTo(fromListing);
+            assertThat(fromHouse.getPrice()).isEqualTo(310000.0);
+            assertThat(fromHouse.getDescription()).isEqualTo("3-bedroom house in Madrid");
+        }
+
+        @Test
+        @DisplayName("Should answer from the search index once it is loaded")
+        void shouldAnswerFromSearchIndexOnceLoaded() {
+            // Given
+            final PageRequest pageRequest = PageRequest.of(0, 20);
+
+            when(FindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.isReady()).thenReturn(true);
+            when(FindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.search(RealEstateSearchCriteria.noFilter(), pageRequest))
+                .thenReturn(Page.of(List.of(PropertyListing.from(FindRealEstatePropertiesUseCaseImplTest.this.createSampleHouse())), pageRequest, 1L));
+
+            // When
+            final Page<RealEstateProperty> result = FindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(
+                RealEstateSearchCriteria.noFilter(), pageRequest);
+
+            // Then
+            assertThat(result.getContent()).extracting(RealEstateProperty::getId).containsExactly(7L);
+            verify(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository, never()).findListingsByCriteria(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should time the search stages and record the selectivity of indexed searches")
+        void shouldRecordSearchMetrics() {
+            // Given
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().location("Madrid").build();
+            final PageRequest pageRequest = PageRequest.of(0, 20);
+
+            when(FindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.isReady()).thenReturn(true);
+            when(FindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.size()).thenReturn(4);
+            when(FindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.search(criteria, pageRequest))
+                .thenReturn(Page.of(List.of(PropertyListing.from(FindRealEstatePropertiesUseCaseImplTest.this.createSampleHouse())), pageRequest, 1L));
+
+            // When
+            FindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(criteria, pageRequest);
+
+            // Then
+            final SimpleMeterRegistry registry = FindRealEstatePropertiesUseCaseImplTest.this.meterRegistry;
+            assertThat(registry.get(SearchMetrics.SEARCH_FILTER).tags("source", "index", "criteria", "location", "paging", "offset")
+                .timer().count()).isEqualTo(1);
+            assertThat(registry.get(SearchMetrics.SEARCH_CONVERSION).timer().count()).isEqualTo(1);
+            assertThat(registry.get(SearchMetrics.SEARCH_SELECTIVITY).tag("criteria", "location").summary().mean())
+                .isEqualTo(0.25);
+        }
+
+        @Test
+        @DisplayName("Should return an empty page when nothing matches")
+        void shouldReturnEmptyPageWhenNothingMatches() {
+            // Given
+            final PageRequest pageRequest = PageRequest.of(5, 20);
+
+            when(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository.findListingsByCriteria(RealEstateSearchCriteria.noFilter(), pageRequest))
+                .thenReturn(Page.empty(pageRequest));
+
+            // When
+            final Page<RealEstateProperty> result = FindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(
+                RealEstateSearchCriteria.noFilter(), pageRequest);
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getPage()).isEqualTo(5);
+            assertThat(result.getTotalElements()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("exportProperties")
+    class ExportPropertiesTests {
+
+        @Test
+        @DisplayName("Should convert every streamed listing into the sink and time the export")
+        void shouldConvertEveryListingIntoSink() {
+            // Given
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().location("Madrid").build();
+            final PropertyListing listing = PropertyListing.from(FindRealEstatePropertiesUseCaseImplTest.this.createSampleHouse());
+
+            when(FindRealEstatePropertiesUseCaseImplTest.this.houseRepository.forEachListingByCriteria(eq(criteria), any()))
+                .thenAnswer(invocation -> {
+                    final Consumer<PropertyListing> action = invocation.getArgument(1);
+                    action.accept(listing);
+                    action.accept(listing);
+                    return 2L;
+                });
+            final List<RealEstateProperty> exported = new ArrayList<>();
+
+            // When
+            final long count = FindRealEstatePropertiesUseCaseImplTest.this.useCase.exportProperties(criteria, exported::add);
+
+            // Then
+            assertThat(count).isEqualTo(2);
+            assertThat(exported).extracting(RealEstateProperty::getId).containsExactly(7L, 7L);
+            assertThat(exported.get(0).getPrice()).isEqualTo(310000.0);
+            verify(FindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex, never()).search(any(), any());
+            final SimpleMeterRegistry registry = FindRealEstatePropertiesUseCaseImplTest.this.meterRegistry;
+            assertThat(registry.get(SearchMetrics.SEARCH_EXPORT).tag("criteria", "location").timer().count()).isEqualTo(1);
+            assertThat(registry.get(SearchMetrics.SEARCH_EXPORT_ROWS).summary().totalAmount()).isEqualTo(2);
+        }
+    }
+
+    // Helper methods for creating test objects
+    private House createSampleHouse() {
+        return House.builder()
+            .id(7)
+            .name("Sunny House")
+            .listingStatus("FOR_SALE")
+            .yearBuilt(1995)
+            .squareFootage(120)
+            .numBedrooms(3)
+            .numBathrooms(new BigDecimal("2.5"))
+            .propertyType("house")
+            .location(Location.builder()
+                .id(3)
+                .streetAddress("Calle Mayor 1")
+                .city("Madrid")
+                .stateProvince("Madrid")
+                .zipPostalCode("28013")
+                .walkScore(85)
+                .build())
+            .ratingAnalyses(List.of(
+                RatingAnalysis.builder()
+                    .id(1)
+                    .houseId(7)
+                    .lastSoldPrice(new BigDecimal("290000"))
+                    .ratingTimestamp(OffsetDateTime.now().minusYears(2))
+                    .build(),
+                RatingAnalysis.builder()
+                    .id(2)
+                    .houseId(7)
+                    .lastSoldPrice(new BigDecimal("310000"))
+                    .ratingTimestamp(OffsetDateTime.now().minusDays(3))
+                    .build()))
+            .build();
+    }
+}
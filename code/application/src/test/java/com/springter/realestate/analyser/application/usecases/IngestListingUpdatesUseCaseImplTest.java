@@ -0,0 +1,80 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.ingest.ListingUpdates;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.repositories.ListingIngestRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestListingUpdatesUseCaseImpl Tests")
+class IngestListingUpdatesUseCaseImplTest {
+
+    @Mock
+    private ListingIngestRepository listingIngestRepository;
+
+    @InjectMocks
+    private IngestListingUpdatesUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("Should write only the last update of each row")
+    void shouldWriteLastUpdateOfEachRow() {
+        // Given
+        final ListingUpdates updates = ListingUpdates.builder()
+            .locations(List.of(location(1, "Madrid")))
+            .houses(List.of(house(10, "First name"), house(11, "Other house"), house(10, "Second name")))
+            .ratingAnalyses(List.of(rating(100, "1.00"), rating(100, "4.50")))
+            .build();
+
+        // When
+        final int written = this.useCase.ingest(updates);
+
+        // Then
+        final ArgumentCaptor<ListingUpdates> captor = ArgumentCaptor.forClass(ListingUpdates.class);
+        verify(this.listingIngestRepository).upsert(captor.capture());
+        assertThat(written).isEqualTo(4);
+        assertThat(captor.getValue().getLocations()).extracting(Location::getCity).containsExactly("Madrid");
+        assertThat(captor.getValue().getHouses()).extracting(House::getId, House::getName)
+            .containsExactly(tuple(10, "Second name"), tuple(11, "Other house"));
+        assertThat(captor.getValue().getRatingAnalyses()).singleElement()
+            .extracting(RatingAnalysis::getOverallScore).isEqualTo(new BigDecimal("4.50"));
+    }
+
+    @Test
+    @DisplayName("Should not touch the repository for an empty batch")
+    void shouldSkipEmptyBatch() {
+        // When
+        final int written = this.useCase.ingest(ListingUpdates.builder().build());
+
+        // Then
+        assertThat(written).isZero();
+        verifyNoInteractions(this.listingIngestRepository);
+    }
+
+    // Helper methods for creating test objects
+    private static Location location(int id, String city) {
+        return Location.builder().id(id).streetAddress("Calle " + id).city(city).build();
+    }
+
+    private static House house(int id, String name) {
+        return House.builder().id(id).location(Location.builder().id(1).build()).name(name).listingStatus("FOR_SALE").build();
+    }
+
+    private static RatingAnalysis rating(int id, String overallScore) {
+        return RatingAnalysis.builder().id(id).houseId(10).overallScore(new BigDecimal(overallScore)).build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.ReactiveHouseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveFindRealEstatePropertiesUseCaseImpl Tests")
+class ReactiveFindRealEstatePropertiesUseCaseImplTest {
+
+    @Mock
+    private ReactiveHouseRepository reactiveHouseRepository;
+
+    @Mock
+    private ListingSearchIndex listingSearchIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SearchMetrics searchMetrics = new SearchMetrics(this.meterRegistry);
+
+    @InjectMocks
+    private ReactiveFindRealEstatePropertiesUseCaseImpl useCase;
+
+    @Nested
+    @DisplayName("findProperties")
+    class FindPropertiesTests {
+
+        @Test
+        @DisplayName("Should query the repository on subscription and time the filter until it completes")
+        void shouldQueryRepositoryOnSubscription() {
+            // Given
+            final PageRequest pageRequest = PageRequest.of(0, 20);
+            when(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.reactiveHouseRepository.findListingsByCriteria(
+                RealEstateSearchCriteria.noFilter(), pageRequest))
+                .thenReturn(Mono.fromSupplier(() -> Page.of(
+                    List.of(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.createListing(7)), pageRequest, 1L)));
+
+            // When
+            final Mono<Page<RealEstateProperty>> result = ReactiveFindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(
+                RealEstateSearchCriteria.noFilter(), pageRequest);
+
+            // Then
+            assertThat(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.meterRegistry.find(SearchMetrics.SEARCH_FILTER).timer())
+                .isNull();
+            StepVerifier.create(result)
+                .assertNext(page -> {
+                    assertThat(page.getTotalElements()).isEqualTo(1L);
+                    assertThat(page.getContent()).extracting(RealEstateProperty::getId).containsExactly(7L);
+                    assertThat(page.getContent().get(0).getDescription()).isEqualTo("3-bedroom house in Madrid");
+                })
+                .verifyComplete();
+            assertThat(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.meterRegistry.get(SearchMetrics.SEARCH_FILTER)
+                .tag("source", "repository").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should answer from the search index once it is loaded")
+        void shouldAnswerFromSearchIndexOnceLoaded() {
+            // Given
+            final PageRequest pageRequest = PageRequest.of(0, 20);
+            when(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.isReady()).thenReturn(true);
+            when(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.listingSearchIndex.search(RealEstateSearchCriteria.noFilter(), pageRequest))
+                .thenReturn(Page.of(List.of(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.createListing(7)), pageRequest, 1L));
+
+            // When / Then
+            StepVerifier.create(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.useCase.findProperties(
+                    RealEstateSearchCriteria.noFilter(), pageRequest))
+                .assertNext(page -> assertThat(page.getContent()).extracting(RealEstateProperty::getId).containsExactly(7L))
+                .verifyComplete();
+            verify(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.reactiveHouseRepository, never())
+                .findListingsByCriteria(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("streamProperties")
+    class StreamPropertiesTests {
+
+        @Test
+        @DisplayName("Should only pull the listings requested by the subscriber")
+        void shouldPropagateBackpressure() {
+            // Given
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().location("Madrid").build();
+            final List<Long> requested = new ArrayList<>();
+            when(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.reactiveHouseRepository.streamListingsByCriteria(criteria))
+                .thenReturn(Flux.fromStream(IntStream.rangeClosed(1, 1000)
+                        .mapToObj(ReactiveFindRealEstatePropertiesUseCaseImplTest.this::createListing))
+                    .doOnRequest(requested::add));
+
+            // When / Then
+            StepVerifier.create(ReactiveFindRealEstatePropertiesUseCaseImplTest.this.useCase.streamProperties(criteria), 2)
+                .assertNext(property -> assertThat(property.getId()).isEqualTo(1L))
+                .assertNext(property -> assertThat(property.getId()).isEqualTo(2L))
+                .thenCancel()
+                .verify();
+            assertThat(requested).containsExactly(2L);
+        }
+    }
+
+    // Helper methods for creating test objects
+    private PropertyListing createListing(int id) {
+        return PropertyListing.builder()
+            .id(id)
+            .name("House " + id)
+            .propertyType("house")
+            .numBedrooms(3)
+            .numBathrooms(new BigDecimal("2"))
+            .streetAddress("Calle Mayor " + id)
+            .city("Madrid")
+            .lastSoldPrice(new BigDecimal("310000"))
+            .build();
+    }
+}
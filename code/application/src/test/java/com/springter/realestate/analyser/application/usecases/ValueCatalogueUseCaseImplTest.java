@@ -0,0 +1,88 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.valuation.ComparablesValuationEngine;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.domain.repositories.ValuationRepository;
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import com.springter.realestate.analyser.domain.valuation.ValuationReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValueCatalogueUseCaseImpl Tests")
+class ValueCatalogueUseCaseImplTest {
+
+    @Mock
+    private HouseRepository houseRepository;
+
+    @Mock
+    private ValuationRepository valuationRepository;
+
+    @Spy
+    private ComparablesValuationEngine valuationEngine = new ComparablesValuationEngine();
+
+    @InjectMocks
+    private ValueCatalogueUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("Should stream the catalogue, save its valuations and delete those it did not replace")
+    void shouldSaveValuationsAndDeleteStaleOnes() {
+        // Given
+        final List<PropertyListing> catalogue = new ArrayList<>();
+        for (int id = 1; id <= 5; id++) {
+            catalogue.add(listing(id, 40.4168 + id * 0.001, BigDecimal.valueOf(200000 + id * 1000)));
+        }
+        catalogue.add(listing(6, null, BigDecimal.valueOf(300000)));
+        when(this.houseRepository.forEachListingByCriteria(any(), any())).thenAnswer(invocation -> {
+            final Consumer<PropertyListing> action = invocation.getArgument(1);
+            catalogue.forEach(action);
+            return (long) catalogue.size();
+        });
+        when(this.valuationRepository.deleteValuedBefore(any())).thenReturn(2);
+
+        // When
+        final ValuationReport report = this.useCase.revalueCatalogue();
+
+        // Then
+        final ArgumentCaptor<Collection<Valuation>> saved = ArgumentCaptor.captor();
+        verify(this.valuationRepository).saveAll(saved.capture());
+        final ArgumentCaptor<OffsetDateTime> valuedBefore = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(this.valuationRepository).deleteValuedBefore(valuedBefore.capture());
+        assertThat(saved.getValue()).extracting(Valuation::getHouseId).containsExactly(1, 2, 3, 4, 5);
+        assertThat(saved.getValue()).extracting(Valuation::getValuedAt).containsOnly(valuedBefore.getValue());
+        assertThat(report.getListings()).isEqualTo(6);
+        assertThat(report.getValued()).isEqualTo(5);
+        assertThat(report.getRemoved()).isEqualTo(2);
+    }
+
+    private static PropertyListing listing(int id, Double latitude, BigDecimal lastSoldPrice) {
+        return PropertyListing.builder()
+            .id(id)
+            .name("House " + id)
+            .propertyType("House")
+            .squareFootage(100)
+            .latitude(latitude != null ? BigDecimal.valueOf(latitude) : null)
+            .longitude(latitude != null ? BigDecimal.valueOf(-3.7038) : null)
+            .lastSoldPrice(lastSoldPrice)
+            .build();
+    }
+}
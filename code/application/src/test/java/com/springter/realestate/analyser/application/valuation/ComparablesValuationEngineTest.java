@@ -0,0 +1,148 @@
+package com.springter.realestate.analyser.application.valuation;
+
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ComparablesValuationEngine Tests")
+class ComparablesValuationEngineTest {
+
+    private static final OffsetDateTime VALUED_AT = OffsetDateTime.parse("2024-03-01T03:00:00Z");
+
+    private static final double KM_PER_DEGREE = Math.toRadians(GeoPoint.EARTH_RADIUS_KM);
+
+    private static final double LATITUDE = 40.4168;
+    private static final double LONGITUDE = -3.7038;
+
+    @Test
+    @DisplayName("Should value a house from its nearest comps, searching farther until it has enough")
+    void shouldValueFromNearestComps() {
+        // Given
+        final ComparablesValuationEngine engine = new ComparablesValuationEngine(3, 3, 20, 1);
+        final List<PropertyListing> catalogue = List.of(
+            house(1, 0, null),
+            house(2, 0.5, 100000),
+            house(3, 1.5, 200000),
+            house(4, 3, 300000),
+            house(5, 10, 10000000));
+
+        // When
+        final List<Valuation> valuations = engine.value(catalogue, VALUED_AT);
+
+        // Then
+        assertThat(valuations).filteredOn(valuation -> valuation.getHouseId() == 1).singleElement().satisfies(valuation -> {
+            assertThat(valuation.getComparableCount()).isEqualTo(3);
+            assertThat(valuation.getEstimatedPrice()).isBetween(new BigDecimal("100000"), new BigDecimal("200000"));
+            assertThat(valuation.getLowPrice()).isLessThan(valuation.getEstimatedPrice());
+            assertThat(valuation.getHighPrice()).isGreaterThan(valuation.getEstimatedPrice());
+            assertThat(valuation.getValuedAt()).isEqualTo(VALUED_AT);
+        });
+    }
+
+    @Test
+    @DisplayName("Should scale the price of each comp by the floor area and prefer comps of the same type")
+    void shouldAdjustCompsToHouse() {
+        // Given
+        final ComparablesValuationEngine engine = new ComparablesValuationEngine(3, 3, 20, 1);
+        final List<PropertyListing> catalogue = new ArrayList<>(List.of(
+            houseBuilder(1, 0, null).squareFootage(120).build(),
+            house(2, 0.2, 100000),
+            house(3, 0.4, 100000),
+            house(4, 0.6, 100000)));
+        for (int i = 0; i < 5; i++) {
+            catalogue.add(houseBuilder(10 + i, 0.1, 900000).propertyType("Commercial").build());
+        }
+
+        // When
+        final List<Valuation> valuations = engine.value(catalogue, VALUED_AT);
+
+        // Then
+        assertThat(valuations).filteredOn(valuation -> valuation.getHouseId() == 1).singleElement().satisfies(valuation -> {
+            assertThat(valuation.getEstimatedPrice()).isEqualByComparingTo("120000.00");
+            assertThat(valuation.getLowPrice()).isEqualByComparingTo("120000.00");
+            assertThat(valuation.getHighPrice()).isEqualByComparingTo("120000.00");
+        });
+    }
+
+    @Test
+    @DisplayName("Should not value a house without coordinates or with too few comps within the maximum distance")
+    void shouldSkipHousesWithoutEnoughComps() {
+        // Given
+        final ComparablesValuationEngine engine = new ComparablesValuationEngine(8, 3, 5, 1);
+        final List<PropertyListing> catalogue = List.of(
+            house(1, 0, 100000),
+            house(2, 1, 100000),
+            house(3, 6, 100000),
+            houseBuilder(4, 0, 100000).latitude(null).longitude(null).build());
+
+        // When
+        final List<Valuation> valuations = engine.value(catalogue, VALUED_AT);
+
+        // Then
+        assertThat(valuations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should value a catalogue in parallel exactly like with a single thread")
+    void shouldValueInParallelLikeSequentially() {
+        // Given
+        final Random random = new Random(42);
+        final List<PropertyListing> catalogue = new ArrayList<>();
+        for (int id = 1; id <= 20 * ComparablesValuationEngine.CHUNK; id++) {
+            catalogue.add(PropertyListing.builder()
+                .id(id)
+                .latitude(BigDecimal.valueOf(LATITUDE + random.nextGaussian() * 0.1))
+                .longitude(BigDecimal.valueOf(LONGITUDE + random.nextGaussian() * 0.1))
+                .squareFootage(random.nextInt(10) == 0 ? null : 500 + random.nextInt(3000))
+                .numBedrooms(1 + random.nextInt(5))
+                .yearBuilt(1950 + random.nextInt(75))
+                .propertyType(random.nextBoolean() ? "House" : "Condo")
+                .lastSoldPrice(random.nextInt(3) == 0 ? null : BigDecimal.valueOf(100000 + random.nextInt(900000)))
+                .build());
+        }
+
+        // When
+        final List<Valuation> sequential = new ComparablesValuationEngine(8, 3, 20, 1).value(catalogue, VALUED_AT);
+        final List<Valuation> parallel = new ComparablesValuationEngine(8, 3, 20, 4).value(catalogue, VALUED_AT);
+
+        // Then
+        assertThat(parallel).isNotEmpty().isEqualTo(sequential);
+    }
+
+    @Test
+    @DisplayName("Should reject a minimum of comps above the number of comps")
+    void shouldRejectInvalidMinimum() {
+        assertThatThrownBy(() -> new ComparablesValuationEngine(3, 4, 20, 1).value(List.of(), VALUED_AT))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * A 100 square feet, 3 bedroom house of 2000, the given distance north of Sol
+     */
+    private static PropertyListing house(int id, double kmNorth, Integer lastSoldPrice) {
+        return houseBuilder(id, kmNorth, lastSoldPrice).build();
+    }
+
+    private static PropertyListing.PropertyListingBuilder houseBuilder(int id, double kmNorth, Integer lastSoldPrice) {
+        return PropertyListing.builder()
+            .id(id)
+            .name("House " + id)
+            .propertyType("House")
+            .squareFootage(100)
+            .numBedrooms(3)
+            .yearBuilt(2000)
+            .latitude(BigDecimal.valueOf(LATITUDE + kmNorth / KM_PER_DEGREE))
+            .longitude(BigDecimal.valueOf(LONGITUDE))
+            .lastSoldPrice(lastSoldPrice != null ? BigDecimal.valueOf(lastSoldPrice) : null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.springter.realestate.analyser.application.usecases;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.benchmarks.catalogue.SyntheticCatalogue;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-house conversion stage of the search: picking the latest rating of a house
+ * and building a RealEstateProperty from a House aggregate or from a listing projection.
+ *
+ * Lives in the use case package to reach its package-private converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyConversionBenchmark {
+
+    @Param({"1", "5", "50"})
+    public int ratingsPerHouse;
+
+    private FindRealEstatePropertiesUseCaseImpl useCase;
+    private House house;
+    private PropertyListing listing;
+
+    @Setup
+    public void setUp() {
+        // Converters never touch the repository
+        useCase = new FindRealEstatePropertiesUseCaseImpl(null, new ListingSearchIndex(),
+                new SearchMetrics(new SimpleMeterRegistry()));
+        house = SyntheticCatalogue.house(4242, ratingsPerHouse);
+        listing = PropertyListing.from(house);
+    }
+
+    @Benchmark
+    public RatingAnalysis latestRating() {
+        return house.getLatestRating();
+    }
+
+    @Benchmark
+    public RealEstateProperty convertHouseToRealEstateProperty() {
+        return useCase.convertHouseToRealEstateProperty(house);
+    }
+
+    @Benchmark
+    public RealEstateProperty convertListingToRealEstateProperty() {
+        return useCase.convertListingToRealEstateProperty(listing);
+    }
+}
@@ -0,0 +1,42 @@
+package com.springter.realestate.analyser.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar: the JMH command line, with the GC profiler and JSON results
+ * on by default so every run records allocation rates ({@code gc.alloc.rate.norm}) next to
+ * timings in a file that can be compared between runs.
+ *
+ * Explicit {@code -prof} or {@code -rf}/{@code -rff} options replace the defaults.
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue() && !commandLine.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
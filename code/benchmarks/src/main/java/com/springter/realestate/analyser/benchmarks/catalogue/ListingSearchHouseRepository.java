@@ -0,0 +1,79 @@
+package com.springter.realestate.analyser.benchmarks.catalogue;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Base for the in-memory HouseRepository fakes of the benchmarks, which only answer the listing search.
+ * Every other operation fails, so a benchmark reaching one is noticed instead of measuring nothing.
+ */
+public abstract class ListingSearchHouseRepository implements HouseRepository {
+
+    @Override
+    public List<House> findAll() {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<House> findByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<House> findByCriteriaWithLatestRating(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        throw unsupported();
+    }
+
+    @Override
+    public long forEachListingByCriteria(RealEstateSearchCriteria searchCriteria, Consumer<PropertyListing> action) {
+        throw unsupported();
+    }
+
+    @Override
+    public Optional<House> findById(Integer id) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<House> findByCity(String city) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<House> findByPropertyType(String propertyType) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<House> findByListingStatus(String status) {
+        throw unsupported();
+    }
+
+    @Override
+    public House save(House house) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<House> saveAll(Collection<House> houses) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not used by the benchmarks");
+    }
+}
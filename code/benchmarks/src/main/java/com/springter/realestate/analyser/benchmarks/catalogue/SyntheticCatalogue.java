@@ -0,0 +1,84 @@
+package com.springter.realestate.analyser.benchmarks.catalogue;
+
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds deterministic in-memory catalogues for the benchmarks that do not need a database.
+ *
+ * Values rotate the same way as in the seeded database of the persistence benchmarks,
+ * so filters have the same selectivity whichever benchmark they run in.
+ */
+public final class SyntheticCatalogue {
+
+    public static final String[] CITIES = {"Madrid", "Sevilla", "Valencia", "Bilbao"};
+    public static final String[] PROPERTY_TYPES = {"HOUSE", "CONDO", "APARTMENT", "TOWNHOUSE"};
+    public static final String[] HEATING_TYPES = {"GAS", "ELECTRIC", "HEAT_PUMP"};
+
+    private static final OffsetDateTime FIRST_RATING = OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private SyntheticCatalogue() {
+    }
+
+    /**
+     * Listings of houses 1 to {@code houses}, in ID order
+     */
+    public static List<PropertyListing> listings(int houses) {
+        List<PropertyListing> listings = new ArrayList<>(houses);
+        for (int id = 1; id <= houses; id++) {
+            listings.add(listing(id));
+        }
+        return listings;
+    }
+
+    public static PropertyListing listing(int id) {
+        return PropertyListing.from(house(id, 1));
+    }
+
+    /**
+     * A house with its location and a rating history whose latest analysis is in the middle of the list
+     */
+    public static House house(int id, int ratings) {
+        List<RatingAnalysis> ratingAnalyses = new ArrayList<>(ratings);
+        for (int r = 0; r < ratings; r++) {
+            // Oldest first, then the latest, then the rest: the latest rating is never at either end
+            int age = r == ratings / 2 ? 0 : r + 1;
+            ratingAnalyses.add(RatingAnalysis.builder()
+                    .id(id * 100 + r)
+                    .houseId(id)
+                    .overallScore(new BigDecimal("3.50"))
+                    .lastSoldPrice(BigDecimal.valueOf(100_000L + 1_000L * (id % 500) + (ratings - age)))
+                    .ratingTimestamp(FIRST_RATING.plusDays(ratings - age))
+                    .build());
+        }
+        return House.builder()
+                .id(id)
+                .name("House " + id)
+                .listingStatus("FOR_SALE")
+                .yearBuilt(1950 + id % 75)
+                .squareFootage(50 + id % 250)
+                .numBedrooms(1 + id % 5)
+                .numBathrooms(BigDecimal.valueOf(1 + id % 3))
+                .propertyType(PROPERTY_TYPES[id % PROPERTY_TYPES.length])
+                .heatingType(HEATING_TYPES[id % HEATING_TYPES.length])
+                .location(Location.builder()
+                        .id(id)
+                        .streetAddress("Calle " + id)
+                        .city(CITIES[id % CITIES.length])
+                        .zipPostalCode("280" + id % 100)
+                        .schoolRatingAvg(BigDecimal.valueOf(id % 50, 1))
+                        .walkScore(id % 100)
+                        .transitScore((id * 7) % 100)
+                        .build())
+                .ratingAnalyses(ratingAnalyses)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.springter.realestate.analyser.benchmarks.mapping;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springter.realestate.analyser.benchmarks.catalogue.SyntheticCatalogue;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.LocationJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapper;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapperImpl;
+import com.springter.realestate.analyser.mapper.RealEstateMapper;
+import com.springter.realestate.analyser.mapper.RealEstateMapperImpl;
+import com.springter.realestate.analyser.model.RealEstatePageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping stages around the use case, for one page of results:
+ * JPA entities to House aggregates (HousePersistenceMapper), domain page to API response
+ * (RealEstateMapper), and JSON serialization of the response with the application's Jackson defaults.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private static final int RATINGS_PER_HOUSE = 5;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private final HousePersistenceMapper persistenceMapper = new HousePersistenceMapperImpl();
+    private final RealEstateMapper apiMapper = new RealEstateMapperImpl();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<HouseJpa> entities;
+    private Page<RealEstateProperty> page;
+    private RealEstatePageResponse response;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(pageSize);
+        List<RealEstateProperty> properties = new ArrayList<>(pageSize);
+        for (int id = 1; id <= pageSize; id++) {
+            House house = SyntheticCatalogue.house(id, RATINGS_PER_HOUSE);
+            entities.add(toEntity(house));
+            properties.add(toProperty(house));
+        }
+        page = Page.of(properties, PageRequest.of(0, pageSize), 10L * pageSize);
+        response = apiMapper.toPageResponse(page);
+    }
+
+    @Benchmark
+    public List<House> persistenceMapperToDomain() {
+        return persistenceMapper.toDomainList(entities);
+    }
+
+    @Benchmark
+    public RealEstatePageResponse apiMapperToPageResponse() {
+        return apiMapper.toPageResponse(page);
+    }
+
+    @Benchmark
+    public byte[] jsonSerializePageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static HouseJpa toEntity(House house) {
+        LocationJpa location = new LocationJpa();
+        location.setId(house.getLocation().getId());
+        location.setStreetAddress(house.getLocation().getStreetAddress());
+        location.setCity(house.getLocation().getCity());
+        location.setZipPostalCode(house.getLocation().getZipPostalCode());
+        location.setSchoolRatingAvg(house.getLocation().getSchoolRatingAvg());
+        location.setWalkScore(house.getLocation().getWalkScore());
+        location.setTransitScore(house.getLocation().getTransitScore());
+
+        HouseJpa entity = new HouseJpa();
+        entity.setId(house.getId());
+        entity.setLocation(location);
+        entity.setName(house.getName());
+        entity.setListingStatus(house.getListingStatus());
+        entity.setYearBuilt(house.getYearBuilt());
+        entity.setSquareFootage(house.getSquareFootage());
+        entity.setNumBedrooms(house.getNumBedrooms());
+        entity.setNumBathrooms(house.getNumBathrooms());
+        entity.setPropertyType(house.getPropertyType());
+        entity.setHeatingType(house.getHeatingType());
+        List<RatingAnalysisJpa> ratings = new ArrayList<>();
+        for (RatingAnalysis rating : house.getRatingAnalyses()) {
+            RatingAnalysisJpa ratingEntity = new RatingAnalysisJpa();
+            ratingEntity.setId(rating.getId());
+            ratingEntity.setHouse(entity);
+            ratingEntity.setOverallScore(rating.getOverallScore());
+            ratingEntity.setLastSoldPrice(rating.getLastSoldPrice());
+            ratingEntity.setRatingTimestamp(rating.getRatingTimestamp());
+            ratings.add(ratingEntity);
+        }
+        entity.setRatingAnalyses(ratings);
+        return entity;
+    }
+
+    private static RealEstateProperty toProperty(House house) {
+        return RealEstateProperty.builder()
+                .id(house.getId().longValue())
+                .title(house.getName())
+                .description(house.getNumBedrooms() + "-bedroom house in " + house.getLocation().getCity())
+                .location(house.getLocation().getFullAddress())
+                .price(house.getLatestRating().getLastSoldPrice().doubleValue())
+                .propertyType(RealEstateProperty.PropertyType.valueOf(house.getPropertyType()))
+                .bedrooms(house.getNumBedrooms())
+                .bathrooms(house.getNumBathrooms().intValue())
+                .area(house.getSquareFootage().doubleValue())
+                .features(List.of("gas", "walkable"))
+                .createdAt(house.getLatestRating().getRatingTimestamp())
+                .updatedAt(house.getLatestRating().getRatingTimestamp())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.springter.realestate.analyser.benchmarks.persistence;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL database the persistence benchmarks run against.
+ *
+ * A throwaway Testcontainers instance is started unless {@code -Dbenchmark.jdbc.url}
+ * (with {@code benchmark.jdbc.username} and {@code benchmark.jdbc.password}) points
+ * at an existing database. The benchmarks clean its schema and migrate it again.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> container;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private BenchmarkDatabase(PostgreSQLContainer<?> container, String url, String username, String password) {
+        this.container = container;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    static BenchmarkDatabase start() {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url != null) {
+            return new BenchmarkDatabase(null, url,
+                    System.getProperty("benchmark.jdbc.username", "postgres"),
+                    System.getProperty("benchmark.jdbc.password", ""));
+        }
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:16-alpine");
+        container.start();
+        return new BenchmarkDatabase(container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    /**
+     * Spring properties connecting the application context to this database
+     */
+    String[] springProperties() {
+        return new String[] {
+                "spring.datasource.url=" + url,
+                "spring.datasource.username=" + username,
+                "spring.datasource.password=" + password
+        };
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
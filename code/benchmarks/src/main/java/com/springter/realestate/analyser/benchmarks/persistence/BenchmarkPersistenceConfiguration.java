@@ -0,0 +1,43 @@
+package com.springter.realestate.analyser.benchmarks.persistence;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.infrastructure.persistence.adapter.HouseRepositoryImpl;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.JooqHouseRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapper;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.HouseJpaRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.hazelcast.HazelcastAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal application context with only the persistence adapters.
+ * {@code realestate.persistence.engine} decides which HouseRepository is created.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {KafkaAutoConfiguration.class, HazelcastAutoConfiguration.class,
+        R2dbcAutoConfiguration.class})
+@EntityScan(basePackageClasses = HouseJpa.class)
+@EnableJpaRepositories(basePackageClasses = HouseJpaRepository.class)
+@ComponentScan(basePackageClasses = {HouseRepositoryImpl.class, JooqHouseRepository.class, HousePersistenceMapper.class,
+        SearchMetrics.class})
+class BenchmarkPersistenceConfiguration {
+
+    /**
+     * Every trial starts from an empty schema, with the indexes of the current migrations
+     */
+    @Bean
+    FlywayMigrationStrategy cleanMigrationStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
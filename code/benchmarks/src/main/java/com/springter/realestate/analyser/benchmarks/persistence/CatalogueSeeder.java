@@ -0,0 +1,56 @@
+package com.springter.realestate.analyser.benchmarks.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the schema with a deterministic synthetic catalogue.
+ *
+ * Every house gets its own location and the same number of rating analyses,
+ * cities and property types rotate so that filtered queries have a known selectivity.
+ */
+final class CatalogueSeeder {
+
+    static final String[] CITIES = {"Madrid", "Sevilla", "Valencia", "Bilbao"};
+    static final String[] PROPERTY_TYPES = {"HOUSE", "CONDO", "APARTMENT", "TOWNHOUSE"};
+
+    private static final int BATCH_SIZE = 1000;
+    private static final Instant FIRST_RATING = Instant.parse("2020-01-01T00:00:00Z");
+
+    private CatalogueSeeder() {
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int houses, int ratingsPerHouse) {
+        List<Object[]> locations = new ArrayList<>(houses);
+        List<Object[]> houseRows = new ArrayList<>(houses);
+        List<Object[]> ratings = new ArrayList<>(houses * ratingsPerHouse);
+        for (int id = 1; id <= houses; id++) {
+            locations.add(new Object[] {id, "Calle " + id, CITIES[id % CITIES.length], "280" + id % 100, id % 100});
+            houseRows.add(new Object[] {id, id, "House " + id, "FOR_SALE", 1950 + id % 70, 50 + id % 250,
+                    1 + id % 5, PROPERTY_TYPES[id % PROPERTY_TYPES.length]});
+            for (int r = 0; r < ratingsPerHouse; r++) {
+                ratings.add(new Object[] {id, new BigDecimal("3.50"), BigDecimal.valueOf(100_000L + 1_000L * (id % 500) + r),
+                        Timestamp.from(FIRST_RATING.plus(r, ChronoUnit.DAYS))});
+            }
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO public.location (location_id, street_address, city, zip_postal_code, walk_score) "
+                + "VALUES (?, ?, ?, ?, ?)", locations);
+        batchInsert(jdbcTemplate, "INSERT INTO public.house (house_id, location_id, name, listing_status, year_built, "
+                + "square_footage, num_bedrooms, property_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", houseRows);
+        batchInsert(jdbcTemplate, "INSERT INTO public.rating_analysis (house_id, overall_score, last_sold_price, rating_timestamp) "
+                + "VALUES (?, ?, ?, ?)", ratings);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static void batchInsert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.springter.realestate.analyser.benchmarks.persistence;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JPA and jOOQ HouseRepository adapters on the listing queries.
+ *
+ * Each trial boots a persistence-only context for one engine against a seeded PostgreSQL.
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar HouseRepositoryBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HouseRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int RATINGS_PER_HOUSE = 5;
+
+    private static final RealEstateSearchCriteria FILTERED = RealEstateSearchCriteria.builder()
+            .location("sevilla")
+            .propertyType(RealEstateProperty.PropertyType.CONDO)
+            .minPrice(150_000.0)
+            .build();
+
+    @Param({"jpa", "jooq"})
+    public String engine;
+
+    @Param({"10000"})
+    public int houses;
+
+    private BenchmarkDatabase database;
+    private ConfigurableApplicationContext context;
+    private HouseRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        context = new SpringApplicationBuilder(BenchmarkPersistenceConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(database.springProperties())
+                .properties(
+                        "realestate.persistence.engine=" + engine,
+                        "spring.flyway.clean-disabled=false",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+        CatalogueSeeder.seed(context.getBean(JdbcTemplate.class), houses, RATINGS_PER_HOUSE);
+        repository = context.getBean(HouseRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Page<PropertyListing> listingsFirstPage() {
+        return repository.findListingsByCriteria(RealEstateSearchCriteria.noFilter(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<PropertyListing> listingsFiltered() {
+        return repository.findListingsByCriteria(FILTERED, PageRequest.of(2, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<PropertyListing> listingsDeepCursorPage() {
+        return repository.findListingsByCriteria(RealEstateSearchCriteria.noFilter(),
+                PageRequest.after(PageCursor.after(houses - 5L * PAGE_SIZE), PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<House> housesWithLatestRating() {
+        return repository.findByCriteriaWithLatestRating(FILTERED, PageRequest.of(0, PAGE_SIZE));
+    }
+}
@@ -0,0 +1,147 @@
+package com.springter.realestate.analyser.benchmarks.search;
+
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable, column-oriented copy of the listing catalogue, the full-scan baseline of the search benchmarks.
+ *
+ * Each listing attribute is held in its own column: numbers as primitive arrays with a null
+ * bitmap, strings dictionary encoded. Filters return the matching rows as a {@link BitSet},
+ * so a full-catalogue scan touches a few dense arrays instead of one object graph per house.
+ */
+final class CatalogueSnapshot {
+
+    private final int size;
+    private final IntColumn id;
+    private final DictionaryColumn name;
+    private final DictionaryColumn propertyType;
+    private final IntColumn yearBuilt;
+    private final IntColumn squareFootage;
+    private final IntColumn bedrooms;
+    private final DoubleColumn bathrooms;
+    private final DictionaryColumn heatingType;
+    private final DictionaryColumn streetAddress;
+    private final DictionaryColumn city;
+    private final DictionaryColumn stateProvince;
+    private final DictionaryColumn zipPostalCode;
+    private final DoubleColumn schoolRatingAvg;
+    private final IntColumn walkScore;
+    private final IntColumn transitScore;
+    private final DoubleColumn latitude;
+    private final DoubleColumn longitude;
+    private final DoubleColumn lastSoldPrice;
+
+    private CatalogueSnapshot(List<PropertyListing> listings) {
+        this.size = listings.size();
+        this.id = IntColumn.from(listings, PropertyListing::getId);
+        this.name = DictionaryColumn.from(listings, PropertyListing::getName);
+        this.propertyType = DictionaryColumn.from(listings, PropertyListing::getPropertyType);
+        this.yearBuilt = IntColumn.from(listings, PropertyListing::getYearBuilt);
+        this.squareFootage = IntColumn.from(listings, PropertyListing::getSquareFootage);
+        this.bedrooms = IntColumn.from(listings, PropertyListing::getNumBedrooms);
+        this.bathrooms = DoubleColumn.from(listings, PropertyListing::getNumBathrooms);
+        this.heatingType = DictionaryColumn.from(listings, PropertyListing::getHeatingType);
+        this.streetAddress = DictionaryColumn.from(listings, PropertyListing::getStreetAddress);
+        this.city = DictionaryColumn.from(listings, PropertyListing::getCity);
+        this.stateProvince = DictionaryColumn.from(listings, PropertyListing::getStateProvince);
+        this.zipPostalCode = DictionaryColumn.from(listings, PropertyListing::getZipPostalCode);
+        this.schoolRatingAvg = DoubleColumn.from(listings, PropertyListing::getSchoolRatingAvg);
+        this.walkScore = IntColumn.from(listings, PropertyListing::getWalkScore);
+        this.transitScore = IntColumn.from(listings, PropertyListing::getTransitScore);
+        this.latitude = DoubleColumn.from(listings, PropertyListing::getLatitude);
+        this.longitude = DoubleColumn.from(listings, PropertyListing::getLongitude);
+        this.lastSoldPrice = DoubleColumn.from(listings, PropertyListing::getLastSoldPrice);
+    }
+
+    /**
+     * Creates a snapshot of the given listings. Rows keep the iteration order of the collection.
+     */
+    public static CatalogueSnapshot of(Collection<PropertyListing> listings) {
+        return new CatalogueSnapshot(List.copyOf(listings));
+    }
+
+    /**
+     * Selects every row
+     */
+    public BitSet all() {
+        BitSet rows = new BitSet(size);
+        rows.set(0, size);
+        return rows;
+    }
+
+    /**
+     * Selects the rows matching the search criteria, with the same rules as the repositories:
+     * location contained in any address field and property type ignoring case, the latest
+     * sold price within the bounds, and coordinates passing the geo filters
+     */
+    public BitSet matching(RealEstateSearchCriteria criteria) {
+        BitSet rows = all();
+        if (criteria == null) {
+            return rows;
+        }
+        if (criteria.getLocation() != null && !criteria.getLocation().trim().isEmpty()) {
+            String location = criteria.getLocation().trim();
+            BitSet inLocation = streetAddress.containsIgnoreCase(location);
+            inLocation.or(city.containsIgnoreCase(location));
+            inLocation.or(stateProvince.containsIgnoreCase(location));
+            inLocation.or(zipPostalCode.containsIgnoreCase(location));
+            rows.and(inLocation);
+        }
+        if (criteria.getPropertyType() != null) {
+            rows.and(propertyType.equalToIgnoreCase(criteria.getPropertyType().name()));
+        }
+        if (criteria.getMinPrice() != null || criteria.getMaxPrice() != null) {
+            rows.and(lastSoldPrice.between(criteria.getMinPrice(), criteria.getMaxPrice()));
+        }
+        if (criteria.hasGeoFilter()) {
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (latitude.isNull(row) || longitude.isNull(row)
+                        || !criteria.matchesPosition(latitude.get(row), longitude.get(row))) {
+                    rows.clear(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Rebuilds the listing of a row. Decimal values are rebuilt from their double value,
+     * so they compare equal to the original ones but may have a different scale.
+     */
+    public PropertyListing listing(int row) {
+        return PropertyListing.builder()
+                .id(id.get(row))
+                .name(name.get(row))
+                .propertyType(propertyType.get(row))
+                .yearBuilt(yearBuilt.get(row))
+                .squareFootage(squareFootage.get(row))
+                .numBedrooms(bedrooms.get(row))
+                .numBathrooms(decimal(bathrooms.get(row)))
+                .heatingType(heatingType.get(row))
+                .streetAddress(streetAddress.get(row))
+                .city(city.get(row))
+                .stateProvince(stateProvince.get(row))
+                .zipPostalCode(zipPostalCode.get(row))
+                .schoolRatingAvg(decimal(schoolRatingAvg.get(row)))
+                .walkScore(walkScore.get(row))
+                .transitScore(transitScore.get(row))
+                .latitude(decimal(latitude.get(row)))
+                .longitude(decimal(longitude.get(row)))
+                .lastSoldPrice(decimal(lastSoldPrice.get(row)))
+                .build();
+    }
+
+    public IntColumn id() {
+        return id;
+    }
+
+    private static BigDecimal decimal(Double value) {
+        return value != null ? BigDecimal.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.springter.realestate.analyser.benchmarks.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable column of nullable strings, dictionary encoded: every distinct value is stored
+ * once and rows hold its code. Predicates are evaluated once per distinct value, not per row.
+ */
+final class DictionaryColumn {
+
+    private static final int NULL_CODE = -1;
+
+    private final int[] codes;
+    private final String[] dictionary;
+
+    private DictionaryColumn(int[] codes, String[] dictionary) {
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Builds a column from one value per row
+     */
+    public static <T> DictionaryColumn from(List<T> rows, Function<? super T, String> getter) {
+        int[] codes = new int[rows.size()];
+        Map<String, Integer> codeByValue = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        for (int row = 0; row < codes.length; row++) {
+            String value = getter.apply(rows.get(row));
+            codes[row] = value == null ? NULL_CODE : codeByValue.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+        return new DictionaryColumn(codes, dictionary.toArray(String[]::new));
+    }
+
+    /**
+     * Gets the value of a row, or null if the row has no value
+     */
+    public String get(int row) {
+        return codes[row] == NULL_CODE ? null : dictionary[codes[row]];
+    }
+
+    /**
+     * Selects the rows with a value matching the predicate. Rows without a value never match.
+     */
+    public BitSet where(Predicate<String> predicate) {
+        boolean[] matchingCodes = new boolean[dictionary.length];
+        boolean any = false;
+        for (int code = 0; code < dictionary.length; code++) {
+            matchingCodes[code] = predicate.test(dictionary[code]);
+            any |= matchingCodes[code];
+        }
+        BitSet rows = new BitSet(codes.length);
+        if (!any) {
+            return rows;
+        }
+        for (int row = 0; row < codes.length; row++) {
+            if (codes[row] != NULL_CODE && matchingCodes[codes[row]]) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Selects the rows whose value equals the given one, ignoring case
+     */
+    public BitSet equalToIgnoreCase(String value) {
+        return where(value::equalsIgnoreCase);
+    }
+
+    /**
+     * Selects the rows whose value contains the given text, ignoring case
+     */
+    public BitSet containsIgnoreCase(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        return where(value -> value.toLowerCase(Locale.ROOT).contains(lowerCaseText));
+    }
+}
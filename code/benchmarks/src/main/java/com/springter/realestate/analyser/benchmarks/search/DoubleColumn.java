@@ -0,0 +1,70 @@
+package com.springter.realestate.analyser.benchmarks.search;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+
+/**
+ * Immutable column of nullable decimal values, stored as primitive doubles and a null bitmap
+ */
+final class DoubleColumn {
+
+    private final double[] values;
+    private final BitSet nulls;
+
+    private DoubleColumn(double[] values, BitSet nulls) {
+        this.values = values;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Builds a column from one value per row
+     */
+    public static <T> DoubleColumn from(List<T> rows, Function<? super T, ? extends Number> getter) {
+        double[] values = new double[rows.size()];
+        BitSet nulls = new BitSet(rows.size());
+        for (int row = 0; row < values.length; row++) {
+            Number value = getter.apply(rows.get(row));
+            if (value == null) {
+                nulls.set(row);
+            } else {
+                values[row] = value.doubleValue();
+            }
+        }
+        return new DoubleColumn(values, nulls);
+    }
+
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    /**
+     * Gets the value of a row, or null if the row has no value
+     */
+    public Double get(int row) {
+        return nulls.get(row) ? null : values[row];
+    }
+
+    /**
+     * Selects the rows with a value matching the predicate. Rows without a value never match.
+     */
+    public BitSet where(DoublePredicate predicate) {
+        BitSet rows = new BitSet(values.length);
+        for (int row = 0; row < values.length; row++) {
+            if (predicate.test(values[row]) && !nulls.get(row)) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Selects the rows with a value within the bounds, both inclusive. A null bound is unbounded.
+     */
+    public BitSet between(Double min, Double max) {
+        double lower = min != null ? min : Double.NEGATIVE_INFINITY;
+        double upper = max != null ? max : Double.POSITIVE_INFINITY;
+        return where(value -> value >= lower && value <= upper);
+    }
+}
@@ -0,0 +1,109 @@
+package com.springter.realestate.analyser.benchmarks.search;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.application.usecases.FindRealEstatePropertiesUseCaseImpl;
+import com.springter.realestate.analyser.benchmarks.catalogue.SyntheticCatalogue;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FindRealEstatePropertiesUseCaseImpl#findProperties} end to end over synthetic
+ * in-memory catalogues, without caching.
+ *
+ * The {@code index} engine answers from a loaded {@link ListingSearchIndex}; the {@code scan} engine
+ * falls back to a repository that filters a {@link CatalogueSnapshot} with a full scan, the way the
+ * use case filtered the whole catalogue before filtering moved to the data store.
+ * {@link #filterOnly} measures the filtering stage alone, without converting the page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindPropertiesBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final RealEstateSearchCriteria FILTERED = RealEstateSearchCriteria.builder()
+            .location("sevilla")
+            .propertyType(RealEstateProperty.PropertyType.CONDO)
+            .minPrice(150_000.0)
+            .build();
+
+    private static final RealEstateSearchCriteria BY_STREET = RealEstateSearchCriteria.builder()
+            .location("calle 12")
+            .build();
+
+    @Param({"10000", "100000", "1000000"})
+    public int houses;
+
+    @Param({"index", "scan"})
+    public String engine;
+
+    private HouseRepository repository;
+    private ListingSearchIndex index;
+    private FindRealEstatePropertiesUseCase useCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PropertyListing> catalogue = SyntheticCatalogue.listings(houses);
+        repository = new SnapshotHouseRepository(CatalogueSnapshot.of(catalogue));
+        index = new ListingSearchIndex();
+        if ("index".equals(engine)) {
+            index.load(catalogue);
+        }
+        useCase = new FindRealEstatePropertiesUseCaseImpl(repository, index, new SearchMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Page<RealEstateProperty> firstPage() {
+        return useCase.findProperties(RealEstateSearchCriteria.noFilter(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<RealEstateProperty> filtered() {
+        return useCase.findProperties(FILTERED, PageRequest.of(2, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<RealEstateProperty> byStreet() {
+        return useCase.findProperties(BY_STREET, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<RealEstateProperty> deepCursorPage() {
+        return useCase.findProperties(RealEstateSearchCriteria.noFilter(),
+                PageRequest.after(PageCursor.after(houses - 5L * PAGE_SIZE), PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<PropertyListing> filterOnly() {
+        return index.isReady() ?
+                index.search(FILTERED, PageRequest.of(2, PAGE_SIZE)) :
+                repository.findListingsByCriteria(FILTERED, PageRequest.of(2, PAGE_SIZE));
+    }
+}
@@ -0,0 +1,43 @@
+package com.springter.realestate.analyser.benchmarks.search;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable column of nullable whole numbers, stored as primitive ints and a null bitmap
+ */
+final class IntColumn {
+
+    private final int[] values;
+    private final BitSet nulls;
+
+    private IntColumn(int[] values, BitSet nulls) {
+        this.values = values;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Builds a column from one value per row
+     */
+    public static <T> IntColumn from(List<T> rows, Function<? super T, Integer> getter) {
+        int[] values = new int[rows.size()];
+        BitSet nulls = new BitSet(rows.size());
+        for (int row = 0; row < values.length; row++) {
+            Integer value = getter.apply(rows.get(row));
+            if (value == null) {
+                nulls.set(row);
+            } else {
+                values[row] = value;
+            }
+        }
+        return new IntColumn(values, nulls);
+    }
+
+    /**
+     * Gets the value of a row, or null if the row has no value
+     */
+    public Integer get(int row) {
+        return nulls.get(row) ? null : values[row];
+    }
+}
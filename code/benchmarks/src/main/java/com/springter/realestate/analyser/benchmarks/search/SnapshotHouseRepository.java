@@ -0,0 +1,61 @@
+package com.springter.realestate.analyser.benchmarks.search;
+
+import com.springter.realestate.analyser.benchmarks.catalogue.ListingSearchHouseRepository;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * HouseRepository answering listing searches with a full scan of a {@link CatalogueSnapshot},
+ * the in-memory baseline for the search index. Rows must be in house ID order.
+ */
+final class SnapshotHouseRepository extends ListingSearchHouseRepository {
+
+    private final CatalogueSnapshot snapshot;
+
+    SnapshotHouseRepository(CatalogueSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Page<PropertyListing> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        BitSet rows = snapshot.matching(searchCriteria);
+        int size = pageRequest.getSize();
+        List<PropertyListing> content = new ArrayList<>(size);
+
+        if (pageRequest.isKeyset()) {
+            long lastId = pageRequest.getCursor().getLastId();
+            int row = rows.nextSetBit(0);
+            while (row >= 0 && snapshot.id().get(row) <= lastId) {
+                row = rows.nextSetBit(row + 1);
+            }
+            for (; row >= 0 && content.size() <= size; row = rows.nextSetBit(row + 1)) {
+                content.add(snapshot.listing(row));
+            }
+            boolean hasNext = content.size() > size;
+            List<PropertyListing> page = hasNext ? content.subList(0, size) : content;
+            return Page.keyset(page, pageRequest, hasNext ? cursorAfter(page) : null);
+        }
+
+        long totalElements = rows.cardinality();
+        int row = rows.nextSetBit(0);
+        for (long skipped = 0; row >= 0 && skipped < pageRequest.getOffset(); skipped++) {
+            row = rows.nextSetBit(row + 1);
+        }
+        for (; row >= 0 && content.size() < size; row = rows.nextSetBit(row + 1)) {
+            content.add(snapshot.listing(row));
+        }
+        boolean hasNext = pageRequest.getOffset() + content.size() < totalElements;
+        return Page.of(content, pageRequest, totalElements, hasNext ? cursorAfter(content) : null);
+    }
+
+    private static PageCursor cursorAfter(List<PropertyListing> content) {
+        return content.isEmpty() ? null : PageCursor.after(content.get(content.size() - 1).getId());
+    }
+}
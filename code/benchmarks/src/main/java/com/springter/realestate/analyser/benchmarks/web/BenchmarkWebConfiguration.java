@@ -0,0 +1,52 @@
+package com.springter.realestate.analyser.benchmarks.web;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.application.usecases.FindRealEstatePropertiesUseCaseImpl;
+import com.springter.realestate.analyser.controller.RealEstateController;
+import com.springter.realestate.analyser.domain.usecases.FindRealEstatePropertiesUseCase;
+import com.springter.realestate.analyser.mapper.RealEstateMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+
+/**
+ * Minimal web application serving the listing search through the real controller, use case
+ * and mappers, over a {@link SlowHouseRepository}. No security, caching or database.
+ * {@code spring.threads.virtual.enabled} decides whether Tomcat runs requests on virtual threads.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        JacksonAutoConfiguration.class})
+@Import({RealEstateController.class, RealEstateMapperImpl.class})
+class BenchmarkWebConfiguration {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    FindRealEstatePropertiesUseCase findRealEstatePropertiesUseCase(MeterRegistry meterRegistry,
+                                                                    @Value("${benchmark.query-latency}") Duration queryLatency) {
+        return new FindRealEstatePropertiesUseCaseImpl(new SlowHouseRepository(queryLatency), new ListingSearchIndex(),
+                new SearchMetrics(meterRegistry));
+    }
+}
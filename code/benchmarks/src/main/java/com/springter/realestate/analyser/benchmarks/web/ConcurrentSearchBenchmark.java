@@ -0,0 +1,124 @@
+package com.springter.realestate.analyser.benchmarks.web;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of {@code GET /realestate} when every search blocks on a slow query, with Tomcat on
+ * its platform thread pool or on virtual threads.
+ *
+ * Each invocation fires {@code concurrency} requests at once and waits for all of them; the
+ * {@code requests} counter reports the resulting requests per second. With platform threads at
+ * most {@code server.tomcat.threads.max} requests wait on their query at a time and the rest
+ * queue behind them; with virtual threads they all wait together.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConcurrentSearchBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000"})
+    public int concurrency;
+
+    @Param({"50ms"})
+    public String queryLatency;
+
+    private ServletWebServerApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private HttpRequest request;
+
+    /**
+     * Requests completed, reported per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(BenchmarkWebConfiguration.class)
+                .web(WebApplicationType.SERVLET)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=200",
+                        // Let every client connection in at once and keep it open between bursts
+                        "server.tomcat.accept-count=" + concurrency,
+                        "server.tomcat.max-keep-alive-requests=-1",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(threads),
+                        "benchmark.query-latency=" + queryLatency,
+                        "logging.level.root=WARN")
+                .run();
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        request = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + context.getWebServer().getPort() + "/realestate?size=20&location=madrid"))
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public void searchBurst(Requests counter) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("Search failed with status " + status);
+            }
+            counter.requests++;
+        }
+    }
+}
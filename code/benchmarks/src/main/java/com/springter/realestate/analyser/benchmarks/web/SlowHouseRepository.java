@@ -0,0 +1,42 @@
+package com.springter.realestate.analyser.benchmarks.web;
+
+import com.springter.realestate.analyser.benchmarks.catalogue.ListingSearchHouseRepository;
+import com.springter.realestate.analyser.benchmarks.catalogue.SyntheticCatalogue;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * HouseRepository whose listing search blocks for a fixed latency, like a slow query would,
+ * then returns a page of synthetic listings.
+ */
+final class SlowHouseRepository extends ListingSearchHouseRepository {
+
+    private static final int CATALOGUE_SIZE = 10_000;
+
+    private final Duration latency;
+
+    SlowHouseRepository(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Page<PropertyListing> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying", e);
+        }
+        int first = (int) pageRequest.getOffset() + 1;
+        List<PropertyListing> content = IntStream.range(first, first + pageRequest.getSize())
+                .mapToObj(SyntheticCatalogue::listing)
+                .toList();
+        return Page.of(content, pageRequest, CATALOGUE_SIZE);
+    }
+}
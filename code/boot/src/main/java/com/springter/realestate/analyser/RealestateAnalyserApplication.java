@@ -1,7 +1,9 @@
 package com.springter.realestate.analyser;
 
+import com.springter.realestate.analyser.cli.ListingSnapshotLoadRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class RealestateAnalyserApplication {
@@ -14,7 +16,11 @@ public class RealestateAnalyserApplication {
 				"   Starting application...\n" +
 				"🏠 ================================================== 🏠\n");
 		
-		SpringApplication.run(RealestateAnalyserApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(RealestateAnalyserApplication.class, args);
+		if (context.getEnvironment().matchesProfiles(ListingSnapshotLoadRunner.PROFILE)) {
+			// Command-line mode: the snapshot is loaded, nothing is left to serve
+			System.exit(SpringApplication.exit(context));
+		}
 		
 		System.out.println("\n" +
 				"✅ ================================================== ✅\n" +
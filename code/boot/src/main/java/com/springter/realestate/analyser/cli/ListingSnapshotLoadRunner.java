@@ -0,0 +1,34 @@
+package com.springter.realestate.analyser.cli;
+
+import com.springter.realestate.analyser.domain.usecases.LoadListingSnapshotUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command-line mode loading a listing snapshot into the database, then stopping the application:
+ * {@code java -jar realestate-analyser-boot.jar --spring.profiles.active=snapshot-load --file=listings.csv}
+ */
+@Component
+@Profile(ListingSnapshotLoadRunner.PROFILE)
+@RequiredArgsConstructor
+public class ListingSnapshotLoadRunner implements ApplicationRunner {
+
+    public static final String PROFILE = "snapshot-load";
+
+    private final LoadListingSnapshotUseCase loadListingSnapshotUseCase;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues("file");
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("Missing the snapshot to load, pass it with --file=<path>");
+        }
+        files.forEach(file -> loadListingSnapshotUseCase.load(Path.of(file)));
+    }
+}
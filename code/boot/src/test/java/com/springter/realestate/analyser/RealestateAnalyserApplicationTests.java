@@ -1,6 +1,9 @@
 package com.springter.realestate.analyser;
 
 import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.HouseJpaRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.RatingAnalysisJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.jooq.DSLContext;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -10,15 +13,24 @@ import org.springframework.test.context.TestPropertySource;
 @TestPropertySource(properties = {
 		"spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
 				"org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
-				"org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration," +
+				"org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration," +
 				"org.springframework.ai.autoconfigure.openai.OpenAiAutoConfiguration"
 })
 class RealestateAnalyserApplicationTests {
 
-	// Mock the JPA repository so Spring doesn't try to create a real database connection
+	// Mock the JPA repositories so Spring doesn't try to create a real database connection
 	@MockBean
 	private HouseJpaRepository houseJpaRepository;
 
+	@MockBean
+	private RatingAnalysisJpaRepository ratingAnalysisJpaRepository;
+
+	@MockBean
+	private EntityManager entityManager;
+
+	@MockBean
+	private DSLContext dslContext;
+
 	@Test
 	void contextLoads() {
 		// This test verifies that the Spring Boot application context loads successfully
@@ -0,0 +1,30 @@
+package com.springter.realestate.analyser.domain.analytics;
+
+/**
+ * The segments the market statistics are computed for.
+ */
+public enum MarketGrouping {
+
+    /**
+     * One segment per city
+     */
+    CITY,
+
+    /**
+     * One segment per property type
+     */
+    PROPERTY_TYPE,
+
+    /**
+     * One segment per city and property type
+     */
+    CITY_AND_PROPERTY_TYPE;
+
+    public boolean byCity() {
+        return this != PROPERTY_TYPE;
+    }
+
+    public boolean byPropertyType() {
+        return this != CITY;
+    }
+}
@@ -0,0 +1,47 @@
+package com.springter.realestate.analyser.domain.analytics;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Price and time on market statistics of a market segment, from the latest rating analysis of each house.
+ *
+ * Percentiles interpolate between the two nearest values. Statistics of a segment without
+ * any value to compute them from are null.
+ */
+@Value
+@Builder
+public class MarketStatistics {
+
+    /**
+     * City of the segment, null when not grouped by city
+     */
+    String city;
+
+    /**
+     * Property type of the segment in upper case, null when not grouped by property type or unknown
+     */
+    String propertyType;
+
+    long listingCount;
+
+    /**
+     * Number of listings whose latest rating analysis has a last sold price
+     */
+    long pricedCount;
+
+    Double priceP25;
+    Double medianPrice;
+    Double priceP75;
+    Double priceP90;
+
+    Double medianPricePerSqft;
+
+    Double averageDaysOnMarket;
+
+    /**
+     * Fraction of the rated listings that are stale, see
+     * {@link com.springter.realestate.analyser.domain.house.RatingAnalysis#isStaleProperty()}
+     */
+    Double staleShare;
+}
@@ -0,0 +1,48 @@
+package com.springter.realestate.analyser.domain.analytics;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.YearMonth;
+
+/**
+ * Price and time on market statistics of the rating analyses of a city and property type
+ * made in a month (UTC), read from the precomputed market summary.
+ *
+ * Statistics without any value to compute them from are null.
+ */
+@Value
+@Builder
+public class MarketSummary {
+
+    String city;
+
+    /**
+     * Property type in upper case, null when unknown
+     */
+    String propertyType;
+
+    YearMonth month;
+
+    long analysisCount;
+
+    /**
+     * Number of analyses having a last sold price
+     */
+    long pricedCount;
+
+    Double minPrice;
+    Double averagePrice;
+    Double medianPrice;
+    Double maxPrice;
+
+    Double medianPricePerSqft;
+
+    Double averageDaysOnMarket;
+
+    /**
+     * Number of analyses of stale properties, see
+     * {@link com.springter.realestate.analyser.domain.house.RatingAnalysis#isStaleProperty()}
+     */
+    long staleCount;
+}
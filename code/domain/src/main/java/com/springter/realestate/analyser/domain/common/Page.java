@@ -4,15 +4,21 @@ import lombok.Builder;
 import lombok.Value;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Domain-specific page response object.
  * Independent of any framework-specific pagination classes.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class Page<T> {
     
+    /**
+     * Marker for pages whose total element count was not computed (keyset pagination)
+     */
+    public static final long UNKNOWN_TOTAL = -1;
+    
     /**
      * The content of this page
      */
@@ -33,10 +39,25 @@ public class Page<T> {
      */
     long totalElements;
     
+    /**
+     * Cursor to fetch the following page with, or null if this is the last page
+     */
+    PageCursor nextCursor;
+    
+    /**
+     * Checks if the total element count is known for this page
+     */
+    public boolean isTotalKnown() {
+        return totalElements != UNKNOWN_TOTAL;
+    }
+    
     /**
      * Gets the total number of pages
      */
     public int getTotalPages() {
+        if (!isTotalKnown()) {
+            return -1;
+        }
         if (size == 0) {
             return totalElements > 0 ? 1 : 0;
         }
@@ -61,6 +82,9 @@ public class Page<T> {
      * Checks if this is the last page
      */
     public boolean isLast() {
+        if (!isTotalKnown()) {
+            return nextCursor == null;
+        }
         return page >= getTotalPages() - 1;
     }
     
@@ -78,6 +102,19 @@ public class Page<T> {
         return page > 0;
     }
     
+    /**
+     * Converts the content of this page, keeping the pagination metadata
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> converter) {
+        return Page.<R>builder()
+                .content(content != null ? content.stream().<R>map(converter).toList() : List.of())
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
     /**
      * Creates an empty page
      */
@@ -101,4 +138,24 @@ public class Page<T> {
                 .totalElements(totalElements)
                 .build();
     }
+    
+    /**
+     * Creates a page with content and a cursor to the following page
+     */
+    public static <T> Page<T> of(List<T> content, PageRequest pageRequest, long totalElements, PageCursor nextCursor) {
+        return Page.<T>builder()
+                .content(content)
+                .page(pageRequest.getPage())
+                .size(pageRequest.getSize())
+                .totalElements(totalElements)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Creates a keyset page, for which the total element count is not computed
+     */
+    public static <T> Page<T> keyset(List<T> content, PageRequest pageRequest, PageCursor nextCursor) {
+        return of(content, pageRequest, UNKNOWN_TOTAL, nextCursor);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.springter.realestate.analyser.domain.common;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Domain-specific keyset pagination cursor.
+ *
+ * Points just past the last element of a page, so the next page can be
+ * fetched by seeking on the ordering key instead of skipping an offset.
+ * Listings are ordered by house ID, which makes the primary key index the
+ * seek key. Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+@Value
+public class PageCursor {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    /**
+     * The ID of the last element returned on the previous page, within the range of house IDs
+     * {@code [0, Integer.MAX_VALUE]}
+     */
+    long lastId;
+
+    /**
+     * Creates a cursor pointing after the given ID
+     */
+    public static PageCursor after(long lastId) {
+        return new PageCursor(lastId);
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}
+     *
+     * @param token The opaque cursor token
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed, or its ID is not a house ID
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor must not be empty");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION_PREFIX)) {
+                throw new IllegalArgumentException("Unsupported cursor: " + token);
+            }
+            long lastId = Long.parseLong(raw.substring(VERSION_PREFIX.length()));
+            if (lastId < 0 || lastId > Integer.MAX_VALUE) {
+                // Adapters seek on an int key, a wider ID would wrap around to another page
+                throw new IllegalArgumentException("Cursor out of range: " + token);
+            }
+            return new PageCursor(lastId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
@@ -23,6 +23,18 @@ public class PageRequest {
     @Builder.Default
     int size = 20;
     
+    /**
+     * The keyset cursor to continue from, or null for offset pagination
+     */
+    PageCursor cursor;
+    
+    /**
+     * Checks if this request seeks past a cursor instead of skipping an offset
+     */
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+    
     /**
      * Gets the offset for database queries
      */
@@ -46,4 +58,14 @@ public class PageRequest {
                 .size(Math.max(1, size))
                 .build();
     }
+    
+    /**
+     * Creates a keyset page request continuing after the given cursor
+     */
+    public static PageRequest after(PageCursor cursor, int size) {
+        return builder()
+                .size(Math.max(1, size))
+                .cursor(cursor)
+                .build();
+    }
 }
\ No newline at end of file
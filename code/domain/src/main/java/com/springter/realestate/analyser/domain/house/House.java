@@ -12,7 +12,7 @@ import java.util.List;
  * This is framework-independent and contains only business logic.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class House {
     
     Integer id;
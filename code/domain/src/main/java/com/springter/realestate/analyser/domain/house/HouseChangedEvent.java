@@ -0,0 +1,47 @@
+package com.springter.realestate.analyser.domain.house;
+
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import lombok.Value;
+
+/**
+ * Published by repositories after a house has been saved or deleted,
+ * so read models derived from the catalogue can update themselves.
+ */
+@Value
+public class HouseChangedEvent {
+
+    Integer houseId;
+
+    /**
+     * The listing view of the saved house, or null if the house was deleted
+     */
+    PropertyListing listing;
+
+    /**
+     * Creates the event for a house that was created or updated
+     */
+    public static HouseChangedEvent saved(House house) {
+        return new HouseChangedEvent(house.getId(), PropertyListing.from(house));
+    }
+
+    /**
+     * Creates the event for a house that was created or updated, from its reloaded listing
+     */
+    public static HouseChangedEvent saved(PropertyListing listing) {
+        return new HouseChangedEvent(listing.getId(), listing);
+    }
+
+    /**
+     * Creates the event for a house that was deleted
+     */
+    public static HouseChangedEvent deleted(Integer houseId) {
+        return new HouseChangedEvent(houseId, null);
+    }
+
+    /**
+     * Checks if the house was deleted
+     */
+    public boolean isDeleted() {
+        return listing == null;
+    }
+}
@@ -11,8 +11,13 @@ import java.time.OffsetDateTime;
  * This is framework-independent and contains only business logic.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class RatingAnalysis {
+
+    /**
+     * Days on market beyond which a property is stale
+     */
+    public static final int STALE_DAYS_ON_MARKET = 90;
     
     Integer id;
     Integer houseId; // Reference to house ID instead of full object to avoid circular dependency
@@ -55,6 +60,6 @@ public class RatingAnalysis {
      * Checks if the property has been on market for a long time
      */
     public boolean isStaleProperty() {
-        return timeOnMarketDays != null && timeOnMarketDays > 90;
+        return timeOnMarketDays != null && timeOnMarketDays > STALE_DAYS_ON_MARKET;
     }
 }
\ No newline at end of file
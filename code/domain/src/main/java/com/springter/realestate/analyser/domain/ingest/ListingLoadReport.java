@@ -0,0 +1,21 @@
+package com.springter.realestate.analyser.domain.ingest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Outcome of loading a listing snapshot: the lines read from the file and the rows
+ * inserted or updated in each table.
+ */
+@Value
+@Builder
+public class ListingLoadReport {
+
+    long lines;
+    int locations;
+    int houses;
+    int ratingAnalyses;
+    Duration elapsed;
+}
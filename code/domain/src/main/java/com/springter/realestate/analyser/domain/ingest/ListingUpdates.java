@@ -0,0 +1,67 @@
+package com.springter.realestate.analyser.domain.ingest;
+
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A batch of location, house and rating analysis updates received from an upstream
+ * system of record, identified by the IDs that system assigned.
+ *
+ * Each update carries the full new state of its row. Houses reference their location,
+ * and rating analyses their house, by ID only.
+ */
+@Value
+@Builder
+public class ListingUpdates {
+
+    @Builder.Default
+    List<Location> locations = List.of();
+
+    @Builder.Default
+    List<House> houses = List.of();
+
+    @Builder.Default
+    List<RatingAnalysis> ratingAnalyses = List.of();
+
+    /**
+     * Keeps only the last update of each row, so every row is written once per batch.
+     * Updates must be given in the order they were produced.
+     */
+    public ListingUpdates deduplicated() {
+        return new ListingUpdates(
+                lastById(locations, Location::getId),
+                lastById(houses, House::getId),
+                lastById(ratingAnalyses, RatingAnalysis::getId));
+    }
+
+    /**
+     * Gets the number of updates in the batch
+     */
+    public int size() {
+        return locations.size() + houses.size() + ratingAnalyses.size();
+    }
+
+    /**
+     * Checks if the batch has no update at all
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private static <T> List<T> lastById(Collection<T> updates, Function<T, Integer> id) {
+        Map<Integer, T> last = new LinkedHashMap<>();
+        for (T update : updates) {
+            last.put(id.apply(update), update);
+        }
+        return List.copyOf(last.values());
+    }
+}
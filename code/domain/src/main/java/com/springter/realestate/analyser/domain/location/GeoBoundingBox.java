@@ -0,0 +1,80 @@
+package com.springter.realestate.analyser.domain.location;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * An area between two parallels and two meridians, e.g. the viewport of a map, in decimal degrees.
+ * A box whose west edge is east of its east edge crosses the antimeridian.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoBoundingBox {
+
+    double south;
+    double west;
+    double north;
+    double east;
+
+    /**
+     * Creates a box from its edges, rejecting a south edge north of the north edge
+     */
+    public static GeoBoundingBox of(double south, double west, double north, double east) {
+        GeoPoint.of(south, west);
+        GeoPoint.of(north, east);
+        if (south > north) {
+            throw new IllegalArgumentException("South edge " + south + " is north of the north edge " + north);
+        }
+        return new GeoBoundingBox(south, west, north, east);
+    }
+
+    public boolean crossesAntimeridian() {
+        return west > east;
+    }
+
+    /**
+     * Checks if the given position is within the box, edges included
+     */
+    public boolean contains(double latitude, double longitude) {
+        if (latitude < south || latitude > north) {
+            return false;
+        }
+        return crossesAntimeridian() ?
+                longitude >= west || longitude <= east :
+                longitude >= west && longitude <= east;
+    }
+
+    /**
+     * Gets the point halfway between the edges
+     */
+    public GeoPoint center() {
+        double longitude = west + width() / 2;
+        return GeoPoint.of((south + north) / 2, longitude > 180 ? longitude - 360 : longitude);
+    }
+
+    /**
+     * Gets the distance from the center within which the whole box lies, in kilometres.
+     * Along a parallel the distance grows with the difference of longitude, so the farthest point
+     * is on the west or east edge. Along those meridians it is farthest at a corner, unless the box
+     * is wider than a hemisphere: the edges then pass a farthest point, found where the derivative
+     * of the distance along the meridian vanishes.
+     */
+    public double coveringRadiusKm() {
+        GeoPoint center = center();
+        double farthest = Math.max(
+                Math.max(center.distanceKm(south, west), center.distanceKm(south, east)),
+                Math.max(center.distanceKm(north, west), center.distanceKm(north, east)));
+        double farSide = -Math.cos(Math.toRadians(width() / 2));
+        if (farSide > 0) {
+            double latitude = Math.toDegrees(Math.atan(-Math.tan(Math.toRadians(center.getLatitude())) / farSide));
+            latitude = Math.max(south, Math.min(north, latitude));
+            farthest = Math.max(farthest, Math.max(center.distanceKm(latitude, west), center.distanceKm(latitude, east)));
+        }
+        return farthest;
+    }
+
+    private double width() {
+        return crossesAntimeridian() ? east + 360 - west : east - west;
+    }
+}
@@ -0,0 +1,54 @@
+package com.springter.realestate.analyser.domain.location;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * A position on the earth, in decimal degrees.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoPoint {
+
+    /**
+     * Radius of the sphere distances are measured on, in kilometres. The one of PostgreSQL's
+     * earthdistance module, so distances computed in memory agree with those of the database.
+     */
+    public static final double EARTH_RADIUS_KM = 6378.168;
+
+    double latitude;
+    double longitude;
+
+    /**
+     * Creates a point, rejecting a latitude outside [-90, 90] or a longitude outside [-180, 180]
+     */
+    public static GeoPoint of(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Latitude must be within [-90, 90]: " + latitude);
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Longitude must be within [-180, 180]: " + longitude);
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+
+    /**
+     * Gets the great-circle distance to the given position, in kilometres
+     */
+    public double distanceKm(double latitude, double longitude) {
+        double dLat = Math.toRadians(latitude - this.latitude);
+        double dLon = Math.toRadians(longitude - this.longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Gets the great-circle distance to the given point, in kilometres
+     */
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(other.latitude, other.longitude);
+    }
+}
@@ -10,7 +10,7 @@ import java.math.BigDecimal;
  * This is framework-independent and contains only business logic.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class Location {
     
     Integer id;
@@ -28,6 +28,13 @@ public class Location {
      * Gets the full address as a single string
      */
     public String getFullAddress() {
+        return formatAddress(streetAddress, city, stateProvince, zipPostalCode);
+    }
+    
+    /**
+     * Formats address parts as "street, city, state zip", skipping missing parts
+     */
+    public static String formatAddress(String streetAddress, String city, String stateProvince, String zipPostalCode) {
         StringBuilder address = new StringBuilder();
         
         if (streetAddress != null) address.append(streetAddress);
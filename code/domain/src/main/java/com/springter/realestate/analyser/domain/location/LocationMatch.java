@@ -0,0 +1,17 @@
+package com.springter.realestate.analyser.domain.location;
+
+import lombok.Value;
+
+/**
+ * A location found by a location search, with how well its address matches the searched text.
+ */
+@Value
+public class LocationMatch {
+
+    Location location;
+
+    /**
+     * Similarity between the searched text and the address, from 0 (nothing in common) to 1
+     */
+    double score;
+}
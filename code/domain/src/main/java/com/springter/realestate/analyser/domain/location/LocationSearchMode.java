@@ -0,0 +1,19 @@
+package com.springter.realestate.analyser.domain.location;
+
+/**
+ * How a location search matches the searched text against the address of a location.
+ */
+public enum LocationSearchMode {
+
+    /**
+     * The street, city, state or zip code contains the text, ignoring case,
+     * like the location filter of the listing search
+     */
+    CONTAINS,
+
+    /**
+     * The address is similar to the text, tolerating typos and partial words,
+     * the most similar addresses first
+     */
+    BEST_MATCH
+}
@@ -0,0 +1,97 @@
+package com.springter.realestate.analyser.domain.location;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * The Web Mercator tiles of one zoom level, as drawn by slippy maps: 2^zoom columns from the
+ * antimeridian eastwards and 2^zoom rows from the north edge southwards. The grid ends at about
+ * 85.05 degrees of latitude, positions nearer the poles fall in its first or last row.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TileGrid {
+
+    public static final int MAX_ZOOM = 24;
+
+    /**
+     * Latitude of the north edge of the grid, where the map is as tall as it is wide
+     */
+    public static final double MAX_LATITUDE = 85.05112877980659;
+
+    /**
+     * Most cells a viewport is clustered into, e.g. 64 x 64 cells of 64 pixels on a 4K screen
+     */
+    public static final int MAX_VIEWPORT_CELLS = 4096;
+
+    /**
+     * Zoom levels between a map tile and the cells clustering it: 4 x 4 cells of 64 pixels per 256 pixel tile
+     */
+    private static final int CELL_ZOOM_OFFSET = 2;
+
+    int zoom;
+
+    /**
+     * Creates the grid of the given zoom level, rejecting one outside [0, MAX_ZOOM]
+     */
+    public static TileGrid of(int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be within [0, " + MAX_ZOOM + "]: " + zoom);
+        }
+        return new TileGrid(zoom);
+    }
+
+    /**
+     * Gets the grid clustering a map viewport shown at the given zoom level: cells of a quarter tile
+     * side, or coarser ones when the bounds would span more than {@link #MAX_VIEWPORT_CELLS} of them.
+     * The number of cells thus depends on the size of the screen, never on the catalogue.
+     */
+    public static TileGrid forViewport(GeoBoundingBox bounds, int mapZoom) {
+        if (mapZoom < 0) {
+            throw new IllegalArgumentException("Zoom must not be negative: " + mapZoom);
+        }
+        TileGrid grid = of(Math.min(MAX_ZOOM, mapZoom + CELL_ZOOM_OFFSET));
+        while (grid.zoom > 0 && grid.cellsWithin(bounds) > MAX_VIEWPORT_CELLS) {
+            grid = of(grid.zoom - 1);
+        }
+        return grid;
+    }
+
+    /**
+     * Gets the number of columns, and of rows, of the grid
+     */
+    public int size() {
+        return 1 << zoom;
+    }
+
+    /**
+     * Gets the column of the cells holding the given longitude, 180 being in the last one
+     */
+    public int column(double longitude) {
+        return clamp(Math.floor((longitude + 180) / 360 * size()));
+    }
+
+    /**
+     * Gets the row of the cells holding the given latitude
+     */
+    public int row(double latitude) {
+        double phi = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        return clamp(Math.floor((1 - Math.log(Math.tan(phi) + 1 / Math.cos(phi)) / Math.PI) / 2 * size()));
+    }
+
+    /**
+     * Counts the cells overlapping the given bounds
+     */
+    public long cellsWithin(GeoBoundingBox bounds) {
+        long rows = row(bounds.getSouth()) - row(bounds.getNorth()) + 1L;
+        long columns = bounds.crossesAntimeridian() ?
+                Math.min(size(), size() - column(bounds.getWest()) + column(bounds.getEast()) + 1L) :
+                column(bounds.getEast()) - column(bounds.getWest()) + 1L;
+        return rows * columns;
+    }
+
+    private int clamp(double index) {
+        return (int) Math.max(0, Math.min(size() - 1, index));
+    }
+}
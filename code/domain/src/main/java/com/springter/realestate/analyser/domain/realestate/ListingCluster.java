@@ -0,0 +1,35 @@
+package com.springter.realestate.analyser.domain.realestate;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The listings of one cell of a {@link com.springter.realestate.analyser.domain.location.TileGrid},
+ * summarised to draw them as a single marker on a map.
+ */
+@Value
+@Builder
+public class ListingCluster {
+
+    /**
+     * Zoom level of the grid, then column and row of the cell in it
+     */
+    int zoom;
+    int x;
+    int y;
+
+    long count;
+
+    /**
+     * Centroid of the listings of the cell, which lies within the cell
+     */
+    double latitude;
+    double longitude;
+
+    /**
+     * Range and mean of the last sold prices, null when none of the listings has one
+     */
+    Double minPrice;
+    Double averagePrice;
+    Double maxPrice;
+}
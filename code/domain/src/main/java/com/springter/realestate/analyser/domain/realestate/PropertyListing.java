@@ -0,0 +1,98 @@
+package com.springter.realestate.analyser.domain.realestate;
+
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat, read-only view of a house with exactly the data needed to build a
+ * {@link RealEstateProperty}: house attributes, its location and the last sold
+ * price of its latest rating analysis.
+ *
+ * Repositories can project query results straight into this type, without
+ * materialising the House, Location and RatingAnalysis object graph.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class PropertyListing {
+
+    Integer id;
+    String name;
+    String propertyType;
+    Integer yearBuilt;
+    Integer squareFootage;
+    Integer numBedrooms;
+    BigDecimal numBathrooms;
+    String heatingType;
+    String streetAddress;
+    String city;
+    String stateProvince;
+    String zipPostalCode;
+    BigDecimal schoolRatingAvg;
+    Integer walkScore;
+    Integer transitScore;
+    BigDecimal latitude;
+    BigDecimal longitude;
+    BigDecimal lastSoldPrice;
+
+    /**
+     * Creates a listing view from a House aggregate
+     */
+    public static PropertyListing from(House house) {
+        Location location = house.getLocation();
+        RatingAnalysis latestRating = house.getLatestRating();
+        return PropertyListing.builder()
+                .id(house.getId())
+                .name(house.getName())
+                .propertyType(house.getPropertyType())
+                .yearBuilt(house.getYearBuilt())
+                .squareFootage(house.getSquareFootage())
+                .numBedrooms(house.getNumBedrooms())
+                .numBathrooms(house.getNumBathrooms())
+                .heatingType(house.getHeatingType())
+                .streetAddress(location != null ? location.getStreetAddress() : null)
+                .city(location != null ? location.getCity() : null)
+                .stateProvince(location != null ? location.getStateProvince() : null)
+                .zipPostalCode(location != null ? location.getZipPostalCode() : null)
+                .schoolRatingAvg(location != null ? location.getSchoolRatingAvg() : null)
+                .walkScore(location != null ? location.getWalkScore() : null)
+                .transitScore(location != null ? location.getTransitScore() : null)
+                .latitude(location != null ? location.getLatitude() : null)
+                .longitude(location != null ? location.getLongitude() : null)
+                .lastSoldPrice(latestRating != null ? latestRating.getLastSoldPrice() : null)
+                .build();
+    }
+
+    /**
+     * Gets the full address as a single string, or null if the listing has no address
+     */
+    public String getFullAddress() {
+        if (streetAddress == null && city == null && stateProvince == null && zipPostalCode == null) {
+            return null;
+        }
+        return Location.formatAddress(streetAddress, city, stateProvince, zipPostalCode);
+    }
+
+    /**
+     * Checks if the location of the listing has geographic coordinates
+     */
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * Gets the age of the house in years
+     */
+    public Integer getAgeInYears() {
+        if (yearBuilt == null) {
+            return null;
+        }
+        return java.time.LocalDate.now().getYear() - yearBuilt;
+    }
+}
@@ -18,6 +18,8 @@ public class RealEstateProperty {
     String title;
     String description;
     String location;
+    Double latitude;
+    Double longitude;
     Double price;
     PropertyType propertyType;
     Integer bedrooms;
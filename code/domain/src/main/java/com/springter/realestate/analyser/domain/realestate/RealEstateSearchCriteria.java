@@ -1,11 +1,19 @@
 package com.springter.realestate.analyser.domain.realestate;
 
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
 import lombok.Builder;
 import lombok.Value;
 
+import java.util.StringJoiner;
+
 /**
  * Domain value object for real estate search criteria.
  * Encapsulates all the filtering parameters for property searches.
+ *
+ * The geo filters keep the houses within {@code radiusKm} of {@code center}, and the houses
+ * within {@code bounds}; houses without coordinates never match them. Listing searches with
+ * a geo filter are ordered by distance from {@link #distanceOrigin()}.
  */
 @Value
 @Builder
@@ -15,6 +23,9 @@ public class RealEstateSearchCriteria {
     Double minPrice;
     Double maxPrice;
     RealEstateProperty.PropertyType propertyType;
+    GeoPoint center;
+    Double radiusKm;
+    GeoBoundingBox bounds;
     
     /**
      * Creates search criteria with no filters (returns all properties)
@@ -30,6 +41,74 @@ public class RealEstateSearchCriteria {
         return location != null || 
                minPrice != null || 
                maxPrice != null || 
-               propertyType != null;
+               propertyType != null ||
+               hasGeoFilter();
+    }
+    
+    /**
+     * Checks if a radius or a bounding box restricts the position of the houses
+     */
+    public boolean hasGeoFilter() {
+        return hasRadius() || bounds != null;
+    }
+    
+    /**
+     * Checks if the houses must be within a radius of a center, which needs both
+     */
+    public boolean hasRadius() {
+        return center != null && radiusKm != null;
+    }
+    
+    /**
+     * Gets the point distances are measured from: the center of the radius, else the center
+     * of the bounding box, or null without geo filter
+     */
+    public GeoPoint distanceOrigin() {
+        if (hasRadius()) {
+            return center;
+        }
+        return bounds != null ? bounds.center() : null;
+    }
+    
+    /**
+     * Gets the distance from {@link #distanceOrigin()} within which every match of the geo filters lies,
+     * in kilometres, so a spatial index can select the candidates before the exact tests
+     */
+    public double geoSearchRadiusKm() {
+        return hasRadius() ? radiusKm : bounds.coveringRadiusKm();
+    }
+    
+    /**
+     * Checks if a position passes the geo filters. Always true without geo filter.
+     */
+    public boolean matchesPosition(double latitude, double longitude) {
+        if (hasRadius() && center.distanceKm(latitude, longitude) > radiusKm) {
+            return false;
+        }
+        return bounds == null || bounds.contains(latitude, longitude);
+    }
+    
+    /**
+     * Names the kinds of filters specified, e.g. {@code location+price}, or {@code none}.
+     * Values are ignored, which keeps it suitable as a low cardinality metrics tag.
+     */
+    public String shape() {
+        StringJoiner shape = new StringJoiner("+").setEmptyValue("none");
+        if (location != null) {
+            shape.add("location");
+        }
+        if (minPrice != null || maxPrice != null) {
+            shape.add("price");
+        }
+        if (propertyType != null) {
+            shape.add("type");
+        }
+        if (hasRadius()) {
+            shape.add("radius");
+        }
+        if (bounds != null) {
+            shape.add("bounds");
+        }
+        return shape.toString();
     }
-}
\ No newline at end of file
+}
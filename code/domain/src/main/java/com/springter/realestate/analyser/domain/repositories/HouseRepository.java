@@ -1,9 +1,15 @@
 package com.springter.realestate.analyser.domain.repositories;
 
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
 import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Domain repository interface for House entities.
@@ -24,6 +30,63 @@ public interface HouseRepository {
      */
     List<House> findAll();
 
+    /**
+     * Finds one page of houses matching the search criteria.
+     * 
+     * Filtering, paging and counting are delegated to the data store, so the
+     * cost of this call depends on the page size rather than the catalogue size.
+     * 
+     * The API serves searches through {@link #findListingsByCriteria}; this method
+     * stays as the aggregate-loading baseline both adapters must agree on, which the
+     * persistence benchmarks and query plan tests measure the listing search against.
+     * 
+     * @param searchCriteria The location, property type and price filters to apply
+     * @param pageRequest The pagination parameters
+     * @return A page of houses matching the criteria, ordered by house ID
+     */
+    Page<House> findByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest);
+
+    /**
+     * Finds one page of houses matching the search criteria, each carrying only
+     * its latest rating analysis instead of its full rating history.
+     * 
+     * Kept for the same reason as {@link #findByCriteria}: no API path calls it.
+     * 
+     * @param searchCriteria The location, property type and price filters to apply
+     * @param pageRequest The pagination parameters
+     * @return A page of houses matching the criteria, ordered by house ID
+     */
+    Page<House> findByCriteriaWithLatestRating(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest);
+
+    /**
+     * Finds one page of listings matching the search criteria.
+     * 
+     * Listings are read-only projections: no House aggregate is built, which makes
+     * this the cheapest way to serve search results.
+     * 
+     * With a geo filter, listings are ordered by distance from the criteria's distance
+     * origin and paged by offset only: pages carry no cursor, and a keyset request
+     * returns the first page.
+     * 
+     * @param searchCriteria The location, property type, price and geo filters to apply
+     * @param pageRequest The pagination parameters
+     * @return A page of listings matching the criteria, ordered by house ID or by distance
+     */
+    Page<PropertyListing> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest);
+
+    /**
+     * Passes every listing matching the search criteria to the given action, one at a time.
+     * 
+     * Rows are read through a forward-only cursor in batches, so memory use does not
+     * depend on the number of matches. The cursor stays open until the last listing
+     * has been handled, so the action should not take long per listing.
+     * 
+     * @param searchCriteria The location, property type and price filters to apply
+     * @param action Called with each listing matching the criteria, in house ID order
+     * @return The number of listings passed to the action
+     */
+    long forEachListingByCriteria(RealEstateSearchCriteria searchCriteria, Consumer<PropertyListing> action);
+
     /**
      * Finds a house by its ID
      * 
@@ -64,6 +127,19 @@ public interface HouseRepository {
      */
     House save(House house);
 
+    /**
+     * Saves many houses (create or update) together with their location and rating analyses,
+     * in batches rather than one statement per row, for large imports.
+     * 
+     * Houses and rating analyses without ID are created. Locations without ID are matched to
+     * an existing location with the same address, and created if there is none. Rating analyses
+     * already stored but missing from a house are kept.
+     * 
+     * @param houses The houses to save
+     * @return The saved houses, in the given order, with the IDs of created rows set
+     */
+    List<House> saveAll(Collection<House> houses);
+
     /**
      * Deletes a house by ID
      * 
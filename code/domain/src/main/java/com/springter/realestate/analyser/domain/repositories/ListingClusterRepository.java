@@ -0,0 +1,23 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.location.TileGrid;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Repository port for aggregating the listings of a map by grid cell.
+ */
+public interface ListingClusterRepository {
+
+    /**
+     * Groups the listings matching the criteria by the cell of the grid holding their coordinates.
+     * Listings without coordinates are left out.
+     *
+     * @param searchCriteria The filters to apply, like for a listing search
+     * @param grid The grid whose cells group the listings
+     * @return A cluster per non-empty cell, ordered by row then column
+     */
+    List<ListingCluster> clusterListings(RealEstateSearchCriteria searchCriteria, TileGrid grid);
+}
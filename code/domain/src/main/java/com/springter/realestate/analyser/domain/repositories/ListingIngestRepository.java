@@ -0,0 +1,20 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.ingest.ListingUpdates;
+
+/**
+ * Repository port writing batches of updates from an upstream system of record.
+ * 
+ * Rows are keyed by the IDs of that system: a row is inserted the first time its ID
+ * is seen and overwritten afterwards, so replaying a batch leaves the data unchanged.
+ */
+public interface ListingIngestRepository {
+
+    /**
+     * Inserts or updates every row of the batch, all or nothing.
+     * Locations are written before the houses referencing them, and houses before their ratings.
+     * 
+     * @param updates The updates to write, at most one per row
+     */
+    void upsert(ListingUpdates updates);
+}
@@ -0,0 +1,33 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.ingest.ListingLoadReport;
+
+import java.io.Reader;
+import java.util.function.LongConsumer;
+
+/**
+ * Repository port loading flat-file snapshots of the catalogue, as exported from another
+ * environment or a market data provider.
+ * 
+ * A snapshot is a CSV file with a header line and one line per rating analysis, repeating the
+ * house and location columns; a house without ratings has one line with empty rating columns.
+ * The columns, in order, are:
+ * {@code location_id, street_address, city, state_province, zip_postal_code, latitude, longitude,
+ * school_rating_avg, walk_score, transit_score, house_id, name, listing_status, year_built,
+ * square_footage, num_bedrooms, num_bathrooms, property_type, heating_type, analysis_id,
+ * overall_score, user_rating_count, price_to_sqft_ratio, market_comp_score, last_sold_price,
+ * time_on_market_days, rating_timestamp}.
+ * Rows are keyed by their IDs: a row is inserted the first time its ID is seen and overwritten
+ * afterwards, the last line winning when a file repeats an ID.
+ */
+public interface ListingSnapshotRepository {
+
+    /**
+     * Loads a snapshot, all or nothing.
+     * 
+     * @param csv The snapshot, read once from start to end
+     * @param progress Called with the number of lines read so far, periodically while reading
+     * @return The lines read and the rows written
+     */
+    ListingLoadReport load(Reader csv, LongConsumer progress);
+}
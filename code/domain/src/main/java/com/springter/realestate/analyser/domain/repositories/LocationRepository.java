@@ -0,0 +1,22 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.location.LocationMatch;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+
+import java.util.List;
+
+/**
+ * Repository port for finding locations by address.
+ */
+public interface LocationRepository {
+
+    /**
+     * Finds the locations whose address matches the text, the best matches first.
+     * 
+     * @param text The searched text, not blank
+     * @param mode How the text is matched against the address
+     * @param limit The maximum number of locations returned
+     * @return The matching locations, ordered by decreasing score then by ID
+     */
+    List<LocationMatch> search(String text, LocationSearchMode mode, int limit);
+}
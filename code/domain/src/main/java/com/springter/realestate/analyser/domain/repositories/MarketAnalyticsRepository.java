@@ -0,0 +1,22 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.analytics.MarketStatistics;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Repository port for aggregating market statistics where the listings are stored.
+ */
+public interface MarketAnalyticsRepository {
+
+    /**
+     * Computes the statistics of each segment of the listings matching the criteria.
+     *
+     * @param searchCriteria The filters to apply, like for a listing search
+     * @param grouping The segments to compute statistics for
+     * @return The statistics of every non-empty segment, ordered by city then property type
+     */
+    List<MarketStatistics> marketStatistics(RealEstateSearchCriteria searchCriteria, MarketGrouping grouping);
+}
@@ -0,0 +1,31 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.analytics.MarketSummary;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Repository port for the precomputed monthly market summary. Reading it costs a row per
+ * city, property type and month, whatever the number of rating analyses summarised.
+ */
+public interface MarketSummaryRepository {
+
+    /**
+     * Finds the monthly summaries matching the filters, each of them optional
+     *
+     * @param city The city, case insensitive
+     * @param propertyType The property type
+     * @param from The first month, inclusive
+     * @param to The last month, inclusive
+     * @return The summaries ordered by city, property type then month
+     */
+    List<MarketSummary> findMonthlySummaries(String city, RealEstateProperty.PropertyType propertyType,
+                                             YearMonth from, YearMonth to);
+
+    /**
+     * Recomputes the summary from the rating analyses, without blocking its readers
+     */
+    void refresh();
+}
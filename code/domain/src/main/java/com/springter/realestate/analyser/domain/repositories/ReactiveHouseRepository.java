@@ -0,0 +1,39 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.reactivestreams.Publisher;
+
+/**
+ * Non-blocking counterpart of the listing queries of {@link HouseRepository}.
+ * 
+ * Implementations must not block the calling thread: results are emitted
+ * once the data store answers, and streams honour the demand of their subscriber.
+ * Ports are plain Reactive Streams {@link Publisher}s, so the domain does not depend
+ * on a reactive library; adapters may return a more specific type.
+ */
+public interface ReactiveHouseRepository {
+
+    /**
+     * Finds one page of listings matching the search criteria, with the same
+     * ordering, paging and counting rules as {@link HouseRepository#findListingsByCriteria}.
+     * 
+     * @param searchCriteria The location, property type, price and geo filters to apply
+     * @param pageRequest The pagination parameters
+     * @return A publisher of the single page of listings matching the criteria, ordered by house ID or by distance
+     */
+    Publisher<Page<PropertyListing>> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest);
+
+    /**
+     * Streams every listing matching the search criteria, ordered by house ID.
+     * 
+     * Rows are read from the data store as they are requested, so a slow
+     * subscriber holds back the query instead of buffering the result.
+     * 
+     * @param searchCriteria The location, property type and price filters to apply
+     * @return The listings matching the criteria
+     */
+    Publisher<PropertyListing> streamListingsByCriteria(RealEstateSearchCriteria searchCriteria);
+}
@@ -0,0 +1,30 @@
+package com.springter.realestate.analyser.domain.repositories;
+
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository port for the latest valuation of each house.
+ */
+public interface ValuationRepository {
+
+    /**
+     * Finds the latest valuation of a house
+     */
+    Optional<Valuation> findByHouseId(Integer houseId);
+
+    /**
+     * Inserts the valuations, replacing the previous valuation of their houses
+     */
+    void saveAll(Collection<Valuation> valuations);
+
+    /**
+     * Deletes the valuations made before the given time, those a later revaluation did not replace
+     *
+     * @return The number of valuations deleted
+     */
+    int deleteValuedBefore(OffsetDateTime valuedAt);
+}
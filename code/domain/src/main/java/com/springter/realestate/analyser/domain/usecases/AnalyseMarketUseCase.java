@@ -0,0 +1,40 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.analytics.MarketStatistics;
+import com.springter.realestate.analyser.domain.analytics.MarketSummary;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Domain use case interface for analysing the market: price distribution, price per square foot
+ * and time on market of each city or property type.
+ */
+public interface AnalyseMarketUseCase {
+
+    /**
+     * Computes the statistics of each segment of the listings matching the criteria.
+     *
+     * @param searchCriteria The filters to apply, like for a listing search
+     * @param grouping The segments to compute statistics for
+     * @return The statistics of every non-empty segment, ordered by city then property type
+     */
+    List<MarketStatistics> analyseMarket(RealEstateSearchCriteria searchCriteria, MarketGrouping grouping);
+
+    /**
+     * Finds the monthly market summaries matching the filters, each of them optional. The summaries
+     * are precomputed and may lag behind the latest rating analyses by their refresh interval.
+     *
+     * @param city The city, case insensitive
+     * @param propertyType The property type
+     * @param from The first month, inclusive
+     * @param to The last month, inclusive
+     * @return The summaries ordered by city, property type then month
+     * @throws IllegalArgumentException if the first month is after the last one
+     */
+    List<MarketSummary> findMonthlySummaries(String city, RealEstateProperty.PropertyType propertyType,
+                                             YearMonth from, YearMonth to);
+}
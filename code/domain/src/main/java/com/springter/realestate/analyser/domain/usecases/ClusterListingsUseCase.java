@@ -0,0 +1,24 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Domain use case interface for drawing the listings of a map viewport as clusters,
+ * without downloading the listings themselves.
+ */
+public interface ClusterListingsUseCase {
+
+    /**
+     * Aggregates the listings within the bounds of the criteria by cell of the
+     * {@link com.springter.realestate.analyser.domain.location.TileGrid#forViewport viewport grid}.
+     *
+     * @param searchCriteria The filters to apply, with the bounds of the viewport
+     * @param zoom The zoom level the map is shown at
+     * @return A cluster per non-empty cell, ordered by row then column
+     * @throws IllegalArgumentException if the criteria have no bounds or the zoom is invalid
+     */
+    List<ListingCluster> clusterListings(RealEstateSearchCriteria searchCriteria, int zoom);
+}
@@ -5,6 +5,8 @@ import com.springter.realestate.analyser.domain.common.PageRequest;
 import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
 import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 
+import java.util.function.Consumer;
+
 /**
  * Domain use case interface for finding real estate properties.
  * 
@@ -24,4 +26,14 @@ public interface FindRealEstatePropertiesUseCase {
      * @return A page of properties matching the search criteria
      */
     Page<RealEstateProperty> findProperties(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest);
+
+    /**
+     * Exports every real estate property matching the search criteria, one at a time,
+     * without loading the whole result.
+     * 
+     * @param searchCriteria The criteria to filter properties by
+     * @param sink Called with each matching property, ordered by ID
+     * @return The number of properties exported
+     */
+    long exportProperties(RealEstateSearchCriteria searchCriteria, Consumer<RealEstateProperty> sink);
 }
\ No newline at end of file
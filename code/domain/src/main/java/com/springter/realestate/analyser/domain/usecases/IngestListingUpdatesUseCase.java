@@ -0,0 +1,19 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.ingest.ListingUpdates;
+
+/**
+ * Domain use case interface for applying updates from an upstream system of record
+ * to the catalogue.
+ */
+public interface IngestListingUpdatesUseCase {
+
+    /**
+     * Applies a batch of updates. When a row is updated several times in the batch,
+     * only its last update is written.
+     * 
+     * @param updates The updates, in the order they were produced
+     * @return The number of rows written
+     */
+    int ingest(ListingUpdates updates);
+}
@@ -0,0 +1,21 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.ingest.ListingLoadReport;
+
+import java.nio.file.Path;
+
+/**
+ * Domain use case interface for seeding or replacing the catalogue from a snapshot file,
+ * see {@link com.springter.realestate.analyser.domain.repositories.ListingSnapshotRepository}
+ * for its format.
+ */
+public interface LoadListingSnapshotUseCase {
+
+    /**
+     * Loads every row of the snapshot in one transaction.
+     * 
+     * @param snapshot The CSV file to load
+     * @return The lines read and the rows written
+     */
+    ListingLoadReport load(Path snapshot);
+}
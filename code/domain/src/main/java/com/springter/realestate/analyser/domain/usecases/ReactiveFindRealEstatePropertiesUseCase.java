@@ -0,0 +1,33 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.reactivestreams.Publisher;
+
+/**
+ * Non-blocking variant of {@link FindRealEstatePropertiesUseCase}.
+ * 
+ * Returns the same results without holding a thread while the data store
+ * answers, so many concurrent searches can share a few event-loop threads.
+ */
+public interface ReactiveFindRealEstatePropertiesUseCase {
+
+    /**
+     * Finds real estate properties based on search criteria with pagination.
+     * 
+     * @param searchCriteria The criteria to filter properties by
+     * @param pageRequest The pagination parameters
+     * @return A publisher of the single page of properties matching the search criteria
+     */
+    Publisher<Page<RealEstateProperty>> findProperties(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest);
+
+    /**
+     * Streams every real estate property matching the search criteria, with backpressure.
+     * 
+     * @param searchCriteria The criteria to filter properties by
+     * @return The properties matching the search criteria, ordered by ID
+     */
+    Publisher<RealEstateProperty> streamProperties(RealEstateSearchCriteria searchCriteria);
+}
@@ -0,0 +1,23 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.location.LocationMatch;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+
+import java.util.List;
+
+/**
+ * Domain use case interface for looking up locations by address, e.g. to suggest
+ * locations while a user types a search.
+ */
+public interface SearchLocationsUseCase {
+
+    /**
+     * Finds the locations whose address matches the text, the best matches first.
+     * 
+     * @param text The searched text; blank text matches nothing
+     * @param mode How the text is matched against the address
+     * @param limit The maximum number of locations returned
+     * @return The matching locations
+     */
+    List<LocationMatch> searchLocations(String text, LocationSearchMode mode, int limit);
+}
@@ -0,0 +1,27 @@
+package com.springter.realestate.analyser.domain.usecases;
+
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import com.springter.realestate.analyser.domain.valuation.ValuationReport;
+
+import java.util.Optional;
+
+/**
+ * Domain use case interface for valuing the houses of the catalogue from comparable sales.
+ */
+public interface ValueCatalogueUseCase {
+
+    /**
+     * Values every house of the catalogue, replacing the previous valuations
+     *
+     * @return The numbers of listings read and valued
+     */
+    ValuationReport revalueCatalogue();
+
+    /**
+     * Finds the latest valuation of a house
+     *
+     * @param houseId The ID of the house
+     * @return The valuation, empty if the house has not been valued
+     */
+    Optional<Valuation> findValuation(Integer houseId);
+}
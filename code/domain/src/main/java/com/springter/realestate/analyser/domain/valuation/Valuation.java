@@ -0,0 +1,28 @@
+package com.springter.realestate.analyser.domain.valuation;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Estimated price of a house from the prices of comparable sold properties, with the band
+ * the price of a house like it most likely falls within.
+ */
+@Value
+@Builder
+public class Valuation {
+
+    Integer houseId;
+    BigDecimal estimatedPrice;
+    BigDecimal lowPrice;
+    BigDecimal highPrice;
+
+    /**
+     * Number of comparable sold properties the estimate is computed from
+     */
+    int comparableCount;
+
+    OffsetDateTime valuedAt;
+}
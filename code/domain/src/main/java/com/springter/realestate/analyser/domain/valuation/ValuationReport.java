@@ -0,0 +1,25 @@
+package com.springter.realestate.analyser.domain.valuation;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Outcome of revaluing the catalogue: the listings read and those valued, the others
+ * having no coordinates or too few comparable sold properties around them.
+ */
+@Value
+@Builder
+public class ValuationReport {
+
+    long listings;
+    long valued;
+
+    /**
+     * Previous valuations deleted, of houses the revaluation could no longer value
+     */
+    long removed;
+
+    Duration elapsed;
+}
@@ -0,0 +1,42 @@
+package com.springter.realestate.analyser.domain.location;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GeoBoundingBox Tests")
+class GeoBoundingBoxTest {
+
+    @Test
+    @DisplayName("Should cover every point of the box from its center, however wide the box")
+    void shouldCoverWholeBox() {
+        final List<GeoBoundingBox> boxes = List.of(
+            GeoBoundingBox.of(40.38, -3.75, 40.45, -3.65),
+            GeoBoundingBox.of(10, 170, 50, -170),
+            GeoBoundingBox.of(20, -120, 60, 100),
+            GeoBoundingBox.of(-80, 0, 10, 179.9),
+            GeoBoundingBox.of(-90, -180, 90, 180));
+        for (GeoBoundingBox box : boxes) {
+            // When
+            final double radius = box.coveringRadiusKm();
+
+            // Then
+            final GeoPoint center = box.center();
+            double farthest = 0;
+            for (int i = 0; i <= 100; i++) {
+                for (int j = 0; j <= 100; j++) {
+                    final double latitude = box.getSouth() + (box.getNorth() - box.getSouth()) * i / 100;
+                    final double longitude = box.getWest() + (box.crossesAntimeridian() ?
+                        box.getEast() + 360 - box.getWest() : box.getEast() - box.getWest()) * j / 100;
+                    farthest = Math.max(farthest, center.distanceKm(latitude, longitude > 180 ? longitude - 360 : longitude));
+                }
+            }
+            assertThat(radius).as("%s", box).isGreaterThanOrEqualTo(farthest - 1e-6).isLessThan(farthest + 1);
+        }
+        assertThat(GeoBoundingBox.of(-90, -180, 90, 180).coveringRadiusKm())
+            .isCloseTo(Math.PI * GeoPoint.EARTH_RADIUS_KM, within(1e-6));
+    }
+}
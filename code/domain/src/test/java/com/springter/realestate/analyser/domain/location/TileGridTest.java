@@ -0,0 +1,55 @@
+package com.springter.realestate.analyser.domain.location;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TileGrid Tests")
+class TileGridTest {
+
+    private static final GeoBoundingBox WORLD = GeoBoundingBox.of(-90, -180, 90, 180);
+
+    @Test
+    @DisplayName("Should place positions in the tiles of slippy maps, clamping the poles and the antimeridian")
+    void shouldPlacePositionsInTiles() {
+        // Given
+        final TileGrid grid = TileGrid.of(10);
+        final TileGrid coarse = TileGrid.of(3);
+
+        // Then
+        assertThat(grid.column(-3.7038)).isEqualTo(501);
+        assertThat(grid.row(40.4168)).isEqualTo(386);
+        assertThat(coarse.row(89)).isZero();
+        assertThat(coarse.row(-89)).isEqualTo(7);
+        assertThat(coarse.column(-180)).isZero();
+        assertThat(coarse.column(180)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should cluster a viewport in quarter tiles, coarser when it would hold too many cells")
+    void shouldSizeViewportGrid() {
+        // Given
+        final GeoBoundingBox madrid = GeoBoundingBox.of(40.38, -3.75, 40.45, -3.65);
+        final GeoBoundingBox pacific = GeoBoundingBox.of(-10, 170, 10, -170);
+
+        // When
+        final TileGrid city = TileGrid.forViewport(madrid, 14);
+        final TileGrid world = TileGrid.forViewport(WORLD, 10);
+
+        // Then
+        assertThat(city.getZoom()).isEqualTo(16);
+        assertThat(world.getZoom()).isEqualTo(6);
+        assertThat(world.cellsWithin(WORLD)).isEqualTo(TileGrid.MAX_VIEWPORT_CELLS);
+        assertThat(TileGrid.forViewport(GeoBoundingBox.of(40.4167, -3.7040, 40.4169, -3.7036), 23).getZoom())
+            .isEqualTo(TileGrid.MAX_ZOOM);
+        assertThat(TileGrid.of(2).cellsWithin(pacific)).isEqualTo(2 * 2);
+    }
+
+    @Test
+    @DisplayName("Should reject a zoom level out of range")
+    void shouldRejectInvalidZoom() {
+        assertThatThrownBy(() -> TileGrid.of(TileGrid.MAX_ZOOM + 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TileGrid.forViewport(WORLD, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
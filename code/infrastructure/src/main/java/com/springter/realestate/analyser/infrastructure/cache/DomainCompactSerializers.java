@@ -0,0 +1,438 @@
+package com.springter.realestate.analyser.infrastructure.cache;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.springter.realestate.analyser.application.config.CacheConfig.PropertySearchKey;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hazelcast compact serializers for the domain objects stored in the distributed caches.
+ *
+ * Written by hand so the domain module stays free of serialization concerns:
+ * domain classes are immutable Lombok values without no-arg constructors or Serializable.
+ * Compact serialization sends the schema once per cluster and only field values per entry.
+ */
+public final class DomainCompactSerializers {
+
+    private DomainCompactSerializers() {
+    }
+
+    /**
+     * All the serializers to register in the Hazelcast serialization config
+     */
+    public static List<CompactSerializer<?>> all() {
+        return List.of(
+                new LocationSerializer(),
+                new RatingAnalysisSerializer(),
+                new HouseSerializer(),
+                new RealEstatePropertySerializer(),
+                new PageCursorSerializer(),
+                new PageSerializer(),
+                new PageRequestSerializer(),
+                new GeoPointSerializer(),
+                new GeoBoundingBoxSerializer(),
+                new SearchCriteriaSerializer(),
+                new PropertySearchKeySerializer());
+    }
+
+    static final class LocationSerializer implements CompactSerializer<Location> {
+
+        @Override
+        public Location read(CompactReader reader) {
+            return Location.builder()
+                    .id(reader.readNullableInt32("id"))
+                    .streetAddress(reader.readString("streetAddress"))
+                    .city(reader.readString("city"))
+                    .stateProvince(reader.readString("stateProvince"))
+                    .zipPostalCode(reader.readString("zipPostalCode"))
+                    .latitude(reader.readDecimal("latitude"))
+                    .longitude(reader.readDecimal("longitude"))
+                    .schoolRatingAvg(reader.readDecimal("schoolRatingAvg"))
+                    .walkScore(reader.readNullableInt32("walkScore"))
+                    .transitScore(reader.readNullableInt32("transitScore"))
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, Location location) {
+            writer.writeNullableInt32("id", location.getId());
+            writer.writeString("streetAddress", location.getStreetAddress());
+            writer.writeString("city", location.getCity());
+            writer.writeString("stateProvince", location.getStateProvince());
+            writer.writeString("zipPostalCode", location.getZipPostalCode());
+            writer.writeDecimal("latitude", location.getLatitude());
+            writer.writeDecimal("longitude", location.getLongitude());
+            writer.writeDecimal("schoolRatingAvg", location.getSchoolRatingAvg());
+            writer.writeNullableInt32("walkScore", location.getWalkScore());
+            writer.writeNullableInt32("transitScore", location.getTransitScore());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "Location";
+        }
+
+        @Override
+        public Class<Location> getCompactClass() {
+            return Location.class;
+        }
+    }
+
+    static final class RatingAnalysisSerializer implements CompactSerializer<RatingAnalysis> {
+
+        @Override
+        public RatingAnalysis read(CompactReader reader) {
+            return RatingAnalysis.builder()
+                    .id(reader.readNullableInt32("id"))
+                    .houseId(reader.readNullableInt32("houseId"))
+                    .overallScore(reader.readDecimal("overallScore"))
+                    .userRatingCount(reader.readNullableInt32("userRatingCount"))
+                    .priceToSqftRatio(reader.readDecimal("priceToSqftRatio"))
+                    .marketCompScore(reader.readDecimal("marketCompScore"))
+                    .lastSoldPrice(reader.readDecimal("lastSoldPrice"))
+                    .timeOnMarketDays(reader.readNullableInt32("timeOnMarketDays"))
+                    .ratingTimestamp(reader.readTimestampWithTimezone("ratingTimestamp"))
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, RatingAnalysis rating) {
+            writer.writeNullableInt32("id", rating.getId());
+            writer.writeNullableInt32("houseId", rating.getHouseId());
+            writer.writeDecimal("overallScore", rating.getOverallScore());
+            writer.writeNullableInt32("userRatingCount", rating.getUserRatingCount());
+            writer.writeDecimal("priceToSqftRatio", rating.getPriceToSqftRatio());
+            writer.writeDecimal("marketCompScore", rating.getMarketCompScore());
+            writer.writeDecimal("lastSoldPrice", rating.getLastSoldPrice());
+            writer.writeNullableInt32("timeOnMarketDays", rating.getTimeOnMarketDays());
+            writer.writeTimestampWithTimezone("ratingTimestamp", rating.getRatingTimestamp());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "RatingAnalysis";
+        }
+
+        @Override
+        public Class<RatingAnalysis> getCompactClass() {
+            return RatingAnalysis.class;
+        }
+    }
+
+    static final class HouseSerializer implements CompactSerializer<House> {
+
+        @Override
+        public House read(CompactReader reader) {
+            RatingAnalysis[] ratings = reader.readArrayOfCompact("ratingAnalyses", RatingAnalysis.class);
+            return House.builder()
+                    .id(reader.readNullableInt32("id"))
+                    .location(reader.readCompact("location"))
+                    .name(reader.readString("name"))
+                    .listingStatus(reader.readString("listingStatus"))
+                    .yearBuilt(reader.readNullableInt32("yearBuilt"))
+                    .squareFootage(reader.readNullableInt32("squareFootage"))
+                    .numBedrooms(reader.readNullableInt32("numBedrooms"))
+                    .numBathrooms(reader.readDecimal("numBathrooms"))
+                    .propertyType(reader.readString("propertyType"))
+                    .heatingType(reader.readString("heatingType"))
+                    .ratingAnalyses(ratings != null ? List.of(ratings) : null)
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, House house) {
+            writer.writeNullableInt32("id", house.getId());
+            writer.writeCompact("location", house.getLocation());
+            writer.writeString("name", house.getName());
+            writer.writeString("listingStatus", house.getListingStatus());
+            writer.writeNullableInt32("yearBuilt", house.getYearBuilt());
+            writer.writeNullableInt32("squareFootage", house.getSquareFootage());
+            writer.writeNullableInt32("numBedrooms", house.getNumBedrooms());
+            writer.writeDecimal("numBathrooms", house.getNumBathrooms());
+            writer.writeString("propertyType", house.getPropertyType());
+            writer.writeString("heatingType", house.getHeatingType());
+            writer.writeArrayOfCompact("ratingAnalyses", house.getRatingAnalyses() != null ?
+                    house.getRatingAnalyses().toArray(RatingAnalysis[]::new) : null);
+        }
+
+        @Override
+        public String getTypeName() {
+            return "House";
+        }
+
+        @Override
+        public Class<House> getCompactClass() {
+            return House.class;
+        }
+    }
+
+    static final class RealEstatePropertySerializer implements CompactSerializer<RealEstateProperty> {
+
+        @Override
+        public RealEstateProperty read(CompactReader reader) {
+            String propertyType = reader.readString("propertyType");
+            String[] features = reader.readArrayOfString("features");
+            return RealEstateProperty.builder()
+                    .id(reader.readNullableInt64("id"))
+                    .title(reader.readString("title"))
+                    .description(reader.readString("description"))
+                    .location(reader.readString("location"))
+                    .latitude(reader.readNullableFloat64("latitude"))
+                    .longitude(reader.readNullableFloat64("longitude"))
+                    .price(reader.readNullableFloat64("price"))
+                    .propertyType(propertyType != null ? RealEstateProperty.PropertyType.valueOf(propertyType) : null)
+                    .bedrooms(reader.readNullableInt32("bedrooms"))
+                    .bathrooms(reader.readNullableInt32("bathrooms"))
+                    .area(reader.readNullableFloat64("area"))
+                    .features(features != null ? Arrays.asList(features) : null)
+                    .createdAt(reader.readTimestampWithTimezone("createdAt"))
+                    .updatedAt(reader.readTimestampWithTimezone("updatedAt"))
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, RealEstateProperty property) {
+            writer.writeNullableInt64("id", property.getId());
+            writer.writeString("title", property.getTitle());
+            writer.writeString("description", property.getDescription());
+            writer.writeString("location", property.getLocation());
+            writer.writeNullableFloat64("latitude", property.getLatitude());
+            writer.writeNullableFloat64("longitude", property.getLongitude());
+            writer.writeNullableFloat64("price", property.getPrice());
+            writer.writeString("propertyType", property.getPropertyType() != null ? property.getPropertyType().name() : null);
+            writer.writeNullableInt32("bedrooms", property.getBedrooms());
+            writer.writeNullableInt32("bathrooms", property.getBathrooms());
+            writer.writeNullableFloat64("area", property.getArea());
+            writer.writeArrayOfString("features", property.getFeatures() != null ?
+                    property.getFeatures().toArray(String[]::new) : null);
+            writer.writeTimestampWithTimezone("createdAt", property.getCreatedAt());
+            writer.writeTimestampWithTimezone("updatedAt", property.getUpdatedAt());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "RealEstateProperty";
+        }
+
+        @Override
+        public Class<RealEstateProperty> getCompactClass() {
+            return RealEstateProperty.class;
+        }
+    }
+
+    static final class PageCursorSerializer implements CompactSerializer<PageCursor> {
+
+        @Override
+        public PageCursor read(CompactReader reader) {
+            return PageCursor.after(reader.readInt64("lastId"));
+        }
+
+        @Override
+        public void write(CompactWriter writer, PageCursor cursor) {
+            writer.writeInt64("lastId", cursor.getLastId());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "PageCursor";
+        }
+
+        @Override
+        public Class<PageCursor> getCompactClass() {
+            return PageCursor.class;
+        }
+    }
+
+    /**
+     * Pages hold compact elements of a single type, typically RealEstateProperty
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static final class PageSerializer implements CompactSerializer<Page> {
+
+        @Override
+        public Page read(CompactReader reader) {
+            Object[] content = reader.readArrayOfCompact("content", Object.class);
+            return Page.builder()
+                    .content(content != null ? Arrays.asList(content) : List.of())
+                    .page(reader.readInt32("page"))
+                    .size(reader.readInt32("size"))
+                    .totalElements(reader.readInt64("totalElements"))
+                    .nextCursor(reader.readCompact("nextCursor"))
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, Page page) {
+            writer.writeArrayOfCompact("content", page.getContent().toArray());
+            writer.writeInt32("page", page.getPage());
+            writer.writeInt32("size", page.getSize());
+            writer.writeInt64("totalElements", page.getTotalElements());
+            writer.writeCompact("nextCursor", page.getNextCursor());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "Page";
+        }
+
+        @Override
+        public Class<Page> getCompactClass() {
+            return Page.class;
+        }
+    }
+
+    static final class PageRequestSerializer implements CompactSerializer<PageRequest> {
+
+        @Override
+        public PageRequest read(CompactReader reader) {
+            return PageRequest.builder()
+                    .page(reader.readInt32("page"))
+                    .size(reader.readInt32("size"))
+                    .cursor(reader.readCompact("cursor"))
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, PageRequest pageRequest) {
+            writer.writeInt32("page", pageRequest.getPage());
+            writer.writeInt32("size", pageRequest.getSize());
+            writer.writeCompact("cursor", pageRequest.getCursor());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "PageRequest";
+        }
+
+        @Override
+        public Class<PageRequest> getCompactClass() {
+            return PageRequest.class;
+        }
+    }
+
+    static final class GeoPointSerializer implements CompactSerializer<GeoPoint> {
+
+        @Override
+        public GeoPoint read(CompactReader reader) {
+            return GeoPoint.of(reader.readFloat64("latitude"), reader.readFloat64("longitude"));
+        }
+
+        @Override
+        public void write(CompactWriter writer, GeoPoint point) {
+            writer.writeFloat64("latitude", point.getLatitude());
+            writer.writeFloat64("longitude", point.getLongitude());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "GeoPoint";
+        }
+
+        @Override
+        public Class<GeoPoint> getCompactClass() {
+            return GeoPoint.class;
+        }
+    }
+
+    static final class GeoBoundingBoxSerializer implements CompactSerializer<GeoBoundingBox> {
+
+        @Override
+        public GeoBoundingBox read(CompactReader reader) {
+            return GeoBoundingBox.of(reader.readFloat64("south"), reader.readFloat64("west"),
+                    reader.readFloat64("north"), reader.readFloat64("east"));
+        }
+
+        @Override
+        public void write(CompactWriter writer, GeoBoundingBox bounds) {
+            writer.writeFloat64("south", bounds.getSouth());
+            writer.writeFloat64("west", bounds.getWest());
+            writer.writeFloat64("north", bounds.getNorth());
+            writer.writeFloat64("east", bounds.getEast());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "GeoBoundingBox";
+        }
+
+        @Override
+        public Class<GeoBoundingBox> getCompactClass() {
+            return GeoBoundingBox.class;
+        }
+    }
+
+    static final class SearchCriteriaSerializer implements CompactSerializer<RealEstateSearchCriteria> {
+
+        @Override
+        public RealEstateSearchCriteria read(CompactReader reader) {
+            String propertyType = reader.readString("propertyType");
+            return RealEstateSearchCriteria.builder()
+                    .location(reader.readString("location"))
+                    .minPrice(reader.readNullableFloat64("minPrice"))
+                    .maxPrice(reader.readNullableFloat64("maxPrice"))
+                    .propertyType(propertyType != null ? RealEstateProperty.PropertyType.valueOf(propertyType) : null)
+                    .center(reader.readCompact("center"))
+                    .radiusKm(reader.readNullableFloat64("radiusKm"))
+                    .bounds(reader.readCompact("bounds"))
+                    .build();
+        }
+
+        @Override
+        public void write(CompactWriter writer, RealEstateSearchCriteria criteria) {
+            writer.writeString("location", criteria.getLocation());
+            writer.writeNullableFloat64("minPrice", criteria.getMinPrice());
+            writer.writeNullableFloat64("maxPrice", criteria.getMaxPrice());
+            writer.writeString("propertyType", criteria.getPropertyType() != null ? criteria.getPropertyType().name() : null);
+            writer.writeCompact("center", criteria.getCenter());
+            writer.writeNullableFloat64("radiusKm", criteria.getRadiusKm());
+            writer.writeCompact("bounds", criteria.getBounds());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "RealEstateSearchCriteria";
+        }
+
+        @Override
+        public Class<RealEstateSearchCriteria> getCompactClass() {
+            return RealEstateSearchCriteria.class;
+        }
+    }
+
+    static final class PropertySearchKeySerializer implements CompactSerializer<PropertySearchKey> {
+
+        @Override
+        public PropertySearchKey read(CompactReader reader) {
+            return new PropertySearchKey(reader.readCompact("criteria"), reader.readCompact("pageRequest"));
+        }
+
+        @Override
+        public void write(CompactWriter writer, PropertySearchKey key) {
+            writer.writeCompact("criteria", key.criteria());
+            writer.writeCompact("pageRequest", key.pageRequest());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "PropertySearchKey";
+        }
+
+        @Override
+        public Class<PropertySearchKey> getCompactClass() {
+            return PropertySearchKey.class;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.springter.realestate.analyser.infrastructure.cache;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hazelcast tier for the application caches, enabled with {@code spring.cache.type=hazelcast}.
+ *
+ * Every replica runs an embedded member, Spring Boot starts it from the {@link Config}
+ * below and backs the caches of {@link CacheConfig} with its distributed maps.
+ * Each member keeps a near cache of deserialized entries, so hot reads stay in process;
+ * writes and evictions on any member invalidate the near caches of the whole cluster.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "hazelcast")
+@EnableConfigurationProperties(HazelcastCacheProperties.class)
+public class HazelcastCacheConfig {
+
+    @Bean
+    public Config hazelcastConfig(HazelcastCacheProperties properties) {
+        Config config = new Config();
+        config.setClusterName(properties.getClusterName());
+        // Send near cache invalidations right away instead of batching them every few seconds
+        config.setProperty("hazelcast.map.invalidation.batch.enabled", "false");
+
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getTcpIpConfig()
+                .setEnabled(!properties.getMembers().isEmpty())
+                .setMembers(properties.getMembers());
+
+        config.addMapConfig(cacheMapConfig(CacheConfig.PROPERTY_SEARCH_CACHE, properties));
+        config.addMapConfig(cacheMapConfig(CacheConfig.HOUSE_CACHE, properties));
+
+        DomainCompactSerializers.all()
+                .forEach(config.getSerializationConfig().getCompactSerializationConfig()::addSerializer);
+        return config;
+    }
+
+    private static MapConfig cacheMapConfig(String name, HazelcastCacheProperties properties) {
+        int timeToLiveSeconds = (int) properties.getTimeToLive().toSeconds();
+        NearCacheConfig nearCache = new NearCacheConfig(name)
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setInvalidateOnChange(true)
+                .setCacheLocalEntries(true)
+                .setTimeToLiveSeconds(timeToLiveSeconds)
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(properties.getMaxSize()));
+        return new MapConfig(name)
+                .setTimeToLiveSeconds(timeToLiveSeconds)
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                        .setSize(properties.getMaxSize()))
+                .setNearCacheConfig(nearCache);
+    }
+}
@@ -0,0 +1,36 @@
+package com.springter.realestate.analyser.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the Hazelcast cache tier, bound from {@code realestate.cache.hazelcast}
+ */
+@Data
+@ConfigurationProperties(prefix = "realestate.cache.hazelcast")
+public class HazelcastCacheProperties {
+
+    /**
+     * Name of the cluster; only members with the same name join each other
+     */
+    private String clusterName = "realestate-analyser";
+
+    /**
+     * Addresses of the other replicas (host or host:port). Empty runs a single member.
+     */
+    private List<String> members = new ArrayList<>();
+
+    /**
+     * Lifetime of cached entries, both in the cluster and in the near caches
+     */
+    private Duration timeToLive = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of entries per cache, per member
+     */
+    private int maxSize = 10000;
+}
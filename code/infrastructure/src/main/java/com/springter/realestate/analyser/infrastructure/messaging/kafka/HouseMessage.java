@@ -0,0 +1,20 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import java.math.BigDecimal;
+
+/**
+ * JSON value of a record of the houses topic, the full state of one house.
+ * The location is referenced by ID and must have been published first.
+ */
+public record HouseMessage(
+        Integer id,
+        Integer locationId,
+        String name,
+        String listingStatus,
+        Integer yearBuilt,
+        Integer squareFootage,
+        Integer numBedrooms,
+        BigDecimal numBathrooms,
+        String propertyType,
+        String heatingType) {
+}
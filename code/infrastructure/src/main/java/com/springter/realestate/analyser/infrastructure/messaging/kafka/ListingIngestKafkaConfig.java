@@ -0,0 +1,103 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springter.realestate.analyser.domain.usecases.IngestListingUpdatesUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Consumes the location, house and rating analysis topics in batches, enabled with
+ * {@code realestate.ingest.enabled=true}.
+ *
+ * Each topic has its own container, so a batch only ever holds updates of one table and is
+ * written in partition order. Offsets are committed once the listener has returned, that is once
+ * the batch is written and its transaction committed. A crash in between delivers the batch
+ * again, which the keyed upserts absorb.
+ *
+ * The topics are consumed independently, so a house can arrive before its location is written,
+ * and a rating analysis before its house. That record then fails the foreign key check and is
+ * retried every {@code retry-interval}, giving the other container time to write the row it
+ * references. A record still failing after {@code max-retries} is published to the topic of the
+ * same name suffixed with {@code dead-letter-suffix}, for replay, and the partition moves on.
+ * Unreadable records go there at once. A listing changed through two topics at the same time is
+ * published as each transaction saw it, until the search index reloads.
+ *
+ * The consumers themselves (brokers, group, records per poll) are configured with Spring Boot's
+ * {@code spring.kafka.consumer} settings, and the dead letter producer with
+ * {@code spring.kafka.producer}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "realestate.ingest", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ListingIngestProperties.class)
+@Slf4j
+public class ListingIngestKafkaConfig {
+
+    @Bean
+    ListingIngestListener listingIngestListener(IngestListingUpdatesUseCase ingestUseCase,
+                                                ListingIngestMessageMapper mapper,
+                                                ObjectMapper objectMapper,
+                                                ListingIngestProperties properties) {
+        return new ListingIngestListener(ingestUseCase, mapper, objectMapper, properties);
+    }
+
+    @Bean
+    DefaultErrorHandler listingIngestErrorHandler(KafkaTemplate<?, ?> kafkaTemplate, ListingIngestProperties properties) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate, (record, e) ->
+                new TopicPartition(record.topic() + properties.getDeadLetterSuffix(), -1));
+        return new DefaultErrorHandler(recoverer,
+                new FixedBackOff(properties.getRetryInterval().toMillis(), properties.getMaxRetries()));
+    }
+
+    @Bean
+    ConcurrentMessageListenerContainer<String, String> listingIngestLocationsContainer(ConsumerFactory<String, String> consumerFactory,
+                                                                                       ListingIngestListener listener,
+                                                                                       DefaultErrorHandler listingIngestErrorHandler,
+                                                                                       ListingIngestProperties properties) {
+        return container(properties.getLocationsTopic(), consumerFactory, listener, listingIngestErrorHandler, properties);
+    }
+
+    @Bean
+    ConcurrentMessageListenerContainer<String, String> listingIngestHousesContainer(ConsumerFactory<String, String> consumerFactory,
+                                                                                    ListingIngestListener listener,
+                                                                                    DefaultErrorHandler listingIngestErrorHandler,
+                                                                                    ListingIngestProperties properties) {
+        return container(properties.getHousesTopic(), consumerFactory, listener, listingIngestErrorHandler, properties);
+    }
+
+    @Bean
+    ConcurrentMessageListenerContainer<String, String> listingIngestRatingAnalysesContainer(ConsumerFactory<String, String> consumerFactory,
+                                                                                            ListingIngestListener listener,
+                                                                                            DefaultErrorHandler listingIngestErrorHandler,
+                                                                                            ListingIngestProperties properties) {
+        return container(properties.getRatingAnalysesTopic(), consumerFactory, listener, listingIngestErrorHandler,
+                properties);
+    }
+
+    private static ConcurrentMessageListenerContainer<String, String> container(String topic,
+                                                                                ConsumerFactory<String, String> consumerFactory,
+                                                                                ListingIngestListener listener,
+                                                                                DefaultErrorHandler errorHandler,
+                                                                                ListingIngestProperties properties) {
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setMessageListener(listener);
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+
+        ConcurrentMessageListenerContainer<String, String> container =
+                new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+        container.setConcurrency(properties.getConcurrency());
+        container.setCommonErrorHandler(errorHandler);
+        log.info("Ingesting listing updates from {} with {} consumers", topic, properties.getConcurrency());
+        return container;
+    }
+}
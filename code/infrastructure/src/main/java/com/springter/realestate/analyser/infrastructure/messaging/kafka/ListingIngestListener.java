@@ -0,0 +1,129 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springter.realestate.analyser.domain.ingest.ListingUpdates;
+import com.springter.realestate.analyser.domain.usecases.IngestListingUpdatesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.support.converter.ConversionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Batch listener turning the records of one poll into a single {@link ListingUpdates} batch for
+ * the {@link IngestListingUpdatesUseCase}.
+ *
+ * The batch is written in one transaction. When that fails, its records are written again one by
+ * one, in order, and the first record that fails is reported to the container with a
+ * {@link BatchListenerFailedException}: the records before it are committed, and it is retried
+ * then dead-lettered on its own, without the rest of the poll. Unreadable records, unreadable JSON
+ * or a missing ID, are reported the same way once the records before them are written, as a
+ * {@link ConversionException} the container does not retry. Tombstones are logged and skipped.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ListingIngestListener implements BatchMessageListener<String, String> {
+
+    private final IngestListingUpdatesUseCase ingestUseCase;
+    private final ListingIngestMessageMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ListingIngestProperties properties;
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, String>> records) {
+        List<ListingUpdates> updates = new ArrayList<>(records.size());
+        BatchListenerFailedException unreadable = null;
+        for (int i = 0; i < records.size() && unreadable == null; i++) {
+            try {
+                updates.add(read(records.get(i)));
+            } catch (ConversionException e) {
+                unreadable = new BatchListenerFailedException(e.getMessage(), e, i);
+            }
+        }
+        write(records, updates);
+        if (unreadable != null) {
+            throw unreadable;
+        }
+    }
+
+    /**
+     * Writes the updates read from the first records of the poll, all at once or else one by one
+     */
+    private void write(List<ConsumerRecord<String, String>> records, List<ListingUpdates> updates) {
+        try {
+            int written = ingestUseCase.ingest(merged(updates));
+            log.debug("Wrote {} rows from {} records", written, updates.size());
+        } catch (RuntimeException batchFailure) {
+            log.warn("Failed to write a batch of {} records, writing them one by one: {}", updates.size(),
+                    batchFailure.getMessage());
+            for (int i = 0; i < updates.size(); i++) {
+                try {
+                    ingestUseCase.ingest(updates.get(i));
+                } catch (RuntimeException e) {
+                    ConsumerRecord<String, String> record = records.get(i);
+                    throw new BatchListenerFailedException("Failed to write %s-%d@%d".formatted(
+                            record.topic(), record.partition(), record.offset()), e, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the update carried by a record, none for a tombstone
+     *
+     * @throws ConversionException If the record is unreadable or has no ID
+     */
+    private ListingUpdates read(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            log.warn("Skipping tombstone {}-{}@{}, deletes are not ingested",
+                    record.topic(), record.partition(), record.offset());
+            return ListingUpdates.builder().build();
+        }
+        if (record.topic().equals(properties.getLocationsTopic())) {
+            return ListingUpdates.builder()
+                    .locations(List.of(mapper.toDomain(read(record, LocationMessage.class, LocationMessage::id))))
+                    .build();
+        }
+        if (record.topic().equals(properties.getHousesTopic())) {
+            return ListingUpdates.builder()
+                    .houses(List.of(mapper.toDomain(read(record, HouseMessage.class, HouseMessage::id))))
+                    .build();
+        }
+        if (record.topic().equals(properties.getRatingAnalysesTopic())) {
+            return ListingUpdates.builder()
+                    .ratingAnalyses(List.of(mapper.toDomain(
+                            read(record, RatingAnalysisMessage.class, RatingAnalysisMessage::id))))
+                    .build();
+        }
+        throw new ConversionException("Unexpected topic " + record.topic(), record, null);
+    }
+
+    private <T> T read(ConsumerRecord<String, String> record, Class<T> type, Function<T, Integer> id) {
+        T message;
+        try {
+            message = objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            throw new ConversionException("Unreadable %s-%d@%d: %s".formatted(record.topic(), record.partition(),
+                    record.offset(), e.getOriginalMessage()), record, e);
+        }
+        if (id.apply(message) == null) {
+            throw new ConversionException("No ID in %s-%d@%d".formatted(record.topic(), record.partition(),
+                    record.offset()), record, null);
+        }
+        return message;
+    }
+
+    private static ListingUpdates merged(List<ListingUpdates> updates) {
+        return ListingUpdates.builder()
+                .locations(updates.stream().flatMap(update -> update.getLocations().stream()).toList())
+                .houses(updates.stream().flatMap(update -> update.getHouses().stream()).toList())
+                .ratingAnalyses(updates.stream().flatMap(update -> update.getRatingAnalyses().stream()).toList())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for converting ingestion messages to domain models
+ */
+@Mapper(componentModel = "spring")
+public interface ListingIngestMessageMapper {
+
+    Location toDomain(LocationMessage message);
+
+    /**
+     * Maps a house message to a House referencing its location by ID only
+     */
+    @Mapping(target = "location", source = "locationId")
+    @Mapping(target = "ratingAnalyses", ignore = true)
+    House toDomain(HouseMessage message);
+
+    RatingAnalysis toDomain(RatingAnalysisMessage message);
+
+    default Location toLocationReference(Integer locationId) {
+        return locationId != null ? Location.builder().id(locationId).build() : null;
+    }
+}
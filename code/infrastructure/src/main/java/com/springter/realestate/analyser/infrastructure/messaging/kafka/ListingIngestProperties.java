@@ -0,0 +1,52 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the Kafka listing ingestion, bound from {@code realestate.ingest}.
+ * Connection and consumer settings are Spring Boot's {@code spring.kafka} ones.
+ */
+@Data
+@ConfigurationProperties(prefix = "realestate.ingest")
+public class ListingIngestProperties {
+
+    /**
+     * Topic of the location updates
+     */
+    private String locationsTopic = "realestate.locations";
+
+    /**
+     * Topic of the house updates
+     */
+    private String housesTopic = "realestate.houses";
+
+    /**
+     * Topic of the rating analysis updates
+     */
+    private String ratingAnalysesTopic = "realestate.rating-analyses";
+
+    /**
+     * Number of consumers of each topic, each polling its share of the partitions. More than
+     * the number of partitions of a topic leaves consumers idle.
+     */
+    private int concurrency = 3;
+
+    /**
+     * Pause before a record that failed to be written is tried again
+     */
+    private Duration retryInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of times a failed record is tried again before it is dead-lettered
+     */
+    private int maxRetries = 9;
+
+    /**
+     * Suffix of the topics receiving the records that could not be ingested, after the name
+     * of their topic
+     */
+    private String deadLetterSuffix = "-dlt";
+}
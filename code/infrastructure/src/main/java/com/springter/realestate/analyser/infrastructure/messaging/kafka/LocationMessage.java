@@ -0,0 +1,19 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import java.math.BigDecimal;
+
+/**
+ * JSON value of a record of the locations topic, the full state of one location
+ */
+public record LocationMessage(
+        Integer id,
+        String streetAddress,
+        String city,
+        String stateProvince,
+        String zipPostalCode,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        BigDecimal schoolRatingAvg,
+        Integer walkScore,
+        Integer transitScore) {
+}
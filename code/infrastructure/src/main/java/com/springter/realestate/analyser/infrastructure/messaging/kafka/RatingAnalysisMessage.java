@@ -0,0 +1,20 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * JSON value of a record of the rating analyses topic, the full state of one rating analysis.
+ * The house is referenced by ID and must have been published first.
+ */
+public record RatingAnalysisMessage(
+        Integer id,
+        Integer houseId,
+        BigDecimal overallScore,
+        Integer userRatingCount,
+        BigDecimal priceToSqftRatio,
+        BigDecimal marketCompScore,
+        BigDecimal lastSoldPrice,
+        Integer timeOnMarketDays,
+        OffsetDateTime ratingTimestamp) {
+}
@@ -1,16 +1,47 @@
 package com.springter.realestate.analyser.infrastructure.persistence.adapter;
 
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
 import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.HouseChangedEvent;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
 import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.HouseBulkWriter;
 import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
 import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapper;
 import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.HouseJpaRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.RatingAnalysisJpaRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.specification.HouseSpecifications;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Infrastructure adapter implementing the HouseRepository domain interface.
@@ -19,26 +50,199 @@ import java.util.Optional;
  * with the infrastructure layer (which provides JPA implementation).
  * 
  * It uses MapStruct to convert between JPA entities and domain models,
- * maintaining clean architecture boundaries.
+ * maintaining clean architecture boundaries. Search queries and their mapping are
+ * timed through {@link SearchMetrics}.
+ * 
+ * This is the default implementation; {@code realestate.persistence.engine=jooq}
+ * switches to the jOOQ adapter instead.
  */
 @Repository
+@ConditionalOnProperty(prefix = "realestate.persistence", name = "engine", havingValue = "jpa", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class HouseRepositoryImpl implements HouseRepository {
 
+    private static final Sort LISTING_ORDER = Sort.by("id");
+
+    private static final String ENGINE = "jpa";
+    private static final String MAPPER = "HousePersistenceMapper";
+
+    /**
+     * Number of houses loaded per round trip when reading the whole catalogue
+     */
+    static final int CHUNK_SIZE = HouseJpa.RATINGS_BATCH_SIZE;
+
+    /**
+     * Number of listing rows fetched per round trip when streaming listings
+     */
+    static final int STREAM_FETCH_SIZE = 1000;
+
     private final HouseJpaRepository houseJpaRepository;
+    private final RatingAnalysisJpaRepository ratingAnalysisJpaRepository;
     private final HousePersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchMetrics searchMetrics;
+    private final HouseBulkWriter houseBulkWriter;
 
+    /**
+     * Loads houses in two phases to avoid a houses x ratings cartesian product:
+     * one chunk of IDs is read first, then the houses of that chunk are fetched with
+     * their locations, and their ratings are batch-loaded by house ID (see {@link HouseJpa}).
+     */
     @Override
     public List<House> findAll() {
         log.debug("Finding all houses from database");
-        List<HouseJpa> houseJpaList = houseJpaRepository.findAllWithLocationAndRatings();
-        List<House> houses = mapper.toDomainList(houseJpaList);
+        List<House> houses = new ArrayList<>();
+        Integer afterId = 0;
+        List<Integer> ids;
+        do {
+            ids = houseJpaRepository.findIdsAfter(afterId,
+                    org.springframework.data.domain.PageRequest.of(0, CHUNK_SIZE, LISTING_ORDER));
+            if (!ids.isEmpty()) {
+                houses.addAll(toDomainList(houseJpaRepository.findAllWithLocationByIdIn(ids)));
+                afterId = ids.get(ids.size() - 1);
+                // The chunk is fully mapped, release its entities
+                entityManager.clear();
+            }
+        } while (ids.size() == CHUNK_SIZE);
         log.debug("Found {} houses", houses.size());
         return houses;
     }
 
     @Override
+    public Page<House> findByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding houses by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return searchMetrics.recordQuery(ENGINE, "findByCriteria", searchCriteria, pageRequest,
+                () -> findPage(searchCriteria, pageRequest, this::toDomainList));
+    }
+
+    @Override
+    public Page<House> findByCriteriaWithLatestRating(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding houses with latest rating by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return searchMetrics.recordQuery(ENGINE, "findByCriteriaWithLatestRating", searchCriteria, pageRequest,
+                () -> findPage(searchCriteria, pageRequest, this::toDomainWithLatestRating));
+    }
+
+    @Override
+    public Page<PropertyListing> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding listings by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return searchMetrics.recordQuery(ENGINE, "findListingsByCriteria", searchCriteria, pageRequest,
+                () -> queryListings(searchCriteria, pageRequest));
+    }
+
+    /**
+     * Reads the listings lazily through a cursor, within the read-only transaction of this adapter
+     */
+    @Override
+    public long forEachListingByCriteria(RealEstateSearchCriteria searchCriteria, Consumer<PropertyListing> action) {
+        log.debug("Streaming listings by criteria: {}", searchCriteria);
+        long count = 0;
+        try (Stream<PropertyListing> listings = houseJpaRepository.streamListings(
+                HouseSpecifications.matching(searchCriteria), STREAM_FETCH_SIZE)) {
+            Iterator<PropertyListing> iterator = listings.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        log.debug("Streamed {} listings", count);
+        return count;
+    }
+
+    private Page<PropertyListing> queryListings(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        Specification<HouseJpa> spec = HouseSpecifications.matching(searchCriteria);
+        int size = pageRequest.getSize();
+
+        // A house ID cursor cannot seek in distance order: geo searches are paged by offset, without cursors
+        boolean byDistance = searchCriteria != null && searchCriteria.hasGeoFilter();
+        if (pageRequest.isKeyset() && !byDistance) {
+            // Read one extra row to know whether there is a following page
+            List<PropertyListing> rows = houseJpaRepository.findListings(
+                    spec, (int) pageRequest.getCursor().getLastId(), null, 0, size + 1);
+            boolean hasNext = rows.size() > size;
+            List<PropertyListing> listings = hasNext ? rows.subList(0, size) : rows;
+            log.debug("Found {} listings after cursor {}", listings.size(), pageRequest.getCursor());
+            return Page.keyset(listings, pageRequest, hasNext ? listingCursorAfter(listings) : null);
+        }
+
+        List<PropertyListing> listings = houseJpaRepository.findListings(
+                spec, null, byDistance ? searchCriteria.distanceOrigin() : null, pageRequest.getOffset(), size);
+        // A short first page already tells the total, skip the COUNT query
+        long totalElements = pageRequest.getOffset() == 0 && listings.size() < size ?
+                listings.size() : houseJpaRepository.count(spec);
+        log.debug("Found {} listings in page {} of {} matching houses",
+                listings.size(), pageRequest.getPage(), totalElements);
+        boolean hasNext = pageRequest.getOffset() + listings.size() < totalElements && !byDistance;
+        return Page.of(listings, pageRequest, totalElements, hasNext ? listingCursorAfter(listings) : null);
+    }
+
+    private PageCursor listingCursorAfter(List<PropertyListing> listings) {
+        return listings.isEmpty() ? null : PageCursor.after(listings.get(listings.size() - 1).getId());
+    }
+
+    private List<House> toDomainList(List<HouseJpa> houseJpaList) {
+        return searchMetrics.recordMapping(MAPPER, "toDomainList", () -> mapper.toDomainList(houseJpaList));
+    }
+
+    /**
+     * Loads the latest rating analysis of every house in one query and attaches it
+     * in place of the full rating history
+     */
+    private List<House> toDomainWithLatestRating(List<HouseJpa> houseJpaList) {
+        if (houseJpaList.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> houseIds = houseJpaList.stream().map(HouseJpa::getId).toList();
+        Map<Integer, RatingAnalysisJpa> latestRatings = ratingAnalysisJpaRepository.findLatestByHouseIdIn(houseIds)
+                .stream()
+                .collect(Collectors.toMap(rating -> rating.getHouse().getId(), Function.identity()));
+        return searchMetrics.recordMapping(MAPPER, "toDomain", () -> houseJpaList.stream()
+                .map(houseJpa -> mapper.toDomain(houseJpa, latestRatings.get(houseJpa.getId())))
+                .toList());
+    }
+
+    private Page<House> findPage(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest,
+                                 Function<List<HouseJpa>, List<House>> toDomain) {
+        if (pageRequest.isKeyset()) {
+            return findPageAfterCursor(searchCriteria, pageRequest, toDomain);
+        }
+        org.springframework.data.domain.Page<HouseJpa> houseJpaPage = houseJpaRepository.findAll(
+                HouseSpecifications.matching(searchCriteria),
+                org.springframework.data.domain.PageRequest.of(
+                        pageRequest.getPage(), pageRequest.getSize(), LISTING_ORDER));
+        List<House> houses = toDomain.apply(houseJpaPage.getContent());
+        log.debug("Found {} houses in page {} of {} matching houses",
+                houses.size(), pageRequest.getPage(), houseJpaPage.getTotalElements());
+        PageCursor nextCursor = houseJpaPage.hasNext() ? cursorAfter(houseJpaPage.getContent()) : null;
+        return Page.of(houses, pageRequest, houseJpaPage.getTotalElements(), nextCursor);
+    }
+
+    /**
+     * Seeks past the cursor on the house ID index instead of skipping an offset,
+     * so every page costs the same regardless of its depth. No COUNT query is run.
+     */
+    private Page<House> findPageAfterCursor(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest,
+                                            Function<List<HouseJpa>, List<House>> toDomain) {
+        ScrollPosition position = ScrollPosition.forward(Map.of("id", (int) pageRequest.getCursor().getLastId()));
+        Window<HouseJpa> window = houseJpaRepository.findBy(
+                HouseSpecifications.matching(searchCriteria).and(HouseSpecifications.fetchLocation()),
+                query -> query.sortBy(LISTING_ORDER)
+                        .limit(pageRequest.getSize())
+                        .scroll(position));
+        List<House> houses = toDomain.apply(window.getContent());
+        log.debug("Found {} houses after cursor {}", houses.size(), pageRequest.getCursor());
+        PageCursor nextCursor = window.hasNext() ? cursorAfter(window.getContent()) : null;
+        return Page.keyset(houses, pageRequest, nextCursor);
+    }
+
+    private PageCursor cursorAfter(List<HouseJpa> content) {
+        return content.isEmpty() ? null : PageCursor.after(content.get(content.size() - 1).getId());
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.HOUSE_CACHE, key = "#id", unless = "#result == null")
     public Optional<House> findById(Integer id) {
         log.debug("Finding house by id: {}", id);
         Optional<HouseJpa> houseJpaOpt = houseJpaRepository.findById(id);
@@ -51,7 +255,7 @@ public class HouseRepositoryImpl implements HouseRepository {
     public List<House> findByCity(String city) {
         log.debug("Finding houses by city: {}", city);
         List<HouseJpa> houseJpaList = houseJpaRepository.findByCityContainingIgnoreCase(city);
-        List<House> houses = mapper.toDomainList(houseJpaList);
+        List<House> houses = toDomainList(houseJpaList);
         log.debug("Found {} houses in city: {}", houses.size(), city);
         return houses;
     }
@@ -60,7 +264,7 @@ public class HouseRepositoryImpl implements HouseRepository {
     public List<House> findByPropertyType(String propertyType) {
         log.debug("Finding houses by property type: {}", propertyType);
         List<HouseJpa> houseJpaList = houseJpaRepository.findByPropertyTypeIgnoreCase(propertyType);
-        List<House> houses = mapper.toDomainList(houseJpaList);
+        List<House> houses = toDomainList(houseJpaList);
         log.debug("Found {} houses of type: {}", houses.size(), propertyType);
         return houses;
     }
@@ -69,22 +273,52 @@ public class HouseRepositoryImpl implements HouseRepository {
     public List<House> findByListingStatus(String status) {
         log.debug("Finding houses by listing status: {}", status);
         List<HouseJpa> houseJpaList = houseJpaRepository.findByListingStatusIgnoreCase(status);
-        List<House> houses = mapper.toDomainList(houseJpaList);
+        List<House> houses = toDomainList(houseJpaList);
         log.debug("Found {} houses with status: {}", houses.size(), status);
         return houses;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, key = "#house.id", condition = "#house.id != null")
+    })
     public House save(House house) {
         log.debug("Saving house with id: {}", house.getId());
-        // TODO: Implement reverse mapping from domain to JPA entity when needed
-        throw new UnsupportedOperationException("Save operation not yet implemented");
+        return saveHouses(List.of(house)).get(0);
+    }
+
+    /**
+     * Writes through the {@link HouseBulkWriter}, which batches the inserts Hibernate would send one by one
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, allEntries = true)
+    })
+    public List<House> saveAll(Collection<House> houses) {
+        log.debug("Saving {} houses", houses.size());
+        return saveHouses(houses);
+    }
+
+    private List<House> saveHouses(Collection<House> houses) {
+        List<House> saved = houseBulkWriter.saveAll(houses);
+        saved.forEach(house -> eventPublisher.publishEvent(HouseChangedEvent.saved(house)));
+        return saved;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, key = "#id")
+    })
     public void deleteById(Integer id) {
         log.debug("Deleting house with id: {}", id);
         houseJpaRepository.deleteById(id);
+        eventPublisher.publishEvent(HouseChangedEvent.deleted(id));
         log.debug("House with id {} deleted", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.springter.realestate.analyser.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link ConnectionLimitingDataSource}, enabled with
+ * {@code realestate.persistence.connection-limit.enabled=true}.
+ *
+ * Meant for virtual threads, where requests are no longer bounded by the Tomcat thread pool and
+ * thousands of them may need a connection at the same moment. JPA and jOOQ both draw their
+ * connections from the wrapped DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "realestate.persistence.connection-limit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConnectionLimitProperties.class)
+@Slf4j
+public class ConnectionLimitConfig {
+
+    /**
+     * Hikari's default pool size
+     */
+    private static final int DEFAULT_PERMITS = 10;
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<ConnectionLimitProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                ConnectionLimitProperties limit = properties.getObject();
+                int permits = limit.getPermits() != null ? limit.getPermits() : poolSize(dataSource);
+                log.info("Limiting DataSource {} to {} connections at a time", beanName, permits);
+                return new ConnectionLimitingDataSource(dataSource, permits, limit.getAcquireTimeout());
+            }
+        };
+    }
+
+    /**
+     * Hikari only applies its default size when the pool starts, an unset size reads as -1 before
+     */
+    private static int poolSize(DataSource dataSource) {
+        return dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0 ?
+                hikari.getMaximumPoolSize() : DEFAULT_PERMITS;
+    }
+}
@@ -0,0 +1,29 @@
+package com.springter.realestate.analyser.infrastructure.persistence.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the connection limit, bound from {@code realestate.persistence.connection-limit}
+ */
+@Data
+@ConfigurationProperties(prefix = "realestate.persistence.connection-limit")
+public class ConnectionLimitProperties {
+
+    /**
+     * Whether connections are handed out through a {@link ConnectionLimitingDataSource}
+     */
+    private boolean enabled;
+
+    /**
+     * Connections that may be held at once. Defaults to the maximum size of the Hikari pool.
+     */
+    private Integer permits;
+
+    /**
+     * Longest wait for a connection before the caller fails
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,201 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.metrics.BulkWriteMetrics;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Row2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.jooq.impl.DSL.row;
+
+/**
+ * Saves many House aggregates at once, for both persistence engines.
+ *
+ * Houses are written in batches of {@code realestate.persistence.bulk.batch-size}, each costing a
+ * handful of statements whatever its size: one query resolving the locations without ID by address,
+ * then per table one batched {@code INSERT ... ON CONFLICT DO UPDATE} for the rows with an ID and
+ * multi-row {@code INSERT ... RETURNING} statements for the new ones. The JPA adapter cannot batch
+ * these inserts itself, as Hibernate disables JDBC batching for identity columns.
+ * Must be called within a transaction, which the JDBC statements join.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HouseBulkWriter {
+
+    private final DSLContext dsl;
+    private final BulkWriteMetrics bulkWriteMetrics;
+
+    @Value("${realestate.persistence.bulk.batch-size:1000}")
+    private int batchSize = 1000;
+
+    /**
+     * Inserts or updates houses with their location and rating analyses.
+     * Rating analyses missing from a house are kept, not deleted.
+     *
+     * @return the saved houses, in the given order, with every generated ID set
+     */
+    public List<House> saveAll(Collection<House> houses) {
+        long start = System.nanoTime();
+        List<House> saved = new ArrayList<>(houses.size());
+        List<House> batch = new ArrayList<>(Math.min(batchSize, houses.size()));
+        for (House house : houses) {
+            batch.add(house);
+            if (batch.size() == batchSize) {
+                saved.addAll(saveBatch(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            saved.addAll(saveBatch(batch));
+        }
+        log.info("Saved {} houses in {} ms", saved.size(), (System.nanoTime() - start) / 1_000_000);
+        return saved;
+    }
+
+    private List<House> saveBatch(List<House> houses) {
+        long start = System.nanoTime();
+        List<Location> locations = bulkWriteMetrics.recordBatch("location", houses.size(),
+                () -> saveLocations(houses.stream().map(House::getLocation).toList()));
+        List<House> located = new ArrayList<>(houses.size());
+        for (int i = 0; i < houses.size(); i++) {
+            located.add(houses.get(i).toBuilder().location(locations.get(i)).build());
+        }
+        List<House> savedHouses = bulkWriteMetrics.recordBatch("house", houses.size(), () -> saveHouses(located));
+        int ratings = houses.stream().mapToInt(house -> ratingsOf(house).size()).sum();
+        List<House> saved = bulkWriteMetrics.recordBatch("rating_analysis", ratings, () -> saveRatingAnalyses(savedHouses));
+        log.debug("Saved a batch of {} houses and {} rating analyses in {} ms", houses.size(), ratings,
+                (System.nanoTime() - start) / 1_000_000);
+        return saved;
+    }
+
+    /**
+     * Locations without ID take the ID of an existing location at the same address, so importing
+     * the same listings twice does not duplicate their locations
+     */
+    private List<Location> saveLocations(List<Location> locations) {
+        Map<Address, Integer> existing = findLocationIds(locations.stream()
+                .filter(location -> location.getId() == null)
+                .map(Address::of)
+                .collect(Collectors.toSet()));
+
+        Map<Integer, Location> updated = new LinkedHashMap<>();
+        Map<Address, Location> created = new LinkedHashMap<>();
+        for (Location location : locations) {
+            Integer id = location.getId() != null ? location.getId() : existing.get(Address.of(location));
+            if (id != null) {
+                updated.putIfAbsent(id, location.toBuilder().id(id).build());
+            } else {
+                created.putIfAbsent(Address.of(location), location);
+            }
+        }
+        ListingRows.upsert(dsl, LOCATION, ListingRows.LOCATION_COLUMNS,
+                updated.values().stream().map(ListingRows::values).toList());
+        List<Integer> createdIds = ListingRows.insert(dsl, LOCATION, ListingRows.LOCATION_COLUMNS,
+                created.values().stream().map(ListingRows::values).toList());
+        Map<Address, Integer> ids = new HashMap<>(existing);
+        List<Address> createdAddresses = new ArrayList<>(created.keySet());
+        for (int i = 0; i < createdIds.size(); i++) {
+            ids.put(createdAddresses.get(i), createdIds.get(i));
+        }
+
+        return locations.stream()
+                .map(location -> location.getId() != null
+                        ? location
+                        : location.toBuilder().id(ids.get(Address.of(location))).build())
+                .toList();
+    }
+
+    private Map<Address, Integer> findLocationIds(Set<Address> addresses) {
+        Map<Address, Integer> ids = new HashMap<>();
+        List<Row2<String, String>> keys = addresses.stream()
+                .map(address -> row(address.streetAddress(), address.city()))
+                .distinct()
+                .toList();
+        for (int from = 0; from < keys.size(); from += ListingRows.ROWS_PER_STATEMENT) {
+            dsl.select(LOCATION.LOCATION_ID, LOCATION.STREET_ADDRESS, LOCATION.CITY, LOCATION.ZIP_POSTAL_CODE)
+                    .from(LOCATION)
+                    .where(row(LOCATION.STREET_ADDRESS, LOCATION.CITY)
+                            .in(keys.subList(from, Math.min(from + ListingRows.ROWS_PER_STATEMENT, keys.size()))))
+                    .orderBy(LOCATION.LOCATION_ID)
+                    .forEach(location -> ids.putIfAbsent(
+                            new Address(location.value2(), location.value3(), location.value4()), location.value1()));
+        }
+        return ids;
+    }
+
+    private List<House> saveHouses(List<House> houses) {
+        List<Object[]> updated = new ArrayList<>();
+        List<Object[]> created = new ArrayList<>();
+        for (House house : houses) {
+            (house.getId() != null ? updated : created).add(ListingRows.values(house));
+        }
+        ListingRows.upsert(dsl, HOUSE, ListingRows.HOUSE_COLUMNS, updated);
+        List<Integer> createdIds = ListingRows.insert(dsl, HOUSE, ListingRows.HOUSE_COLUMNS, created);
+
+        List<House> saved = new ArrayList<>(houses.size());
+        int next = 0;
+        for (House house : houses) {
+            saved.add(house.getId() != null ? house : house.toBuilder().id(createdIds.get(next++)).build());
+        }
+        return saved;
+    }
+
+    private List<House> saveRatingAnalyses(List<House> houses) {
+        List<RatingAnalysis> ratings = houses.stream()
+                .flatMap(house -> ratingsOf(house).stream()
+                        .map(rating -> rating.toBuilder().houseId(house.getId()).build()))
+                .toList();
+        List<Object[]> updated = new ArrayList<>();
+        List<Object[]> created = new ArrayList<>();
+        for (RatingAnalysis rating : ratings) {
+            (rating.getId() != null ? updated : created).add(ListingRows.values(rating));
+        }
+        ListingRows.upsert(dsl, RATING_ANALYSIS, ListingRows.RATING_ANALYSIS_COLUMNS, updated);
+        List<Integer> createdIds = ListingRows.insert(dsl, RATING_ANALYSIS, ListingRows.RATING_ANALYSIS_COLUMNS, created);
+
+        List<House> saved = new ArrayList<>(houses.size());
+        int next = 0;
+        int createdRatings = 0;
+        for (House house : houses) {
+            List<RatingAnalysis> houseRatings = new ArrayList<>();
+            for (int i = 0; i < ratingsOf(house).size(); i++) {
+                RatingAnalysis rating = ratings.get(next++);
+                houseRatings.add(rating.getId() != null ? rating : rating.toBuilder().id(createdIds.get(createdRatings++)).build());
+            }
+            saved.add(house.toBuilder().ratingAnalyses(houseRatings).build());
+        }
+        return saved;
+    }
+
+    private static List<RatingAnalysis> ratingsOf(House house) {
+        return house.getRatingAnalyses() != null ? house.getRatingAnalyses() : List.of();
+    }
+
+    /**
+     * Natural key of a location
+     */
+    private record Address(String streetAddress, String city, String zipPostalCode) {
+
+        static Address of(Location location) {
+            return new Address(location.getStreetAddress(), location.getCity(), location.getZipPostalCode());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.jooq.Condition;
+import org.jooq.Field;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.condition;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.function;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.lower;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.val;
+
+/**
+ * jOOQ conditions translating domain search criteria into SQL predicates.
+ *
+ * Counterpart of the JPA HouseSpecifications: both must select the same houses.
+ * Conditions reference the house and location tables, so queries using them
+ * join location to house.
+ */
+public final class HouseConditions {
+
+    /**
+     * Escape character of the LIKE patterns built from user input
+     */
+    public static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * The whole address in lower case, as indexed by location_address_trgm_idx of {@code db/migration/V2__location_search.sql}.
+     * The separators are inlined: with bind values the planner would not recognize the index expression.
+     */
+    public static final Field<String> SEARCHABLE_ADDRESS = lower(LOCATION.STREET_ADDRESS
+            .concat(inline(" "), LOCATION.CITY,
+                    inline(" "), coalesce(LOCATION.STATE_PROVINCE, inline("")),
+                    inline(" "), coalesce(LOCATION.ZIP_POSTAL_CODE, inline(""))));
+
+    /**
+     * The coordinates of the location as a point on the earth, as indexed by location_earth_idx
+     * of {@code db/migration/V4__geo_search.sql}. Null without coordinates.
+     */
+    public static final Field<Object> EARTH_POSITION = function("ll_to_earth", Object.class,
+            LOCATION.LATITUDE, LOCATION.LONGITUDE);
+
+    private HouseConditions() {
+    }
+
+    /**
+     * Builds a condition matching all the filters present in the criteria
+     */
+    public static Condition matching(RealEstateSearchCriteria criteria) {
+        if (criteria == null) {
+            return noCondition();
+        }
+        return locationContains(criteria.getLocation())
+                .and(propertyTypeIs(criteria.getPropertyType()))
+                .and(latestPriceBetween(criteria.getMinPrice(), criteria.getMaxPrice()))
+                .and(withinGeoFilters(criteria));
+    }
+
+    /**
+     * Matches houses whose street, city, state or zip code contains the given text (case insensitive).
+     * The same test on the whole address is implied, but lets the trigram index of the address find
+     * the candidate locations instead of scanning them all.
+     */
+    public static Condition locationContains(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return noCondition();
+        }
+        String pattern = containsPattern(location);
+        return SEARCHABLE_ADDRESS.like(pattern, LIKE_ESCAPE).and(lower(LOCATION.STREET_ADDRESS).like(pattern, LIKE_ESCAPE)
+                .or(lower(LOCATION.CITY).like(pattern, LIKE_ESCAPE))
+                .or(lower(LOCATION.STATE_PROVINCE).like(pattern, LIKE_ESCAPE))
+                .or(lower(LOCATION.ZIP_POSTAL_CODE).like(pattern, LIKE_ESCAPE)));
+    }
+
+    /**
+     * The LIKE pattern matching text containing the given location filter, trimmed and in lower case.
+     * Wildcards in the filter are escaped with {@link #LIKE_ESCAPE}, so {@code %} and {@code _} match
+     * themselves, as in the listing search index.
+     */
+    public static String containsPattern(String location) {
+        String escaped = location.trim().toLowerCase(Locale.ROOT)
+                .replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Matches houses of the given property type (case insensitive)
+     */
+    public static Condition propertyTypeIs(RealEstateProperty.PropertyType propertyType) {
+        if (propertyType == null) {
+            return noCondition();
+        }
+        return lower(HOUSE.PROPERTY_TYPE).eq(propertyType.name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Matches houses whose latest rating analysis has a last sold price within the given bounds.
+     * That some rating analysis of the house is within the bounds is implied, but lets the price index
+     * find the candidate houses instead of evaluating the latest price of every house.
+     */
+    public static Condition latestPriceBetween(Double minPrice, Double maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return noCondition();
+        }
+        return priceBetween(latestSoldPrice(), minPrice, maxPrice)
+                .and(HOUSE.HOUSE_ID.in(select(RATING_ANALYSIS.HOUSE_ID)
+                        .from(RATING_ANALYSIS)
+                        .where(priceBetween(RATING_ANALYSIS.LAST_SOLD_PRICE, minPrice, maxPrice))));
+    }
+
+    /**
+     * Matches houses passing the radius and bounding box filters of the criteria. The locations within
+     * the cube enclosing {@link RealEstateSearchCriteria#geoSearchRadiusKm()} of the distance origin are
+     * found through the GiST index of {@link #EARTH_POSITION}, then the exact distance and box are tested.
+     */
+    public static Condition withinGeoFilters(RealEstateSearchCriteria criteria) {
+        if (criteria == null || !criteria.hasGeoFilter()) {
+            return noCondition();
+        }
+        Condition condition = condition("earth_box({0}, {1}) @> {2}",
+                earthPosition(criteria.distanceOrigin()), val(metres(criteria.geoSearchRadiusKm())), EARTH_POSITION);
+        if (criteria.hasRadius()) {
+            condition = condition.and(distanceFrom(criteria.getCenter()).le(metres(criteria.getRadiusKm())));
+        }
+        if (criteria.getBounds() != null) {
+            condition = condition.and(withinBounds(criteria.getBounds()));
+        }
+        return condition;
+    }
+
+    /**
+     * Great-circle distance from the given point to the location, in metres
+     */
+    public static Field<Double> distanceFrom(GeoPoint origin) {
+        return function("earth_distance", Double.class, earthPosition(origin), EARTH_POSITION);
+    }
+
+    private static Condition withinBounds(GeoBoundingBox bounds) {
+        Condition latitude = LOCATION.LATITUDE.between(BigDecimal.valueOf(bounds.getSouth()), BigDecimal.valueOf(bounds.getNorth()));
+        BigDecimal west = BigDecimal.valueOf(bounds.getWest());
+        BigDecimal east = BigDecimal.valueOf(bounds.getEast());
+        return latitude.and(bounds.crossesAntimeridian() ?
+                LOCATION.LONGITUDE.ge(west).or(LOCATION.LONGITUDE.le(east)) :
+                LOCATION.LONGITUDE.between(west, east));
+    }
+
+    private static Field<Object> earthPosition(GeoPoint point) {
+        return function("ll_to_earth", Object.class, val(point.getLatitude()), val(point.getLongitude()));
+    }
+
+    private static double metres(double kilometres) {
+        return kilometres * 1000;
+    }
+
+    /**
+     * Correlated scalar subquery selecting the last sold price of the house's latest rating analysis.
+     * Ties on the rating timestamp are broken by the highest analysis ID.
+     */
+    public static Field<BigDecimal> latestSoldPrice() {
+        return field(select(RATING_ANALYSIS.LAST_SOLD_PRICE)
+                .from(RATING_ANALYSIS)
+                .where(RATING_ANALYSIS.HOUSE_ID.eq(HOUSE.HOUSE_ID))
+                .orderBy(RATING_ANALYSIS.RATING_TIMESTAMP.desc().nullsLast(), RATING_ANALYSIS.ANALYSIS_ID.desc())
+                .limit(1));
+    }
+
+    private static Condition priceBetween(Field<BigDecimal> price, Double minPrice, Double maxPrice) {
+        if (minPrice != null && maxPrice != null) {
+            return price.between(BigDecimal.valueOf(minPrice), BigDecimal.valueOf(maxPrice));
+        }
+        return minPrice != null ?
+                price.ge(BigDecimal.valueOf(minPrice)) :
+                price.le(BigDecimal.valueOf(maxPrice));
+    }
+}
@@ -0,0 +1,424 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.HouseChangedEvent;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.tables.records.RatingAnalysisRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Record18;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.SelectConditionStep;
+import org.jooq.SelectJoinStep;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.jooq.impl.DSL.lower;
+import static org.jooq.impl.DSL.noCondition;
+
+/**
+ * Infrastructure adapter implementing the HouseRepository domain interface with jOOQ.
+ *
+ * Alternative to the JPA adapter, enabled with {@code realestate.persistence.engine=jooq}.
+ * Queries are built from the generated table classes and rows are mapped straight
+ * into domain models, without entities, a persistence context or an intermediate mapper.
+ * Search queries are timed through {@link SearchMetrics} like those of the JPA adapter.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+@ConditionalOnProperty(prefix = "realestate.persistence", name = "engine", havingValue = "jooq")
+public class JooqHouseRepository implements HouseRepository {
+
+    private static final String ENGINE = "jooq";
+
+    /**
+     * Number of listing rows fetched per round trip when streaming listings
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final DSLContext dsl;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchMetrics searchMetrics;
+    private final HouseBulkWriter houseBulkWriter;
+
+    /**
+     * Loads all houses with their locations in one query and all rating analyses in a second one
+     */
+    @Override
+    public List<House> findAll() {
+        log.debug("Finding all houses from database");
+        List<House> houses = withRatings(selectHouses()
+                .orderBy(HOUSE.HOUSE_ID)
+                .fetch(this::toHouse), noCondition());
+        log.debug("Found {} houses", houses.size());
+        return houses;
+    }
+
+    @Override
+    public Page<House> findByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding houses by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return searchMetrics.recordQuery(ENGINE, "findByCriteria", searchCriteria, pageRequest, () -> {
+            Page<House> page = fetchPage(selectHouses(), HouseConditions.matching(searchCriteria), pageRequest,
+                    this::toHouse, House::getId);
+            return page.toBuilder().content(withRatings(page.getContent())).build();
+        });
+    }
+
+    @Override
+    public Page<House> findByCriteriaWithLatestRating(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding houses with latest rating by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return searchMetrics.recordQuery(ENGINE, "findByCriteriaWithLatestRating", searchCriteria, pageRequest, () -> {
+            Page<House> page = fetchPage(selectHouses(), HouseConditions.matching(searchCriteria), pageRequest,
+                    this::toHouse, House::getId);
+            return page.toBuilder().content(withLatestRating(page.getContent())).build();
+        });
+    }
+
+    @Override
+    public Page<PropertyListing> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding listings by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        return searchMetrics.recordQuery(ENGINE, "findListingsByCriteria", searchCriteria, pageRequest,
+                () -> searchCriteria != null && searchCriteria.hasGeoFilter() ?
+                        fetchListingsByDistance(searchCriteria, pageRequest) :
+                        fetchPage(selectListings(dsl), HouseConditions.matching(searchCriteria), pageRequest,
+                                Records.mapping(PropertyListing::new), PropertyListing::getId));
+    }
+
+    /**
+     * Reads the listings lazily through a cursor. The PostgreSQL driver only honours the fetch size
+     * outside auto-commit, which the read-only transaction of this adapter provides.
+     */
+    @Override
+    public long forEachListingByCriteria(RealEstateSearchCriteria searchCriteria, Consumer<PropertyListing> action) {
+        log.debug("Streaming listings by criteria: {}", searchCriteria);
+        long count = 0;
+        try (Stream<PropertyListing> listings = selectListings(dsl)
+                .where(HouseConditions.matching(searchCriteria))
+                .orderBy(HOUSE.HOUSE_ID)
+                .fetchSize(STREAM_FETCH_SIZE)
+                .fetchStream()
+                .map(Records.mapping(PropertyListing::new))) {
+            Iterator<PropertyListing> iterator = listings.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        log.debug("Streamed {} listings", count);
+        return count;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.HOUSE_CACHE, key = "#id", unless = "#result == null")
+    public Optional<House> findById(Integer id) {
+        log.debug("Finding house by id: {}", id);
+        Optional<House> house = selectHouses()
+                .where(HOUSE.HOUSE_ID.eq(id))
+                .fetchOptional(this::toHouse)
+                .map(found -> withRatings(List.of(found)).get(0));
+        log.debug("House with id {} found: {}", id, house.isPresent());
+        return house;
+    }
+
+    @Override
+    public List<House> findByCity(String city) {
+        log.debug("Finding houses by city: {}", city);
+        Condition condition = lower(LOCATION.CITY).contains(city.toLowerCase(Locale.ROOT));
+        List<House> houses = withRatings(selectHouses().where(condition).fetch(this::toHouse), condition);
+        log.debug("Found {} houses in city: {}", houses.size(), city);
+        return houses;
+    }
+
+    @Override
+    public List<House> findByPropertyType(String propertyType) {
+        log.debug("Finding houses by property type: {}", propertyType);
+        Condition condition = HOUSE.PROPERTY_TYPE.equalIgnoreCase(propertyType);
+        List<House> houses = withRatings(selectHouses().where(condition).fetch(this::toHouse), condition);
+        log.debug("Found {} houses of type: {}", houses.size(), propertyType);
+        return houses;
+    }
+
+    @Override
+    public List<House> findByListingStatus(String status) {
+        log.debug("Finding houses by listing status: {}", status);
+        Condition condition = HOUSE.LISTING_STATUS.equalIgnoreCase(status);
+        List<House> houses = withRatings(selectHouses().where(condition).fetch(this::toHouse), condition);
+        log.debug("Found {} houses with status: {}", houses.size(), status);
+        return houses;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, key = "#house.id", condition = "#house.id != null")
+    })
+    public House save(House house) {
+        log.debug("Saving house with id: {}", house.getId());
+        return saveHouses(List.of(house)).get(0);
+    }
+
+    /**
+     * Writes through the {@link HouseBulkWriter}, shared with the JPA adapter
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, allEntries = true)
+    })
+    public List<House> saveAll(Collection<House> houses) {
+        log.debug("Saving {} houses", houses.size());
+        return saveHouses(houses);
+    }
+
+    private List<House> saveHouses(Collection<House> houses) {
+        List<House> saved = houseBulkWriter.saveAll(houses);
+        saved.forEach(house -> eventPublisher.publishEvent(HouseChangedEvent.saved(house)));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, key = "#id")
+    })
+    public void deleteById(Integer id) {
+        log.debug("Deleting house with id: {}", id);
+        // Same effect as the JPA cascade: the rating history goes with the house
+        dsl.deleteFrom(RATING_ANALYSIS).where(RATING_ANALYSIS.HOUSE_ID.eq(id)).execute();
+        dsl.deleteFrom(HOUSE).where(HOUSE.HOUSE_ID.eq(id)).execute();
+        eventPublisher.publishEvent(HouseChangedEvent.deleted(id));
+        log.debug("House with id {} deleted", id);
+    }
+
+    /**
+     * Selects the columns of a {@link PropertyListing}, in the order of its constructor.
+     * Shared with {@link ReactiveJooqHouseRepository}, so both adapters return the same listings.
+     */
+    static SelectJoinStep<Record18<Integer, String, String, Integer, Integer, Integer, BigDecimal, String,
+            String, String, String, String, BigDecimal, Integer, Integer, BigDecimal, BigDecimal, BigDecimal>> selectListings(DSLContext dsl) {
+        return dsl.select(
+                        HOUSE.HOUSE_ID, HOUSE.NAME, HOUSE.PROPERTY_TYPE, HOUSE.YEAR_BUILT,
+                        HOUSE.SQUARE_FOOTAGE, HOUSE.NUM_BEDROOMS, HOUSE.NUM_BATHROOMS, HOUSE.HEATING_TYPE,
+                        LOCATION.STREET_ADDRESS, LOCATION.CITY, LOCATION.STATE_PROVINCE, LOCATION.ZIP_POSTAL_CODE,
+                        LOCATION.SCHOOL_RATING_AVG, LOCATION.WALK_SCORE, LOCATION.TRANSIT_SCORE,
+                        LOCATION.LATITUDE, LOCATION.LONGITUDE,
+                        HouseConditions.latestSoldPrice())
+                .from(HOUSE)
+                .join(LOCATION).on(LOCATION.LOCATION_ID.eq(HOUSE.LOCATION_ID));
+    }
+
+    /**
+     * Counts the houses matching the condition, shared with {@link ReactiveJooqHouseRepository}
+     */
+    static SelectConditionStep<Record1<Integer>> countHouses(DSLContext dsl, Condition condition) {
+        return dsl.selectCount()
+                .from(HOUSE)
+                .join(LOCATION).on(LOCATION.LOCATION_ID.eq(HOUSE.LOCATION_ID))
+                .where(condition);
+    }
+
+    private SelectJoinStep<Record> selectHouses() {
+        return dsl.select(HOUSE.fields())
+                .select(LOCATION.fields())
+                .from(HOUSE)
+                .join(LOCATION).on(LOCATION.LOCATION_ID.eq(HOUSE.LOCATION_ID));
+    }
+
+    /**
+     * Fetches one page ordered by house ID, either by offset or by seeking past a cursor.
+     * Keyset pages read one extra row to detect a following page and never count;
+     * offset pages only count when the page alone does not tell the total.
+     */
+    private <R extends Record, T> Page<T> fetchPage(SelectJoinStep<R> select, Condition condition, PageRequest pageRequest,
+                                                     RecordMapper<? super R, T> mapper,
+                                                     ToIntFunction<T> idOf) {
+        int size = pageRequest.getSize();
+
+        if (pageRequest.isKeyset()) {
+            List<T> rows = select.where(condition.and(HOUSE.HOUSE_ID.gt((int) pageRequest.getCursor().getLastId())))
+                    .orderBy(HOUSE.HOUSE_ID)
+                    .limit(size + 1)
+                    .fetch(mapper);
+            boolean hasNext = rows.size() > size;
+            List<T> content = hasNext ? rows.subList(0, size) : rows;
+            log.debug("Found {} rows after cursor {}", content.size(), pageRequest.getCursor());
+            return Page.keyset(content, pageRequest, hasNext ? cursorAfter(content, idOf) : null);
+        }
+
+        List<T> content = select.where(condition)
+                .orderBy(HOUSE.HOUSE_ID)
+                .limit(size)
+                .offset(pageRequest.getOffset())
+                .fetch(mapper);
+        // A short first page already tells the total, skip the COUNT query
+        long totalElements = pageRequest.getOffset() == 0 && content.size() < size ?
+                content.size() : count(condition);
+        log.debug("Found {} rows in page {} of {} matching houses",
+                content.size(), pageRequest.getPage(), totalElements);
+        boolean hasNext = pageRequest.getOffset() + content.size() < totalElements;
+        return Page.of(content, pageRequest, totalElements, hasNext ? cursorAfter(content, idOf) : null);
+    }
+
+    /**
+     * Fetches one page of the listings of a geo search, nearest first, by offset: a house ID cursor
+     * cannot seek in distance order, so a keyset request gets the first page and no page has a cursor.
+     */
+    private Page<PropertyListing> fetchListingsByDistance(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        Condition condition = HouseConditions.matching(searchCriteria);
+        int size = pageRequest.getSize();
+        List<PropertyListing> content = selectListings(dsl)
+                .where(condition)
+                .orderBy(HouseConditions.distanceFrom(searchCriteria.distanceOrigin()), HOUSE.HOUSE_ID)
+                .limit(size)
+                .offset(pageRequest.getOffset())
+                .fetch(Records.mapping(PropertyListing::new));
+        long totalElements = pageRequest.getOffset() == 0 && content.size() < size ?
+                content.size() : count(condition);
+        log.debug("Found {} listings in page {} of {} houses by distance",
+                content.size(), pageRequest.getPage(), totalElements);
+        return Page.of(content, pageRequest, totalElements, null);
+    }
+
+    private long count(Condition condition) {
+        return countHouses(dsl, condition).fetchSingle(0, long.class);
+    }
+
+    private <T> PageCursor cursorAfter(List<T> content, ToIntFunction<T> idOf) {
+        return content.isEmpty() ? null : PageCursor.after(idOf.applyAsInt(content.get(content.size() - 1)));
+    }
+
+    /**
+     * Attaches the full rating history of the given houses, loaded with a single query
+     */
+    private List<House> withRatings(List<House> houses) {
+        if (houses.isEmpty()) {
+            return houses;
+        }
+        return withRatings(houses, HOUSE.HOUSE_ID.in(houses.stream().map(House::getId).toList()));
+    }
+
+    /**
+     * Attaches the rating history of the houses selected by the given house condition.
+     * Passing the condition instead of the IDs keeps large result sets out of an IN list.
+     */
+    private List<House> withRatings(List<House> houses, Condition houseCondition) {
+        if (houses.isEmpty()) {
+            return houses;
+        }
+        Map<Integer, List<RatingAnalysis>> ratingsByHouse = dsl.select(RATING_ANALYSIS.fields())
+                .from(RATING_ANALYSIS)
+                .join(HOUSE).on(HOUSE.HOUSE_ID.eq(RATING_ANALYSIS.HOUSE_ID))
+                .join(LOCATION).on(LOCATION.LOCATION_ID.eq(HOUSE.LOCATION_ID))
+                .where(houseCondition)
+                .orderBy(RATING_ANALYSIS.HOUSE_ID, RATING_ANALYSIS.ANALYSIS_ID)
+                .fetchGroups(RATING_ANALYSIS.HOUSE_ID, record -> toRating(record.into(RATING_ANALYSIS)));
+        return houses.stream()
+                .map(house -> house.toBuilder()
+                        .ratingAnalyses(ratingsByHouse.getOrDefault(house.getId(), List.of()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Attaches only the latest rating analysis of each house, selected with DISTINCT ON
+     */
+    private List<House> withLatestRating(List<House> houses) {
+        if (houses.isEmpty()) {
+            return houses;
+        }
+        Collection<Integer> houseIds = houses.stream().map(House::getId).toList();
+        Map<Integer, RatingAnalysis> latestRatings = dsl.selectDistinct(RATING_ANALYSIS.fields())
+                .on(RATING_ANALYSIS.HOUSE_ID)
+                .from(RATING_ANALYSIS)
+                .where(RATING_ANALYSIS.HOUSE_ID.in(houseIds))
+                .orderBy(RATING_ANALYSIS.HOUSE_ID,
+                        RATING_ANALYSIS.RATING_TIMESTAMP.desc().nullsLast(),
+                        RATING_ANALYSIS.ANALYSIS_ID.desc())
+                .fetchMap(RATING_ANALYSIS.HOUSE_ID, record -> toRating(record.into(RATING_ANALYSIS)));
+        return houses.stream()
+                .map(house -> house.toBuilder()
+                        .ratingAnalyses(latestRatings.containsKey(house.getId()) ?
+                                List.of(latestRatings.get(house.getId())) : List.of())
+                        .build())
+                .toList();
+    }
+
+    private House toHouse(Record record) {
+        return House.builder()
+                .id(record.get(HOUSE.HOUSE_ID))
+                .location(Location.builder()
+                        .id(record.get(LOCATION.LOCATION_ID))
+                        .streetAddress(record.get(LOCATION.STREET_ADDRESS))
+                        .city(record.get(LOCATION.CITY))
+                        .stateProvince(record.get(LOCATION.STATE_PROVINCE))
+                        .zipPostalCode(record.get(LOCATION.ZIP_POSTAL_CODE))
+                        .latitude(record.get(LOCATION.LATITUDE))
+                        .longitude(record.get(LOCATION.LONGITUDE))
+                        .schoolRatingAvg(record.get(LOCATION.SCHOOL_RATING_AVG))
+                        .walkScore(record.get(LOCATION.WALK_SCORE))
+                        .transitScore(record.get(LOCATION.TRANSIT_SCORE))
+                        .build())
+                .name(record.get(HOUSE.NAME))
+                .listingStatus(record.get(HOUSE.LISTING_STATUS))
+                .yearBuilt(record.get(HOUSE.YEAR_BUILT))
+                .squareFootage(record.get(HOUSE.SQUARE_FOOTAGE))
+                .numBedrooms(record.get(HOUSE.NUM_BEDROOMS))
+                .numBathrooms(record.get(HOUSE.NUM_BATHROOMS))
+                .propertyType(record.get(HOUSE.PROPERTY_TYPE))
+                .heatingType(record.get(HOUSE.HEATING_TYPE))
+                .ratingAnalyses(List.of())
+                .build();
+    }
+
+    private RatingAnalysis toRating(RatingAnalysisRecord record) {
+        return RatingAnalysis.builder()
+                .id(record.getAnalysisId())
+                .houseId(record.getHouseId())
+                .overallScore(record.getOverallScore())
+                .userRatingCount(record.getUserRatingCount())
+                .priceToSqftRatio(record.getPriceToSqftRatio())
+                .marketCompScore(record.getMarketCompScore())
+                .lastSoldPrice(record.getLastSoldPrice())
+                .timeOnMarketDays(record.getTimeOnMarketDays())
+                .ratingTimestamp(record.getRatingTimestamp())
+                .build();
+    }
+}
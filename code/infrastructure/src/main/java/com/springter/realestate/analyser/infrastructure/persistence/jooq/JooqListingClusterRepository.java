@@ -0,0 +1,110 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.location.TileGrid;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.ListingClusterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static org.jooq.impl.DSL.avg;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.min;
+
+/**
+ * jOOQ implementation of the {@link ListingClusterRepository}, used whatever the persistence engine.
+ *
+ * One query groups the matching listings by the column and row of their cell, computed in SQL with the
+ * formulas of {@link TileGrid}, so only a row per non-empty cell leaves the database. The filters are
+ * those of the listing search, see {@link HouseConditions#matching}: the bounds of the map find the
+ * locations through the earthdistance index.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class JooqListingClusterRepository implements ListingClusterRepository {
+
+    private final DSLContext dsl;
+
+    @Override
+    public List<ListingCluster> clusterListings(RealEstateSearchCriteria searchCriteria, TileGrid grid) {
+        log.debug("Clustering listings by criteria: {}, zoom: {}", searchCriteria, grid.getZoom());
+        return clusterQuery(searchCriteria, grid).fetch(record -> ListingCluster.builder()
+                .zoom(grid.getZoom())
+                .x(record.get("x", Integer.class))
+                .y(record.get("y", Integer.class))
+                .count(record.get("count", Long.class))
+                .latitude(record.get("latitude", Double.class))
+                .longitude(record.get("longitude", Double.class))
+                .minPrice(record.get("min_price", Double.class))
+                .averagePrice(record.get("avg_price", Double.class))
+                .maxPrice(record.get("max_price", Double.class))
+                .build());
+    }
+
+    ResultQuery<? extends Record> clusterQuery(RealEstateSearchCriteria searchCriteria, TileGrid grid) {
+        Table<?> listings = dsl.select(
+                        tileColumn(grid).as("x"),
+                        tileRow(grid).as("y"),
+                        LOCATION.LATITUDE,
+                        LOCATION.LONGITUDE,
+                        HouseConditions.latestSoldPrice().as("price"))
+                .from(HOUSE)
+                .join(LOCATION).on(LOCATION.LOCATION_ID.eq(HOUSE.LOCATION_ID))
+                .where(HouseConditions.matching(searchCriteria))
+                .and(LOCATION.LATITUDE.isNotNull())
+                .and(LOCATION.LONGITUDE.isNotNull())
+                .asTable("listing");
+        Field<Integer> x = listings.field("x", Integer.class);
+        Field<Integer> y = listings.field("y", Integer.class);
+        Field<BigDecimal> price = listings.field("price", BigDecimal.class);
+        return dsl.select(
+                        x, y,
+                        count().as("count"),
+                        avg(listings.field(LOCATION.LATITUDE)).as("latitude"),
+                        avg(listings.field(LOCATION.LONGITUDE)).as("longitude"),
+                        min(price).as("min_price"),
+                        avg(price).as("avg_price"),
+                        max(price).as("max_price"))
+                .from(listings)
+                .groupBy(x, y)
+                .orderBy(y, x);
+    }
+
+    /**
+     * The column of {@link TileGrid#column}, in double precision like the in-memory index
+     */
+    private static Field<Integer> tileColumn(TileGrid grid) {
+        return field("least(floor(({0} + 180) / 360 * {1}), {1} - 1)", Double.class,
+                LOCATION.LONGITUDE.cast(SQLDataType.DOUBLE), inline(grid.size()))
+                .cast(SQLDataType.INTEGER);
+    }
+
+    /**
+     * The row of {@link TileGrid#row}, in double precision like the in-memory index
+     */
+    private static Field<Integer> tileRow(TileGrid grid) {
+        Field<Double> latitude = field("radians(greatest(least({0}, {1}), -{1}))", Double.class,
+                LOCATION.LATITUDE.cast(SQLDataType.DOUBLE), inline(TileGrid.MAX_LATITUDE));
+        return field("greatest(least(floor((1 - ln(tan({0}) + 1 / cos({0})) / pi()) / 2 * {1}), {1} - 1), 0)", Double.class,
+                latitude, inline(grid.size()))
+                .cast(SQLDataType.INTEGER);
+    }
+}
@@ -0,0 +1,78 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import com.springter.realestate.analyser.domain.house.HouseChangedEvent;
+import com.springter.realestate.analyser.domain.ingest.ListingUpdates;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.repositories.ListingIngestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Records;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+
+/**
+ * jOOQ implementation of the {@link ListingIngestRepository}, used whatever the persistence engine.
+ *
+ * Each table is written with a single {@code INSERT ... ON CONFLICT DO UPDATE} statement, prepared
+ * once and executed as a JDBC batch, then its identity sequence is moved past the upstream IDs, so a
+ * batch of updates costs six round trips however many rows it holds. Once written, the listings of the affected houses are read back and published as
+ * {@link HouseChangedEvent}s, and the search and house caches are cleared.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+@ConditionalOnProperty(prefix = "realestate.ingest", name = "enabled", havingValue = "true")
+public class JooqListingIngestRepository implements ListingIngestRepository {
+
+    private final DSLContext dsl;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROPERTY_SEARCH_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.HOUSE_CACHE, allEntries = true)
+    })
+    public void upsert(ListingUpdates updates) {
+        log.debug("Upserting {} locations, {} houses and {} rating analyses", updates.getLocations().size(),
+                updates.getHouses().size(), updates.getRatingAnalyses().size());
+        ListingRows.upsert(dsl, LOCATION, ListingRows.LOCATION_COLUMNS,
+                updates.getLocations().stream().map(ListingRows::values).toList());
+        ListingRows.upsert(dsl, HOUSE, ListingRows.HOUSE_COLUMNS,
+                updates.getHouses().stream().map(ListingRows::values).toList());
+        ListingRows.upsert(dsl, RATING_ANALYSIS, ListingRows.RATING_ANALYSIS_COLUMNS,
+                updates.getRatingAnalyses().stream().map(ListingRows::values).toList());
+        publishChangedListings(updates);
+    }
+
+    /**
+     * Reloads the listings of the houses whose house, location or ratings changed
+     */
+    private void publishChangedListings(ListingUpdates updates) {
+        Set<Integer> locationIds = new HashSet<>();
+        updates.getLocations().forEach(location -> locationIds.add(location.getId()));
+        Set<Integer> houseIds = new HashSet<>();
+        updates.getHouses().forEach(house -> houseIds.add(house.getId()));
+        updates.getRatingAnalyses().forEach(rating -> houseIds.add(rating.getHouseId()));
+
+        List<PropertyListing> listings = JooqHouseRepository.selectListings(dsl)
+                .where(HOUSE.HOUSE_ID.in(houseIds).or(HOUSE.LOCATION_ID.in(locationIds)))
+                .fetch(Records.mapping(PropertyListing::new));
+        listings.forEach(listing -> eventPublisher.publishEvent(HouseChangedEvent.saved(listing)));
+        log.debug("Published changes of {} listings", listings.size());
+    }
+}
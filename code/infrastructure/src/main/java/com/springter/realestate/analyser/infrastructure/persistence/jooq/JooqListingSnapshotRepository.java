@@ -0,0 +1,185 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.ingest.ListingLoadReport;
+import com.springter.realestate.analyser.domain.repositories.ListingSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.postgresql.PGConnection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+
+/**
+ * PostgreSQL implementation of the {@link ListingSnapshotRepository}, used whatever the persistence engine.
+ *
+ * The file is streamed with {@code COPY ... FROM STDIN} into a temporary staging table, parsed by the
+ * server and never held in memory, then merged into the location, house and rating analysis tables with
+ * one {@code INSERT ... SELECT DISTINCT ON ... ON CONFLICT DO UPDATE} each, the last line of an ID
+ * winning. Finally the identity sequences are moved past the loaded IDs, so rows created afterwards
+ * do not collide with them. The staging table only lives as long as the load.
+ * Caches and search indexes of running instances are not notified, as for any direct database change.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+@ConditionalOnProperty(prefix = "realestate.snapshot-load", name = "enabled", havingValue = "true")
+public class JooqListingSnapshotRepository implements ListingSnapshotRepository {
+
+    static final int PROGRESS_INTERVAL = 100_000;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final Name STAGING = DSL.name("listing_snapshot");
+
+    /**
+     * Line number, ordering the lines of the same ID
+     */
+    private static final Field<Long> LINE = DSL.field(DSL.name(STAGING.last(), "line"), SQLDataType.BIGINT);
+
+    /**
+     * The columns of the three tables, the foreign keys being the IDs of the referenced rows
+     */
+    private static final List<Field<?>> CSV_COLUMNS = csvColumns();
+
+    private final DSLContext dsl;
+
+    @Override
+    public ListingLoadReport load(Reader csv, LongConsumer progress) {
+        long start = System.nanoTime();
+        dsl.createTemporaryTable(STAGING)
+                .column(LINE.getUnqualifiedName(), SQLDataType.BIGINT.identity(true))
+                .columns(CSV_COLUMNS.stream().map(column -> DSL.field(column.getUnqualifiedName(), column.getDataType())).toList())
+                .onCommitDrop()
+                .execute();
+
+        long lines = copy(csv, progress);
+        log.debug("Copied {} lines into {}", lines, STAGING);
+
+        int locations = merge(LOCATION, ListingRows.LOCATION_COLUMNS);
+        int houses = merge(HOUSE, ListingRows.HOUSE_COLUMNS);
+        int ratingAnalyses = merge(RATING_ANALYSIS, ListingRows.RATING_ANALYSIS_COLUMNS);
+        Stream.of(LOCATION.LOCATION_ID, HOUSE.HOUSE_ID, RATING_ANALYSIS.ANALYSIS_ID).forEach(id -> ListingRows.advanceIdentity(dsl, id));
+        // Dropped now rather than on commit, in case the caller's transaction loads another snapshot
+        dsl.dropTable(STAGING).execute();
+
+        return ListingLoadReport.builder()
+                .lines(lines)
+                .locations(locations)
+                .houses(houses)
+                .ratingAnalyses(ratingAnalyses)
+                .elapsed(Duration.ofNanos(System.nanoTime() - start))
+                .build();
+    }
+
+    private long copy(Reader csv, LongConsumer progress) {
+        String sql = "COPY " + dsl.render(DSL.table(STAGING))
+                + " (" + String.join(", ", CSV_COLUMNS.stream().map(column -> dsl.render(column.getUnqualifiedName())).toList()) + ")"
+                + " FROM STDIN WITH (FORMAT csv, HEADER true)";
+        ProgressReader reader = new ProgressReader(csv, progress);
+        long lines = dsl.connectionResult(connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader, COPY_BUFFER_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the listing snapshot", e);
+            }
+        });
+        progress.accept(reader.lines);
+        return lines;
+    }
+
+    /**
+     * Inserts or updates the rows of one table from the staging table, skipping lines without an ID
+     * for it, such as the rating columns of a house without ratings
+     */
+    private <R extends Record> int merge(Table<R> table, List<TableField<?, ?>> columns) {
+        List<Field<?>> staged = columns.stream().map(JooqListingSnapshotRepository::staged).toList();
+        Field<?> id = staged.get(0);
+        return dsl.insertInto(table, columns)
+                .select(dsl.select(staged)
+                        .distinctOn(id)
+                        .from(STAGING)
+                        .where(id.isNotNull())
+                        .orderBy(id, LINE.desc()))
+                .onConflict(columns.get(0))
+                .doUpdate()
+                .set(ListingRows.excludedValues(columns))
+                .execute();
+    }
+
+    private static Field<?> staged(TableField<?, ?> column) {
+        return DSL.field(DSL.name(STAGING.last(), column.getName()), column.getDataType().getSQLDataType());
+    }
+
+    private static List<Field<?>> csvColumns() {
+        Map<String, Field<?>> columns = new LinkedHashMap<>();
+        Stream.of(ListingRows.LOCATION_COLUMNS, ListingRows.HOUSE_COLUMNS, ListingRows.RATING_ANALYSIS_COLUMNS)
+                .flatMap(List::stream)
+                .forEach(column -> columns.putIfAbsent(column.getName(), staged(column)));
+        return new ArrayList<>(columns.values());
+    }
+
+    /**
+     * Counts the lines read by the driver, reporting every {@link #PROGRESS_INTERVAL} lines
+     */
+    private static final class ProgressReader extends FilterReader {
+
+        private final LongConsumer progress;
+        private long lines;
+
+        ProgressReader(Reader in, LongConsumer progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c == '\n') {
+                countLine();
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            for (int i = offset; i < offset + read; i++) {
+                if (buffer[i] == '\n') {
+                    countLine();
+                }
+            }
+            return read;
+        }
+
+        private void countLine() {
+            if (++lines % PROGRESS_INTERVAL == 0) {
+                progress.accept(lines);
+            }
+        }
+    }
+}
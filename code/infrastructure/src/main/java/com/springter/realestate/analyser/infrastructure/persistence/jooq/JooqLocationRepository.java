@@ -0,0 +1,78 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.location.LocationMatch;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+import com.springter.realestate.analyser.domain.repositories.LocationRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.tables.records.LocationRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+
+/**
+ * jOOQ implementation of the {@link LocationRepository}, used whatever the persistence engine.
+ *
+ * Relies on the pg_trgm index of {@code db/migration/V2__location_search.sql} over the whole address, which answers
+ * both modes: {@link LocationSearchMode#CONTAINS} is the listing search's {@link HouseConditions#locationContains}
+ * filter, and {@link LocationSearchMode#BEST_MATCH} keeps the addresses containing a word similar to the
+ * text ({@code <%}). Both rank the locations by that word similarity.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class JooqLocationRepository implements LocationRepository {
+
+    private final DSLContext dsl;
+
+    @Override
+    public List<LocationMatch> search(String text, LocationSearchMode mode, int limit) {
+        log.debug("Searching locations matching '{}' ({}), limit {}", text, mode, limit);
+        return searchQuery(text, mode, limit).fetch(this::toMatch);
+    }
+
+    ResultQuery<Record> searchQuery(String text, LocationSearchMode mode, int limit) {
+        String searched = text.toLowerCase(Locale.ROOT);
+        Field<Double> score = DSL.function("word_similarity", Double.class,
+                DSL.val(searched), HouseConditions.SEARCHABLE_ADDRESS).as("score");
+        Condition condition = switch (mode) {
+            case CONTAINS -> HouseConditions.locationContains(text);
+            case BEST_MATCH -> DSL.condition("{0} <% {1}", DSL.val(searched), HouseConditions.SEARCHABLE_ADDRESS);
+        };
+        return dsl.select(LOCATION.fields())
+                .select(score)
+                .from(LOCATION)
+                .where(condition)
+                .orderBy(score.desc(), LOCATION.LOCATION_ID)
+                .limit(limit);
+    }
+
+    private LocationMatch toMatch(Record record) {
+        LocationRecord location = record.into(LOCATION);
+        return new LocationMatch(Location.builder()
+                .id(location.getLocationId())
+                .streetAddress(location.getStreetAddress())
+                .city(location.getCity())
+                .stateProvince(location.getStateProvince())
+                .zipPostalCode(location.getZipPostalCode())
+                .latitude(location.getLatitude())
+                .longitude(location.getLongitude())
+                .schoolRatingAvg(location.getSchoolRatingAvg())
+                .walkScore(location.getWalkScore())
+                .transitScore(location.getTransitScore())
+                .build(),
+                record.get("score", Double.class));
+    }
+}
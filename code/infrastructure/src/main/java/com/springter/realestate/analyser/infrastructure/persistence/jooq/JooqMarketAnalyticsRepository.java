@@ -0,0 +1,113 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.analytics.MarketStatistics;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.MarketAnalyticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.SelectField;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.jooq.impl.DSL.avg;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.nullif;
+import static org.jooq.impl.DSL.percentileCont;
+import static org.jooq.impl.DSL.rowNumber;
+import static org.jooq.impl.DSL.upper;
+
+/**
+ * jOOQ implementation of the {@link MarketAnalyticsRepository}, used whatever the persistence engine.
+ *
+ * One query computes every statistic in the database: a window function numbers the rating analyses
+ * of each matching house from the latest, and the ordered-set aggregates compute the percentiles of
+ * the latest ones per segment, so only a row per segment leaves the database. The filters are those
+ * of the listing search, see {@link HouseConditions#matching}.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class JooqMarketAnalyticsRepository implements MarketAnalyticsRepository {
+
+    private final DSLContext dsl;
+
+    @Override
+    public List<MarketStatistics> marketStatistics(RealEstateSearchCriteria searchCriteria, MarketGrouping grouping) {
+        log.debug("Computing market statistics by {} with criteria: {}", grouping, searchCriteria);
+        return statisticsQuery(searchCriteria, grouping).fetch(record -> MarketStatistics.builder()
+                .city(grouping.byCity() ? record.get("city", String.class) : null)
+                .propertyType(grouping.byPropertyType() ? record.get("property_type", String.class) : null)
+                .listingCount(record.get("listing_count", Long.class))
+                .pricedCount(record.get("priced_count", Long.class))
+                .priceP25(record.get("price_p25", Double.class))
+                .medianPrice(record.get("median_price", Double.class))
+                .priceP75(record.get("price_p75", Double.class))
+                .priceP90(record.get("price_p90", Double.class))
+                .medianPricePerSqft(record.get("median_price_per_sqft", Double.class))
+                .averageDaysOnMarket(record.get("avg_days_on_market", Double.class))
+                .staleShare(record.get("stale_share", Double.class))
+                .build());
+    }
+
+    ResultQuery<? extends Record> statisticsQuery(RealEstateSearchCriteria searchCriteria, MarketGrouping grouping) {
+        Table<?> ratings = dsl.select(
+                        LOCATION.CITY,
+                        upper(HOUSE.PROPERTY_TYPE).as("property_type"),
+                        RATING_ANALYSIS.ANALYSIS_ID,
+                        RATING_ANALYSIS.LAST_SOLD_PRICE,
+                        RATING_ANALYSIS.PRICE_TO_SQFT_RATIO,
+                        RATING_ANALYSIS.TIME_ON_MARKET_DAYS,
+                        rowNumber().over()
+                                .partitionBy(HOUSE.HOUSE_ID)
+                                .orderBy(RATING_ANALYSIS.RATING_TIMESTAMP.desc().nullsLast(), RATING_ANALYSIS.ANALYSIS_ID.desc())
+                                .as("recency"))
+                .from(HOUSE)
+                .join(LOCATION).on(LOCATION.LOCATION_ID.eq(HOUSE.LOCATION_ID))
+                .leftJoin(RATING_ANALYSIS).on(RATING_ANALYSIS.HOUSE_ID.eq(HOUSE.HOUSE_ID))
+                .where(HouseConditions.matching(searchCriteria))
+                .asTable("rating");
+        Field<BigDecimal> price = ratings.field(RATING_ANALYSIS.LAST_SOLD_PRICE);
+        Field<Integer> daysOnMarket = ratings.field(RATING_ANALYSIS.TIME_ON_MARKET_DAYS);
+
+        List<Field<?>> segment = new ArrayList<>();
+        if (grouping.byCity()) {
+            segment.add(ratings.field(LOCATION.CITY));
+        }
+        if (grouping.byPropertyType()) {
+            segment.add(ratings.field("property_type", String.class));
+        }
+        List<SelectField<?>> fields = new ArrayList<>(segment);
+        fields.addAll(List.of(
+                count().as("listing_count"),
+                count(price).as("priced_count"),
+                percentileCont(0.25).withinGroupOrderBy(price).as("price_p25"),
+                percentileCont(0.5).withinGroupOrderBy(price).as("median_price"),
+                percentileCont(0.75).withinGroupOrderBy(price).as("price_p75"),
+                percentileCont(0.9).withinGroupOrderBy(price).as("price_p90"),
+                percentileCont(0.5).withinGroupOrderBy(ratings.field(RATING_ANALYSIS.PRICE_TO_SQFT_RATIO)).as("median_price_per_sqft"),
+                avg(daysOnMarket).as("avg_days_on_market"),
+                count().filterWhere(daysOnMarket.gt(RatingAnalysis.STALE_DAYS_ON_MARKET)).cast(SQLDataType.DOUBLE)
+                        .div(nullif(count(ratings.field(RATING_ANALYSIS.ANALYSIS_ID)), 0)).as("stale_share")));
+        return dsl.select(fields)
+                .from(ratings)
+                .where(ratings.field("recency", Integer.class).eq(1))
+                .groupBy(segment)
+                .orderBy(segment.stream().map(field -> field.asc().nullsLast()).toList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.analytics.MarketSummary;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.repositories.MarketSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.lower;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.nullif;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * jOOQ implementation of the {@link MarketSummaryRepository}, used whatever the persistence engine.
+ *
+ * The summary is the {@code market_summary} materialized view of migration V5, which the code
+ * generator does not see. Its rows are found through the index of their city and month, and
+ * {@code REFRESH MATERIALIZED VIEW CONCURRENTLY} rebuilds it next to the rows being read.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class JooqMarketSummaryRepository implements MarketSummaryRepository {
+
+    static final Table<Record> MARKET_SUMMARY = table(name("public", "market_summary"));
+
+    private static final Field<String> CITY = field(name("city"), SQLDataType.VARCHAR);
+    private static final Field<String> PROPERTY_TYPE = field(name("property_type"), SQLDataType.VARCHAR);
+    private static final Field<LocalDate> MONTH = field(name("month"), SQLDataType.LOCALDATE);
+    private static final Field<Long> ANALYSIS_COUNT = field(name("analysis_count"), SQLDataType.BIGINT);
+    private static final Field<Long> PRICED_COUNT = field(name("priced_count"), SQLDataType.BIGINT);
+    private static final Field<BigDecimal> PRICE_SUM = field(name("price_sum"), SQLDataType.NUMERIC);
+    private static final Field<BigDecimal> MIN_PRICE = field(name("min_price"), SQLDataType.NUMERIC);
+    private static final Field<BigDecimal> MAX_PRICE = field(name("max_price"), SQLDataType.NUMERIC);
+    private static final Field<Double> MEDIAN_PRICE = field(name("median_price"), SQLDataType.DOUBLE);
+    private static final Field<Double> MEDIAN_PRICE_PER_SQFT = field(name("median_price_per_sqft"), SQLDataType.DOUBLE);
+    private static final Field<Long> DAYS_ON_MARKET_COUNT = field(name("days_on_market_count"), SQLDataType.BIGINT);
+    private static final Field<Long> DAYS_ON_MARKET_SUM = field(name("days_on_market_sum"), SQLDataType.BIGINT);
+    private static final Field<Long> STALE_COUNT = field(name("stale_count"), SQLDataType.BIGINT);
+
+    private final DSLContext dsl;
+
+    @Override
+    public List<MarketSummary> findMonthlySummaries(String city, RealEstateProperty.PropertyType propertyType,
+                                                    YearMonth from, YearMonth to) {
+        log.debug("Finding monthly market summaries - city: {}, propertyType: {}, from: {}, to: {}", city, propertyType, from, to);
+        return summaryQuery(city, propertyType, from, to).fetch(record -> MarketSummary.builder()
+                .city(record.get(CITY))
+                .propertyType(record.get(PROPERTY_TYPE))
+                .month(YearMonth.from(record.get(MONTH)))
+                .analysisCount(record.get(ANALYSIS_COUNT))
+                .pricedCount(record.get(PRICED_COUNT))
+                .minPrice(record.get(MIN_PRICE, Double.class))
+                .averagePrice(record.get("avg_price", Double.class))
+                .medianPrice(record.get(MEDIAN_PRICE))
+                .maxPrice(record.get(MAX_PRICE, Double.class))
+                .medianPricePerSqft(record.get(MEDIAN_PRICE_PER_SQFT))
+                .averageDaysOnMarket(record.get("avg_days_on_market", Double.class))
+                .staleCount(record.get(STALE_COUNT))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void refresh() {
+        log.debug("Refreshing market summary");
+        dsl.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY {0}", MARKET_SUMMARY);
+    }
+
+    ResultQuery<? extends Record> summaryQuery(String city, RealEstateProperty.PropertyType propertyType,
+                                               YearMonth from, YearMonth to) {
+        Condition condition = noCondition();
+        if (city != null) {
+            condition = condition.and(lower(CITY).eq(city.toLowerCase(Locale.ROOT)));
+        }
+        if (propertyType != null) {
+            condition = condition.and(PROPERTY_TYPE.eq(propertyType.name()));
+        }
+        if (from != null) {
+            condition = condition.and(MONTH.ge(from.atDay(1)));
+        }
+        if (to != null) {
+            condition = condition.and(MONTH.le(to.atDay(1)));
+        }
+        return dsl.select(
+                        CITY, PROPERTY_TYPE, MONTH, ANALYSIS_COUNT, PRICED_COUNT, MIN_PRICE, MAX_PRICE,
+                        MEDIAN_PRICE, MEDIAN_PRICE_PER_SQFT, STALE_COUNT,
+                        PRICE_SUM.div(nullif(PRICED_COUNT, 0L)).as("avg_price"),
+                        DAYS_ON_MARKET_SUM.cast(SQLDataType.DOUBLE).div(nullif(DAYS_ON_MARKET_COUNT, 0L)).as("avg_days_on_market"))
+                .from(MARKET_SUMMARY)
+                .where(condition)
+                .orderBy(CITY, PROPERTY_TYPE.asc().nullsLast(), MONTH);
+    }
+}
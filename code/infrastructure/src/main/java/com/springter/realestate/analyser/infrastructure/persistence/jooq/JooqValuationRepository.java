@@ -0,0 +1,82 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.repositories.ValuationRepository;
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.TableField;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE_VALUATION;
+
+/**
+ * jOOQ implementation of the {@link ValuationRepository}, used whatever the persistence engine.
+ *
+ * Valuations are written with a single {@code INSERT ... ON CONFLICT DO UPDATE} statement executed
+ * as a JDBC batch. The houses still in the catalogue are locked first, so a house deleted since it
+ * was valued is skipped, and one deleted meanwhile waits for the valuation to be committed to
+ * delete it along.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class JooqValuationRepository implements ValuationRepository {
+
+    static final List<TableField<?, ?>> COLUMNS = List.of(
+            HOUSE_VALUATION.HOUSE_ID, HOUSE_VALUATION.ESTIMATED_PRICE, HOUSE_VALUATION.LOW_PRICE,
+            HOUSE_VALUATION.HIGH_PRICE, HOUSE_VALUATION.COMPARABLE_COUNT, HOUSE_VALUATION.VALUED_AT);
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Valuation> findByHouseId(Integer houseId) {
+        log.debug("Finding valuation of house {}", houseId);
+        return dsl.selectFrom(HOUSE_VALUATION)
+                .where(HOUSE_VALUATION.HOUSE_ID.eq(houseId))
+                .fetchOptional(record -> Valuation.builder()
+                        .houseId(record.getHouseId())
+                        .estimatedPrice(record.getEstimatedPrice())
+                        .lowPrice(record.getLowPrice())
+                        .highPrice(record.getHighPrice())
+                        .comparableCount(record.getComparableCount())
+                        .valuedAt(record.getValuedAt())
+                        .build());
+    }
+
+    @Override
+    public void saveAll(Collection<Valuation> valuations) {
+        Set<Integer> houseIds = new HashSet<>(dsl.select(HOUSE.HOUSE_ID)
+                .from(HOUSE)
+                .where(HOUSE.HOUSE_ID.in(valuations.stream().map(Valuation::getHouseId).toList()))
+                .forKeyShare()
+                .fetch(HOUSE.HOUSE_ID));
+        log.debug("Saving {} valuations, {} of deleted houses skipped", houseIds.size(), valuations.size() - houseIds.size());
+        ListingRows.upsert(dsl, HOUSE_VALUATION, COLUMNS, valuations.stream()
+                .filter(valuation -> houseIds.contains(valuation.getHouseId()))
+                .map(valuation -> new Object[]{
+                        valuation.getHouseId(), valuation.getEstimatedPrice(), valuation.getLowPrice(),
+                        valuation.getHighPrice(), valuation.getComparableCount(), valuation.getValuedAt()})
+                .toList());
+    }
+
+    @Override
+    public int deleteValuedBefore(OffsetDateTime valuedAt) {
+        int deleted = dsl.deleteFrom(HOUSE_VALUATION)
+                .where(HOUSE_VALUATION.VALUED_AT.lt(valuedAt))
+                .execute();
+        log.debug("Deleted {} valuations made before {}", deleted, valuedAt);
+        return deleted;
+    }
+}
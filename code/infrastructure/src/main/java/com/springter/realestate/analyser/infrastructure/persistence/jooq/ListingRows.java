@@ -0,0 +1,139 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import org.jooq.BatchBindStep;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+
+/**
+ * Columns of the location, house and rating analysis tables, ID first, with the values of a
+ * domain model in the same order, and the statements writing many rows at once.
+ * Shared by {@link HouseBulkWriter}, {@link JooqListingIngestRepository} and {@link JooqListingSnapshotRepository}.
+ */
+final class ListingRows {
+
+    /**
+     * Rows per multi-row statement, keeping the bind values well under the PostgreSQL limit of 65535
+     */
+    static final int ROWS_PER_STATEMENT = 1000;
+
+    static final List<TableField<?, ?>> LOCATION_COLUMNS = List.of(
+            LOCATION.LOCATION_ID, LOCATION.STREET_ADDRESS, LOCATION.CITY, LOCATION.STATE_PROVINCE,
+            LOCATION.ZIP_POSTAL_CODE, LOCATION.LATITUDE, LOCATION.LONGITUDE, LOCATION.SCHOOL_RATING_AVG,
+            LOCATION.WALK_SCORE, LOCATION.TRANSIT_SCORE);
+
+    static final List<TableField<?, ?>> HOUSE_COLUMNS = List.of(
+            HOUSE.HOUSE_ID, HOUSE.LOCATION_ID, HOUSE.NAME, HOUSE.LISTING_STATUS, HOUSE.YEAR_BUILT,
+            HOUSE.SQUARE_FOOTAGE, HOUSE.NUM_BEDROOMS, HOUSE.NUM_BATHROOMS, HOUSE.PROPERTY_TYPE, HOUSE.HEATING_TYPE);
+
+    static final List<TableField<?, ?>> RATING_ANALYSIS_COLUMNS = List.of(
+            RATING_ANALYSIS.ANALYSIS_ID, RATING_ANALYSIS.HOUSE_ID, RATING_ANALYSIS.OVERALL_SCORE,
+            RATING_ANALYSIS.USER_RATING_COUNT, RATING_ANALYSIS.PRICE_TO_SQFT_RATIO, RATING_ANALYSIS.MARKET_COMP_SCORE,
+            RATING_ANALYSIS.LAST_SOLD_PRICE, RATING_ANALYSIS.TIME_ON_MARKET_DAYS, RATING_ANALYSIS.RATING_TIMESTAMP);
+
+    private ListingRows() {
+    }
+
+    static Object[] values(Location location) {
+        return new Object[]{
+                location.getId(), location.getStreetAddress(), location.getCity(), location.getStateProvince(),
+                location.getZipPostalCode(), location.getLatitude(), location.getLongitude(),
+                location.getSchoolRatingAvg(), location.getWalkScore(), location.getTransitScore()};
+    }
+
+    static Object[] values(House house) {
+        return new Object[]{
+                house.getId(), house.getLocation().getId(), house.getName(), house.getListingStatus(),
+                house.getYearBuilt(), house.getSquareFootage(), house.getNumBedrooms(), house.getNumBathrooms(),
+                house.getPropertyType(), house.getHeatingType()};
+    }
+
+    static Object[] values(RatingAnalysis rating) {
+        return new Object[]{
+                rating.getId(), rating.getHouseId(), rating.getOverallScore(), rating.getUserRatingCount(),
+                rating.getPriceToSqftRatio(), rating.getMarketCompScore(), rating.getLastSoldPrice(),
+                rating.getTimeOnMarketDays(), rating.getRatingTimestamp()};
+    }
+
+    /**
+     * Inserts or updates rows by ID, binding every row to a single {@code INSERT ... ON CONFLICT DO UPDATE}
+     * executed as one JDBC batch, then moves the identity sequence past the IDs written if the ID is an identity
+     */
+    @SuppressWarnings("unchecked")
+    static <R extends Record> void upsert(DSLContext dsl, Table<R> table, List<TableField<?, ?>> columns,
+                                          List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            // A batch without bind values would run the statement once with the placeholders
+            return;
+        }
+        BatchBindStep batch = dsl.batch(dsl.insertInto(table, columns)
+                .values(new Object[columns.size()])
+                .onConflict(columns.get(0))
+                .doUpdate()
+                .set(excludedValues(columns)));
+        rows.forEach(batch::bind);
+        batch.execute();
+        if (columns.get(0).getDataType().identity()) {
+            advanceIdentity(dsl, (TableField<?, Integer>) columns.get(0));
+        }
+    }
+
+    /**
+     * Moves the identity sequence of the table to its highest ID, so rows inserted without ID do not
+     * collide with the rows written with their own ID. The sequence is never moved back.
+     */
+    static void advanceIdentity(DSLContext dsl, TableField<?, Integer> id) {
+        Field<String> sequence = DSL.function("pg_get_serial_sequence", String.class,
+                DSL.inline(dsl.render(id.getTable())), DSL.inline(id.getName()));
+        Field<Integer> lastValue = DSL.field("pg_sequence_last_value({0}::regclass)", Integer.class, sequence);
+        dsl.select(DSL.function("setval", Long.class, sequence, DSL.max(id)))
+                .from(id.getTable())
+                .having(DSL.max(id).gt(DSL.coalesce(lastValue, DSL.inline(0))))
+                .fetch();
+    }
+
+    /**
+     * The {@code SET} clause of an upsert, overwriting every column but the ID with the proposed row
+     */
+    static Map<Field<?>, Field<?>> excludedValues(List<TableField<?, ?>> columns) {
+        Map<Field<?>, Field<?>> updatedColumns = new LinkedHashMap<>();
+        columns.stream().skip(1).forEach(column -> updatedColumns.put(column, DSL.excluded(column)));
+        return updatedColumns;
+    }
+
+    /**
+     * Inserts rows without ID in multi-row statements, returning the generated IDs in the order of the rows.
+     * PostgreSQL returns the rows of {@code INSERT ... VALUES ... RETURNING} in the order of the values.
+     */
+    @SuppressWarnings("unchecked")
+    static <R extends Record> List<Integer> insert(DSLContext dsl, Table<R> table, List<TableField<?, ?>> columns,
+                                                   List<Object[]> rows) {
+        TableField<R, Integer> id = (TableField<R, Integer>) columns.get(0);
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            InsertValuesStepN<R> insert = dsl.insertInto(table, columns.subList(1, columns.size()));
+            for (Object[] row : rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()))) {
+                insert = insert.values(Arrays.copyOfRange(row, 1, row.length));
+            }
+            ids.addAll(insert.returningResult(id).fetch(id));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,137 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.ReactiveHouseRepository;
+import io.r2dbc.pool.ConnectionPool;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Records;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+
+/**
+ * Infrastructure adapter implementing the ReactiveHouseRepository domain interface with jOOQ over R2DBC.
+ *
+ * Runs the same listing queries as {@link JooqHouseRepository}, built from the same conditions,
+ * but executes them on an R2DBC connection pool: no thread waits for the database, rows are
+ * emitted on the driver's event loop. Streams read rows in batches of the fetch size through
+ * a cursor, and only ask for the next batch once the subscriber has requested it.
+ *
+ * The adapter owns its connection pool and closes it with {@link #close()}. The pool is not
+ * exposed as a bean, so the JDBC DataSource used by the blocking adapters stays configured.
+ */
+@Slf4j
+public class ReactiveJooqHouseRepository implements ReactiveHouseRepository, AutoCloseable {
+
+    private static final String ENGINE = "r2dbc";
+
+    private final ConnectionPool connectionPool;
+    private final DSLContext dsl;
+    private final SearchMetrics searchMetrics;
+    private final int fetchSize;
+
+    public ReactiveJooqHouseRepository(ConnectionPool connectionPool, SearchMetrics searchMetrics, int fetchSize) {
+        this.connectionPool = connectionPool;
+        this.dsl = DSL.using(connectionPool, SQLDialect.POSTGRES);
+        this.searchMetrics = searchMetrics;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Mono<Page<PropertyListing>> findListingsByCriteria(RealEstateSearchCriteria searchCriteria, PageRequest pageRequest) {
+        log.debug("Finding listings reactively by criteria: {}, pageRequest: {}", searchCriteria, pageRequest);
+        Condition condition = HouseConditions.matching(searchCriteria);
+        Mono<Page<PropertyListing>> page;
+        if (searchCriteria != null && searchCriteria.hasGeoFilter()) {
+            page = fetchOffsetPage(condition, pageRequest, HouseConditions.distanceFrom(searchCriteria.distanceOrigin()));
+        } else {
+            page = pageRequest.isKeyset() ? fetchKeysetPage(condition, pageRequest) : fetchOffsetPage(condition, pageRequest, null);
+        }
+        return searchMetrics.recordQuery(ENGINE, "findListingsByCriteria", searchCriteria, pageRequest, page);
+    }
+
+    @Override
+    public Flux<PropertyListing> streamListingsByCriteria(RealEstateSearchCriteria searchCriteria) {
+        log.debug("Streaming listings by criteria: {}", searchCriteria);
+        return Flux.from(JooqHouseRepository.selectListings(dsl)
+                        .where(HouseConditions.matching(searchCriteria))
+                        .orderBy(HOUSE.HOUSE_ID)
+                        .fetchSize(fetchSize))
+                .map(Records.mapping(PropertyListing::new));
+    }
+
+    /**
+     * Closes the connection pool, waiting for the connections in use to be returned
+     */
+    @Override
+    public void close() {
+        log.info("Closing R2DBC connection pool");
+        connectionPool.dispose();
+    }
+
+    /**
+     * Seeks past the cursor, reading one extra row to detect a following page, without counting
+     */
+    private Mono<Page<PropertyListing>> fetchKeysetPage(Condition condition, PageRequest pageRequest) {
+        int size = pageRequest.getSize();
+        return Flux.from(JooqHouseRepository.selectListings(dsl)
+                        .where(condition.and(HOUSE.HOUSE_ID.gt((int) pageRequest.getCursor().getLastId())))
+                        .orderBy(HOUSE.HOUSE_ID)
+                        .limit(size + 1))
+                .map(Records.mapping(PropertyListing::new))
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > size;
+                    List<PropertyListing> content = hasNext ? rows.subList(0, size) : rows;
+                    return Page.keyset(content, pageRequest, hasNext ? cursorAfter(content) : null);
+                });
+    }
+
+    /**
+     * Reads the page at its offset, then counts the matches unless the page alone tells the total.
+     * Geo searches are ordered by distance from their origin, then house ID, and their pages carry
+     * no cursor like those of {@link JooqHouseRepository}.
+     */
+    private Mono<Page<PropertyListing>> fetchOffsetPage(Condition condition, PageRequest pageRequest, Field<Double> distance) {
+        int size = pageRequest.getSize();
+        return Flux.from(JooqHouseRepository.selectListings(dsl)
+                        .where(condition)
+                        .orderBy(distance != null ? List.of(distance.asc(), HOUSE.HOUSE_ID.asc()) : List.of(HOUSE.HOUSE_ID.asc()))
+                        .limit(size)
+                        .offset(pageRequest.getOffset()))
+                .map(Records.mapping(PropertyListing::new))
+                .collectList()
+                .flatMap(content -> {
+                    // A short first page already tells the total, skip the COUNT query
+                    Mono<Long> total = pageRequest.getOffset() == 0 && content.size() < size ?
+                            Mono.just((long) content.size()) : count(condition);
+                    return total.map(totalElements -> {
+                        boolean hasNext = pageRequest.getOffset() + content.size() < totalElements;
+                        return Page.of(content, pageRequest, totalElements,
+                                hasNext && distance == null ? cursorAfter(content) : null);
+                    });
+                });
+    }
+
+    private Mono<Long> count(Condition condition) {
+        return Mono.from(JooqHouseRepository.countHouses(dsl, condition))
+                .map(record -> record.value1().longValue());
+    }
+
+    private static PageCursor cursorAfter(List<PropertyListing> content) {
+        return content.isEmpty() ? null : PageCursor.after(content.get(content.size() - 1).getId());
+    }
+}
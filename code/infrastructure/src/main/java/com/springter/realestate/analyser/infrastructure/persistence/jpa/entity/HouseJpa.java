@@ -3,6 +3,7 @@ package com.springter.realestate.analyser.infrastructure.persistence.jpa.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -13,6 +14,11 @@ import java.util.List;
 @Table(name = "house", schema = "public")
 public class HouseJpa {
 
+  /**
+   * Rating histories of up to this many houses are loaded with a single IN query
+   */
+  public static final int RATINGS_BATCH_SIZE = 500;
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "house_id", nullable = false)
@@ -47,6 +53,7 @@ public class HouseJpa {
   private String heatingType;
 
   @OneToMany(mappedBy = "house", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = RATINGS_BATCH_SIZE)
   private List<RatingAnalysisJpa> ratingAnalyses;
 
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jpa.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the earthdistance functions of PostgreSQL used by the geo filters of HouseSpecifications.
+ *
+ * The criteria API cannot express the {@code @>} operator the GiST index of the locations serves,
+ * nor values of the {@code earth} type, so each function takes plain coordinates and renders the
+ * whole expression. The location side must stay {@code ll_to_earth(latitude, longitude)}, the
+ * indexed expression of {@code db/migration/V4__geo_search.sql}. Registered through
+ * {@code META-INF/services}.
+ */
+public class EarthDistanceFunctions implements FunctionContributor {
+
+    /**
+     * {@code earth_box_contains(lat, lon, radius, latitude, longitude)}: whether the position is within
+     * the cube enclosing the given radius, in metres, of lat/lon. A superset of the positions within the radius.
+     */
+    public static final String EARTH_BOX_CONTAINS = "earth_box_contains";
+
+    /**
+     * {@code earth_distance_between(lat, lon, latitude, longitude)}: great-circle distance between two positions, in metres
+     */
+    public static final String EARTH_DISTANCE_BETWEEN = "earth_distance_between";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        registry.patternDescriptorBuilder(EARTH_BOX_CONTAINS, "(earth_box(ll_to_earth(?1, ?2), ?3) @> ll_to_earth(?4, ?5))")
+                .setExactArgumentCount(5)
+                .setInvariantType(types.resolve(StandardBasicTypes.BOOLEAN))
+                .register();
+        registry.patternDescriptorBuilder(EARTH_DISTANCE_BETWEEN, "earth_distance(ll_to_earth(?1, ?2), ll_to_earth(?3, ?4))")
+                .setExactArgumentCount(4)
+                .setInvariantType(types.resolve(StandardBasicTypes.DOUBLE))
+                .register();
+    }
+}
@@ -8,6 +8,7 @@ import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.L
 import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -51,6 +52,35 @@ public interface HousePersistenceMapper {
     @Mapping(target = "ratingAnalyses", source = "ratingAnalyses")
     House toDomain(HouseJpa houseJpa);
 
+    /**
+     * Maps HouseJpa to House domain model without touching its rating history
+     */
+    @Named("withoutRatings")
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "location", source = "location")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "listingStatus", source = "listingStatus")
+    @Mapping(target = "yearBuilt", source = "yearBuilt")
+    @Mapping(target = "squareFootage", source = "squareFootage")
+    @Mapping(target = "numBedrooms", source = "numBedrooms")
+    @Mapping(target = "numBathrooms", source = "numBathrooms")
+    @Mapping(target = "propertyType", source = "propertyType")
+    @Mapping(target = "heatingType", source = "heatingType")
+    @Mapping(target = "ratingAnalyses", ignore = true)
+    House toDomainWithoutRatings(HouseJpa houseJpa);
+
+    /**
+     * Maps HouseJpa to House domain model carrying only the given rating analysis
+     */
+    default House toDomain(HouseJpa houseJpa, RatingAnalysisJpa latestRating) {
+        if (houseJpa == null) {
+            return null;
+        }
+        return toDomainWithoutRatings(houseJpa).toBuilder()
+                .ratingAnalyses(latestRating != null ? List.of(toDomain(latestRating)) : List.of())
+                .build();
+    }
+
     /**
      * Maps RatingAnalysisJpa to RatingAnalysis domain model
      */
@@ -1,11 +1,17 @@
 package com.springter.realestate.analyser.infrastructure.persistence.jpa.repository;
 
 import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,15 +19,32 @@ import java.util.List;
  * Provides database access methods for house data.
  */
 @Repository
-public interface HouseJpaRepository extends JpaRepository<HouseJpa, Integer> {
+public interface HouseJpaRepository extends JpaRepository<HouseJpa, Integer>, JpaSpecificationExecutor<HouseJpa>,
+        HouseListingRepository {
 
     /**
-     * Find all houses with their locations and rating analyses
+     * Find one page of houses matching a specification, fetching their locations.
+     * Runs a LIMIT/OFFSET query for the content and a separate COUNT query.
      */
-    @Query("SELECT DISTINCT h FROM HouseJpa h " +
-           "LEFT JOIN FETCH h.location " +
-           "LEFT JOIN FETCH h.ratingAnalyses")
-    List<HouseJpa> findAllWithLocationAndRatings();
+    @Override
+    @EntityGraph(attributePaths = "location")
+    Page<HouseJpa> findAll(Specification<HouseJpa> spec, Pageable pageable);
+
+    /**
+     * Find the IDs of the houses following the given ID, one page at a time
+     */
+    @Query("SELECT h.id FROM HouseJpa h WHERE h.id > :afterId")
+    List<Integer> findIdsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Find houses by ID with their locations.
+     * Rating analyses are not joined here; they are batch-loaded on first access.
+     */
+    @Query("SELECT h FROM HouseJpa h " +
+           "JOIN FETCH h.location " +
+           "WHERE h.id IN :ids " +
+           "ORDER BY h.id")
+    List<HouseJpa> findAllWithLocationByIdIn(@Param("ids") Collection<Integer> ids);
 
     /**
      * Find houses by city
@@ -0,0 +1,38 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jpa.repository;
+
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for read-only listing projections.
+ */
+public interface HouseListingRepository {
+
+    /**
+     * Find listings of houses matching a specification, ordered by house ID, or by distance then house ID.
+     * Rows are projected straight into {@link PropertyListing}; no entity is loaded.
+     *
+     * @param spec The filters to apply
+     * @param afterId Only return houses with a greater ID (keyset pagination), or null
+     * @param distanceOrigin Order by distance from this point first, or null
+     * @param offset The number of rows to skip
+     * @param limit The maximum number of rows to return
+     */
+    List<PropertyListing> findListings(Specification<HouseJpa> spec, Integer afterId, GeoPoint distanceOrigin,
+                                       long offset, int limit);
+
+    /**
+     * Stream the listings of all houses matching a specification, ordered by house ID.
+     * Rows are read through a forward-only cursor, {@code fetchSize} rows per round trip.
+     * The stream must be closed, and consumed within a transaction so the cursor stays open.
+     *
+     * @param spec The filters to apply
+     * @param fetchSize The number of rows fetched per round trip
+     */
+    Stream<PropertyListing> streamListings(Specification<HouseJpa> spec, int fetchSize);
+}
@@ -0,0 +1,99 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jpa.repository;
+
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.LocationJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.specification.HouseSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link HouseListingRepository}.
+ *
+ * Uses a constructor expression, so Hibernate neither instantiates entities
+ * nor keeps dirty-checking snapshots in the persistence context.
+ */
+@RequiredArgsConstructor
+public class HouseListingRepositoryImpl implements HouseListingRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PropertyListing> findListings(Specification<HouseJpa> spec, Integer afterId, GeoPoint distanceOrigin,
+                                              long offset, int limit) {
+        return listingQuery(spec, afterId, distanceOrigin)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    /**
+     * Hibernate scrolls the result forward only. The PostgreSQL driver only honours the fetch size
+     * outside auto-commit, otherwise it reads the whole result at once.
+     */
+    @Override
+    public Stream<PropertyListing> streamListings(Specification<HouseJpa> spec, int fetchSize) {
+        return listingQuery(spec, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<PropertyListing> listingQuery(Specification<HouseJpa> spec, Integer afterId, GeoPoint distanceOrigin) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PropertyListing> query = cb.createQuery(PropertyListing.class);
+        Root<HouseJpa> house = query.from(HouseJpa.class);
+        Join<HouseJpa, LocationJpa> location = HouseSpecifications.locationJoin(house);
+
+        query.select(cb.construct(PropertyListing.class,
+                house.get("id"),
+                house.get("name"),
+                house.get("propertyType"),
+                house.get("yearBuilt"),
+                house.get("squareFootage"),
+                house.get("numBedrooms"),
+                house.get("numBathrooms"),
+                house.get("heatingType"),
+                location.get("streetAddress"),
+                location.get("city"),
+                location.get("stateProvince"),
+                location.get("zipPostalCode"),
+                location.get("schoolRatingAvg"),
+                location.get("walkScore"),
+                location.get("transitScore"),
+                location.get("latitude"),
+                location.get("longitude"),
+                HouseSpecifications.latestSoldPrice(query, cb, house)));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filters = spec != null ? spec.toPredicate(house, query, cb) : null;
+        if (filters != null) {
+            predicates.add(filters);
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(house.get("id"), afterId));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        if (distanceOrigin != null) {
+            query.orderBy(cb.asc(HouseSpecifications.distanceFrom(cb, location, distanceOrigin)), cb.asc(house.get("id")));
+        } else {
+            query.orderBy(cb.asc(house.get("id")));
+        }
+
+        return entityManager.createQuery(query);
+    }
+}
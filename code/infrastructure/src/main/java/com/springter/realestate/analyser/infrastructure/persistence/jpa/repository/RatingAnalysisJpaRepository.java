@@ -0,0 +1,28 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jpa.repository;
+
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository for RatingAnalysis entities.
+ * Provides database access methods for rating analysis data.
+ */
+@Repository
+public interface RatingAnalysisJpaRepository extends JpaRepository<RatingAnalysisJpa, Integer> {
+
+    /**
+     * Find the latest rating analysis of each of the given houses.
+     * Analyses without a timestamp are only returned when a house has no timestamped one.
+     */
+    @Query(value = "SELECT DISTINCT ON (r.house_id) r.* FROM public.rating_analysis r " +
+                   "WHERE r.house_id IN (:houseIds) " +
+                   "ORDER BY r.house_id, r.rating_timestamp DESC NULLS LAST, r.analysis_id DESC",
+           nativeQuery = true)
+    List<RatingAnalysisJpa> findLatestByHouseIdIn(@Param("houseIds") Collection<Integer> houseIds);
+}
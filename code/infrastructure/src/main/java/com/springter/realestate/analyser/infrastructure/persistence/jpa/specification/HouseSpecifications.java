@@ -0,0 +1,218 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jpa.specification;
+
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.HouseConditions;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.LocationJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.function.EarthDistanceFunctions;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JPA specifications translating domain search criteria into SQL predicates.
+ *
+ * Every filter of {@link RealEstateSearchCriteria} is evaluated by the database,
+ * so paged queries only transfer the rows of the requested page.
+ */
+public final class HouseSpecifications {
+
+    private HouseSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching all the filters present in the criteria
+     */
+    public static Specification<HouseJpa> matching(RealEstateSearchCriteria criteria) {
+        if (criteria == null) {
+            return Specification.where(null);
+        }
+        return Specification.where(locationContains(criteria.getLocation()))
+                .and(propertyTypeIs(criteria.getPropertyType()))
+                .and(latestPriceBetween(criteria.getMinPrice(), criteria.getMaxPrice()))
+                .and(withinGeoFilters(criteria));
+    }
+
+    /**
+     * Fetches the location of each house in the same query. Count queries are left untouched.
+     */
+    public static Specification<HouseJpa> fetchLocation() {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("location");
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Matches houses whose street, city, state or zip code contains the given text (case insensitive).
+     * The same test on the whole address is implied, but lets the trigram index of the address find
+     * the candidate locations instead of scanning them all, see HouseConditions.SEARCHABLE_ADDRESS.
+     */
+    public static Specification<HouseJpa> locationContains(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = HouseConditions.containsPattern(location);
+        char escape = HouseConditions.LIKE_ESCAPE;
+        return (root, query, cb) -> {
+            Join<HouseJpa, LocationJpa> l = locationJoin(root);
+            return cb.and(
+                    cb.like(searchableAddress(cb, l), pattern, escape),
+                    cb.or(
+                            cb.like(cb.lower(l.get("streetAddress")), pattern, escape),
+                            cb.like(cb.lower(l.get("city")), pattern, escape),
+                            cb.like(cb.lower(l.get("stateProvince")), pattern, escape),
+                            cb.like(cb.lower(l.get("zipPostalCode")), pattern, escape)));
+        };
+    }
+
+    /**
+     * Matches houses of the given property type (case insensitive)
+     */
+    public static Specification<HouseJpa> propertyTypeIs(RealEstateProperty.PropertyType propertyType) {
+        if (propertyType == null) {
+            return null;
+        }
+        String type = propertyType.name().toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("propertyType")), type);
+    }
+
+    /**
+     * Matches houses whose latest rating analysis has a last sold price within the given bounds.
+     * That some rating analysis of the house is within the bounds is implied, but lets the price index
+     * find the candidate houses, see HouseConditions.latestPriceBetween.
+     */
+    public static Specification<HouseJpa> latestPriceBetween(Double minPrice, Double maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Integer> pricedHouses = query.subquery(Integer.class);
+            Root<RatingAnalysisJpa> rating = pricedHouses.from(RatingAnalysisJpa.class);
+            pricedHouses.select(rating.get("house").get("id"))
+                    .where(priceBetween(cb, rating.get("lastSoldPrice"), minPrice, maxPrice));
+            return cb.and(
+                    priceBetween(cb, latestSoldPrice(query, cb, root), minPrice, maxPrice),
+                    root.get("id").in(pricedHouses));
+        };
+    }
+
+    /**
+     * Matches houses passing the radius and bounding box filters of the criteria. The candidates are found
+     * through the GiST index of the location positions, then the exact distance and box are tested,
+     * see HouseConditions.withinGeoFilters.
+     */
+    public static Specification<HouseJpa> withinGeoFilters(RealEstateSearchCriteria criteria) {
+        if (!criteria.hasGeoFilter()) {
+            return null;
+        }
+        GeoPoint origin = criteria.distanceOrigin();
+        double searchRadius = criteria.geoSearchRadiusKm() * 1000;
+        return (root, query, cb) -> {
+            Join<HouseJpa, LocationJpa> l = locationJoin(root);
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isTrue(cb.function(EarthDistanceFunctions.EARTH_BOX_CONTAINS, Boolean.class,
+                    cb.literal(origin.getLatitude()), cb.literal(origin.getLongitude()), cb.literal(searchRadius),
+                    l.get("latitude"), l.get("longitude"))));
+            if (criteria.hasRadius()) {
+                predicates.add(cb.le(distanceFrom(cb, l, criteria.getCenter()), criteria.getRadiusKm() * 1000));
+            }
+            if (criteria.getBounds() != null) {
+                predicates.add(withinBounds(cb, l, criteria.getBounds()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Great-circle distance from the given point to the location, in metres
+     */
+    public static Expression<Double> distanceFrom(CriteriaBuilder cb, Join<HouseJpa, LocationJpa> l, GeoPoint origin) {
+        return cb.function(EarthDistanceFunctions.EARTH_DISTANCE_BETWEEN, Double.class,
+                cb.literal(origin.getLatitude()), cb.literal(origin.getLongitude()),
+                l.get("latitude"), l.get("longitude"));
+    }
+
+    private static Predicate withinBounds(CriteriaBuilder cb, Join<HouseJpa, LocationJpa> l, GeoBoundingBox bounds) {
+        Predicate latitude = cb.between(l.get("latitude"),
+                BigDecimal.valueOf(bounds.getSouth()), BigDecimal.valueOf(bounds.getNorth()));
+        BigDecimal west = BigDecimal.valueOf(bounds.getWest());
+        BigDecimal east = BigDecimal.valueOf(bounds.getEast());
+        return cb.and(latitude, bounds.crossesAntimeridian() ?
+                cb.or(cb.greaterThanOrEqualTo(l.get("longitude"), west), cb.lessThanOrEqualTo(l.get("longitude"), east)) :
+                cb.between(l.get("longitude"), west, east));
+    }
+
+    /**
+     * Correlated subquery selecting the last sold price of the house's latest rating analysis, ordering
+     * by rating timestamp with nulls last, then by analysis ID, and keeping the first row. The same row
+     * {@code HouseConditions.latestSoldPrice()} picks; Hibernate renders the ordering and row limit of
+     * the subquery, which plain JPA criteria cannot express.
+     */
+    public static Subquery<BigDecimal> latestSoldPrice(AbstractQuery<?> query, CriteriaBuilder cb, Root<HouseJpa> house) {
+        HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+        JpaSubQuery<BigDecimal> latestPrice = (JpaSubQuery<BigDecimal>) query.subquery(BigDecimal.class);
+        Root<RatingAnalysisJpa> rating = latestPrice.from(RatingAnalysisJpa.class);
+        return latestPrice.select(rating.get("lastSoldPrice"))
+                .where(cb.equal(rating.get("house"), house))
+                .orderBy(hcb.desc(rating.get("ratingTimestamp")).nullPrecedence(NullPrecedence.LAST),
+                        hcb.desc(rating.get("id")))
+                .fetch(1);
+    }
+
+    /**
+     * The whole address in lower case, the expression of the location_address_trgm_idx index.
+     * The separators are literals: with bind values the planner would not recognize the index expression.
+     */
+    private static Expression<String> searchableAddress(CriteriaBuilder cb, Join<HouseJpa, LocationJpa> l) {
+        Expression<String> separator = cb.literal(" ");
+        Expression<String> address = l.get("streetAddress");
+        for (Expression<String> part : List.<Expression<String>>of(
+                l.get("city"),
+                cb.coalesce(l.<String>get("stateProvince"), cb.literal("")),
+                cb.coalesce(l.<String>get("zipPostalCode"), cb.literal("")))) {
+            address = cb.concat(cb.concat(address, separator), part);
+        }
+        return cb.lower(address);
+    }
+
+    private static Predicate priceBetween(CriteriaBuilder cb, Expression<BigDecimal> price, Double minPrice, Double maxPrice) {
+        if (minPrice != null && maxPrice != null) {
+            return cb.between(price, BigDecimal.valueOf(minPrice), BigDecimal.valueOf(maxPrice));
+        }
+        return minPrice != null ?
+                cb.greaterThanOrEqualTo(price, BigDecimal.valueOf(minPrice)) :
+                cb.lessThanOrEqualTo(price, BigDecimal.valueOf(maxPrice));
+    }
+
+    /**
+     * Reuses the location join of the query if there is one, so filters and projections share it
+     */
+    @SuppressWarnings("unchecked")
+    public static Join<HouseJpa, LocationJpa> locationJoin(Root<HouseJpa> root) {
+        return root.getJoins().stream()
+                .filter(join -> "location".equals(join.getAttribute().getName()))
+                .map(join -> (Join<HouseJpa, LocationJpa>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("location"));
+    }
+}
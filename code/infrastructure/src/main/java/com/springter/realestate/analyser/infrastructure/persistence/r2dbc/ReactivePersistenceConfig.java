@@ -0,0 +1,69 @@
+package com.springter.realestate.analyser.infrastructure.persistence.r2dbc;
+
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.ReactiveJooqHouseRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates the reactive house repository and its R2DBC connection pool, enabled with
+ * {@code realestate.reactive.enabled=true}.
+ *
+ * The pool is handed to the repository rather than registered as a ConnectionFactory bean:
+ * Spring Boot backs off from configuring the JDBC DataSource as soon as such a bean exists,
+ * and the blocking adapters still need it. For the same reason Boot's own R2DBC
+ * auto-configuration is excluded in application.yml.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "realestate.reactive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReactivePersistenceProperties.class)
+@Slf4j
+public class ReactivePersistenceConfig {
+
+    private static final String JDBC_SCHEME = "jdbc:";
+    private static final String R2DBC_SCHEME = "r2dbc:";
+
+    @Bean
+    ReactiveJooqHouseRepository reactiveHouseRepository(ReactivePersistenceProperties properties,
+                                                        DataSourceProperties dataSourceProperties,
+                                                        SearchMetrics searchMetrics) {
+        String url = StringUtils.hasText(properties.getUrl()) ? properties.getUrl() : r2dbcUrl(dataSourceProperties.getUrl());
+        String username = properties.getUsername() != null ? properties.getUsername() : dataSourceProperties.getUsername();
+        String password = properties.getPassword() != null ? properties.getPassword() : dataSourceProperties.getPassword();
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionPool connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                        .name("realestate-r2dbc")
+                        .maxSize(properties.getPoolSize())
+                        .build());
+        log.info("Reactive repository using an R2DBC pool of up to {} connections", properties.getPoolSize());
+        return new ReactiveJooqHouseRepository(connectionPool, searchMetrics, properties.getFetchSize());
+    }
+
+    /**
+     * Reuses the JDBC URL of the DataSource, e.g. {@code jdbc:postgresql://db:5432/realestate}
+     * becomes {@code r2dbc:postgresql://db:5432/realestate}
+     */
+    static String r2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith(JDBC_SCHEME)) {
+            throw new IllegalStateException("Set realestate.reactive.persistence.url, no JDBC URL to derive it from: " + jdbcUrl);
+        }
+        return R2DBC_SCHEME + jdbcUrl.substring(JDBC_SCHEME.length());
+    }
+}
@@ -0,0 +1,38 @@
+package com.springter.realestate.analyser.infrastructure.persistence.r2dbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the R2DBC connection used by the reactive adapter, bound from {@code realestate.reactive.persistence}.
+ * Connection settings left empty are taken from {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties(prefix = "realestate.reactive.persistence")
+public class ReactivePersistenceProperties {
+
+    /**
+     * R2DBC URL of the database. Defaults to the JDBC URL with the {@code r2dbc:} scheme.
+     */
+    private String url;
+
+    /**
+     * Login user of the database. Defaults to the DataSource user.
+     */
+    private String username;
+
+    /**
+     * Login password of the database. Defaults to the DataSource password.
+     */
+    private String password;
+
+    /**
+     * Maximum number of connections of the pool
+     */
+    private int poolSize = 10;
+
+    /**
+     * Rows read per round trip when streaming listings
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,42 @@
+-- Real estate analyser schema.
+-- Mirrors the JPA mappings in infrastructure.persistence.jpa.entity. The migrations of this
+-- directory are applied by Flyway and are the input of the jOOQ code generator
+-- (see jooq-codegen-maven in infrastructure/pom.xml).
+
+CREATE TABLE public.location (
+    location_id       INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    street_address    VARCHAR(255)   NOT NULL,
+    city              VARCHAR(100)   NOT NULL,
+    state_province    VARCHAR(100),
+    zip_postal_code   VARCHAR(20),
+    latitude          NUMERIC(10, 8),
+    longitude         NUMERIC(11, 8),
+    school_rating_avg NUMERIC(2, 1),
+    walk_score        INTEGER,
+    transit_score     INTEGER
+);
+
+CREATE TABLE public.house (
+    house_id       INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    location_id    INTEGER        NOT NULL REFERENCES public.location (location_id),
+    name           VARCHAR(255)   NOT NULL,
+    listing_status VARCHAR(50)    NOT NULL,
+    year_built     INTEGER,
+    square_footage INTEGER,
+    num_bedrooms   INTEGER,
+    num_bathrooms  NUMERIC(2, 1),
+    property_type  VARCHAR(50),
+    heating_type   VARCHAR(50)
+);
+
+CREATE TABLE public.rating_analysis (
+    analysis_id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    house_id            INTEGER        NOT NULL REFERENCES public.house (house_id),
+    overall_score       NUMERIC(3, 2)  NOT NULL,
+    user_rating_count   INTEGER DEFAULT 0,
+    price_to_sqft_ratio NUMERIC(10, 2),
+    market_comp_score   NUMERIC(3, 2),
+    last_sold_price     NUMERIC(15, 2),
+    time_on_market_days INTEGER,
+    rating_timestamp    TIMESTAMP WITH TIME ZONE
+);
@@ -0,0 +1,14 @@
+-- Location search index, see HouseConditions.locationContains and JooqLocationRepository.
+-- A trigram GIN index over the whole address serves the case insensitive substring filters,
+-- LOWER(...) LIKE '%text%', which a B-tree index cannot, and the similarity search.
+-- Idempotent, as it used to be run by hand on existing databases.
+
+-- The jOOQ code generator skips the PostgreSQL specific statements, it only needs the tables
+/* [jooq ignore start] */
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Same expression as HouseConditions.SEARCHABLE_ADDRESS, or the planner will not use it
+CREATE INDEX IF NOT EXISTS location_address_trgm_idx
+    ON public.location USING gin (lower(street_address || ' ' || city || ' ' || coalesce(state_province, '') || ' '
+        || coalesce(zip_postal_code, '')) gin_trgm_ops);
+/* [jooq ignore stop] */
@@ -0,0 +1,30 @@
+-- Indexes for the filters of the search API and of the repository finders, see HouseConditions
+-- and HouseSpecifications. The queries must test the indexed expressions, LOWER(...) included,
+-- or the planner falls back to scanning the tables.
+
+/* [jooq ignore start] */
+
+-- Joins from the locations found by the address search to their houses
+CREATE INDEX house_location_id_idx ON public.house (location_id);
+
+-- Case insensitive property type and listing status filters. The house ID returns the matches
+-- in page order, so a page is read from the index and stops after LIMIT rows. Not partial: the
+-- planner only estimates LOWER(...) from the statistics of a full expression index.
+CREATE INDEX house_property_type_idx ON public.house (lower(property_type), house_id);
+CREATE INDEX house_listing_status_idx ON public.house (lower(listing_status), house_id);
+
+-- Rating history of a house, latest first: the latest rating and its last sold price are the first
+-- index entry of the house, read without visiting the table
+CREATE INDEX rating_analysis_house_latest_idx
+    ON public.rating_analysis (house_id, rating_timestamp DESC NULLS LAST, analysis_id DESC)
+    INCLUDE (last_sold_price);
+
+-- Price filters find the houses with a rating in the price range, then check their latest rating.
+-- Ratings without a price never match a range.
+CREATE INDEX rating_analysis_last_sold_price_idx ON public.rating_analysis (last_sold_price, house_id)
+    WHERE last_sold_price IS NOT NULL;
+
+-- City finder, LOWER(city) LIKE '%text%'
+CREATE INDEX location_city_trgm_idx ON public.location USING gin (lower(city) gin_trgm_ops);
+
+/* [jooq ignore stop] */
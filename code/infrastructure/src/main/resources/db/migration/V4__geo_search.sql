@@ -0,0 +1,12 @@
+-- Geo search, see HouseConditions.withinGeoFilters and HouseSpecifications.withinGeoFilters.
+-- earthdistance places the coordinates on the earth as 3-D points (cubes), which a GiST index
+-- finds within earth_box(center, radius); the exact distance is then checked on those candidates.
+
+/* [jooq ignore start] */
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+-- Same expression as HouseConditions.EARTH_POSITION, or the planner will not use it.
+-- Locations without coordinates have no position, they never match a geo filter.
+CREATE INDEX location_earth_idx ON public.location USING gist (ll_to_earth(latitude, longitude));
+/* [jooq ignore stop] */
@@ -0,0 +1,35 @@
+-- Monthly market summary of the rating analyses, see JooqMarketSummaryRepository. Dashboards read a
+-- row per city, property type and month instead of aggregating the whole rating history; the view
+-- is refreshed periodically by MarketSummaryRefresher. Analyses without a timestamp have no month.
+-- Sums and counts are kept next to the averages, so the months can be rolled up by the readers.
+
+/* [jooq ignore start] */
+CREATE MATERIALIZED VIEW public.market_summary AS
+SELECT l.city,
+       upper(h.property_type)                                                     AS property_type,
+       date_trunc('month', r.rating_timestamp AT TIME ZONE 'UTC')::date           AS month,
+       count(*)                                                                   AS analysis_count,
+       count(r.last_sold_price)                                                   AS priced_count,
+       sum(r.last_sold_price)                                                     AS price_sum,
+       min(r.last_sold_price)                                                     AS min_price,
+       max(r.last_sold_price)                                                     AS max_price,
+       percentile_cont(0.5) WITHIN GROUP (ORDER BY r.last_sold_price)             AS median_price,
+       percentile_cont(0.5) WITHIN GROUP (ORDER BY r.price_to_sqft_ratio)         AS median_price_per_sqft,
+       count(r.time_on_market_days)                                               AS days_on_market_count,
+       sum(r.time_on_market_days)                                                 AS days_on_market_sum,
+       -- RatingAnalysis.STALE_DAYS_ON_MARKET
+       count(*) FILTER (WHERE r.time_on_market_days > 90)                         AS stale_count
+FROM public.rating_analysis r
+         JOIN public.house h ON h.house_id = r.house_id
+         JOIN public.location l ON l.location_id = h.location_id
+WHERE r.rating_timestamp IS NOT NULL
+GROUP BY l.city, upper(h.property_type), date_trunc('month', r.rating_timestamp AT TIME ZONE 'UTC')::date;
+
+-- Required by REFRESH MATERIALIZED VIEW CONCURRENTLY, which keeps the view readable while refreshed.
+-- Houses without a property type form a segment of their own.
+CREATE UNIQUE INDEX market_summary_segment_idx
+    ON public.market_summary (city, property_type, month) NULLS NOT DISTINCT;
+
+-- The months of a city, whatever the case it is searched with
+CREATE INDEX market_summary_city_idx ON public.market_summary (lower(city), month);
+/* [jooq ignore stop] */
@@ -0,0 +1,10 @@
+-- Latest valuation of each house from comparable sales, see ComparablesValuationEngine.
+-- Replaced by each revaluation of the catalogue, and deleted with its house.
+CREATE TABLE public.house_valuation (
+    house_id         INTEGER        PRIMARY KEY REFERENCES public.house (house_id) ON DELETE CASCADE,
+    estimated_price  NUMERIC(15, 2) NOT NULL,
+    low_price        NUMERIC(15, 2) NOT NULL,
+    high_price       NUMERIC(15, 2) NOT NULL,
+    comparable_count INTEGER        NOT NULL,
+    valued_at        TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,179 @@
+package com.springter.realestate.analyser.infrastructure.cache;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.springter.realestate.analyser.application.config.CacheConfig;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Starts two embedded members from {@link HazelcastCacheConfig}, standing for two replicas
+ * of the application, and checks what one replica caches is seen and invalidated by the other.
+ */
+@DisplayName("HazelcastCacheConfig Tests")
+class HazelcastCacheConfigTest {
+
+    private static HazelcastInstance first;
+    private static HazelcastInstance second;
+
+    private HazelcastCacheManager firstCacheManager;
+    private HazelcastCacheManager secondCacheManager;
+
+    @BeforeAll
+    static void startMembers() {
+        final HazelcastCacheProperties properties = new HazelcastCacheProperties();
+        properties.setClusterName("test-" + UUID.randomUUID());
+        properties.setMembers(List.of("127.0.0.1"));
+
+        final HazelcastCacheConfig cacheConfig = new HazelcastCacheConfig();
+        first = Hazelcast.newHazelcastInstance(withTestNetwork(cacheConfig.hazelcastConfig(properties)));
+        second = Hazelcast.newHazelcastInstance(withTestNetwork(cacheConfig.hazelcastConfig(properties)));
+    }
+
+    @AfterAll
+    static void stopMembers() {
+        second.shutdown();
+        first.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.firstCacheManager = new HazelcastCacheManager(first);
+        this.secondCacheManager = new HazelcastCacheManager(second);
+        first.getMap(CacheConfig.PROPERTY_SEARCH_CACHE).clear();
+        first.getMap(CacheConfig.HOUSE_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("Should form a single cluster of both members")
+    void shouldFormSingleCluster() {
+        assertThat(first.getCluster().getMembers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should read on one member a house aggregate cached by the other")
+    void shouldShareHouseAcrossMembers() {
+        // Given
+        final House house = createHouse();
+
+        // When
+        this.firstCacheManager.getCache(CacheConfig.HOUSE_CACHE).put(house.getId(), house);
+        final House cached = this.secondCacheManager.getCache(CacheConfig.HOUSE_CACHE).get(house.getId(), House.class);
+
+        // Then
+        assertThat(cached).usingRecursiveComparison().isEqualTo(house);
+    }
+
+    @Test
+    @DisplayName("Should read on one member a search page cached by the other under the same key")
+    void shouldShareSearchPageAcrossMembers() {
+        // Given
+        final CacheConfig.PropertySearchKey key = new CacheConfig.PropertySearchKey(
+            RealEstateSearchCriteria.builder().location("Madrid").maxPrice(300000.0).build(),
+            PageRequest.after(PageCursor.after(41L), 20));
+        final Page<RealEstateProperty> page = Page.keyset(List.of(createProperty()), key.pageRequest(), PageCursor.after(42L));
+
+        // When
+        this.firstCacheManager.getCache(CacheConfig.PROPERTY_SEARCH_CACHE).put(key, page);
+        final CacheConfig.PropertySearchKey sameKey = new CacheConfig.PropertySearchKey(
+            RealEstateSearchCriteria.builder().location("Madrid").maxPrice(300000.0).build(),
+            PageRequest.after(PageCursor.after(41L), 20));
+        final Cache.ValueWrapper cached = this.secondCacheManager.getCache(CacheConfig.PROPERTY_SEARCH_CACHE).get(sameKey);
+
+        // Then
+        assertThat(cached).isNotNull();
+        assertThat(cached.get()).usingRecursiveComparison().isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the near cache and drop them when another member evicts")
+    void shouldInvalidateNearCacheWhenOtherMemberEvicts() {
+        // Given
+        final House house = createHouse();
+        final IMap<Object, Object> houses = second.getMap(CacheConfig.HOUSE_CACHE);
+        this.firstCacheManager.getCache(CacheConfig.HOUSE_CACHE).put(house.getId(), house);
+        houses.get(house.getId());
+        final long hitsBefore = houses.getLocalMapStats().getNearCacheStats().getHits();
+
+        // When
+        final Object nearCached = houses.get(house.getId());
+
+        // Then
+        assertThat(nearCached).isSameAs(houses.get(house.getId()));
+        assertThat(houses.getLocalMapStats().getNearCacheStats().getHits()).isGreaterThan(hitsBefore);
+
+        // When
+        this.firstCacheManager.getCache(CacheConfig.HOUSE_CACHE).evict(house.getId());
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertThat(houses.getLocalMapStats().getNearCacheStats().getOwnedEntryCount()).isZero());
+        assertThat(houses.get(house.getId())).isNull();
+    }
+
+    private static com.hazelcast.config.Config withTestNetwork(com.hazelcast.config.Config config) {
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        config.getNetworkConfig().getInterfaces().setEnabled(true).addInterface("127.0.0.1");
+        return config;
+    }
+
+    private static House createHouse() {
+        return House.builder()
+            .id(7)
+            .name("Sunny House")
+            .listingStatus("FOR_SALE")
+            .numBedrooms(3)
+            .numBathrooms(new BigDecimal("2.5"))
+            .propertyType("house")
+            .location(Location.builder()
+                .id(3)
+                .streetAddress("Calle Mayor 1")
+                .city("Madrid")
+                .latitude(new BigDecimal("40.4168000"))
+                .walkScore(85)
+                .build())
+            .ratingAnalyses(List.of(RatingAnalysis.builder()
+                .id(1)
+                .houseId(7)
+                .lastSoldPrice(new BigDecimal("310000.00"))
+                .ratingTimestamp(OffsetDateTime.parse("2024-03-01T10:15:30+01:00"))
+                .build()))
+            .build();
+    }
+
+    private static RealEstateProperty createProperty() {
+        return RealEstateProperty.builder()
+            .id(42L)
+            .title("Sunny House")
+            .location("Calle Mayor 1, Madrid")
+            .price(310000.0)
+            .propertyType(RealEstateProperty.PropertyType.HOUSE)
+            .bedrooms(3)
+            .features(List.of("walkable"))
+            .createdAt(OffsetDateTime.parse("2024-03-01T10:15:30+01:00"))
+            .build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.springter.realestate.analyser.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springter.realestate.analyser.application.usecases.IngestListingUpdatesUseCaseImpl;
+import com.springter.realestate.analyser.domain.house.HouseChangedEvent;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.JooqListingIngestRepository;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Publishes updates to an embedded broker and checks what the ingestion pipeline writes to the
+ * database: the Kafka container, the listener, the use case and the jOOQ upserts together.
+ * Each topic is consumed on its own, so updates wait for the rows they reference to be written.
+ */
+@SpringBootTest(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.kafka.consumer.group-id=listing-ingest-test",
+    "spring.kafka.consumer.auto-offset-reset=earliest",
+    "realestate.ingest.enabled=true",
+    "realestate.ingest.concurrency=2",
+    "realestate.ingest.retry-interval=100ms",
+    "realestate.ingest.max-retries=2"
+})
+@EmbeddedKafka(partitions = 2, topics = {"realestate.locations", "realestate.houses", "realestate.rating-analyses",
+    "realestate.houses-dlt", "realestate.rating-analyses-dlt"})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Kafka listing ingestion Tests")
+class ListingIngestKafkaTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class,
+        JacksonAutoConfiguration.class, KafkaAutoConfiguration.class})
+    @Import({ListingIngestKafkaConfig.class, ListingIngestMessageMapperImpl.class, IngestListingUpdatesUseCaseImpl.class,
+        JooqListingIngestRepository.class})
+    static class TestConfig {
+
+        @Bean
+        ChangedListings changedListings() {
+            return new ChangedListings();
+        }
+    }
+
+    static class ChangedListings {
+
+        final List<PropertyListing> listings = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onHouseChanged(HouseChangedEvent event) {
+            this.listings.add(event.getListing());
+        }
+    }
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @Autowired
+    private ChangedListings changedListings;
+
+    @Test
+    @DisplayName("Should upsert the last update of every row and publish the changed listings")
+    void shouldUpsertLastUpdateOfEveryRow() throws Exception {
+        // Given
+        publish("realestate.locations", 1, new LocationMessage(1, "Calle Mayor 1", "Madrid", null, "28013",
+            null, null, null, 85, null));
+        await().atMost(TIMEOUT).until(() -> this.dsl.fetchExists(LOCATION, LOCATION.LOCATION_ID.eq(1)));
+
+        // When
+        publish("realestate.houses", 10, new HouseMessage(10, 1, "First name", "FOR_SALE", 1995, 120, 3,
+            new BigDecimal("2.0"), "House", null));
+        publish("realestate.houses", 10, new HouseMessage(10, 1, "Second name", "FOR_SALE", 1995, 120, 3,
+            new BigDecimal("2.0"), "House", null));
+        await().atMost(TIMEOUT).until(() -> "Second name".equals(
+            this.dsl.select(HOUSE.NAME).from(HOUSE).where(HOUSE.HOUSE_ID.eq(10)).fetchOne(HOUSE.NAME)));
+        publish("realestate.rating-analyses", 100, new RatingAnalysisMessage(100, 10, new BigDecimal("4.50"), 12,
+            null, null, new BigDecimal("310000.00"), 20, OffsetDateTime.parse("2024-05-01T10:00:00Z")));
+        await().atMost(TIMEOUT).until(() -> this.dsl.fetchExists(RATING_ANALYSIS, RATING_ANALYSIS.ANALYSIS_ID.eq(100)));
+        publish("realestate.locations", 1, new LocationMessage(1, "Calle Mayor 1", "Sevilla", null, "41001",
+            null, null, null, 85, null));
+
+        // Then
+        await().atMost(TIMEOUT).untilAsserted(() -> assertThat(this.changedListings.listings)
+            .filteredOn(listing -> listing.getId() == 10)
+            .last()
+            .satisfies(listing -> {
+                assertThat(listing.getName()).isEqualTo("Second name");
+                assertThat(listing.getCity()).isEqualTo("Sevilla");
+                assertThat(listing.getLastSoldPrice()).isEqualByComparingTo("310000");
+            }));
+        assertThat(this.dsl.fetchCount(HOUSE, HOUSE.HOUSE_ID.eq(10))).isEqualTo(1);
+        assertThat(this.dsl.fetchCount(RATING_ANALYSIS, RATING_ANALYSIS.HOUSE_ID.eq(10))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an unreadable record without holding back the partition")
+    void shouldDeadLetterUnreadableRecords() throws Exception {
+        // Given
+        publish("realestate.locations", 2, new LocationMessage(2, "Gran Via 2", "Madrid", null, null,
+            null, null, null, null, null));
+        await().atMost(TIMEOUT).until(() -> this.dsl.fetchExists(LOCATION, LOCATION.LOCATION_ID.eq(2)));
+
+        // When
+        this.kafkaTemplate.send("realestate.houses", "20", "{not json").get();
+        publish("realestate.houses", 20, new HouseMessage(20, 2, "Readable house", "FOR_SALE", null, null, null,
+            null, "CONDO", null));
+
+        // Then
+        await().atMost(TIMEOUT).until(() -> this.dsl.fetchExists(HOUSE, HOUSE.HOUSE_ID.eq(20)));
+        assertThat(deadLetters("realestate.houses-dlt")).extracting(ConsumerRecord::value).contains("{not json");
+    }
+
+    @Test
+    @DisplayName("Should write the good records of a failing batch and dead-letter the failing one after retries")
+    void shouldDeadLetterOnlyFailingRecord() throws Exception {
+        // Given
+        publish("realestate.locations", 3, new LocationMessage(3, "Alcala 3", "Madrid", null, null,
+            null, null, null, null, null));
+        publish("realestate.houses", 30, new HouseMessage(30, 3, "Rated house", "FOR_SALE", null, null, null,
+            null, "HOUSE", null));
+        await().atMost(TIMEOUT).until(() -> this.dsl.fetchExists(HOUSE, HOUSE.HOUSE_ID.eq(30)));
+
+        // When
+        publish("realestate.rating-analyses", 300, new RatingAnalysisMessage(300, 30, new BigDecimal("4.00"), 5,
+            null, null, new BigDecimal("200000.00"), 10, OffsetDateTime.parse("2024-05-01T10:00:00Z")));
+        publish("realestate.rating-analyses", 301, new RatingAnalysisMessage(301, 999, new BigDecimal("3.00"), 5,
+            null, null, new BigDecimal("100000.00"), 10, OffsetDateTime.parse("2024-05-01T10:00:00Z")));
+        publish("realestate.rating-analyses", 302, new RatingAnalysisMessage(302, 30, new BigDecimal("4.50"), 5,
+            null, null, new BigDecimal("210000.00"), 10, OffsetDateTime.parse("2024-06-01T10:00:00Z")));
+
+        // Then
+        await().atMost(TIMEOUT).until(() -> this.dsl.fetchCount(RATING_ANALYSIS, RATING_ANALYSIS.HOUSE_ID.eq(30)) == 2);
+        assertThat(deadLetters("realestate.rating-analyses-dlt")).extracting(ConsumerRecord::key).contains("301");
+        assertThat(this.dsl.fetchExists(RATING_ANALYSIS, RATING_ANALYSIS.ANALYSIS_ID.eq(301))).isFalse();
+    }
+
+    private List<ConsumerRecord<String, String>> deadLetters(String topic) {
+        Map<String, Object> consumerProperties = KafkaTestUtils.consumerProps(topic + "-reader", "false", this.broker);
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(consumerProperties,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            this.broker.consumeFromAnEmbeddedTopic(consumer, topic);
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            await().atMost(TIMEOUT).until(() -> {
+                KafkaTestUtils.getRecords(consumer, Duration.ofMillis(500)).forEach(records::add);
+                return !records.isEmpty();
+            });
+            return records;
+        }
+    }
+
+    private void publish(String topic, int id, Object message) throws Exception {
+        this.kafkaTemplate.send(topic, String.valueOf(id), this.objectMapper.writeValueAsString(message)).get();
+    }
+}
@@ -0,0 +1,317 @@
+package com.springter.realestate.analyser.infrastructure.persistence;
+
+import com.springter.realestate.analyser.application.metrics.BulkWriteMetrics;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.PageCursor;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.domain.repositories.HouseRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.adapter.HouseRepositoryImpl;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.HouseBulkWriter;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.JooqHouseRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.JooqLocationRepository;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapperImpl;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.HouseJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGStatement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jooq.AutoConfigureJooq;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Explains every query the repositories run for selective searches and finders, on the migrated
+ * schema and a catalogue large enough for the planner to prefer indexes: none may scan a whole
+ * table. Queries are recorded as executed, with the bind values inlined by the driver, so a change
+ * to a query or to the indexes of db/migration that falls back to a sequential scan fails here.
+ * Reading the whole catalogue (findAll, unfiltered searches and their counts) scans by design
+ * and is left out. Every test rolls back the catalogue it seeds.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureJooq
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Query plan Tests")
+class QueryPlanTest {
+
+    private static final int HOUSES = 100_000;
+
+    /**
+     * One house in RARE is in Sevilla, a condo, for sale, and so on
+     */
+    private static final int RARE = 5000;
+
+    private static final List<RealEstateSearchCriteria> SELECTIVE_CRITERIA = List.of(
+        RealEstateSearchCriteria.builder().location("sevilla").build(),
+        RealEstateSearchCriteria.builder().propertyType(RealEstateProperty.PropertyType.CONDO).build(),
+        RealEstateSearchCriteria.builder().minPrice(500000.0).maxPrice(500500.0).build(),
+        RealEstateSearchCriteria.builder().minPrice(1099500.0).build(),
+        RealEstateSearchCriteria.builder().maxPrice(100500.0).build(),
+        RealEstateSearchCriteria.builder()
+            .location("sevilla")
+            .propertyType(RealEstateProperty.PropertyType.CONDO)
+            .minPrice(100000.0)
+            .maxPrice(600000.0)
+            .build(),
+        RealEstateSearchCriteria.builder().center(GeoPoint.of(39.5, -3.5)).radiusKm(5.0).build(),
+        RealEstateSearchCriteria.builder().bounds(GeoBoundingBox.of(39.4, -3.6, 39.5, -3.4)).build(),
+        RealEstateSearchCriteria.builder()
+            .center(GeoPoint.of(39.5, -3.5))
+            .radiusKm(20.0)
+            .bounds(GeoBoundingBox.of(39.4, -3.6, 39.5, -3.4))
+            .build());
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+    @EntityScan(basePackageClasses = HouseJpa.class)
+    @EnableJpaRepositories(basePackageClasses = HouseJpaRepository.class)
+    @Import({HouseRepositoryImpl.class, HousePersistenceMapperImpl.class, HouseBulkWriter.class, SearchMetrics.class,
+        BulkWriteMetrics.class, JooqLocationRepository.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        JooqHouseRepository jooqHouseRepository(DSLContext dsl, ApplicationEventPublisher eventPublisher,
+                                                SearchMetrics searchMetrics, HouseBulkWriter houseBulkWriter) {
+            return new JooqHouseRepository(dsl, eventPublisher, searchMetrics, houseBulkWriter);
+        }
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private HouseRepositoryImpl jpaRepository;
+
+    @Autowired
+    private JooqHouseRepository jooqRepository;
+
+    @Autowired
+    private JooqLocationRepository locationRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.jdbcTemplate.update("""
+            INSERT INTO public.location (street_address, city, zip_postal_code, latitude, longitude)
+            SELECT 'Calle ' || i, CASE WHEN i % ? = 0 THEN 'Sevilla' ELSE 'Ciudad ' || (i % 500) END,
+                   lpad((i % 50000)::text, 5, '0'), 36 + (i % 997) * 0.007, -9 + (i % 991) * 0.012
+            FROM generate_series(1, ?) AS i""", RARE, HOUSES);
+        this.jdbcTemplate.update("""
+            INSERT INTO public.house (location_id, name, listing_status, property_type)
+            SELECT location_id, 'House ' || location_id,
+                   CASE WHEN location_id % ? = 0 THEN 'FOR_SALE' ELSE 'SOLD' END,
+                   CASE WHEN location_id % ? = 0 THEN 'CONDO' ELSE 'House' END
+            FROM public.location""", RARE, RARE);
+        // Prices spread over 100000 to 1100000, the latest rating of a house being its last one
+        this.jdbcTemplate.update("""
+            INSERT INTO public.rating_analysis (house_id, overall_score, last_sold_price, rating_timestamp)
+            SELECT house_id, 3.50, 100000 + (house_id::bigint * 7919 + r * 104729) % 1000000,
+                   TIMESTAMPTZ '2024-01-01' + r * INTERVAL '1 day'
+            FROM public.house, generate_series(1, 3) AS r""");
+        this.jdbcTemplate.execute("ANALYZE public.location, public.house, public.rating_analysis");
+    }
+
+    @Test
+    @DisplayName("Should run every selective query of the JPA adapter without sequential scans")
+    void shouldUseIndexesForJpaAdapter() {
+        // When
+        final List<String> queries = this.statementRecorder.record(() -> runSelectiveQueries(this.jpaRepository));
+
+        // Then
+        assertIndexDriven(queries);
+    }
+
+    @Test
+    @DisplayName("Should run every selective query of the jOOQ adapter without sequential scans")
+    void shouldUseIndexesForJooqAdapter() {
+        // When
+        final List<String> queries = this.statementRecorder.record(() -> runSelectiveQueries(this.jooqRepository));
+
+        // Then
+        assertIndexDriven(queries);
+    }
+
+    @Test
+    @DisplayName("Should search locations without sequential scans")
+    void shouldUseIndexesForLocationSearch() {
+        // When
+        final List<String> queries = this.statementRecorder.record(() -> {
+            this.locationRepository.search("calle 1234", LocationSearchMode.CONTAINS, 10);
+            this.locationRepository.search("sevila", LocationSearchMode.BEST_MATCH, 10);
+        });
+
+        // Then
+        assertIndexDriven(queries);
+    }
+
+    private void runSelectiveQueries(HouseRepository repository) {
+        repository.findById(RARE);
+        repository.findByCity("SEVILLA");
+        repository.findByPropertyType("condo");
+        repository.findByListingStatus("for_sale");
+        // Browsing the catalogue by cursor reads one page whatever its size
+        repository.findListingsByCriteria(RealEstateSearchCriteria.noFilter(), PageRequest.after(PageCursor.after(HOUSES / 2), 25));
+        for (RealEstateSearchCriteria criteria : SELECTIVE_CRITERIA) {
+            // Second pages, as the count is skipped when the first page tells the total
+            repository.findListingsByCriteria(criteria, PageRequest.of(1, 5));
+            repository.findByCriteria(criteria, PageRequest.of(1, 5));
+            repository.findByCriteriaWithLatestRating(criteria, PageRequest.of(1, 5));
+            repository.findByCriteriaWithLatestRating(criteria, PageRequest.after(PageCursor.after(RARE), 5));
+            repository.forEachListingByCriteria(criteria, listing -> {
+            });
+        }
+    }
+
+    private void assertIndexDriven(List<String> queries) {
+        final List<String> selects = queries.stream()
+            .filter(sql -> sql.strip().toLowerCase(Locale.ROOT).startsWith("select"))
+            .toList();
+        assertThat(selects).isNotEmpty();
+        for (String sql : selects) {
+            final String plan = String.join("\n", this.jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertThat(plan).as("%s%n%s", sql, plan).doesNotContain("Seq Scan");
+        }
+    }
+
+    /**
+     * Wraps the DataSource to record the SQL of the prepared statements executed while recording,
+     * as rendered by the PostgreSQL driver with the bind values inlined
+     */
+    static class StatementRecorder implements BeanPostProcessor {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        private volatile boolean recording;
+
+        List<String> record(Runnable action) {
+            this.statements.clear();
+            this.recording = true;
+            try {
+                action.run();
+            } finally {
+                this.recording = false;
+            }
+            return List.copyOf(this.statements);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recording(super.getConnection());
+                }
+            };
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                final Object result = invoke(method, connection, args);
+                return result instanceof PreparedStatement statement && method.getName().equals("prepareStatement") ?
+                    recording(statement) : result;
+            });
+        }
+
+        /**
+         * The driver renders the statement with its bind values, except arrays such as those of
+         * Hibernate's batch fetches, which are inlined here
+         */
+        private PreparedStatement recording(PreparedStatement statement) {
+            final Map<Integer, String> arrays = new TreeMap<>();
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                if (method.getName().equals("setArray")) {
+                    arrays.put((Integer) args[0], "'" + args[1] + "'");
+                } else if (method.getName().equals("clearParameters")) {
+                    arrays.clear();
+                } else if (this.recording && method.getName().startsWith("execute")) {
+                    String sql = statement.unwrap(PGStatement.class).toString();
+                    for (String array : arrays.values()) {
+                        sql = sql.replaceFirst("\\?", Matcher.quoteReplacement(array));
+                    }
+                    this.statements.add(sql);
+                }
+                return invoke(method, statement, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
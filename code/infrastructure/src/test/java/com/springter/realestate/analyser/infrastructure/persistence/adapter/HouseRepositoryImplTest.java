@@ -0,0 +1,350 @@
+package com.springter.realestate.analyser.infrastructure.persistence.adapter;
+
+import com.springter.realestate.analyser.application.metrics.BulkWriteMetrics;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.house.RatingAnalysis;
+import com.springter.realestate.analyser.domain.location.Location;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.infrastructure.persistence.jooq.HouseBulkWriter;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.LocationJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapperImpl;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.HouseJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jooq.AutoConfigureJooq;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureJooq
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("HouseRepositoryImpl Tests")
+class HouseRepositoryImplTest {
+
+    private static final int HOUSES = 1200;
+    private static final int RATINGS_PER_HOUSE = 5;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+    @EntityScan(basePackageClasses = HouseJpa.class)
+    @EnableJpaRepositories(basePackageClasses = HouseJpaRepository.class)
+    @Import({HouseRepositoryImpl.class, HousePersistenceMapperImpl.class, HouseBulkWriter.class, SearchMetrics.class,
+        BulkWriteMetrics.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private HouseRepositoryImpl houseRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < HOUSES; i++) {
+            final LocationJpa location = new LocationJpa();
+            location.setStreetAddress("Calle " + i);
+            location.setCity(i % 2 == 0 ? "Madrid" : "Sevilla");
+            this.testEntityManager.persist(location);
+
+            final HouseJpa house = new HouseJpa();
+            house.setLocation(location);
+            house.setName("House " + i);
+            house.setListingStatus("FOR_SALE");
+            house.setPropertyType("HOUSE");
+            house.setRatingAnalyses(new ArrayList<>());
+            this.testEntityManager.persist(house);
+
+            for (int r = 0; r < RATINGS_PER_HOUSE; r++) {
+                final RatingAnalysisJpa rating = new RatingAnalysisJpa();
+                rating.setHouse(house);
+                rating.setOverallScore(new BigDecimal("4.00"));
+                rating.setLastSoldPrice(BigDecimal.valueOf(200000L + r));
+                rating.setRatingTimestamp(OffsetDateTime.now().minusDays(RATINGS_PER_HOUSE - r));
+                this.testEntityManager.persist(rating);
+                house.getRatingAnalyses().add(rating);
+            }
+        }
+        this.testEntityManager.flush();
+        this.testEntityManager.clear();
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load houses in chunks without a houses x ratings cartesian product")
+    void shouldLoadHousesInChunksWithoutCartesianProduct() {
+        // When
+        final List<House> houses = this.houseRepository.findAll();
+
+        // Then
+        assertThat(houses).hasSize(HOUSES);
+        assertThat(houses).allSatisfy(house -> {
+            assertThat(house.getLocation()).isNotNull();
+            assertThat(house.getRatingAnalyses()).hasSize(RATINGS_PER_HOUSE);
+        });
+
+        // One ID query, one house+location query and one ratings query per chunk,
+        // plus a final empty ID query when the last chunk is full
+        final int chunks = (HOUSES + HouseRepositoryImpl.CHUNK_SIZE - 1) / HouseRepositoryImpl.CHUNK_SIZE;
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3L * chunks + (HOUSES % HouseRepositoryImpl.CHUNK_SIZE == 0 ? 1 : 0));
+
+        // Every row is hydrated once: houses + locations + ratings, not houses x ratings
+        assertThat(this.statistics.getEntityLoadCount()).isEqualTo((long) HOUSES * (2 + RATINGS_PER_HOUSE));
+        assertThat(this.statistics.getCollectionFetchCount()).isEqualTo(chunks);
+    }
+
+    @Test
+    @DisplayName("Should load only the latest rating of each house in the page")
+    void shouldLoadOnlyLatestRatingOfEachHouse() {
+        // When
+        final Page<House> page = this.houseRepository.findByCriteriaWithLatestRating(
+            RealEstateSearchCriteria.noFilter(), PageRequest.of(3, 20));
+
+        // Then
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(HOUSES);
+        assertThat(page.getContent()).allSatisfy(house -> {
+            assertThat(house.getRatingAnalyses()).hasSize(1);
+            assertThat(house.getLatestRating().getLastSoldPrice())
+                .isEqualByComparingTo(BigDecimal.valueOf(200000L + RATINGS_PER_HOUSE - 1));
+        });
+
+        // Page query, COUNT query and a single latest-rating query
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(this.statistics.getEntityLoadCount()).isEqualTo(20L * 3);
+        assertThat(this.statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should project listings without hydrating any entity")
+    void shouldProjectListingsWithoutHydratingEntities() {
+        // When
+        final Page<PropertyListing> page = this.houseRepository.findListingsByCriteria(
+            RealEstateSearchCriteria.builder().location("madrid").build(), PageRequest.of(1, 20));
+
+        // Then
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(HOUSES / 2);
+        assertThat(page.getNextCursor()).isNotNull();
+        assertThat(page.getContent()).allSatisfy(listing -> {
+            assertThat(listing.getCity()).isEqualTo("Madrid");
+            assertThat(listing.getFullAddress()).startsWith("Calle ");
+            assertThat(listing.getLastSoldPrice())
+                .isEqualByComparingTo(BigDecimal.valueOf(200000L + RATINGS_PER_HOUSE - 1));
+        });
+
+        // Page query and COUNT query, nothing enters the persistence context
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should price listings from the latest rating with timestamp, else the highest analysis ID")
+    void shouldPriceListingsFromLatestRatingWithNullTimestampsLast() {
+        // Given
+        final OffsetDateTime ratedAt = OffsetDateTime.parse("2024-05-01T10:00:00Z");
+        final HouseJpa undated = persistHouse("Undated", "Toledo");
+        persistRating(undated, "100000", null);
+        persistRating(undated, "200000", null);
+        final HouseJpa partlyDated = persistHouse("Partly dated", "Toledo");
+        persistRating(partlyDated, "300000", ratedAt);
+        persistRating(partlyDated, "400000", null);
+        this.testEntityManager.flush();
+        this.testEntityManager.clear();
+
+        // When
+        final Page<PropertyListing> all = this.houseRepository.findListingsByCriteria(
+            RealEstateSearchCriteria.builder().location("toledo").build(), PageRequest.of(0, 20));
+        final Page<PropertyListing> filtered = this.houseRepository.findListingsByCriteria(
+            RealEstateSearchCriteria.builder().location("toledo").minPrice(150000.0).maxPrice(350000.0).build(),
+            PageRequest.of(0, 20));
+
+        // Then
+        assertThat(all.getContent())
+            .extracting(PropertyListing::getName, listing -> listing.getLastSoldPrice().toPlainString())
+            .containsExactly(tuple("Undated", "200000.00"), tuple("Partly dated", "300000.00"));
+        assertThat(filtered.getContent()).extracting(PropertyListing::getName)
+            .containsExactly("Undated", "Partly dated");
+    }
+
+    @Test
+    @DisplayName("Should seek listings after a cursor without counting")
+    void shouldSeekListingsAfterCursorWithoutCounting() {
+        // Given
+        final Page<PropertyListing> first = this.houseRepository.findListingsByCriteria(
+            RealEstateSearchCriteria.noFilter(), PageRequest.of(0, 50));
+        this.statistics.clear();
+
+        // When
+        final Page<PropertyListing> next = this.houseRepository.findListingsByCriteria(
+            RealEstateSearchCriteria.noFilter(), PageRequest.after(first.getNextCursor(), 50));
+
+        // Then
+        assertThat(next.getContent()).hasSize(50);
+        assertThat(next.isTotalKnown()).isFalse();
+        assertThat(next.getContent().get(0).getId()).isGreaterThan(first.getContent().get(49).getId());
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should save houses in bulk, reusing locations with the same address")
+    void shouldSaveHousesInBulkReusingLocationsWithSameAddress() {
+        // Given
+        final Location existingAddress = Location.builder().streetAddress("Calle 0").city("Madrid").build();
+        final Location newAddress = Location.builder().streetAddress("Calle Nueva 1").city("Valencia").build();
+        final List<House> houses = List.of(
+            newHouse("Bulk 1", existingAddress),
+            newHouse("Bulk 2", newAddress),
+            newHouse("Bulk 3", newAddress));
+
+        // When
+        final List<House> saved = this.houseRepository.saveAll(houses);
+
+        // Then
+        assertThat(saved).extracting(House::getName).containsExactly("Bulk 1", "Bulk 2", "Bulk 3");
+        assertThat(saved).allSatisfy(house -> {
+            assertThat(house.getId()).isNotNull();
+            assertThat(house.getLocation().getId()).isNotNull();
+            assertThat(house.getRatingAnalyses()).singleElement().satisfies(rating -> {
+                assertThat(rating.getId()).isNotNull();
+                assertThat(rating.getHouseId()).isEqualTo(house.getId());
+            });
+        });
+        assertThat(saved.get(1).getLocation().getId()).isEqualTo(saved.get(2).getLocation().getId());
+        assertThat(countLocations()).isEqualTo(HOUSES + 1L);
+
+        final House reloaded = this.houseRepository.findById(saved.get(0).getId()).orElseThrow();
+        assertThat(reloaded.getLocation().getStreetAddress()).isEqualTo("Calle 0");
+        assertThat(reloaded.getLatestRating().getLastSoldPrice()).isEqualByComparingTo("310000");
+    }
+
+    @Test
+    @DisplayName("Should update houses and ratings saved in bulk by their ID")
+    void shouldUpdateHousesSavedInBulkById() {
+        // Given
+        final House saved = this.houseRepository.saveAll(List.of(
+            newHouse("Bulk 1", Location.builder().streetAddress("Calle Nueva 1").city("Valencia").build()))).get(0);
+        final RatingAnalysis rating = saved.getLatestRating();
+        final House changed = saved.toBuilder()
+            .name("Bulk 1 renamed")
+            .ratingAnalyses(List.of(rating.toBuilder().lastSoldPrice(new BigDecimal("320000")).build()))
+            .build();
+
+        // When
+        this.houseRepository.saveAll(List.of(changed));
+        this.testEntityManager.clear();
+
+        // Then
+        final House reloaded = this.houseRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Bulk 1 renamed");
+        assertThat(reloaded.getRatingAnalyses()).singleElement().satisfies(updated -> {
+            assertThat(updated.getId()).isEqualTo(rating.getId());
+            assertThat(updated.getLastSoldPrice()).isEqualByComparingTo("320000");
+        });
+        assertThat(countLocations()).isEqualTo(HOUSES + 1L);
+    }
+
+    private static House newHouse(String name, Location location) {
+        return House.builder()
+            .name(name)
+            .location(location)
+            .listingStatus("FOR_SALE")
+            .propertyType("CONDO")
+            .ratingAnalyses(List.of(RatingAnalysis.builder()
+                .overallScore(new BigDecimal("4.50"))
+                .lastSoldPrice(new BigDecimal("310000"))
+                .ratingTimestamp(OffsetDateTime.now())
+                .build()))
+            .build();
+    }
+
+    private HouseJpa persistHouse(String name, String city) {
+        final LocationJpa location = new LocationJpa();
+        location.setStreetAddress("Calle " + name);
+        location.setCity(city);
+        this.testEntityManager.persist(location);
+
+        final HouseJpa house = new HouseJpa();
+        house.setLocation(location);
+        house.setName(name);
+        house.setListingStatus("FOR_SALE");
+        house.setPropertyType("HOUSE");
+        house.setRatingAnalyses(new ArrayList<>());
+        return this.testEntityManager.persist(house);
+    }
+
+    private void persistRating(HouseJpa house, String lastSoldPrice, OffsetDateTime ratingTimestamp) {
+        final RatingAnalysisJpa rating = new RatingAnalysisJpa();
+        rating.setHouse(house);
+        rating.setOverallScore(new BigDecimal("4.00"));
+        rating.setLastSoldPrice(new BigDecimal(lastSoldPrice));
+        rating.setRatingTimestamp(ratingTimestamp);
+        this.testEntityManager.persist(rating);
+        house.getRatingAnalyses().add(rating);
+    }
+
+    private long countLocations() {
+        return this.testEntityManager.getEntityManager()
+            .createQuery("select count(l) from LocationJpa l", Long.class)
+            .getSingleResult();
+    }
+}
@@ -0,0 +1,89 @@
+package com.springter.realestate.analyser.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionLimitingDataSource Tests")
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        this.dataSource = new ConnectionLimitingDataSource(this.target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should fail once every permit is held past the acquire timeout")
+    void shouldFailWhenNoPermitIsReleasedInTime() throws SQLException {
+        // Given
+        when(this.target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        this.dataSource.getConnection();
+        this.dataSource.getConnection();
+
+        // When / Then
+        assertThatThrownBy(() -> this.dataSource.getConnection())
+            .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(this.dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand the permit of a closed connection to a waiting caller, once")
+    void shouldReleasePermitOnClose() throws Exception {
+        // Given
+        final Connection connection = mock(Connection.class);
+        when(this.target.getConnection()).thenReturn(connection);
+        final ConnectionLimitingDataSource single = new ConnectionLimitingDataSource(this.target, 1, Duration.ofSeconds(5));
+        final Connection first = single.getConnection();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<Connection> waiting = executor.submit(() -> single.getConnection());
+            await().during(Duration.ofMillis(100)).atMost(Duration.ofSeconds(1)).until(() -> !waiting.isDone());
+
+            // When
+            first.close();
+            first.close();
+
+            // Then
+            assertThat(waiting.get(1, TimeUnit.SECONDS)).isNotNull();
+            verify(connection, times(2)).close();
+            assertThat(single.getAvailablePermits()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails to provide a connection")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        // Given
+        when(this.target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When / Then
+        assertThatThrownBy(() -> this.dataSource.getConnection()).hasMessage("pool exhausted");
+        assertThat(this.dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,302 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.metrics.BulkWriteMetrics;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.house.House;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.infrastructure.persistence.adapter.HouseRepositoryImpl;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.HouseJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.LocationJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.entity.RatingAnalysisJpa;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.mapper.HousePersistenceMapperImpl;
+import com.springter.realestate.analyser.infrastructure.persistence.jpa.repository.HouseJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jooq.AutoConfigureJooq;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the jOOQ adapter side by side with the JPA adapter on the schema migrations used for code
+ * generation: Hibernate validates the migrated schema against the entities, and both adapters must
+ * return the same results for the same criteria.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureJooq
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("JooqHouseRepository Tests")
+class JooqHouseRepositoryTest {
+
+    private static final int HOUSES = 120;
+
+    private static final List<RealEstateSearchCriteria> CRITERIA = List.of(
+        RealEstateSearchCriteria.noFilter(),
+        RealEstateSearchCriteria.builder().location("SEVILLA").build(),
+        RealEstateSearchCriteria.builder().location("calle 1").build(),
+        RealEstateSearchCriteria.builder().propertyType(RealEstateProperty.PropertyType.CONDO).build(),
+        RealEstateSearchCriteria.builder().minPrice(250000.0).build(),
+        RealEstateSearchCriteria.builder().maxPrice(240000.0).build(),
+        RealEstateSearchCriteria.builder()
+            .location("madrid")
+            .propertyType(RealEstateProperty.PropertyType.HOUSE)
+            .minPrice(210000.0)
+            .maxPrice(300000.0)
+            .build());
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+    @EntityScan(basePackageClasses = HouseJpa.class)
+    @EnableJpaRepositories(basePackageClasses = HouseJpaRepository.class)
+    @Import({HouseRepositoryImpl.class, HousePersistenceMapperImpl.class, HouseBulkWriter.class, SearchMetrics.class,
+            BulkWriteMetrics.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        JooqHouseRepository jooqHouseRepository(DSLContext dsl, ApplicationEventPublisher eventPublisher,
+                                                SearchMetrics searchMetrics, HouseBulkWriter houseBulkWriter) {
+            return new JooqHouseRepository(dsl, eventPublisher, searchMetrics, houseBulkWriter);
+        }
+    }
+
+    @Autowired
+    private JooqHouseRepository jooqRepository;
+
+    @Autowired
+    private HouseRepositoryImpl jpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < HOUSES; i++) {
+            final LocationJpa location = new LocationJpa();
+            location.setStreetAddress("Calle " + i);
+            location.setCity(i % 3 == 0 ? "Sevilla" : "Madrid");
+            location.setZipPostalCode("280" + (i % 10));
+            location.setWalkScore(i % 100);
+            this.testEntityManager.persist(location);
+
+            final HouseJpa house = new HouseJpa();
+            house.setLocation(location);
+            house.setName("House " + i);
+            house.setListingStatus(i % 4 == 0 ? "SOLD" : "FOR_SALE");
+            house.setPropertyType(i % 2 == 0 ? "House" : "CONDO");
+            house.setNumBedrooms(1 + i % 5);
+            house.setNumBathrooms(new BigDecimal("1.5"));
+            house.setRatingAnalyses(new ArrayList<>());
+            this.testEntityManager.persist(house);
+
+            // Every seventh house has never been rated
+            final int ratings = i % 7 == 0 ? 0 : 1 + i % 3;
+            for (int r = 0; r < ratings; r++) {
+                final RatingAnalysisJpa rating = new RatingAnalysisJpa();
+                rating.setHouse(house);
+                rating.setOverallScore(new BigDecimal("3.50"));
+                rating.setLastSoldPrice(BigDecimal.valueOf(200000L + 1000L * i + r));
+                rating.setRatingTimestamp(OffsetDateTime.parse("2024-01-01T00:00:00Z").plusDays(r));
+                this.testEntityManager.persist(rating);
+                house.getRatingAnalyses().add(rating);
+            }
+        }
+        this.testEntityManager.flush();
+        this.testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should find the same listings as the JPA adapter for every criteria")
+    void shouldFindSameListingsAsJpaAdapter() {
+        for (RealEstateSearchCriteria criteria : CRITERIA) {
+            for (PageRequest pageRequest : List.of(PageRequest.of(0, 25), PageRequest.of(2, 10))) {
+                final Page<PropertyListing> expected = this.jpaRepository.findListingsByCriteria(criteria, pageRequest);
+
+                final Page<PropertyListing> actual = this.jooqRepository.findListingsByCriteria(criteria, pageRequest);
+
+                assertThat(actual).as("%s %s", criteria, pageRequest)
+                    .usingRecursiveComparison()
+                    .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the wildcards of a location filter literally, like the JPA adapter")
+    void shouldMatchLocationWildcardsLiterally() {
+        // Given
+        final LocationJpa location = new LocationJpa();
+        location.setStreetAddress("Calle_Nueva 5");
+        location.setCity("Toledo");
+        this.testEntityManager.persist(location);
+        final HouseJpa house = new HouseJpa();
+        house.setLocation(location);
+        house.setName("Underscored");
+        house.setListingStatus("FOR_SALE");
+        house.setPropertyType("House");
+        this.testEntityManager.persist(house);
+        this.testEntityManager.flush();
+
+        for (String filter : List.of("calle_", "%", "100%")) {
+            final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().location(filter).build();
+
+            // When
+            final Page<PropertyListing> jpa = this.jpaRepository.findListingsByCriteria(criteria, PageRequest.of(0, HOUSES));
+            final Page<PropertyListing> jooq = this.jooqRepository.findListingsByCriteria(criteria, PageRequest.of(0, HOUSES));
+
+            // Then
+            final List<String> expected = filter.equals("calle_") ? List.of("Underscored") : List.of();
+            assertThat(jpa.getContent()).as(filter).extracting(PropertyListing::getName).isEqualTo(expected);
+            assertThat(jooq.getContent()).as(filter).extracting(PropertyListing::getName).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the same houses with latest rating as the JPA adapter, by offset and by cursor")
+    void shouldFindSameHousesWithLatestRatingAsJpaAdapter() {
+        for (RealEstateSearchCriteria criteria : CRITERIA) {
+            final Page<House> expected = this.jpaRepository.findByCriteriaWithLatestRating(criteria, PageRequest.of(0, 15));
+            final Page<House> actual = this.jooqRepository.findByCriteriaWithLatestRating(criteria, PageRequest.of(0, 15));
+            assertHousePagesEqual(actual, expected);
+
+            if (expected.getNextCursor() != null) {
+                final PageRequest next = PageRequest.after(expected.getNextCursor(), 15);
+                assertHousePagesEqual(
+                    this.jooqRepository.findByCriteriaWithLatestRating(criteria, next),
+                    this.jpaRepository.findByCriteriaWithLatestRating(criteria, next));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream every matching listing in ID order, like the JPA adapter")
+    void shouldStreamSameListingsAsJpaAdapter() {
+        for (RealEstateSearchCriteria criteria : CRITERIA) {
+            final List<PropertyListing> expected = new ArrayList<>();
+            final List<PropertyListing> actual = new ArrayList<>();
+
+            final long expectedCount = this.jpaRepository.forEachListingByCriteria(criteria, expected::add);
+            final long actualCount = this.jooqRepository.forEachListingByCriteria(criteria, actual::add);
+
+            final Page<PropertyListing> all = this.jpaRepository.findListingsByCriteria(criteria, PageRequest.of(0, HOUSES));
+            assertThat(expectedCount).as("%s", criteria).isEqualTo(all.getTotalElements()).isEqualTo(actualCount);
+            assertThat(expected).as("%s", criteria)
+                .usingRecursiveFieldByFieldElementComparator(listingComparison())
+                .containsExactlyElementsOf(all.getContent());
+            assertThat(actual).as("%s", criteria)
+                .usingRecursiveFieldByFieldElementComparator(listingComparison())
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should load the whole catalogue like the JPA adapter")
+    void shouldFindAllLikeJpaAdapter() {
+        // When
+        final List<House> expected = this.jpaRepository.findAll();
+        final List<House> actual = this.jooqRepository.findAll();
+
+        // Then
+        assertThat(actual).hasSize(HOUSES);
+        assertThat(actual)
+            .usingRecursiveFieldByFieldElementComparator(houseComparison())
+            .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should find houses by city, property type and listing status ignoring case")
+    void shouldFindByAttributesIgnoringCase() {
+        assertThat(this.jooqRepository.findByCity("sevil")).hasSize(HOUSES / 3);
+        assertThat(this.jooqRepository.findByPropertyType("house")).hasSize(HOUSES / 2);
+        assertThat(this.jooqRepository.findByListingStatus("sold"))
+            .hasSize(HOUSES / 4)
+            .allSatisfy(house -> assertThat(house.getLocation().getCity()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Should delete a house together with its rating history")
+    void shouldDeleteHouseWithRatings() {
+        // Given
+        final Integer id = this.jooqRepository.findByCity("madrid").stream()
+            .filter(house -> !house.getRatingAnalyses().isEmpty())
+            .findFirst()
+            .orElseThrow()
+            .getId();
+
+        // When
+        this.jooqRepository.deleteById(id);
+
+        // Then
+        assertThat(this.jooqRepository.findById(id)).isEmpty();
+        assertThat(this.jooqRepository.findAll()).hasSize(HOUSES - 1);
+    }
+
+    private void assertHousePagesEqual(Page<House> actual, Page<House> expected) {
+        assertThat(actual.getContent())
+            .usingRecursiveFieldByFieldElementComparator(houseComparison())
+            .containsExactlyElementsOf(expected.getContent());
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(actual.getNextCursor()).isEqualTo(expected.getNextCursor());
+    }
+
+    private static RecursiveComparisonConfiguration listingComparison() {
+        return RecursiveComparisonConfiguration.builder()
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .build();
+    }
+
+    private static RecursiveComparisonConfiguration houseComparison() {
+        return RecursiveComparisonConfiguration.builder()
+            .withIgnoreCollectionOrder(true)
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .withComparatorForType(Comparator.comparing(OffsetDateTime::toInstant), OffsetDateTime.class)
+            .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.search.ListingSearchIndex;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.TileGrid;
+import com.springter.realestate.analyser.domain.realestate.ListingCluster;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.jooq.DSLContext;
+import org.jooq.Records;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Clusters a catalogue spread over the Iberian peninsula on the migrated schema, checking the SQL
+ * aggregation against the in-memory one of the {@link ListingSearchIndex}, and that the viewport
+ * of a city is found through the earthdistance index. Every test rolls back the catalogue it seeds.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+@DisplayName("JooqListingClusterRepository Tests")
+class JooqListingClusterRepositoryTest {
+
+    private static final int HOUSES = 20_000;
+
+    private static final GeoBoundingBox AROUND_MADRID = GeoBoundingBox.of(40.0, -4.5, 41.0, -3.0);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class})
+    @Import(JooqListingClusterRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private JooqListingClusterRepository clusterRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        // Every thirteenth location has no coordinates, every fifth house has never been rated
+        this.dsl.execute("""
+            INSERT INTO public.location (street_address, city, zip_postal_code, latitude, longitude)
+            SELECT 'Calle ' || i, 'Ciudad ' || (i % 500), lpad((i % 50000)::text, 5, '0'),
+                   CASE WHEN i % 13 = 0 THEN NULL ELSE 36 + (i % 97) * 0.07 END,
+                   CASE WHEN i % 13 = 0 THEN NULL ELSE -9 + (i % 89) * 0.13 END
+            FROM generate_series(1, ?) AS i""", HOUSES);
+        this.dsl.execute("""
+            INSERT INTO public.house (location_id, name, listing_status, property_type)
+            SELECT location_id, 'House ' || location_id, 'FOR_SALE', 'House'
+            FROM public.location""");
+        this.dsl.execute("""
+            INSERT INTO public.rating_analysis (house_id, overall_score, last_sold_price, rating_timestamp)
+            SELECT house_id, 3.50, 100000 + (house_id::bigint * 7919 + r * 104729) % 1000000,
+                   TIMESTAMPTZ '2024-01-01' + r * INTERVAL '1 day'
+            FROM public.house, generate_series(1, 2) AS r
+            WHERE house_id % 5 <> 0""");
+        this.dsl.execute("ANALYZE public.location, public.house, public.rating_analysis");
+    }
+
+    @Test
+    @DisplayName("Should aggregate the same clusters as the listing search index")
+    void shouldAggregateLikeSearchIndex() {
+        // Given
+        final ListingSearchIndex index = new ListingSearchIndex();
+        index.load(JooqHouseRepository.selectListings(this.dsl).fetch(Records.mapping(PropertyListing::new)));
+        final List<RealEstateSearchCriteria> criteriaList = List.of(
+            RealEstateSearchCriteria.builder().bounds(AROUND_MADRID).build(),
+            RealEstateSearchCriteria.builder().bounds(AROUND_MADRID).minPrice(300000.0).maxPrice(800000.0).build(),
+            RealEstateSearchCriteria.builder().bounds(GeoBoundingBox.of(-90, -180, 90, 180)).build());
+
+        for (RealEstateSearchCriteria criteria : criteriaList) {
+            for (TileGrid grid : List.of(TileGrid.forViewport(criteria.getBounds(), 6), TileGrid.forViewport(criteria.getBounds(), 10))) {
+                // When
+                final List<ListingCluster> clusters = this.clusterRepository.clusterListings(criteria, grid);
+
+                // Then
+                final List<ListingCluster> expected = index.cluster(criteria, grid);
+                assertThat(clusters).as("%s %s", criteria, grid).isNotEmpty().hasSameSizeAs(expected);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertThat(clusters.get(i)).as("%s %s", criteria, grid)
+                        .usingRecursiveComparison()
+                        .withComparatorForType((a, b) -> Math.abs(a - b) < 1e-6 ? 0 : Double.compare(a, b), Double.class)
+                        .isEqualTo(expected.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the locations of a city viewport with the earthdistance index")
+    void shouldUseEarthIndexForViewport() {
+        // Given
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().bounds(AROUND_MADRID).build();
+
+        // When
+        final String plan = this.dsl.explain(this.clusterRepository.clusterQuery(criteria, TileGrid.forViewport(AROUND_MADRID, 10))).plan();
+
+        // Then
+        assertThat(plan).contains("location_earth_idx").doesNotContain("Seq Scan on location");
+    }
+}
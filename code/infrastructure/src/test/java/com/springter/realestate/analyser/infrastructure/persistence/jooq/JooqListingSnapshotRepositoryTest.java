@@ -0,0 +1,183 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.ingest.ListingLoadReport;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Loads snapshots through COPY into the migrated schema, on PostgreSQL only as COPY has no
+ * equivalent elsewhere. Every test rolls back, dropping what it loaded.
+ */
+@SpringBootTest(properties = {
+    "realestate.snapshot-load.enabled=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+@DisplayName("JooqListingSnapshotRepository Tests")
+class JooqListingSnapshotRepositoryTest {
+
+    private static final String HEADER = "location_id,street_address,city,state_province,zip_postal_code,latitude,"
+        + "longitude,school_rating_avg,walk_score,transit_score,house_id,name,listing_status,year_built,"
+        + "square_footage,num_bedrooms,num_bathrooms,property_type,heating_type,analysis_id,overall_score,"
+        + "user_rating_count,price_to_sqft_ratio,market_comp_score,last_sold_price,time_on_market_days,"
+        + "rating_timestamp\n";
+
+    private static final String SNAPSHOT = HEADER
+        + "10,Calle Mayor 1,Madrid,,28013,40.41650000,-3.70380000,4.5,90,95,1,Piso Sol,FOR_SALE,1920,80,2,1.0,CONDO,GAS,"
+        + "100,4.10,12,3500.00,4.00,280000.00,30,2024-05-01T10:00:00Z\n"
+        + "10,Calle Mayor 1,Madrid,,28013,40.41650000,-3.70380000,4.5,90,95,1,Piso Sol,FOR_SALE,1920,80,2,1.0,CONDO,GAS,"
+        + "101,4.20,15,3600.00,4.10,290000.00,45,2024-06-01T10:00:00Z\n"
+        + "10,Calle Mayor 1,Madrid,,28013,40.41650000,-3.70380000,4.5,90,95,2,\"Ático Sol, terraza\",FOR_SALE,1920,60,1,1.0,"
+        + "CONDO,GAS,,,,,,,,\n"
+        + "11,Calle Feria 2,Sevilla,,41003,,,,70,60,3,Casa Feria,SOLD,1890,150,4,2.5,HOUSE,,"
+        + "102,3.90,4,2100.00,3.80,315000.00,90,2024-04-15T09:30:00Z\n";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class})
+    @Import(JooqListingSnapshotRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private JooqListingSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @Test
+    @DisplayName("Should load locations, houses and ratings from the snapshot lines")
+    void shouldLoadLocationsHousesAndRatingsFromSnapshotLines() {
+        // Given
+        final List<Long> progress = new ArrayList<>();
+
+        // When
+        final ListingLoadReport report = this.snapshotRepository.load(new StringReader(SNAPSHOT), progress::add);
+
+        // Then
+        assertThat(report.getLines()).isEqualTo(4);
+        assertThat(report.getLocations()).isEqualTo(2);
+        assertThat(report.getHouses()).isEqualTo(3);
+        assertThat(report.getRatingAnalyses()).isEqualTo(3);
+        assertThat(progress).containsExactly(5L);
+
+        assertThat(this.dsl.fetchValue(HOUSE.NAME, HOUSE.HOUSE_ID.eq(2))).isEqualTo("Ático Sol, terraza");
+        assertThat(this.dsl.fetch(RATING_ANALYSIS, RATING_ANALYSIS.HOUSE_ID.eq(1)))
+            .extracting(RATING_ANALYSIS.LAST_SOLD_PRICE::get)
+            .containsExactlyInAnyOrder(new BigDecimal("280000.00"), new BigDecimal("290000.00"));
+        assertThat(this.dsl.fetchValue(LOCATION.LATITUDE, LOCATION.LOCATION_ID.eq(11))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should overwrite rows by ID, the last line of an ID winning")
+    void shouldOverwriteRowsById() {
+        // Given
+        this.snapshotRepository.load(new StringReader(SNAPSHOT), lines -> { });
+        final String update = HEADER
+            + "11,Calle Feria 2,Sevilla,,41003,,,,70,60,3,Casa Feria,FOR_SALE,1890,150,4,2.5,HOUSE,,,,,,,,,\n"
+            + "11,Calle Feria 2,Sevilla,,41003,,,,70,60,3,Casa Feria,PENDING,1890,150,4,2.5,HOUSE,,,,,,,,,\n";
+
+        // When
+        final ListingLoadReport report = this.snapshotRepository.load(new StringReader(update), lines -> { });
+
+        // Then
+        assertThat(report.getHouses()).isEqualTo(1);
+        assertThat(this.dsl.fetchCount(HOUSE)).isEqualTo(3);
+        assertThat(this.dsl.fetchValue(HOUSE.LISTING_STATUS, HOUSE.HOUSE_ID.eq(3))).isEqualTo("PENDING");
+        assertThat(this.dsl.fetchCount(RATING_ANALYSIS, RATING_ANALYSIS.HOUSE_ID.eq(3))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should move the identity sequences past the loaded IDs")
+    void shouldMoveIdentitySequencesPastLoadedIds() {
+        // Given
+        this.snapshotRepository.load(new StringReader(SNAPSHOT), lines -> { });
+
+        // When
+        final Integer locationId = this.dsl.insertInto(LOCATION, LOCATION.STREET_ADDRESS, LOCATION.CITY)
+            .values("Calle Nueva 3", "Valencia")
+            .returningResult(LOCATION.LOCATION_ID)
+            .fetchOne(LOCATION.LOCATION_ID);
+
+        // Then
+        assertThat(locationId).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should move the identity sequence past the IDs upserted by ID, never back")
+    void shouldMoveIdentitySequencePastUpsertedIds() {
+        // Given
+        final Integer locationId = this.dsl.insertInto(LOCATION, LOCATION.STREET_ADDRESS, LOCATION.CITY)
+            .values("Calle Nueva 4", "Valencia")
+            .returningResult(LOCATION.LOCATION_ID)
+            .fetchOne(LOCATION.LOCATION_ID);
+        final Integer houseId = this.dsl.insertInto(HOUSE, HOUSE.LOCATION_ID, HOUSE.NAME, HOUSE.LISTING_STATUS)
+            .values(locationId, "Casa Nueva", "FOR_SALE")
+            .returningResult(HOUSE.HOUSE_ID)
+            .fetchOne(HOUSE.HOUSE_ID);
+
+        // When
+        ListingRows.upsert(this.dsl, RATING_ANALYSIS, ListingRows.RATING_ANALYSIS_COLUMNS,
+            List.<Object[]>of(ratingRow(5000, houseId)));
+        final Integer afterUpsert = this.insertRating(houseId);
+        ListingRows.upsert(this.dsl, RATING_ANALYSIS, ListingRows.RATING_ANALYSIS_COLUMNS,
+            List.<Object[]>of(ratingRow(7, houseId)));
+        final Integer afterLowerUpsert = this.insertRating(houseId);
+
+        // Then
+        assertThat(afterUpsert).isEqualTo(5001);
+        assertThat(afterLowerUpsert).isEqualTo(5002);
+    }
+
+    private Integer insertRating(Integer houseId) {
+        return this.dsl.insertInto(RATING_ANALYSIS, RATING_ANALYSIS.HOUSE_ID, RATING_ANALYSIS.OVERALL_SCORE)
+            .values(houseId, BigDecimal.ONE)
+            .returningResult(RATING_ANALYSIS.ANALYSIS_ID)
+            .fetchOne(RATING_ANALYSIS.ANALYSIS_ID);
+    }
+
+    private static Object[] ratingRow(int analysisId, Integer houseId) {
+        final Object[] row = new Object[ListingRows.RATING_ANALYSIS_COLUMNS.size()];
+        row[0] = analysisId;
+        row[1] = houseId;
+        row[2] = BigDecimal.ONE;
+        return row;
+    }
+}
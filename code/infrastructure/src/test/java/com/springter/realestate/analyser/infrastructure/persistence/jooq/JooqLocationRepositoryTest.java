@@ -0,0 +1,127 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.location.LocationMatch;
+import com.springter.realestate.analyser.domain.location.LocationSearchMode;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Searches a catalogue large enough for the planner to prefer indexes, on the migrated schema
+ * with its location search index. The EXPLAIN assertions keep the location search
+ * index-driven: a change to the queries or the indexes that falls back to scanning every
+ * location fails here. Every test rolls back the catalogue it seeds.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+@DisplayName("JooqLocationRepository Tests")
+class JooqLocationRepositoryTest {
+
+    private static final int LOCATIONS = 20_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class})
+    @Import(JooqLocationRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private JooqLocationRepository locationRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        this.dsl.execute("""
+            INSERT INTO public.location (street_address, city, zip_postal_code)
+            SELECT 'Calle ' || i, 'Ciudad ' || (i % 500), lpad((i % 50000)::text, 5, '0')
+            FROM generate_series(1, ?) AS i""", LOCATIONS);
+        this.dsl.execute("""
+            INSERT INTO public.location (street_address, city, state_province, zip_postal_code) VALUES
+                ('Calle Feria 2', 'Sevilla', 'Andalucía', '41003'),
+                ('Avenida de la Constitución 20', 'Sevilla', 'Andalucía', '41004'),
+                ('Calle Mayor 1', 'Madrid', 'Madrid', '28013')""");
+        this.dsl.execute("ANALYZE public.location");
+    }
+
+    @Test
+    @DisplayName("Should find addresses containing the text, ignoring case")
+    void shouldFindAddressesContainingText() {
+        // When
+        final List<LocationMatch> matches = this.locationRepository.search("CALLE MAYOR", LocationSearchMode.CONTAINS, 10);
+
+        // Then
+        assertThat(matches).extracting(match -> match.getLocation().getStreetAddress()).containsExactly("Calle Mayor 1");
+        assertThat(matches.get(0).getScore()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rank similar addresses first, tolerating typos")
+    void shouldRankSimilarAddressesFirst() {
+        // When
+        final List<LocationMatch> matches = this.locationRepository.search("sevila", LocationSearchMode.BEST_MATCH, 10);
+
+        // Then
+        assertThat(matches).hasSize(2);
+        assertThat(matches).allSatisfy(match -> {
+            assertThat(match.getLocation().getCity()).isEqualTo("Sevilla");
+            assertThat(match.getScore()).isBetween(0.6, 1.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Should find the addresses containing the text with the trigram index of the address")
+    void shouldUseAddressTrigramIndexForContains() {
+        // When
+        final String plan = this.dsl.explain(
+            this.locationRepository.searchQuery("calle 1234", LocationSearchMode.CONTAINS, 10)).plan();
+
+        // Then
+        assertThat(plan).contains("location_address_trgm_idx").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Should find the addresses similar to the text with the trigram index of the address")
+    void shouldUseAddressTrigramIndexForBestMatch() {
+        // When
+        final String plan = this.dsl.explain(
+            this.locationRepository.searchQuery("sevila", LocationSearchMode.BEST_MATCH, 10)).plan();
+
+        // Then
+        assertThat(plan).contains("location_address_trgm_idx").doesNotContain("Seq Scan");
+    }
+}
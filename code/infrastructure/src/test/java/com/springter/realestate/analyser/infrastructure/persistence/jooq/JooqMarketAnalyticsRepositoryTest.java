@@ -0,0 +1,163 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.analytics.MarketGrouping;
+import com.springter.realestate.analyser.domain.analytics.MarketStatistics;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Computes the market statistics of a small catalogue on the migrated schema, whose percentiles are
+ * easily checked by hand. Every test rolls back the catalogue it seeds.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+@DisplayName("JooqMarketAnalyticsRepository Tests")
+class JooqMarketAnalyticsRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class})
+    @Import(JooqMarketAnalyticsRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private JooqMarketAnalyticsRepository analyticsRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        this.dsl.execute("""
+            INSERT INTO public.location (location_id, street_address, city) VALUES
+                (9001, 'Calle Mayor 1', 'Madrid'),
+                (9002, 'Calle Mayor 2', 'Madrid'),
+                (9003, 'Calle Mayor 3', 'Madrid'),
+                (9004, 'Calle Mayor 4', 'Madrid'),
+                (9005, 'Calle Mayor 5', 'Madrid'),
+                (9006, 'Calle Sierpes 1', 'Sevilla')""");
+        this.dsl.execute("""
+            INSERT INTO public.house (house_id, location_id, name, listing_status, property_type) VALUES
+                (9001, 9001, 'Casa 1', 'FOR_SALE', 'House'),
+                (9002, 9002, 'Casa 2', 'FOR_SALE', 'HOUSE'),
+                (9003, 9003, 'Casa 3', 'FOR_SALE', 'house'),
+                (9004, 9004, 'Piso 4', 'FOR_SALE', 'Condo'),
+                (9005, 9005, 'Piso 5', 'FOR_SALE', 'Condo'),
+                (9006, 9006, 'Piso 6', 'FOR_SALE', 'Condo')""");
+        // The first analysis of houses 9001 and 9002 is superseded, house 9005 has never been rated
+        this.dsl.execute("""
+            INSERT INTO public.rating_analysis (house_id, overall_score, last_sold_price, price_to_sqft_ratio,
+                                                time_on_market_days, rating_timestamp) VALUES
+                (9001, 3.00, 999999, 999.00, 999, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00'),
+                (9001, 3.00, 100000, 100.00,  30, TIMESTAMP WITH TIME ZONE '2024-02-01 00:00:00+00'),
+                (9002, 3.00, 200000, 150.00, 120, TIMESTAMP WITH TIME ZONE '2024-02-01 00:00:00+00'),
+                (9002, 3.00, 999999, 999.00, 999, NULL),
+                (9003, 3.00, 300000, 200.00,  60, TIMESTAMP WITH TIME ZONE '2024-02-01 00:00:00+00'),
+                (9004, 3.00, 400000, 250.00, 200, TIMESTAMP WITH TIME ZONE '2024-02-01 00:00:00+00'),
+                (9006, 3.00, 500000, NULL,  NULL, TIMESTAMP WITH TIME ZONE '2024-02-01 00:00:00+00')""");
+    }
+
+    @Test
+    @DisplayName("Should compute the statistics of each city from the latest analysis of each house")
+    void shouldComputeStatisticsByCity() {
+        // When
+        final List<MarketStatistics> statistics = this.analyticsRepository.marketStatistics(
+            RealEstateSearchCriteria.noFilter(), MarketGrouping.CITY);
+
+        // Then
+        assertThat(statistics).extracting(MarketStatistics::getCity).containsExactly("Madrid", "Sevilla");
+        assertThat(statistics.get(0)).satisfies(madrid -> {
+            assertThat(madrid.getPropertyType()).isNull();
+            assertThat(madrid.getListingCount()).isEqualTo(5);
+            assertThat(madrid.getPricedCount()).isEqualTo(4);
+            assertThat(madrid.getPriceP25()).isCloseTo(175000.0, within(1e-6));
+            assertThat(madrid.getMedianPrice()).isCloseTo(250000.0, within(1e-6));
+            assertThat(madrid.getPriceP75()).isCloseTo(325000.0, within(1e-6));
+            assertThat(madrid.getPriceP90()).isCloseTo(370000.0, within(1e-6));
+            assertThat(madrid.getMedianPricePerSqft()).isCloseTo(175.0, within(1e-6));
+            assertThat(madrid.getAverageDaysOnMarket()).isCloseTo(102.5, within(1e-6));
+            assertThat(madrid.getStaleShare()).isCloseTo(0.5, within(1e-6));
+        });
+        assertThat(statistics.get(1)).satisfies(sevilla -> {
+            assertThat(sevilla.getListingCount()).isEqualTo(1);
+            assertThat(sevilla.getMedianPrice()).isCloseTo(500000.0, within(1e-6));
+            assertThat(sevilla.getMedianPricePerSqft()).isNull();
+            assertThat(sevilla.getAverageDaysOnMarket()).isNull();
+            assertThat(sevilla.getStaleShare()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should segment by property type whatever its case, and by city and property type")
+    void shouldComputeStatisticsByPropertyType() {
+        // When
+        final List<MarketStatistics> byType = this.analyticsRepository.marketStatistics(
+            RealEstateSearchCriteria.noFilter(), MarketGrouping.PROPERTY_TYPE);
+        final List<MarketStatistics> byCityAndType = this.analyticsRepository.marketStatistics(
+            RealEstateSearchCriteria.noFilter(), MarketGrouping.CITY_AND_PROPERTY_TYPE);
+
+        // Then
+        assertThat(byType).extracting(MarketStatistics::getCity, MarketStatistics::getPropertyType, MarketStatistics::getListingCount)
+            .containsExactly(tuple(null, "CONDO", 3L), tuple(null, "HOUSE", 3L));
+        assertThat(byType.get(1).getMedianPrice()).isCloseTo(200000.0, within(1e-6));
+        assertThat(byType.get(0).getStaleShare()).isCloseTo(0.5, within(1e-6));
+        assertThat(byCityAndType).extracting(MarketStatistics::getCity, MarketStatistics::getPropertyType, MarketStatistics::getListingCount)
+            .containsExactly(tuple("Madrid", "CONDO", 2L), tuple("Madrid", "HOUSE", 3L), tuple("Sevilla", "CONDO", 1L));
+    }
+
+    @Test
+    @DisplayName("Should only aggregate the houses matching the search filters")
+    void shouldApplySearchFilters() {
+        // Given
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder()
+            .location("madrid")
+            .propertyType(RealEstateProperty.PropertyType.HOUSE)
+            .maxPrice(250000.0)
+            .build();
+
+        // When
+        final List<MarketStatistics> statistics = this.analyticsRepository.marketStatistics(criteria, MarketGrouping.CITY);
+
+        // Then
+        assertThat(statistics).singleElement().satisfies(madrid -> {
+            assertThat(madrid.getListingCount()).isEqualTo(2);
+            assertThat(madrid.getMedianPrice()).isCloseTo(150000.0, within(1e-6));
+        });
+    }
+}
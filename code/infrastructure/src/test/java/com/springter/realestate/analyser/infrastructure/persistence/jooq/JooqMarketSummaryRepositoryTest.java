@@ -0,0 +1,156 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.analytics.MarketSummary;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Summarises the rating history of a small catalogue in the materialized view of the migrated schema.
+ * Every test rolls back the catalogue it seeds, the refreshes of the view included.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+@DisplayName("JooqMarketSummaryRepository Tests")
+class JooqMarketSummaryRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class})
+    @Import(JooqMarketSummaryRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private JooqMarketSummaryRepository summaryRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        this.dsl.execute("""
+            INSERT INTO public.location (location_id, street_address, city) VALUES
+                (9001, 'Calle Mayor 1', 'Madrid'),
+                (9002, 'Calle Mayor 2', 'Madrid'),
+                (9003, 'Calle Sierpes 1', 'Sevilla')""");
+        this.dsl.execute("""
+            INSERT INTO public.house (house_id, location_id, name, listing_status, property_type) VALUES
+                (9001, 9001, 'Casa 1', 'FOR_SALE', 'House'),
+                (9002, 9002, 'Piso 2', 'FOR_SALE', NULL),
+                (9003, 9003, 'Piso 3', 'FOR_SALE', 'Condo')""");
+        // The analysis of 2024-01-31 23:30 in Madrid is made in February in UTC, the last one has no month
+        this.dsl.execute("""
+            INSERT INTO public.rating_analysis (house_id, overall_score, last_sold_price, price_to_sqft_ratio,
+                                                time_on_market_days, rating_timestamp) VALUES
+                (9001, 3.00, 100000, 100.00,   30, TIMESTAMP WITH TIME ZONE '2024-01-10 00:00:00+00'),
+                (9001, 3.00, 200000, 200.00,  120, TIMESTAMP WITH TIME ZONE '2024-01-20 00:00:00+00'),
+                (9001, 3.00, 400000, NULL,   NULL, TIMESTAMP WITH TIME ZONE '2024-01-31 23:30:00-01'),
+                (9001, 3.00, NULL,   300.00,  200, TIMESTAMP WITH TIME ZONE '2024-02-15 00:00:00+00'),
+                (9002, 3.00, 250000, 180.00,   10, TIMESTAMP WITH TIME ZONE '2024-01-15 00:00:00+00'),
+                (9003, 3.00, 500000, 250.00,   95, TIMESTAMP WITH TIME ZONE '2024-03-01 00:00:00+00'),
+                (9003, 3.00, 999999, 999.00,  999, NULL)""");
+        this.summaryRepository.refresh();
+    }
+
+    @Test
+    @DisplayName("Should summarise the analyses of each city, property type and month")
+    void shouldSummariseEachMonth() {
+        // When
+        final List<MarketSummary> summaries = this.summaryRepository.findMonthlySummaries(null, null, null, null);
+
+        // Then
+        assertThat(summaries).extracting(MarketSummary::getCity, MarketSummary::getPropertyType, MarketSummary::getMonth,
+                MarketSummary::getAnalysisCount)
+            .containsExactly(
+                tuple("Madrid", "HOUSE", YearMonth.of(2024, 1), 2L),
+                tuple("Madrid", "HOUSE", YearMonth.of(2024, 2), 2L),
+                tuple("Madrid", null, YearMonth.of(2024, 1), 1L),
+                tuple("Sevilla", "CONDO", YearMonth.of(2024, 3), 1L));
+        assertThat(summaries.get(0)).satisfies(january -> {
+            assertThat(january.getPricedCount()).isEqualTo(2);
+            assertThat(january.getMinPrice()).isEqualTo(100000.0);
+            assertThat(january.getAveragePrice()).isCloseTo(150000.0, within(1e-6));
+            assertThat(january.getMedianPrice()).isCloseTo(150000.0, within(1e-6));
+            assertThat(january.getMaxPrice()).isEqualTo(200000.0);
+            assertThat(january.getMedianPricePerSqft()).isCloseTo(150.0, within(1e-6));
+            assertThat(january.getAverageDaysOnMarket()).isCloseTo(75.0, within(1e-6));
+            assertThat(january.getStaleCount()).isEqualTo(1);
+        });
+        assertThat(summaries.get(1)).satisfies(february -> {
+            assertThat(february.getPricedCount()).isEqualTo(1);
+            assertThat(february.getMedianPrice()).isCloseTo(400000.0, within(1e-6));
+            assertThat(february.getMedianPricePerSqft()).isCloseTo(300.0, within(1e-6));
+            assertThat(february.getAverageDaysOnMarket()).isCloseTo(200.0, within(1e-6));
+        });
+    }
+
+    @Test
+    @DisplayName("Should only read the summaries of the city, property type and months requested")
+    void shouldFilterSummaries() {
+        // When
+        final List<MarketSummary> madridFebruary = this.summaryRepository.findMonthlySummaries(
+            "MADRID", null, YearMonth.of(2024, 2), YearMonth.of(2024, 12));
+        final List<MarketSummary> condos = this.summaryRepository.findMonthlySummaries(
+            null, RealEstateProperty.PropertyType.CONDO, null, YearMonth.of(2024, 3));
+
+        // Then
+        assertThat(madridFebruary).extracting(MarketSummary::getMonth).containsExactly(YearMonth.of(2024, 2));
+        assertThat(condos).singleElement().extracting(MarketSummary::getCity).isEqualTo("Sevilla");
+    }
+
+    @Test
+    @DisplayName("Should only show new analyses once refreshed")
+    void shouldShowNewAnalysesOnceRefreshed() {
+        // Given
+        this.dsl.execute("""
+            INSERT INTO public.rating_analysis (house_id, overall_score, last_sold_price, rating_timestamp)
+            VALUES (9003, 3.00, 700000, TIMESTAMP WITH TIME ZONE '2024-03-02 00:00:00+00')""");
+
+        // When
+        final List<MarketSummary> before = this.summaryRepository.findMonthlySummaries("Sevilla", null, null, null);
+        this.summaryRepository.refresh();
+        final List<MarketSummary> after = this.summaryRepository.findMonthlySummaries("Sevilla", null, null, null);
+
+        // Then
+        assertThat(before).singleElement().extracting(MarketSummary::getAnalysisCount).isEqualTo(1L);
+        assertThat(after).singleElement().satisfies(march -> {
+            assertThat(march.getAnalysisCount()).isEqualTo(2);
+            assertThat(march.getMedianPrice()).isCloseTo(600000.0, within(1e-6));
+        });
+    }
+}
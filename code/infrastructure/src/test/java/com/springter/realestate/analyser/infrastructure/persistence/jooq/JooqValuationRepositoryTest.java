@@ -0,0 +1,140 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.domain.valuation.Valuation;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Saves and reads valuations of a small catalogue on the migrated schema.
+ * Every test rolls back the catalogue it seeds.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+@DisplayName("JooqValuationRepository Tests")
+class JooqValuationRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JooqAutoConfiguration.class, FlywayAutoConfiguration.class})
+    @Import(JooqValuationRepository.class)
+    static class TestConfig {
+    }
+
+    private static final OffsetDateTime VALUED_AT = OffsetDateTime.parse("2024-03-01T03:00:00Z");
+
+    @Autowired
+    private JooqValuationRepository valuationRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        this.dsl.execute("""
+            INSERT INTO public.location (location_id, street_address, city) VALUES
+                (9001, 'Calle Mayor 1', 'Madrid'),
+                (9002, 'Calle Mayor 2', 'Madrid')""");
+        this.dsl.execute("""
+            INSERT INTO public.house (house_id, location_id, name, listing_status, property_type) VALUES
+                (9001, 9001, 'Casa 1', 'FOR_SALE', 'House'),
+                (9002, 9002, 'Casa 2', 'FOR_SALE', 'House')""");
+    }
+
+    @Test
+    @DisplayName("Should replace the previous valuation of a house")
+    void shouldReplacePreviousValuation() {
+        // Given
+        this.valuationRepository.saveAll(List.of(valuation(9001, "300000.00"), valuation(9002, "250000.00")));
+
+        // When
+        this.valuationRepository.saveAll(List.of(valuation(9001, "310000.00")));
+
+        // Then
+        assertThat(this.valuationRepository.findByHouseId(9001)).hasValue(valuation(9001, "310000.00"));
+        assertThat(this.valuationRepository.findByHouseId(9002)).hasValue(valuation(9002, "250000.00"));
+        assertThat(this.valuationRepository.findByHouseId(9003)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip the valuations of deleted houses and delete valuations with their house")
+    void shouldFollowDeletedHouses() {
+        // Given
+        this.valuationRepository.saveAll(List.of(valuation(9001, "300000.00")));
+
+        // When
+        this.dsl.execute("DELETE FROM public.house WHERE house_id = 9001");
+        this.valuationRepository.saveAll(List.of(valuation(9001, "310000.00"), valuation(9002, "250000.00")));
+
+        // Then
+        assertThat(this.valuationRepository.findByHouseId(9001)).isEmpty();
+        assertThat(this.valuationRepository.findByHouseId(9002)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should delete the valuations a later revaluation did not replace")
+    void shouldDeleteValuationsNotReplaced() {
+        // Given
+        final OffsetDateTime revaluedAt = VALUED_AT.plusDays(1);
+        this.valuationRepository.saveAll(List.of(valuation(9001, "300000.00"), valuation(9002, "250000.00")));
+        this.valuationRepository.saveAll(List.of(valuation(9001, "310000.00", revaluedAt)));
+
+        // When
+        final int deleted = this.valuationRepository.deleteValuedBefore(revaluedAt);
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(this.valuationRepository.findByHouseId(9001)).hasValue(valuation(9001, "310000.00", revaluedAt));
+        assertThat(this.valuationRepository.findByHouseId(9002)).isEmpty();
+    }
+
+    private static Valuation valuation(int houseId, String estimatedPrice) {
+        return valuation(houseId, estimatedPrice, VALUED_AT);
+    }
+
+    private static Valuation valuation(int houseId, String estimatedPrice, OffsetDateTime valuedAt) {
+        final BigDecimal estimate = new BigDecimal(estimatedPrice);
+        return Valuation.builder()
+            .houseId(houseId)
+            .estimatedPrice(estimate)
+            .lowPrice(estimate.subtract(new BigDecimal("20000.00")))
+            .highPrice(estimate.add(new BigDecimal("20000.00")))
+            .comparableCount(8)
+            .valuedAt(valuedAt)
+            .build();
+    }
+}
@@ -0,0 +1,223 @@
+package com.springter.realestate.analyser.infrastructure.persistence.jooq;
+
+import com.springter.realestate.analyser.application.metrics.BulkWriteMetrics;
+import com.springter.realestate.analyser.application.metrics.SearchMetrics;
+import com.springter.realestate.analyser.domain.common.Page;
+import com.springter.realestate.analyser.domain.common.PageRequest;
+import com.springter.realestate.analyser.domain.location.GeoBoundingBox;
+import com.springter.realestate.analyser.domain.location.GeoPoint;
+import com.springter.realestate.analyser.domain.realestate.PropertyListing;
+import com.springter.realestate.analyser.domain.realestate.RealEstateProperty;
+import com.springter.realestate.analyser.domain.realestate.RealEstateSearchCriteria;
+import com.springter.realestate.analyser.infrastructure.persistence.r2dbc.ReactivePersistenceConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jooq.JooqTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.HOUSE;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.LOCATION;
+import static com.springter.realestate.analyser.infrastructure.persistence.jooq.generated.Tables.RATING_ANALYSIS;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the reactive adapter against the blocking jOOQ adapter on the same database. The rows are
+ * committed outside of a test transaction, since the R2DBC pool reads them on its own connections.
+ */
+@JooqTest(properties = {
+    "realestate.reactive.enabled=true",
+    "realestate.reactive.persistence.fetch-size=7"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ReactiveJooqHouseRepository Tests")
+class ReactiveJooqHouseRepositoryTest {
+
+    private static final int HOUSES = 60;
+
+    private static final List<RealEstateSearchCriteria> CRITERIA = List.of(
+        RealEstateSearchCriteria.noFilter(),
+        RealEstateSearchCriteria.builder().location("sevilla").build(),
+        RealEstateSearchCriteria.builder().propertyType(RealEstateProperty.PropertyType.CONDO).build(),
+        RealEstateSearchCriteria.builder().minPrice(220000.0).maxPrice(250000.0).build(),
+        RealEstateSearchCriteria.builder().center(GeoPoint.of(37.38, -5.95)).radiusKm(6.0).build(),
+        RealEstateSearchCriteria.builder().bounds(GeoBoundingBox.of(37.3, -6.0, 37.4, -5.9)).build());
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("realestate.reactive.persistence.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+            + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + POSTGRES.getDatabaseName());
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+    @Import({ReactivePersistenceConfig.class, HouseBulkWriter.class, SearchMetrics.class, BulkWriteMetrics.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        JooqHouseRepository jooqHouseRepository(DSLContext dsl, ApplicationEventPublisher eventPublisher,
+                                                SearchMetrics searchMetrics, HouseBulkWriter houseBulkWriter) {
+            return new JooqHouseRepository(dsl, eventPublisher, searchMetrics, houseBulkWriter);
+        }
+    }
+
+    @Autowired
+    private ReactiveJooqHouseRepository reactiveRepository;
+
+    @Autowired
+    private JooqHouseRepository jooqRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < HOUSES; i++) {
+            final Integer locationId = this.dsl.insertInto(LOCATION)
+                .set(LOCATION.STREET_ADDRESS, "Calle " + i)
+                .set(LOCATION.CITY, i % 3 == 0 ? "Sevilla" : "Madrid")
+                .set(LOCATION.WALK_SCORE, i)
+                // A 10 x 6 grid about Sevilla, with a few locations never geocoded
+                .set(LOCATION.LATITUDE, i % 7 == 6 ? null : BigDecimal.valueOf(37.30 + (i % 10) * 0.02))
+                .set(LOCATION.LONGITUDE, i % 7 == 6 ? null : BigDecimal.valueOf(-6.0 + (i / 10) * 0.03))
+                .returningResult(LOCATION.LOCATION_ID)
+                .fetchSingle(LOCATION.LOCATION_ID);
+            final Integer houseId = this.dsl.insertInto(HOUSE)
+                .set(HOUSE.LOCATION_ID, locationId)
+                .set(HOUSE.NAME, "House " + i)
+                .set(HOUSE.LISTING_STATUS, "FOR_SALE")
+                .set(HOUSE.PROPERTY_TYPE, i % 2 == 0 ? "House" : "CONDO")
+                .set(HOUSE.NUM_BATHROOMS, new BigDecimal("1.5"))
+                .returningResult(HOUSE.HOUSE_ID)
+                .fetchSingle(HOUSE.HOUSE_ID);
+            // Every fifth house has never been rated
+            for (int r = 0; r < (i % 5 == 0 ? 0 : 2); r++) {
+                this.dsl.insertInto(RATING_ANALYSIS)
+                    .set(RATING_ANALYSIS.HOUSE_ID, houseId)
+                    .set(RATING_ANALYSIS.OVERALL_SCORE, new BigDecimal("3.50"))
+                    .set(RATING_ANALYSIS.LAST_SOLD_PRICE, BigDecimal.valueOf(200000L + 1000L * i + r))
+                    .set(RATING_ANALYSIS.RATING_TIMESTAMP, OffsetDateTime.parse("2024-01-01T00:00:00Z").plusDays(r))
+                    .execute();
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.dsl.deleteFrom(RATING_ANALYSIS).execute();
+        this.dsl.deleteFrom(HOUSE).execute();
+        this.dsl.deleteFrom(LOCATION).execute();
+    }
+
+    @Test
+    @DisplayName("Should find the same pages as the blocking adapter, by offset and by cursor")
+    void shouldFindSamePagesAsBlockingAdapter() {
+        for (RealEstateSearchCriteria criteria : CRITERIA) {
+            final List<PageRequest> pageRequests = new ArrayList<>(List.of(PageRequest.of(0, 100), PageRequest.of(1, 8)));
+            final Page<PropertyListing> first = this.jooqRepository.findListingsByCriteria(criteria, PageRequest.of(0, 8));
+            if (first.getNextCursor() != null) {
+                pageRequests.add(PageRequest.after(first.getNextCursor(), 8));
+            }
+
+            for (PageRequest pageRequest : pageRequests) {
+                final Page<PropertyListing> expected = this.jooqRepository.findListingsByCriteria(criteria, pageRequest);
+
+                final Page<PropertyListing> actual = this.reactiveRepository.findListingsByCriteria(criteria, pageRequest).block();
+
+                assertThat(actual).as("%s %s", criteria, pageRequest)
+                    .usingRecursiveComparison()
+                    .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the listings within the radius nearest first, and no cursor")
+    void shouldFindListingsByDistance() {
+        // Given
+        final GeoPoint origin = GeoPoint.of(37.38, -5.95);
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().center(origin).radiusKm(6.0).build();
+        final List<PropertyListing> all = this.jooqRepository.findListingsByCriteria(RealEstateSearchCriteria.noFilter(),
+            PageRequest.of(0, HOUSES)).getContent();
+
+        // When
+        final Page<PropertyListing> page = this.reactiveRepository.findListingsByCriteria(criteria, PageRequest.of(0, HOUSES)).block();
+
+        // Then
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getContent())
+            .extracting(PropertyListing::getId)
+            .containsExactlyElementsOf(all.stream()
+                .filter(PropertyListing::hasCoordinates)
+                .filter(listing -> distanceKm(origin, listing) <= 6.0)
+                .sorted(Comparator.comparingDouble((PropertyListing listing) -> distanceKm(origin, listing))
+                    .thenComparing(PropertyListing::getId))
+                .map(PropertyListing::getId)
+                .toList())
+            .isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream every match in house ID order across several fetches")
+    void shouldStreamEveryMatch() {
+        // Given
+        final RealEstateSearchCriteria criteria = RealEstateSearchCriteria.builder().location("madrid").build();
+
+        // When
+        final List<PropertyListing> streamed = this.reactiveRepository.streamListingsByCriteria(criteria)
+            .limitRate(5)
+            .collectList()
+            .block();
+
+        // Then
+        assertThat(streamed)
+            .hasSize(HOUSES - HOUSES / 3)
+            .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .build())
+            .containsExactlyElementsOf(this.jooqRepository.findListingsByCriteria(criteria, PageRequest.of(0, HOUSES)).getContent());
+    }
+
+    private static double distanceKm(GeoPoint origin, PropertyListing listing) {
+        return origin.distanceKm(listing.getLatitude().doubleValue(), listing.getLongitude().doubleValue());
+    }
+}